@@ -93,6 +93,39 @@ public interface Logger {
      */
     void debug(Marker marker, String message, Object... params);
 
+    /**
+     * Logs a message with a parameter at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void debug(Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message with two parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void debug(Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with three parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void debug(Marker marker, String message, Object p0, Object p1, Object p2);
+
     /**
      * Logs a message at the {@link Level#DEBUG DEBUG} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -150,6 +183,36 @@ public interface Logger {
      */
     void debug(String message, Object... params);
 
+    /**
+     * Logs a message with a parameter at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void debug(String message, Object p0);
+
+    /**
+     * Logs a message with two parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void debug(String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with three parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void debug(String message, Object p0, Object p1, Object p2);
+
     /**
      * Logs a message at the {@link Level#DEBUG DEBUG} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -233,6 +296,54 @@ public interface Logger {
      */
     void error(Marker marker, String message, Object... params);
 
+    /**
+     * Logs a message with a parameter at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) I assume you meant error, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void error(Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message with two parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) I assume you meant error, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void error(Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with three parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) I assume you meant error, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void error(Marker marker, String message, Object p0, Object p1, Object p2);
+
     /**
      * Logs a message at the {@link Level#ERROR ERROR} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -295,6 +406,51 @@ public interface Logger {
      */
     void error(String message, Object... params);
 
+    /**
+     * Logs a message with a parameter at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) I assume you meant error, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void error(String message, Object p0);
+
+    /**
+     * Logs a message with two parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) I assume you meant error, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void error(String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with three parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) I assume you meant error, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void error(String message, Object p0, Object p1, Object p2);
+
     /**
      * Logs a message at the {@link Level#ERROR ERROR} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -377,6 +533,54 @@ public interface Logger {
      */
     void fatal(Marker marker, String message, Object... params);
 
+    /**
+     * Logs a message with a parameter at the {@link Level#FATAL FATAL} level.
+     *
+     * @param marker The marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call.(RG) I assume you meant fatal, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void fatal(Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message with two parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param marker The marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call.(RG) I assume you meant fatal, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void fatal(Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with three parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param marker The marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call.(RG) I assume you meant fatal, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void fatal(Marker marker, String message, Object p0, Object p1, Object p2);
+
     /**
      * Logs a message at the {@link Level#FATAL FATAL} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -439,6 +643,51 @@ public interface Logger {
      */
     void fatal(String message, Object... params);
 
+    /**
+     * Logs a message with a parameter at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call.(RG) I assume you meant fatal, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void fatal(String message, Object p0);
+
+    /**
+     * Logs a message with two parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call.(RG) I assume you meant fatal, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void fatal(String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with three parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call.(RG) I assume you meant fatal, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature. Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void fatal(String message, Object p0, Object p1, Object p2);
+
     /**
      * Logs a message at the {@link Level#FATAL FATAL} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -526,6 +775,51 @@ public interface Logger {
      */
     void info(Marker marker, String message, Object... params);
 
+    /**
+     * Logs a message with a parameter at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) It isn't possible to be misinterpreted as the previous method
+     *        is for that signature. Methods should be added to avoid varargs for 1, 2 or 3 parameters.
+     */
+    void info(Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message with two parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) It isn't possible to be misinterpreted as the previous method
+     *        is for that signature. Methods should be added to avoid varargs for 1, 2 or 3 parameters.
+     */
+    void info(Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with three parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) It isn't possible to be misinterpreted as the previous method
+     *        is for that signature. Methods should be added to avoid varargs for 1, 2 or 3 parameters.
+     */
+    void info(Marker marker, String message, Object p0, Object p1, Object p2);
+
     /**
      * Logs a message at the {@link Level#INFO INFO} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -587,6 +881,48 @@ public interface Logger {
      */
     void info(String message, Object... params);
 
+    /**
+     * Logs a message with a parameter at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) It isn't possible to be misinterpreted as the previous method
+     *        is for that signature. Methods should be added to avoid varargs for 1, 2 or 3 parameters.
+     */
+    void info(String message, Object p0);
+
+    /**
+     * Logs a message with two parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) It isn't possible to be misinterpreted as the previous method
+     *        is for that signature. Methods should be added to avoid varargs for 1, 2 or 3 parameters.
+     */
+    void info(String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with three parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) It isn't possible to be misinterpreted as the previous method
+     *        is for that signature. Methods should be added to avoid varargs for 1, 2 or 3 parameters.
+     */
+    void info(String message, Object p0, Object p1, Object p2);
+
     /**
      * Logs a message at the {@link Level#INFO INFO} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -772,6 +1108,42 @@ public interface Logger {
      */
     void log(Level level, Marker marker, String message, Object... params);
 
+    /**
+     * Logs a message with a parameter at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void log(Level level, Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message with two parameters at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void log(Level level, Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with three parameters at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void log(Level level, Marker marker, String message, Object p0, Object p1, Object p2);
+
     /**
      * Logs a message at the given level including the stack trace of the {@link Throwable} <code>t</code> passed as
      * parameter.
@@ -836,6 +1208,39 @@ public interface Logger {
      */
     void log(Level level, String message, Object... params);
 
+    /**
+     * Logs a message with a parameter at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void log(Level level, String message, Object p0);
+
+    /**
+     * Logs a message with two parameters at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void log(Level level, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with three parameters at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void log(Level level, String message, Object p0, Object p1, Object p2);
+
     /**
      * Logs a message at the given level including the stack trace of the {@link Throwable} <code>t</code> passed as
      * parameter.
@@ -943,6 +1348,39 @@ public interface Logger {
      */
     void trace(Marker marker, String message, Object... params);
 
+    /**
+     * Logs a message with a parameter at the {@link Level#TRACE TRACE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void trace(Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message with two parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void trace(Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with three parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void trace(Marker marker, String message, Object p0, Object p1, Object p2);
+
     /**
      * Logs a message at the {@link Level#TRACE TRACE} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -1008,6 +1446,36 @@ public interface Logger {
      */
     void trace(String message, Object... params);
 
+    /**
+     * Logs a message with a parameter at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void trace(String message, Object p0);
+
+    /**
+     * Logs a message with two parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void trace(String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with three parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     * @see #getMessageFactory()
+     */
+    void trace(String message, Object p0, Object p1, Object p2);
+
     /**
      * Logs a message at the {@link Level#TRACE TRACE} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -1079,6 +1547,54 @@ public interface Logger {
      */
     void warn(Marker marker, String message, Object... params);
 
+    /**
+     * Logs a message with a parameter at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) I assume you meant warn, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature.Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void warn(Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message with two parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) I assume you meant warn, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature.Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void warn(Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with three parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) I assume you meant warn, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature.Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void warn(Marker marker, String message, Object p0, Object p1, Object p2);
+
     /**
      * Logs a message at the {@link Level#WARN WARN} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -1141,6 +1657,51 @@ public interface Logger {
      */
     void warn(String message, Object... params);
 
+    /**
+     * Logs a message with a parameter at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) I assume you meant warn, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature.Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void warn(String message, Object p0);
+
+    /**
+     * Logs a message with two parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) I assume you meant warn, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature.Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void warn(String message, Object p0, Object p1);
+
+    /**
+     * Logs a message with three parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log; the format depends on the message factory.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     * @see #getMessageFactory()
+     *
+     * @doubt Likely to misinterpret existing log4j client code that intended to call info(Object,Throwable). Incurs
+     *        array creation expense on every call. (RG) I assume you meant warn, not info. It isn't possible to be
+     *        misinterpreted as the previous method is for that signature.Methods should be added to avoid varargs for
+     *        1, 2 or 3 parameters.
+     */
+    void warn(String message, Object p0, Object p1, Object p2);
+
     /**
      * Logs a message at the {@link Level#WARN WARN} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
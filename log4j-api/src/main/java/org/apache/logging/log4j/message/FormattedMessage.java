@@ -28,7 +28,7 @@ import java.util.regex.Pattern;
  * Handles messages that contain a format String. Dynamically determines if the format conforms to
  * MessageFormat or String.format and if not then uses ParameterizedMessage to format.
  */
-public class FormattedMessage implements Message {
+public class FormattedMessage implements Message, CachingMessage {
 
     private static final long serialVersionUID = -665975803997290697L;
     private static final int HASHVAL = 31;
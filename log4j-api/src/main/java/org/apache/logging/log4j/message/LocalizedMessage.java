@@ -34,7 +34,7 @@ import org.apache.logging.log4j.status.StatusLogger;
  * localize and format the messages for the end user.
  * </p>
  */
-public class LocalizedMessage implements Message, LoggerNameAwareMessage {
+public class LocalizedMessage implements Message, LoggerNameAwareMessage, CachingMessage {
     private static final long serialVersionUID = 3893703791567290742L;
 
     private String baseName;
@@ -29,7 +29,7 @@ import org.apache.logging.log4j.status.StatusLogger;
 /**
  * Handles messages that consist of a format string conforming to java.text.MessageFormat.
  */
-public class MessageFormatMessage implements Message {
+public class MessageFormatMessage implements Message, CachingMessage {
 
     private static final Logger LOGGER = StatusLogger.getLogger();
 
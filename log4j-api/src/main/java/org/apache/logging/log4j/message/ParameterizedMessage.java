@@ -16,6 +16,8 @@
  */
 package org.apache.logging.log4j.message;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Collection;
@@ -24,15 +26,22 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
 /**
  * Handles messages that consist of a format string containing '{}' to represent each replaceable token, and
  * the parameters.
  * <p/>
+ * The parameters are kept as given and are only converted to Strings when the message is formatted, either by
+ * {@link #getFormattedMessage()} or directly into a caller's buffer by {@link #formatTo(StringBuilder)}. Code that
+ * hands the message to another thread while the caller may still modify the parameters should call
+ * {@link #getFormattedMessage()} first to take a snapshot of the text.
+ * <p/>
  * This class was originally written for Lillith (http://mac.freshmeat.net/projects/lilith-viewer) by
  * Joern Huxhorn where it is licensed under the LGPL. It has been relicensed here with his permission
  * providing that this attribution remain.
  */
-public class ParameterizedMessage implements Message {
+public class ParameterizedMessage implements Message, CachingMessage, StringBuilderFormattable {
 
     /**
      * Prefix for recursion.
@@ -69,8 +78,9 @@ public class ParameterizedMessage implements Message {
     private static final char ESCAPE_CHAR = '\\';
 
     private final String messagePattern;
-    private final String[] stringArgs;
+    private String[] stringArgs;
     private transient Object[] argArray;
+    private transient int placeholderCount;
     private transient String formattedMessage;
     private transient Throwable throwable;
 
@@ -97,7 +107,7 @@ public class ParameterizedMessage implements Message {
     public ParameterizedMessage(final String messagePattern, final Object[] objectArgs, final Throwable throwable) {
         this.messagePattern = messagePattern;
         this.throwable = throwable;
-        this.stringArgs = parseArguments(objectArgs);
+        initArguments(objectArgs);
     }
 
     /**
@@ -114,7 +124,7 @@ public class ParameterizedMessage implements Message {
      */
     public ParameterizedMessage(final String messagePattern, final Object[] arguments) {
         this.messagePattern = messagePattern;
-        this.stringArgs = parseArguments(arguments);
+        initArguments(arguments);
     }
 
     /**
@@ -136,33 +146,48 @@ public class ParameterizedMessage implements Message {
         this(messagePattern, new Object[]{arg1, arg2});
     }
 
-    private String[] parseArguments(final Object[] arguments) {
+    private void initArguments(final Object[] arguments) {
         if (arguments == null) {
-            return null;
+            return;
         }
-        final int argsCount = countArgumentPlaceholders(messagePattern);
+        placeholderCount = countArgumentPlaceholders(messagePattern);
         int resultArgCount = arguments.length;
-        if (argsCount < arguments.length && throwable == null && arguments[arguments.length - 1] instanceof Throwable) {
+        if (placeholderCount < arguments.length && throwable == null
+                && arguments[arguments.length - 1] instanceof Throwable) {
             throwable = (Throwable) arguments[arguments.length - 1];
             resultArgCount--;
         }
-        argArray = new Object[resultArgCount];
-        for (int i = 0; i < resultArgCount; ++i) {
-            argArray[i] = arguments[i];
+        if (resultArgCount == arguments.length) {
+            argArray = arguments;
+        } else {
+            argArray = new Object[resultArgCount];
+            System.arraycopy(arguments, 0, argArray, 0, resultArgCount);
         }
+    }
 
-        String[] strArgs;
-        if (argsCount == 1 && throwable == null && arguments.length > 1) {
-            // special case
-            strArgs = new String[1];
-            strArgs[0] = deepToString(arguments);
-        } else {
-            strArgs = new String[resultArgCount];
-            for (int i = 0; i < strArgs.length; i++) {
-                strArgs[i] = deepToString(arguments[i]);
+    /**
+     * A single placeholder followed by several parameters and no Throwable is replaced by all of the parameters.
+     */
+    private boolean isSinglePlaceholderForAll() {
+        return placeholderCount == 1 && throwable == null && argArray.length > 1;
+    }
+
+    private String[] getStringArgs() {
+        if (stringArgs == null && argArray != null) {
+            String[] strArgs;
+            if (isSinglePlaceholderForAll()) {
+                // special case
+                strArgs = new String[1];
+                strArgs[0] = deepToString(argArray);
+            } else {
+                strArgs = new String[argArray.length];
+                for (int i = 0; i < strArgs.length; i++) {
+                    strArgs[i] = deepToString(argArray[i]);
+                }
             }
+            stringArgs = strArgs;
         }
-        return strArgs;
+        return stringArgs;
     }
 
     /**
@@ -172,11 +197,40 @@ public class ParameterizedMessage implements Message {
     @Override
     public String getFormattedMessage() {
         if (formattedMessage == null) {
-            formattedMessage = formatMessage(messagePattern, stringArgs);
+            if (argArray == null || messagePattern == null) {
+                formattedMessage = formatMessage(messagePattern, getStringArgs());
+            } else {
+                final StringBuilder buffer = new StringBuilder(messagePattern.length() + argArray.length * 16);
+                formatTo(buffer);
+                formattedMessage = buffer.toString();
+            }
         }
         return formattedMessage;
     }
 
+    /**
+     * Appends the formatted message to the given buffer. Unless the message has already been formatted, the
+     * parameters are rendered straight into the buffer without creating intermediate Strings. Nothing is appended
+     * if the formatted message is {@code null}, as it is for a {@code null} pattern.
+     * @param buffer The StringBuilder to append to.
+     */
+    @Override
+    public void formatTo(final StringBuilder buffer) {
+        if (formattedMessage != null) {
+            buffer.append(formattedMessage);
+        } else if (argArray == null || messagePattern == null) {
+            final String text = formatMessage(messagePattern, getStringArgs());
+            if (text != null) {
+                buffer.append(text);
+            }
+        } else if (argArray.length == 0) {
+            buffer.append(messagePattern);
+        } else {
+            final Object[] args = isSinglePlaceholderForAll() ? new Object[] {argArray} : argArray;
+            appendFormat(buffer, messagePattern, args, args.length, true);
+        }
+    }
+
     /**
      * Returns the message pattern.
      * @return the message pattern.
@@ -230,7 +284,7 @@ public class ParameterizedMessage implements Message {
         if (messagePattern != null ? !messagePattern.equals(that.messagePattern) : that.messagePattern != null) {
             return false;
         }
-        if (!Arrays.equals(stringArgs, that.stringArgs)) {
+        if (!Arrays.equals(getStringArgs(), that.getStringArgs())) {
             return false;
         }
         //if (throwable != null ? !throwable.equals(that.throwable) : that.throwable != null) return false;
@@ -241,7 +295,8 @@ public class ParameterizedMessage implements Message {
     @Override
     public int hashCode() {
         int result = messagePattern != null ? messagePattern.hashCode() : 0;
-        result = HASHVAL * result + (stringArgs != null ? Arrays.hashCode(stringArgs) : 0);
+        final String[] strArgs = getStringArgs();
+        result = HASHVAL * result + (strArgs != null ? Arrays.hashCode(strArgs) : 0);
         return result;
     }
 
@@ -258,6 +313,30 @@ public class ParameterizedMessage implements Message {
         }
 
         final StringBuilder result = new StringBuilder();
+        appendFormat(result, messagePattern, arguments, arguments.length, false);
+        return result.toString();
+    }
+
+    /**
+     * Replace placeholders in the given messagePattern with the first {@code argCount} arguments, appending the
+     * result to the given buffer. The arguments are rendered like {@link #deepToString(Object)} does.
+     *
+     * @param buffer         the StringBuilder to append the formatted message to.
+     * @param messagePattern the message pattern containing placeholders.
+     * @param arguments      the arguments to be used to replace placeholders.
+     * @param argCount       the number of valid entries in the arguments array.
+     */
+    public static void format(final StringBuilder buffer, final String messagePattern, final Object[] arguments,
+            final int argCount) {
+        if (messagePattern == null || arguments == null || argCount == 0) {
+            buffer.append(messagePattern);
+            return;
+        }
+        appendFormat(buffer, messagePattern, arguments, argCount, true);
+    }
+
+    private static void appendFormat(final StringBuilder result, final String messagePattern, final Object[] arguments,
+            final int argCount, final boolean deep) {
         int escapeCounter = 0;
         int currentArgument = 0;
         for (int i = 0; i < messagePattern.length(); i++) {
@@ -280,10 +359,12 @@ public class ParameterizedMessage implements Message {
                         result.append(DELIM_STOP);
                     } else {
                         // unescaped
-                        if (currentArgument < arguments.length) {
-                            result.append(arguments[currentArgument]);
-                        } else {
+                        if (currentArgument >= argCount) {
                             result.append(DELIM_START).append(DELIM_STOP);
+                        } else if (deep) {
+                            appendDeepToString(arguments[currentArgument], result);
+                        } else {
+                            result.append(arguments[currentArgument]);
                         }
                         currentArgument++;
                     }
@@ -302,7 +383,6 @@ public class ParameterizedMessage implements Message {
                 result.append(curChar);
             }
         }
-        return result.toString();
     }
 
     /**
@@ -370,6 +450,18 @@ public class ParameterizedMessage implements Message {
         return str.toString();
     }
 
+    /**
+     * Appends the deep toString of the given Object, only creating the set of visited containers when the Object
+     * is itself a container.
+     */
+    private static void appendDeepToString(final Object o, final StringBuilder str) {
+        if (o instanceof Object[] || o instanceof Map || o instanceof Collection) {
+            recursiveDeepToString(o, str, new HashSet<String>());
+        } else {
+            recursiveDeepToString(o, str, null);
+        }
+    }
+
     /**
      * This method performs a deep toString of the given Object.
      * Primitive arrays are converted using their respective Arrays.toString methods while
@@ -539,6 +631,11 @@ public class ParameterizedMessage implements Message {
     @Override
     public String toString() {
         return "ParameterizedMessage[messagePattern=" + messagePattern + ", stringArgs=" +
-            Arrays.toString(stringArgs) + ", throwable=" + throwable + ']';
+            Arrays.toString(getStringArgs()) + ", throwable=" + throwable + ']';
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        getStringArgs();
+        out.defaultWriteObject();
     }
 }
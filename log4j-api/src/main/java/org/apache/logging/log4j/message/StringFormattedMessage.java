@@ -28,7 +28,7 @@ import org.apache.logging.log4j.status.StatusLogger;
 /**
  * Handles messages that consist of a format string conforming to {@link java.util.Formatter}.
  */
-public class StringFormattedMessage implements Message {
+public class StringFormattedMessage implements Message, CachingMessage {
 
     private static final Logger LOGGER = StatusLogger.getLogger();
 
@@ -117,6 +117,23 @@ public class SimpleLogger extends AbstractLogger {
         return this.level.intLevel() >= level.intLevel();
     }
 
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String msg, final Object p0) {
+        return this.level.intLevel() >= level.intLevel();
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String msg, final Object p0,
+            final Object p1) {
+        return this.level.intLevel() >= level.intLevel();
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String msg, final Object p0,
+            final Object p1, final Object p2) {
+        return this.level.intLevel() >= level.intLevel();
+    }
+
     @Override
     public boolean isEnabled(final Level level, final Marker marker, final String msg, final Throwable t) {
         return this.level.intLevel() >= level.intLevel();
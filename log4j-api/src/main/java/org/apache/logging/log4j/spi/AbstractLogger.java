@@ -253,6 +253,45 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.DEBUG, marker, message, params);
     }
 
+    /**
+     * Logs a message with a parameter at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     */
+    @Override
+    public void debug(final Marker marker, final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.DEBUG, marker, message, p0);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     */
+    @Override
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.DEBUG, marker, message, p0, p1);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     */
+    @Override
+    public void debug(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.DEBUG, marker, message, p0, p1, p2);
+    }
+
     /**
      * Logs a message at the {@link Level#DEBUG DEBUG} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -330,6 +369,42 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.DEBUG, null, message, params);
     }
 
+    /**
+     * Logs a message with a parameter at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     */
+    @Override
+    public void debug(final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.DEBUG, null, message, p0);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     */
+    @Override
+    public void debug(final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.DEBUG, null, message, p0, p1);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#DEBUG DEBUG} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     */
+    @Override
+    public void debug(final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.DEBUG, null, message, p0, p1, p2);
+    }
+
     /**
      * Logs a message at the {@link Level#DEBUG DEBUG} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -462,6 +537,45 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.ERROR, marker, message, params);
     }
 
+    /**
+     * Logs a message with a parameter at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     */
+    @Override
+    public void error(final Marker marker, final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.ERROR, marker, message, p0);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     */
+    @Override
+    public void error(final Marker marker, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.ERROR, marker, message, p0, p1);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     */
+    @Override
+    public void error(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.ERROR, marker, message, p0, p1, p2);
+    }
+
     /**
      * Logs a message at the {@link Level#ERROR ERROR} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -539,6 +653,42 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.ERROR, null, message, params);
     }
 
+    /**
+     * Logs a message with a parameter at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     */
+    @Override
+    public void error(final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.ERROR, null, message, p0);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     */
+    @Override
+    public void error(final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.ERROR, null, message, p0, p1);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#ERROR ERROR} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     */
+    @Override
+    public void error(final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.ERROR, null, message, p0, p1, p2);
+    }
+
     /**
      * Logs a message at the {@link Level#ERROR ERROR} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -662,6 +812,45 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.FATAL, marker, message, params);
     }
 
+    /**
+     * Logs a message with a parameter at the {@link Level#FATAL FATAL} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     */
+    @Override
+    public void fatal(final Marker marker, final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.FATAL, marker, message, p0);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     */
+    @Override
+    public void fatal(final Marker marker, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.FATAL, marker, message, p0, p1);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     */
+    @Override
+    public void fatal(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.FATAL, marker, message, p0, p1, p2);
+    }
+
     /**
      * Logs a message at the {@link Level#FATAL FATAL} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -739,6 +928,42 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.FATAL, null, message, params);
     }
 
+    /**
+     * Logs a message with a parameter at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     */
+    @Override
+    public void fatal(final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.FATAL, null, message, p0);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     */
+    @Override
+    public void fatal(final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.FATAL, null, message, p0, p1);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#FATAL FATAL} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     */
+    @Override
+    public void fatal(final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.FATAL, null, message, p0, p1, p2);
+    }
+
     /**
      * Logs a message at the {@link Level#FATAL FATAL} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -841,6 +1066,45 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.INFO, marker, message, params);
     }
 
+    /**
+     * Logs a message with a parameter at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     */
+    @Override
+    public void info(final Marker marker, final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.INFO, marker, message, p0);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     */
+    @Override
+    public void info(final Marker marker, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.INFO, marker, message, p0, p1);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     */
+    @Override
+    public void info(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.INFO, marker, message, p0, p1, p2);
+    }
+
     /**
      * Logs a message at the {@link Level#INFO INFO} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -918,6 +1182,42 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.INFO, null, message, params);
     }
 
+    /**
+     * Logs a message with a parameter at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     */
+    @Override
+    public void info(final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.INFO, null, message, p0);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     */
+    @Override
+    public void info(final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.INFO, null, message, p0, p1);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#INFO INFO} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     */
+    @Override
+    public void info(final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.INFO, null, message, p0, p1, p2);
+    }
+
     /**
      * Logs a message at the {@link Level#INFO INFO} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -980,6 +1280,57 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         return isEnabled(level, marker, (Object) null, null);
     }
 
+    /**
+     * Determines if logging is enabled for a message with one parameter. This default implementation delegates to
+     * {@link #isEnabled(Level, Marker, String, Object...)}; implementations that do not look at the parameters should
+     * override it to avoid creating the parameter array.
+     *
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 the first message parameter.
+     * @return True if logging is enabled, false otherwise.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0) {
+        return isEnabled(level, marker, message, new Object[] {p0});
+    }
+
+    /**
+     * Determines if logging is enabled for a message with two parameters. This default implementation delegates to
+     * {@link #isEnabled(Level, Marker, String, Object...)}.
+     *
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 the first message parameter.
+     * @param p1 the second message parameter.
+     * @return True if logging is enabled, false otherwise.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1) {
+        return isEnabled(level, marker, message, new Object[] {p0, p1});
+    }
+
+    /**
+     * Determines if logging is enabled for a message with three parameters. This default implementation delegates to
+     * {@link #isEnabled(Level, Marker, String, Object...)}.
+     *
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 the first message parameter.
+     * @param p1 the second message parameter.
+     * @param p2 the third message parameter.
+     * @return True if logging is enabled, false otherwise.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2) {
+        return isEnabled(level, marker, message, new Object[] {p0, p1, p2});
+    }
+
     /**
      * Checks whether this Logger is enabled for the {@link Level#ERROR ERROR} Level.
      *
@@ -1165,6 +1516,49 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, level, marker, message, params);
     }
 
+    /**
+     * Logs a message with a parameter at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     */
+    @Override
+    public void log(final Level level, final Marker marker, final String message, final Object p0) {
+        logIfEnabled(FQCN, level, marker, message, p0);
+    }
+
+    /**
+     * Logs a message with two parameters at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     */
+    @Override
+    public void log(final Level level, final Marker marker, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, level, marker, message, p0, p1);
+    }
+
+    /**
+     * Logs a message with three parameters at the given level.
+     *
+     * @param level the logging level
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     */
+    @Override
+    public void log(final Level level, final Marker marker, final String message, final Object p0, final Object p1,
+            final Object p2) {
+        logIfEnabled(FQCN, level, marker, message, p0, p1, p2);
+    }
+
     /**
      * Logs a message at the given level including the stack trace of the {@link Throwable} <code>t</code> passed as
      * parameter.
@@ -1249,6 +1643,45 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, level, null, message, params);
     }
 
+    /**
+     * Logs a message with a parameter at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     */
+    @Override
+    public void log(final Level level, final String message, final Object p0) {
+        logIfEnabled(FQCN, level, null, message, p0);
+    }
+
+    /**
+     * Logs a message with two parameters at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     */
+    @Override
+    public void log(final Level level, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, level, null, message, p0, p1);
+    }
+
+    /**
+     * Logs a message with three parameters at the given level.
+     *
+     * @param level the logging level
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     */
+    @Override
+    public void log(final Level level, final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, level, null, message, p0, p1, p2);
+    }
+
     /**
      * Logs a message at the given level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -1313,6 +1746,45 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         }
     }
 
+    /*
+     * (non-Javadoc)
+     * @see org.apache.logging.log4j.spi.ExtendedLogger#logIfEnabled(java.lang.String, org.apache.logging.log4j.Level,
+     * org.apache.logging.log4j.Marker, java.lang.String, java.lang.Object)
+     */
+    @Override
+    public void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0) {
+        if (isEnabled(level, marker, message, p0)) {
+            logMessage(fqcn, level, marker, message, p0);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.apache.logging.log4j.spi.ExtendedLogger#logIfEnabled(java.lang.String, org.apache.logging.log4j.Level,
+     * org.apache.logging.log4j.Marker, java.lang.String, java.lang.Object, java.lang.Object)
+     */
+    @Override
+    public void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1) {
+        if (isEnabled(level, marker, message, p0, p1)) {
+            logMessage(fqcn, level, marker, message, p0, p1);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.apache.logging.log4j.spi.ExtendedLogger#logIfEnabled(java.lang.String, org.apache.logging.log4j.Level,
+     * org.apache.logging.log4j.Marker, java.lang.String, java.lang.Object, java.lang.Object, java.lang.Object)
+     */
+    @Override
+    public void logIfEnabled(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2) {
+        if (isEnabled(level, marker, message, p0, p1, p2)) {
+            logMessage(fqcn, level, marker, message, p0, p1, p2);
+        }
+    }
+
     /*
      * (non-Javadoc)
      * @see org.apache.logging.log4j.spi.ExtendedLogger#logIfEnabled(java.lang.String, org.apache.logging.log4j.Level,
@@ -1347,6 +1819,24 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logMessage(fqcn, level, marker, msg, msg.getThrowable());
     }
 
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0) {
+        final Message msg = messageFactory.newMessage(message, p0);
+        logMessage(fqcn, level, marker, msg, msg.getThrowable());
+    }
+
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1) {
+        final Message msg = messageFactory.newMessage(message, p0, p1);
+        logMessage(fqcn, level, marker, msg, msg.getThrowable());
+    }
+
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2) {
+        final Message msg = messageFactory.newMessage(message, p0, p1, p2);
+        logMessage(fqcn, level, marker, msg, msg.getThrowable());
+    }
+
     /**
      * Logs a formatted message using the specified format string and arguments.
      *
@@ -1496,6 +1986,45 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.TRACE, marker, message, params);
     }
 
+    /**
+     * Logs a message with a parameter at the {@link Level#TRACE TRACE} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     */
+    @Override
+    public void trace(final Marker marker, final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.TRACE, marker, message, p0);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     */
+    @Override
+    public void trace(final Marker marker, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.TRACE, marker, message, p0, p1);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     */
+    @Override
+    public void trace(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.TRACE, marker, message, p0, p1, p2);
+    }
+
     /**
      * Logs a message at the {@link Level#TRACE TRACE} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -1581,6 +2110,42 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.TRACE, null, message, params);
     }
 
+    /**
+     * Logs a message with a parameter at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     */
+    @Override
+    public void trace(final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.TRACE, null, message, p0);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     */
+    @Override
+    public void trace(final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.TRACE, null, message, p0, p1);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#TRACE TRACE} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     */
+    @Override
+    public void trace(final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.TRACE, null, message, p0, p1, p2);
+    }
+
     /**
      * Logs a message at the {@link Level#TRACE TRACE} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -1672,6 +2237,45 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.WARN, marker, message, params);
     }
 
+    /**
+     * Logs a message with a parameter at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     */
+    @Override
+    public void warn(final Marker marker, final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.WARN, marker, message, p0);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     */
+    @Override
+    public void warn(final Marker marker, final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.WARN, marker, message, p0, p1);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     */
+    @Override
+    public void warn(final Marker marker, final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.WARN, marker, message, p0, p1, p2);
+    }
+
     /**
      * Logs a message at the {@link Level#WARN WARN} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -1749,6 +2353,42 @@ public abstract class AbstractLogger implements ExtendedLogger, Serializable {
         logIfEnabled(FQCN, Level.WARN, null, message, params);
     }
 
+    /**
+     * Logs a message with a parameter at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     */
+    @Override
+    public void warn(final String message, final Object p0) {
+        logIfEnabled(FQCN, Level.WARN, null, message, p0);
+    }
+
+    /**
+     * Logs a message with two parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     */
+    @Override
+    public void warn(final String message, final Object p0, final Object p1) {
+        logIfEnabled(FQCN, Level.WARN, null, message, p0, p1);
+    }
+
+    /**
+     * Logs a message with three parameters at the {@link Level#WARN WARN} level.
+     *
+     * @param message the message to log.
+     * @param p0 the first parameter to the message.
+     * @param p1 the second parameter to the message.
+     * @param p2 the third parameter to the message.
+     */
+    @Override
+    public void warn(final String message, final Object p0, final Object p1, final Object p2) {
+        logIfEnabled(FQCN, Level.WARN, null, message, p0, p1, p2);
+    }
+
     /**
      * Logs a message at the {@link Level#WARN WARN} level including the stack trace of the {@link Throwable}
      * <code>t</code> passed as parameter.
@@ -81,6 +81,42 @@ public interface ExtendedLogger extends Logger {
      */
     boolean isEnabled(Level level, Marker marker, String message, Object... params);
 
+    /**
+     * Determines if logging is enabled.
+     * 
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 the first message parameter.
+     * @return True if logging is enabled, false otherwise.
+     */
+    boolean isEnabled(Level level, Marker marker, String message, Object p0);
+
+    /**
+     * Determines if logging is enabled.
+     * 
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 the first message parameter.
+     * @param p1 the second message parameter.
+     * @return True if logging is enabled, false otherwise.
+     */
+    boolean isEnabled(Level level, Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Determines if logging is enabled.
+     * 
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 the first message parameter.
+     * @param p1 the second message parameter.
+     * @param p2 the third message parameter.
+     * @return True if logging is enabled, false otherwise.
+     */
+    boolean isEnabled(Level level, Marker marker, String message, Object p0, Object p1, Object p2);
+
     /**
      * Logs a message if the specified level is active.
      * 
@@ -140,6 +176,45 @@ public interface ExtendedLogger extends Logger {
      */
     void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object... params);
 
+    /**
+     * Logs a message if the specified level is active.
+     * 
+     * @param fqcn The fully qualified class name of the logger entry point, used to determine the caller class and
+     *            method when location information needs to be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message format.
+     * @param p0 the first message parameter.
+     */
+    void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0);
+
+    /**
+     * Logs a message if the specified level is active.
+     * 
+     * @param fqcn The fully qualified class name of the logger entry point, used to determine the caller class and
+     *            method when location information needs to be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message format.
+     * @param p0 the first message parameter.
+     * @param p1 the second message parameter.
+     */
+    void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1);
+
+    /**
+     * Logs a message if the specified level is active.
+     * 
+     * @param fqcn The fully qualified class name of the logger entry point, used to determine the caller class and
+     *            method when location information needs to be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message format.
+     * @param p0 the first message parameter.
+     * @param p1 the second message parameter.
+     * @param p2 the third message parameter.
+     */
+    void logIfEnabled(String fqcn, Level level, Marker marker, String message, Object p0, Object p1, Object p2);
+
     /**
      * Always logs a message at the specified level. It is the responsibility of the caller to ensure the specified
      * level is enabled.
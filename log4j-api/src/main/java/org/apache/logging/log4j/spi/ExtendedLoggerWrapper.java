@@ -99,6 +99,50 @@ public class ExtendedLoggerWrapper extends AbstractLogger {
     public boolean isEnabled(final Level level, final Marker marker, final String message, final Object... params) {
         return logger.isEnabled(level, marker, message, params);
     }
+
+    /**
+     * Detect if the event would be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 the first message parameter.
+     * @return true if the event would be logged for the Level, Marker, message and parameter.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0) {
+        return logger.isEnabled(level, marker, message, p0);
+    }
+
+    /**
+     * Detect if the event would be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 the first message parameter.
+     * @param p1 the second message parameter.
+     * @return true if the event would be logged for the Level, Marker, message and parameters.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1) {
+        return logger.isEnabled(level, marker, message, p0, p1);
+    }
+
+    /**
+     * Detect if the event would be logged.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param message The message.
+     * @param p0 the first message parameter.
+     * @param p1 the second message parameter.
+     * @param p2 the third message parameter.
+     * @return true if the event would be logged for the Level, Marker, message and parameters.
+     */
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2) {
+        return logger.isEnabled(level, marker, message, p0, p1, p2);
+    }
     
     /**
      * Detect if the event would be logged.
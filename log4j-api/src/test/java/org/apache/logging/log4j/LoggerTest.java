@@ -90,6 +90,15 @@ public class LoggerTest {
         assertTrue("Incorrect substitution", results.get(0).startsWith(" DEBUG Hello, World"));
     }
 
+    @Test
+    public void debugWithFixedParms() {
+        logger.debug("{}, {}", "Hello", "World");
+        logger.debug(null, "{}, {}{}", "Hello", "World", '!');
+        assertEquals(2, results.size());
+        assertTrue("Incorrect substitution", results.get(0).startsWith(" DEBUG Hello, World"));
+        assertTrue("Incorrect substitution", results.get(1).startsWith(" DEBUG Hello, World!"));
+    }
+
     @Test
     public void debugWithParmsAndThrowable() {
         logger.debug("Hello, {}", "World", new RuntimeException("Test Exception"));
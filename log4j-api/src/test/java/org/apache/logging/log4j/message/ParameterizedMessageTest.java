@@ -16,6 +16,13 @@
  */
 package org.apache.logging.log4j.message;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -36,4 +43,64 @@ public class ParameterizedMessageTest {
         result = msg.getFormattedMessage();
         assertEquals(testMsg, result);
     }
+
+    @Test
+    public void testParametersAreFormattedLazily() {
+        final List<String> list = new ArrayList<String>();
+        final ParameterizedMessage msg = new ParameterizedMessage("List {}", list);
+        list.add("a");
+        assertEquals("List [a]", msg.getFormattedMessage());
+        list.add("b");
+        assertEquals("Formatted message not cached", "List [a]", msg.getFormattedMessage());
+    }
+
+    @Test
+    public void testFormatTo() {
+        final ParameterizedMessage msg = new ParameterizedMessage("{} \\{} {} {}", new Object[] {"a", 1,
+            new int[] {2, 3}});
+        final StringBuilder buffer = new StringBuilder("prefix:");
+        msg.formatTo(buffer);
+        assertEquals("prefix:a {} 1 [2, 3]", buffer.toString());
+        assertEquals("a {} 1 [2, 3]", msg.getFormattedMessage());
+    }
+
+    @Test
+    public void testFormatUsesOnlyArgCountArguments() {
+        final StringBuilder buffer = new StringBuilder();
+        ParameterizedMessage.format(buffer, "{} {} {}", new Object[] {"a", new int[] {1}, "stale"}, 2);
+        assertEquals("a [1] {}", buffer.toString());
+    }
+
+    @Test
+    public void testFormatToNullPattern() {
+        final ParameterizedMessage msg = new ParameterizedMessage(null, "a");
+        final StringBuilder buffer = new StringBuilder("prefix:");
+        msg.formatTo(buffer);
+        assertEquals("prefix:", buffer.toString());
+        assertNull(msg.getFormattedMessage());
+    }
+
+    @Test
+    public void testSinglePlaceholderReceivesAllParameters() {
+        final ParameterizedMessage msg = new ParameterizedMessage("Values {}", "a", "b");
+        final StringBuilder buffer = new StringBuilder();
+        msg.formatTo(buffer);
+        assertEquals("Values [a, b]", buffer.toString());
+        assertEquals("Values [a, b]", msg.getFormattedMessage());
+    }
+
+    @Test
+    public void testSerializationFormatsParameters() throws Exception {
+        final List<String> list = new ArrayList<String>();
+        list.add("a");
+        final ParameterizedMessage msg = new ParameterizedMessage("List {}", list);
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(msg);
+        oos.close();
+        final ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        final ParameterizedMessage copy = (ParameterizedMessage) ois.readObject();
+        assertEquals("List [a]", copy.getFormattedMessage());
+        assertEquals(msg, copy);
+    }
 }
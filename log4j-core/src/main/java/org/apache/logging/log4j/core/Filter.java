@@ -93,6 +93,42 @@ public interface Filter extends LifeCycle {
      */
     Result filter(Logger logger, Level level, Marker marker, String msg, Object... params);
 
+    /**
+     * Filter an event with one parameter. Avoids creating a parameter array on the logging call path.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p0 the first message parameter.
+     * @return the Result.
+     */
+    Result filter(Logger logger, Level level, Marker marker, String msg, Object p0);
+
+    /**
+     * Filter an event with two parameters. Avoids creating a parameter array on the logging call path.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p0 the first message parameter.
+     * @param p1 the second message parameter.
+     * @return the Result.
+     */
+    Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1);
+
+    /**
+     * Filter an event with three parameters. Avoids creating a parameter array on the logging call path.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p0 the first message parameter.
+     * @param p1 the second message parameter.
+     * @param p2 the third message parameter.
+     * @return the Result.
+     */
+    Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2);
+
     /**
      * Filter an event.
      * @param logger The Logger.
@@ -19,6 +19,8 @@ package org.apache.logging.log4j.core;
 import java.io.Serializable;
 import java.util.Map;
 
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+
 /**
  * Lays out a {@linkplain LogEvent} in different formats.
  *
@@ -66,6 +68,15 @@ public interface Layout<T extends Serializable> {
      */
     byte[] toByteArray(LogEvent event);
 
+    /**
+     * Formats the event and writes the resulting bytes into the specified destination, avoiding the creation of a
+     * {@code byte[]} per event where the layout supports it.
+     *
+     * @param event The Logging Event.
+     * @param destination The destination that receives the formatted bytes.
+     */
+    void encode(LogEvent event, ByteBufferDestination destination);
+
     /**
      * Formats the event as an Object that can be serialized.
      *
@@ -24,8 +24,11 @@ import java.util.Map;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.DefaultConfigurationMonitor;
+import org.apache.logging.log4j.core.config.FileConfigurationMonitor;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.apache.logging.log4j.core.filter.CompositeFilter;
+import org.apache.logging.log4j.core.impl.ReusableMessageFactory;
 import org.apache.logging.log4j.message.Message;
 import org.apache.logging.log4j.message.MessageFactory;
 import org.apache.logging.log4j.message.SimpleMessage;
@@ -49,6 +52,8 @@ public class Logger extends AbstractLogger {
 
     private final LoggerContext context;
 
+    private final ReusableMessageFactory reusableMessageFactory;
+
     /**
      * The constructor.
      * @param context The LoggerContext this Logger is associated with.
@@ -58,6 +63,9 @@ public class Logger extends AbstractLogger {
     protected Logger(final LoggerContext context, final String name, final MessageFactory messageFactory) {
         super(name, messageFactory);
         this.context = context;
+        final MessageFactory factory = getMessageFactory();
+        this.reusableMessageFactory = factory instanceof ReusableMessageFactory ? (ReusableMessageFactory) factory
+                : null;
         config = new PrivateConfig(context.getConfiguration(), this);
     }
 
@@ -100,7 +108,44 @@ public class Logger extends AbstractLogger {
     public void logMessage(final String fqcn, final Level level, final Marker marker, final Message message, final Throwable t) {
         final Message msg = message == null ? new SimpleMessage(Strings.EMPTY) : message;
         config.config.getConfigurationMonitor().checkConfiguration();
-        config.loggerConfig.log(getName(), fqcn, marker, level, msg, t);
+        try {
+            config.loggerConfig.log(getName(), fqcn, marker, level, msg, t);
+        } finally {
+            ReusableMessageFactory.release(msg);
+        }
+    }
+
+    @Override
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0) {
+        if (reusableMessageFactory == null) {
+            super.logMessage(fqcn, level, marker, message, p0);
+            return;
+        }
+        final Message msg = reusableMessageFactory.newMessage(message, p0);
+        logMessage(fqcn, level, marker, msg, msg.getThrowable());
+    }
+
+    @Override
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1) {
+        if (reusableMessageFactory == null) {
+            super.logMessage(fqcn, level, marker, message, p0, p1);
+            return;
+        }
+        final Message msg = reusableMessageFactory.newMessage(message, p0, p1);
+        logMessage(fqcn, level, marker, msg, msg.getThrowable());
+    }
+
+    @Override
+    protected void logMessage(final String fqcn, final Level level, final Marker marker, final String message,
+            final Object p0, final Object p1, final Object p2) {
+        if (reusableMessageFactory == null) {
+            super.logMessage(fqcn, level, marker, message, p0, p1, p2);
+            return;
+        }
+        final Message msg = reusableMessageFactory.newMessage(message, p0, p1, p2);
+        logMessage(fqcn, level, marker, msg, msg.getThrowable());
     }
 
     @Override
@@ -118,6 +163,23 @@ public class Logger extends AbstractLogger {
         return config.filter(level, marker, message, params);
     }
 
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0) {
+        return config.filter(level, marker, message, p0);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1) {
+        return config.filter(level, marker, message, p0, p1);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String message, final Object p0,
+            final Object p1, final Object p2) {
+        return config.filter(level, marker, message, p0, p1, p2);
+    }
+
     @Override
     public boolean isEnabled(final Level level, final Marker marker, final Object message, final Throwable t) {
         return config.filter(level, marker, message, t);
@@ -245,6 +307,12 @@ public class Logger extends AbstractLogger {
         private final Level level;
         private final int intLevel;
         private final Logger logger;
+        /**
+         * True if the configuration has a filter or a monitor that must see every call. Otherwise the level alone
+         * decides whether an event is enabled. Computed when the Logger is updated, so the configuration filter must
+         * be changed through the LoggerContext or followed by {@link LoggerContext#updateLoggers()}.
+         */
+        private final boolean requiresFullCheck;
 
         public PrivateConfig(final Configuration config, final Logger logger) {
             this.config = config;
@@ -252,6 +320,7 @@ public class Logger extends AbstractLogger {
             this.level = this.loggerConfig.getLevel();
             this.intLevel = this.level.intLevel();
             this.logger = logger;
+            this.requiresFullCheck = requiresFullCheck(config);
         }
 
         public PrivateConfig(final PrivateConfig pc, final Level level) {
@@ -260,6 +329,7 @@ public class Logger extends AbstractLogger {
             this.level = level;
             this.intLevel = this.level.intLevel();
             this.logger = pc.logger;
+            this.requiresFullCheck = pc.requiresFullCheck;
         }
 
         public PrivateConfig(final PrivateConfig pc, final LoggerConfig lc) {
@@ -268,6 +338,15 @@ public class Logger extends AbstractLogger {
             this.level = lc.getLevel();
             this.intLevel = this.level.intLevel();
             this.logger = pc.logger;
+            this.requiresFullCheck = pc.requiresFullCheck;
+        }
+
+        private boolean requiresFullCheck(final Configuration config) {
+            if (config.getFilter() != null) {
+                return true;
+            }
+            final Class<?> monitorClass = config.getConfigurationMonitor().getClass();
+            return monitorClass != DefaultConfigurationMonitor.class && monitorClass != FileConfigurationMonitor.class;
         }
 
         // LOG4J2-151: changed visibility to public
@@ -277,6 +356,9 @@ public class Logger extends AbstractLogger {
         }
 
         boolean filter(final Level level, final Marker marker, final String msg) {
+            if (!requiresFullCheck) {
+                return intLevel >= level.intLevel();
+            }
             config.getConfigurationMonitor().checkConfiguration();
             final Filter filter = config.getFilter();
             if (filter != null) {
@@ -290,10 +372,13 @@ public class Logger extends AbstractLogger {
         }
 
         boolean filter(final Level level, final Marker marker, final String msg, final Throwable t) {
+            if (!requiresFullCheck) {
+                return intLevel >= level.intLevel();
+            }
             config.getConfigurationMonitor().checkConfiguration();
             final Filter filter = config.getFilter();
             if (filter != null) {
-                final Filter.Result r = filter.filter(logger, level, marker, msg, t);
+                final Filter.Result r = filter.filter(logger, level, marker, (Object) msg, t);
                 if (r != Filter.Result.NEUTRAL) {
                     return r == Filter.Result.ACCEPT;
                 }
@@ -303,6 +388,9 @@ public class Logger extends AbstractLogger {
         }
 
         boolean filter(final Level level, final Marker marker, final String msg, final Object... p1) {
+            if (!requiresFullCheck) {
+                return intLevel >= level.intLevel();
+            }
             config.getConfigurationMonitor().checkConfiguration();
             final Filter filter = config.getFilter();
             if (filter != null) {
@@ -315,7 +403,59 @@ public class Logger extends AbstractLogger {
             return intLevel >= level.intLevel();
         }
 
+        boolean filter(final Level level, final Marker marker, final String msg, final Object p0) {
+            if (!requiresFullCheck) {
+                return intLevel >= level.intLevel();
+            }
+            config.getConfigurationMonitor().checkConfiguration();
+            final Filter filter = config.getFilter();
+            if (filter != null) {
+                final Filter.Result r = filter.filter(logger, level, marker, msg, p0);
+                if (r != Filter.Result.NEUTRAL) {
+                    return r == Filter.Result.ACCEPT;
+                }
+            }
+
+            return intLevel >= level.intLevel();
+        }
+
+        boolean filter(final Level level, final Marker marker, final String msg, final Object p0, final Object p1) {
+            if (!requiresFullCheck) {
+                return intLevel >= level.intLevel();
+            }
+            config.getConfigurationMonitor().checkConfiguration();
+            final Filter filter = config.getFilter();
+            if (filter != null) {
+                final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1);
+                if (r != Filter.Result.NEUTRAL) {
+                    return r == Filter.Result.ACCEPT;
+                }
+            }
+
+            return intLevel >= level.intLevel();
+        }
+
+        boolean filter(final Level level, final Marker marker, final String msg, final Object p0,
+                final Object p1, final Object p2) {
+            if (!requiresFullCheck) {
+                return intLevel >= level.intLevel();
+            }
+            config.getConfigurationMonitor().checkConfiguration();
+            final Filter filter = config.getFilter();
+            if (filter != null) {
+                final Filter.Result r = filter.filter(logger, level, marker, msg, p0, p1, p2);
+                if (r != Filter.Result.NEUTRAL) {
+                    return r == Filter.Result.ACCEPT;
+                }
+            }
+
+            return intLevel >= level.intLevel();
+        }
+
         boolean filter(final Level level, final Marker marker, final Object msg, final Throwable t) {
+            if (!requiresFullCheck) {
+                return intLevel >= level.intLevel();
+            }
             config.getConfigurationMonitor().checkConfiguration();
             final Filter filter = config.getFilter();
             if (filter != null) {
@@ -329,6 +469,9 @@ public class Logger extends AbstractLogger {
         }
 
         boolean filter(final Level level, final Marker marker, final Message msg, final Throwable t) {
+            if (!requiresFullCheck) {
+                return intLevel >= level.intLevel();
+            }
             config.getConfigurationMonitor().checkConfiguration();
             final Filter filter = config.getFilter();
             if (filter != null) {
@@ -39,8 +39,11 @@ import org.apache.logging.log4j.core.config.ConfigurationSource;
 import org.apache.logging.log4j.core.config.DefaultConfiguration;
 import org.apache.logging.log4j.core.config.NullConfiguration;
 import org.apache.logging.log4j.core.config.Reconfigurable;
+import org.apache.logging.log4j.core.impl.ReusableMessageFactory;
 import org.apache.logging.log4j.core.jmx.Server;
 import org.apache.logging.log4j.core.util.Assert;
+import org.apache.logging.log4j.core.util.Constants;
+import org.apache.logging.log4j.core.util.Loader;
 import org.apache.logging.log4j.core.util.NetUtils;
 import org.apache.logging.log4j.message.MessageFactory;
 import org.apache.logging.log4j.spi.AbstractLogger;
@@ -61,6 +64,7 @@ public class LoggerContext extends AbstractLifeCycle implements org.apache.loggi
     public static final String PROPERTY_CONFIG = "config";
     private static final Marker SHUTDOWN_HOOK = MarkerManager.getMarker("SHUTDOWN HOOK");
     private static final Configuration NULL_CONFIGURATION = new NullConfiguration();
+    private static final MessageFactory DEFAULT_MESSAGE_FACTORY = createDefaultMessageFactory();
 
     private final ConcurrentMap<String, Logger> loggers = new ConcurrentHashMap<String, Logger>();
     private final CopyOnWriteArrayList<PropertyChangeListener> propertyChangeListeners = new CopyOnWriteArrayList<PropertyChangeListener>();
@@ -293,17 +297,37 @@ public class LoggerContext extends AbstractLifeCycle implements org.apache.loggi
      */
     @Override
     public Logger getLogger(final String name, final MessageFactory messageFactory) {
+        final MessageFactory factory = messageFactory == null ? DEFAULT_MESSAGE_FACTORY : messageFactory;
         Logger logger = loggers.get(name);
         if (logger != null) {
-            AbstractLogger.checkMessageFactory(logger, messageFactory);
+            AbstractLogger.checkMessageFactory(logger, factory);
             return logger;
         }
 
-        logger = newInstance(this, name, messageFactory);
+        logger = newInstance(this, name, factory);
         final Logger prev = loggers.putIfAbsent(name, logger);
         return prev == null ? logger : prev;
     }
 
+    private static MessageFactory createDefaultMessageFactory() {
+        final String factory = PropertiesUtil.getProperties().getStringProperty(Constants.LOG4J_MESSAGE_FACTORY);
+        if (factory == null) {
+            return null;
+        }
+        if (ReusableMessageFactory.class.getName().equals(factory)) {
+            return ReusableMessageFactory.INSTANCE;
+        }
+        try {
+            final Class<?> clazz = Loader.loadClass(factory);
+            if (clazz != null && MessageFactory.class.isAssignableFrom(clazz)) {
+                return (MessageFactory) clazz.newInstance();
+            }
+        } catch (final Exception ex) {
+            LOGGER.error("Unable to create MessageFactory {}", factory, ex);
+        }
+        return null;
+    }
+
     /**
      * Determine if the specified Logger exists.
      * @param name The Logger name to search for.
@@ -331,6 +355,7 @@ public class LoggerContext extends AbstractLifeCycle implements org.apache.loggi
      */
     public void addFilter(final Filter filter) {
         config.addFilter(filter);
+        updateLoggers();
     }
 
     /**
@@ -339,6 +364,7 @@ public class LoggerContext extends AbstractLifeCycle implements org.apache.loggi
      */
     public void removeFilter(final Filter filter) {
         config.removeFilter(filter);
+        updateLoggers();
     }
 
     /**
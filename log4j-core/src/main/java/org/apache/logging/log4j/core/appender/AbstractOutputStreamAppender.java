@@ -24,6 +24,8 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.Layout;
 import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.layout.StreamStatefulLayout;
+import org.apache.logging.log4j.core.util.Constants;
 
 /**
  * Appends log events as bytes to a byte output stream. The stream encoding is defined in the layout.
@@ -45,6 +47,9 @@ public abstract class AbstractOutputStreamAppender<M extends OutputStreamManager
 
     private final M manager;
 
+    /** Whether events are formatted and written under the manager's lock, see {@link StreamStatefulLayout}. */
+    private final boolean streamStateful;
+
     private final ReadWriteLock rwLock = new ReentrantReadWriteLock();
     private final Lock readLock = rwLock.readLock();
     
@@ -62,6 +67,8 @@ public abstract class AbstractOutputStreamAppender<M extends OutputStreamManager
         super(name, filter, layout, ignoreExceptions);
         this.manager = manager;
         this.immediateFlush = immediateFlush;
+        this.streamStateful = layout instanceof StreamStatefulLayout
+                && ((StreamStatefulLayout) layout).isStreamStateful();
     }
 
     /**
@@ -101,12 +108,12 @@ public abstract class AbstractOutputStreamAppender<M extends OutputStreamManager
     public void append(final LogEvent event) {
         readLock.lock();
         try {
-            final byte[] bytes = getLayout().toByteArray(event);
-            if (bytes.length > 0) {
-                manager.write(bytes);
-                if (this.immediateFlush || event.isEndOfBatch()) {
-                    manager.flush();
+            if (streamStateful) {
+                synchronized (manager) {
+                    write(event);
                 }
+            } else {
+                write(event);
             }
         } catch (final AppenderLoggingException ex) {
             error("Unable to write to stream " + manager.getName() + " for appender " + getName());
@@ -115,4 +122,22 @@ public abstract class AbstractOutputStreamAppender<M extends OutputStreamManager
             readLock.unlock();
         }
     }
+
+    private void write(final LogEvent event) {
+        // the manager of a stream stateful layout may have to encode the event again, so it is handed the event
+        if (Constants.ENABLE_DIRECT_ENCODERS || streamStateful) {
+            manager.encode(getLayout(), event);
+            if (this.immediateFlush || event.isEndOfBatch()) {
+                manager.flush();
+            }
+        } else {
+            final byte[] bytes = getLayout().toByteArray(event);
+            if (bytes.length > 0) {
+                manager.write(bytes);
+                if (this.immediateFlush || event.isEndOfBatch()) {
+                    manager.flush();
+                }
+            }
+        }
+    }
 }
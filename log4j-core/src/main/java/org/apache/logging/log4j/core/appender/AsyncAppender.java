@@ -16,12 +16,9 @@
  */
 package org.apache.logging.log4j.core.appender;
 
-import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.logging.log4j.core.Appender;
@@ -39,21 +36,30 @@ import org.apache.logging.log4j.core.config.plugins.PluginConfiguration;
 import org.apache.logging.log4j.core.config.plugins.PluginElement;
 import org.apache.logging.log4j.core.config.plugins.PluginFactory;
 import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.impl.ReusableLogEventFactory;
+import org.apache.logging.log4j.core.util.Constants;
+import org.apache.logging.log4j.message.CachingMessage;
 
 /**
  * Appends to one or more Appenders asynchronously.  You can configure an
  * AsyncAppender with one or more Appenders and an Appender to append to if the
  * queue is full. The AsyncAppender does not allow a filter to be specified on
  * the Appender references.
+ * <p>
+ * By default events are serialized into an {@code ArrayBlockingQueue}. Specify
+ * {@code queueImplementation="Disruptor"} to copy them into the pre-allocated
+ * slots of a Disruptor ring buffer instead, which avoids creating objects for
+ * every event.
+ * </p>
  */
 @Plugin(name = "Async", category = "Core", elementType = "appender", printObject = true)
 public final class AsyncAppender extends AbstractAppender {
 
     private static final int DEFAULT_QUEUE_SIZE = 128;
-    private static final String SHUTDOWN = "Shutdown";
 
-    private final BlockingQueue<Serializable> queue;
+    private final AsyncQueue queue;
     private final int queueSize;
+    private final String queueImplementation;
     private final boolean blocking;
     private final Configuration config;
     private final AppenderRef[] appenderRefs;
@@ -68,10 +74,12 @@ public final class AsyncAppender extends AbstractAppender {
     private AsyncAppender(final String name, final Filter filter, final AppenderRef[] appenderRefs,
                            final String errorRef, final int queueSize, final boolean blocking,
                            final boolean ignoreExceptions, final Configuration config,
-                           final boolean includeLocation) {
+                           final boolean includeLocation, final AsyncQueue queue,
+                           final String queueImplementation) {
         super(name, filter, null, ignoreExceptions);
-        this.queue = new ArrayBlockingQueue<Serializable>(queueSize);
+        this.queue = queue;
         this.queueSize = queueSize;
+        this.queueImplementation = queueImplementation;
         this.blocking = blocking;
         this.config = config;
         this.appenderRefs = appenderRefs;
@@ -132,13 +140,19 @@ public final class AsyncAppender extends AbstractAppender {
         if (!isStarted()) {
             throw new IllegalStateException("AsyncAppender " + getName() + " is not active");
         }
-        if (!(logEvent instanceof Log4jLogEvent)) {
-            if (!(logEvent instanceof RingBufferLogEvent)) {
-                return; // only know how to Serialize Log4jLogEvents and RingBufferLogEvents
-            }
+        if (logEvent instanceof RingBufferLogEvent) {
             logEvent = ((RingBufferLogEvent) logEvent).createMemento();
+        } else {
+            logEvent = ReusableLogEventFactory.memento(logEvent);
+        }
+        if (!(logEvent instanceof Log4jLogEvent)) {
+            return; // only know how to Serialize Log4jLogEvents, RingBufferLogEvents and MutableLogEvents
         }
         final Log4jLogEvent coreEvent = (Log4jLogEvent) logEvent;
+        if (!Constants.FORMAT_MESSAGES_IN_BACKGROUND && coreEvent.getMessage() instanceof CachingMessage) {
+            // the message keeps its parameters: cache its text now, before the caller can modify them
+            coreEvent.getMessage().getFormattedMessage();
+        }
         boolean appendSuccessful = false;
         if (blocking) {
             if (isAppenderThread.get() == Boolean.TRUE && queue.remainingCapacity() == 0) {
@@ -149,7 +163,7 @@ public final class AsyncAppender extends AbstractAppender {
             } else {
                 try {
                     // wait for free slots in the queue
-                    queue.put(Log4jLogEvent.serialize(coreEvent, includeLocation));
+                    queue.put(coreEvent);
                     appendSuccessful = true;
                 } catch (final InterruptedException e) {
                     LOGGER.warn("Interrupted while waiting for a free slot in the AsyncAppender LogEvent-queue {}",
@@ -157,7 +171,7 @@ public final class AsyncAppender extends AbstractAppender {
                 }
             }
         } else {
-            appendSuccessful = queue.offer(Log4jLogEvent.serialize(coreEvent, includeLocation));
+            appendSuccessful = queue.offer(coreEvent);
             if (!appendSuccessful) {
                 error("Appender " + getName() + " is unable to write primary appenders. queue is full");
             }
@@ -180,6 +194,31 @@ public final class AsyncAppender extends AbstractAppender {
      * @param ignoreExceptions If {@code "true"} (default) exceptions encountered when appending events are logged;
      *                         otherwise they are propagated to the caller.
      * @return The AsyncAppender.
+     * @deprecated Use the method that also takes the queue implementation.
+     */
+    @Deprecated
+    public static AsyncAppender createAppender(final AppenderRef[] appenderRefs, final String errorRef,
+            final boolean blocking, final int size, final String name, final boolean includeLocation,
+            final Filter filter, final Configuration config, final boolean ignoreExceptions) {
+        return createAppender(appenderRefs, errorRef, blocking, size, name, includeLocation, filter, config,
+                ignoreExceptions, AsyncQueue.ARRAY_BLOCKING_QUEUE);
+    }
+
+    /**
+     * Create an AsyncAppender.
+     * @param appenderRefs The Appenders to reference.
+     * @param errorRef An optional Appender to write to if the queue is full or other errors occur.
+     * @param blocking True if the Appender should wait when the queue is full. The default is true.
+     * @param size The size of the event queue. The default is 128.
+     * @param name The name of the Appender.
+     * @param includeLocation whether to include location information. The default is false.
+     * @param filter The Filter or null.
+     * @param config The Configuration.
+     * @param ignoreExceptions If {@code "true"} (default) exceptions encountered when appending events are logged;
+     *                         otherwise they are propagated to the caller.
+     * @param queueImplementation The queue that hands events to the background thread: "ArrayBlockingQueue"
+     *                            (the default) or "Disruptor".
+     * @return The AsyncAppender.
      */
     @PluginFactory
     public static AsyncAppender createAppender(@PluginElement("AppenderRef") final AppenderRef[] appenderRefs,
@@ -190,7 +229,9 @@ public final class AsyncAppender extends AbstractAppender {
             @PluginAttribute(value = "includeLocation", defaultBoolean = false) final boolean includeLocation,
             @PluginElement("Filter") final Filter filter,
             @PluginConfiguration final Configuration config,
-            @PluginAttribute(value = "ignoreExceptions", defaultBoolean = true) final boolean ignoreExceptions) {
+            @PluginAttribute(value = "ignoreExceptions", defaultBoolean = true) final boolean ignoreExceptions,
+            @PluginAttribute(value = "queueImplementation", defaultString = AsyncQueue.ARRAY_BLOCKING_QUEUE)
+            final String queueImplementation) {
         if (name == null) {
             LOGGER.error("No name provided for AsyncAppender");
             return null;
@@ -199,8 +240,17 @@ public final class AsyncAppender extends AbstractAppender {
             LOGGER.error("No appender references provided to AsyncAppender {}", name);
         }
 
+        AsyncQueue queue = AsyncQueue.create(queueImplementation, size, includeLocation);
+        String implementation = queueImplementation;
+        if (queue == null) {
+            LOGGER.error("Invalid queueImplementation {} for AsyncAppender {}, using {}", queueImplementation, name,
+                    AsyncQueue.ARRAY_BLOCKING_QUEUE);
+            implementation = AsyncQueue.ARRAY_BLOCKING_QUEUE;
+            queue = AsyncQueue.create(implementation, size, includeLocation);
+        }
+
         return new AsyncAppender(name, filter, appenderRefs, errorRef,
-                size, blocking, ignoreExceptions, config, includeLocation);
+                size, blocking, ignoreExceptions, config, includeLocation, queue, implementation);
     }
 
     /**
@@ -210,9 +260,9 @@ public final class AsyncAppender extends AbstractAppender {
 
         private volatile boolean shutdown = false;
         private final List<AppenderControl> appenders;
-        private final BlockingQueue<Serializable> queue;
+        private final AsyncQueue queue;
 
-        public AsyncThread(final List<AppenderControl> appenders, final BlockingQueue<Serializable> queue) {
+        public AsyncThread(final List<AppenderControl> appenders, final AsyncQueue queue) {
             this.appenders = appenders;
             this.queue = queue;
             setDaemon(true);
@@ -222,11 +272,10 @@ public final class AsyncAppender extends AbstractAppender {
         @Override
         public void run() {
             isAppenderThread.set(Boolean.TRUE); // LOG4J2-485
+            final List<LogEvent> batch = new ArrayList<LogEvent>();
             while (!shutdown) {
-                Serializable s;
                 try {
-                    s = queue.take();
-                    if (s != null && s instanceof String && SHUTDOWN.equals(s.toString())) {
+                    if (!queue.takeBatch(batch)) {
                         shutdown = true;
                         continue;
                     }
@@ -234,8 +283,31 @@ public final class AsyncAppender extends AbstractAppender {
                     // No good reason for this.
                     continue;
                 }
-                final Log4jLogEvent event = Log4jLogEvent.deserialize(s);
-                event.setEndOfBatch(queue.isEmpty());
+                callAppenders(batch);
+            }
+            // Process any remaining items in the queue.
+            LOGGER.trace("AsyncAppender.AsyncThread shutting down. Processing remaining {} queue events.",
+                    queue.size());
+            int count = 0;
+            while (queue.pollBatch(batch)) {
+                count += batch.size();
+                callAppenders(batch);
+            }
+            LOGGER.trace("AsyncAppender.AsyncThread stopped. Queue has {} events remaining. " +
+                    "Processed {} events since shutdown started.", queue.size(), count);
+        }
+
+        /**
+         * Passes the events of a batch to the appenders, marking the last one as the end of the batch so that
+         * appenders can flush once per batch instead of once per event, then releases the batch.
+         *
+         * @param batch the events taken from the queue
+         */
+        private void callAppenders(final List<LogEvent> batch) {
+            final int last = batch.size() - 1;
+            for (int i = 0; i <= last; i++) {
+                final LogEvent event = batch.get(i);
+                event.setEndOfBatch(i == last);
                 final boolean success = callAppenders(event);
                 if (!success && errorAppender != null) {
                     try {
@@ -245,30 +317,8 @@ public final class AsyncAppender extends AbstractAppender {
                     }
                 }
             }
-            // Process any remaining items in the queue.
-            LOGGER.trace("AsyncAppender.AsyncThread shutting down. Processing remaining {} queue events.",
-                    queue.size());
-            int count= 0;
-            int ignored = 0;
-            while (!queue.isEmpty()) {
-                try {
-                    final Serializable s = queue.take();
-                    if (Log4jLogEvent.canDeserialize(s)) {
-                        final Log4jLogEvent event = Log4jLogEvent.deserialize(s);
-                        event.setEndOfBatch(queue.isEmpty());
-                        callAppenders(event);
-                        count++;
-                    } else {
-                        ignored++;
-                        LOGGER.trace("Ignoring event of class {}", s.getClass().getName());
-                    }
-                } catch (final InterruptedException ex) {
-                    // May have been interrupted to shut down.
-                }
-            }
-            LOGGER.trace("AsyncAppender.AsyncThread stopped. Queue has {} events remaining. " +
-            		"Processed {} and ignored {} events since shutdown started.",
-            		queue.size(), count, ignored);
+            batch.clear();
+            queue.release();
         }
 
         /**
@@ -280,7 +330,7 @@ public final class AsyncAppender extends AbstractAppender {
          * @param event the event to forward to the registered appenders
          * @return {@code true} if at least one appender call succeeded, {@code false} otherwise
          */
-        boolean callAppenders(final Log4jLogEvent event) {
+        boolean callAppenders(final LogEvent event) {
             boolean success = false;
             for (final AppenderControl control : appenders) {
                 try {
@@ -295,9 +345,7 @@ public final class AsyncAppender extends AbstractAppender {
 
         public void shutdown() {
             shutdown = true;
-            if (queue.isEmpty()) {
-                queue.offer(SHUTDOWN);
-            }
+            queue.signalShutdown();
         }
     }
 
@@ -341,6 +389,14 @@ public final class AsyncAppender extends AbstractAppender {
         return errorRef;
     }
 
+    /**
+     * Returns the name of the queue implementation that hands events to the background thread.
+     * @return "ArrayBlockingQueue" or "Disruptor"
+     */
+    public String getQueueImplementation() {
+        return queueImplementation;
+    }
+
     public int getQueueCapacity() {
         return queueSize;
     }
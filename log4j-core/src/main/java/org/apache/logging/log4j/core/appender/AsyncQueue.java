@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.async.RingBufferLogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import com.lmax.disruptor.AlertException;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.InsufficientCapacityException;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.Sequence;
+import com.lmax.disruptor.SequenceBarrier;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.util.Util;
+
+/**
+ * The queue that an {@link AsyncAppender} uses to hand events over to its background thread.
+ * <p>
+ * Any number of threads may add events, but only the background thread may take them. The background thread takes
+ * all available events at once, up to {@link #MAX_BATCH_SIZE}, and must call {@link #release()} when it is done with
+ * the batch returned by {@link #takeBatch(List)} or {@link #pollBatch(List)}.
+ * </p>
+ */
+abstract class AsyncQueue {
+
+    /** Name of the implementation that serializes events into an {@code ArrayBlockingQueue}. */
+    static final String ARRAY_BLOCKING_QUEUE = "ArrayBlockingQueue";
+
+    /** Name of the implementation that copies events into a pre-allocated Disruptor ring buffer. */
+    static final String DISRUPTOR = "Disruptor";
+
+    /** The maximum number of events the background thread takes from the queue at once. */
+    static final int MAX_BATCH_SIZE = 1024;
+
+    protected static final Logger LOGGER = StatusLogger.getLogger();
+
+    /**
+     * Creates the queue implementation with the specified name.
+     *
+     * @param implementation {@link #ARRAY_BLOCKING_QUEUE} or {@link #DISRUPTOR}
+     * @param capacity the number of events the queue can hold
+     * @param includeLocation whether the location of events must be copied
+     * @return a new queue, or {@code null} if the implementation is unknown
+     */
+    static AsyncQueue create(final String implementation, final int capacity, final boolean includeLocation) {
+        if (ARRAY_BLOCKING_QUEUE.equalsIgnoreCase(implementation)) {
+            return new BlockingQueueAsyncQueue(capacity, includeLocation);
+        }
+        if (DISRUPTOR.equalsIgnoreCase(implementation)) {
+            return new RingBufferAsyncQueue(capacity, includeLocation);
+        }
+        return null;
+    }
+
+    /**
+     * Adds the event if there is space available.
+     *
+     * @param event the event to add
+     * @return {@code true} if the event was added, {@code false} if the queue is full
+     */
+    abstract boolean offer(Log4jLogEvent event);
+
+    /**
+     * Adds the event, waiting for space to become available if necessary.
+     *
+     * @param event the event to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    abstract void put(Log4jLogEvent event) throws InterruptedException;
+
+    /**
+     * Waits for at least one event and adds all available events, up to {@link #MAX_BATCH_SIZE}, to the specified
+     * list. Called by the background thread only.
+     *
+     * @param batch the list to add the events to
+     * @return {@code false} if {@link #signalShutdown()} was called while waiting, {@code true} otherwise
+     * @throws InterruptedException if interrupted while waiting
+     */
+    abstract boolean takeBatch(List<LogEvent> batch) throws InterruptedException;
+
+    /**
+     * Adds all available events, up to {@link #MAX_BATCH_SIZE}, to the specified list without waiting. Called by the
+     * background thread only.
+     *
+     * @param batch the list to add the events to
+     * @return {@code true} if any events were added, {@code false} if the queue is empty
+     */
+    abstract boolean pollBatch(List<LogEvent> batch);
+
+    /**
+     * Tells the queue that the background thread is done with the events of the last batch, so that the space can
+     * be reused. Called by the background thread only.
+     */
+    abstract void release();
+
+    /**
+     * Wakes up the background thread if it is waiting in {@link #takeBatch(List)}.
+     */
+    abstract void signalShutdown();
+
+    abstract int size();
+
+    abstract int remainingCapacity();
+
+    /**
+     * Serializes events into an {@code ArrayBlockingQueue} and deserializes them again in the background thread.
+     */
+    private static final class BlockingQueueAsyncQueue extends AsyncQueue {
+        private static final String SHUTDOWN = "Shutdown";
+
+        private final BlockingQueue<Serializable> queue;
+        private final List<Serializable> drained = new ArrayList<Serializable>();
+        private final boolean includeLocation;
+
+        BlockingQueueAsyncQueue(final int capacity, final boolean includeLocation) {
+            this.queue = new ArrayBlockingQueue<Serializable>(capacity);
+            this.includeLocation = includeLocation;
+        }
+
+        @Override
+        boolean offer(final Log4jLogEvent event) {
+            return queue.offer(Log4jLogEvent.serialize(event, includeLocation));
+        }
+
+        @Override
+        void put(final Log4jLogEvent event) throws InterruptedException {
+            queue.put(Log4jLogEvent.serialize(event, includeLocation));
+        }
+
+        @Override
+        boolean takeBatch(final List<LogEvent> batch) throws InterruptedException {
+            final Serializable first = queue.take();
+            if (first instanceof String && SHUTDOWN.equals(first.toString())) {
+                return false;
+            }
+            batch.add(Log4jLogEvent.deserialize(first));
+            drain(batch, MAX_BATCH_SIZE - 1);
+            return true;
+        }
+
+        @Override
+        boolean pollBatch(final List<LogEvent> batch) {
+            return drain(batch, MAX_BATCH_SIZE) > 0;
+        }
+
+        private int drain(final List<LogEvent> batch, final int max) {
+            final int count = queue.drainTo(drained, max);
+            for (int i = 0; i < drained.size(); i++) {
+                final Serializable s = drained.get(i);
+                if (Log4jLogEvent.canDeserialize(s)) {
+                    batch.add(Log4jLogEvent.deserialize(s));
+                } else {
+                    LOGGER.trace("Ignoring event of class {}", s.getClass().getName());
+                }
+            }
+            drained.clear();
+            return count;
+        }
+
+        @Override
+        void release() {
+            // nothing to do: every event is a new object
+        }
+
+        @Override
+        void signalShutdown() {
+            if (queue.isEmpty()) {
+                queue.offer(SHUTDOWN);
+            }
+        }
+
+        @Override
+        int size() {
+            return queue.size();
+        }
+
+        @Override
+        int remainingCapacity() {
+            return queue.remainingCapacity();
+        }
+    }
+
+    /**
+     * Copies events into the pre-allocated slots of a multi-producer Disruptor ring buffer. The background thread
+     * passes the slots to the appenders and clears them after each batch, so no objects are created per event.
+     * The capacity is rounded up to the next power of two.
+     */
+    private static final class RingBufferAsyncQueue extends AsyncQueue {
+        private final RingBuffer<RingBufferLogEvent> ringBuffer;
+        private final SequenceBarrier barrier;
+        private final Sequence sequence = new Sequence(RingBuffer.INITIAL_CURSOR_VALUE);
+        private final boolean includeLocation;
+        private long available = RingBuffer.INITIAL_CURSOR_VALUE;
+        private long last = RingBuffer.INITIAL_CURSOR_VALUE;
+
+        RingBufferAsyncQueue(final int capacity, final boolean includeLocation) {
+            this.ringBuffer = RingBuffer.createMultiProducer(RingBufferLogEvent.FACTORY,
+                    Util.ceilingNextPowerOfTwo(capacity), new BlockingWaitStrategy());
+            this.ringBuffer.addGatingSequences(sequence);
+            this.barrier = ringBuffer.newBarrier();
+            this.includeLocation = includeLocation;
+        }
+
+        @Override
+        boolean offer(final Log4jLogEvent event) {
+            final long seq;
+            try {
+                seq = ringBuffer.tryNext();
+            } catch (final InsufficientCapacityException ex) {
+                return false;
+            }
+            publish(seq, event);
+            return true;
+        }
+
+        @Override
+        void put(final Log4jLogEvent event) {
+            publish(ringBuffer.next(), event);
+        }
+
+        private void publish(final long seq, final LogEvent event) {
+            try {
+                ringBuffer.get(seq).setValues(event, includeLocation);
+            } finally {
+                ringBuffer.publish(seq); // claimed slots must always be published or the ring stalls
+            }
+        }
+
+        @Override
+        boolean takeBatch(final List<LogEvent> batch) throws InterruptedException {
+            final long next = sequence.get() + 1;
+            // the barrier may return before the requested slot is published when another producer
+            // claimed it but has not published it yet
+            while (next > available) {
+                try {
+                    available = barrier.waitFor(next);
+                } catch (final AlertException ex) {
+                    barrier.clearAlert();
+                    return false;
+                } catch (final TimeoutException ex) {
+                    return false;
+                }
+            }
+            addSlots(batch, next);
+            return true;
+        }
+
+        @Override
+        boolean pollBatch(final List<LogEvent> batch) {
+            final long next = sequence.get() + 1;
+            while (available < next + MAX_BATCH_SIZE - 1 && ringBuffer.isPublished(available + 1)) {
+                available++;
+            }
+            if (next > available) {
+                return false;
+            }
+            addSlots(batch, next);
+            return true;
+        }
+
+        private void addSlots(final List<LogEvent> batch, final long next) {
+            last = Math.min(available, next + MAX_BATCH_SIZE - 1);
+            for (long seq = next; seq <= last; seq++) {
+                batch.add(ringBuffer.get(seq));
+            }
+        }
+
+        @Override
+        void release() {
+            for (long seq = sequence.get() + 1; seq <= last; seq++) {
+                ringBuffer.get(seq).clear();
+            }
+            sequence.set(last);
+        }
+
+        @Override
+        void signalShutdown() {
+            barrier.alert();
+        }
+
+        @Override
+        int size() {
+            return (int) (ringBuffer.getCursor() - sequence.get());
+        }
+
+        @Override
+        int remainingCapacity() {
+            return (int) ringBuffer.remainingCapacity();
+        }
+    }
+}
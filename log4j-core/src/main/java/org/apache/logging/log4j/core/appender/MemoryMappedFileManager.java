@@ -0,0 +1,358 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+
+/**
+ * Extends OutputStreamManager but instead of using a buffered output stream,
+ * this class maps a region of a file into memory and writes to this native
+ * memory region. The operating system writes the modified pages to disk, so
+ * the logging thread does not make a system call for every flush.
+ * <p>
+ * When the region is full, the next region of the file is mapped. When the
+ * manager is closed, the unused part of the last region is truncated.
+ * </p>
+ */
+public class MemoryMappedFileManager extends OutputStreamManager {
+    /** Default length of the mapped region: {@value} bytes. */
+    static final int DEFAULT_REGION_LENGTH = 32 * 1024 * 1024;
+
+    /** Minimum length of the mapped region: {@value} bytes. */
+    static final int MIN_REGION_LENGTH = 64 * 1024;
+
+    /** Maximum length of the mapped region: {@value} bytes. */
+    static final int MAX_REGION_LENGTH = 1 << 30;
+
+    private static final MemoryMappedFileManagerFactory FACTORY = new MemoryMappedFileManagerFactory();
+
+    private final boolean isForce;
+    private final int regionLength;
+    private final String advertiseURI;
+    private final RandomAccessFile randomAccessFile;
+    private MappedByteBuffer mappedBuffer;
+    private long mappingOffset;
+
+    protected MemoryMappedFileManager(final RandomAccessFile file, final String fileName, final OutputStream os,
+            final boolean force, final long position, final int regionLength, final String advertiseURI,
+            final Layout<? extends Serializable> layout) throws IOException {
+        super(os, fileName, layout);
+        this.isForce = force;
+        this.randomAccessFile = file;
+        this.regionLength = regionLength;
+        this.advertiseURI = advertiseURI;
+        this.mappingOffset = position;
+        this.mappedBuffer = mmap(file.getChannel(), position, regionLength);
+        writeHeader();
+    }
+
+    /**
+     * Returns the MemoryMappedFileManager.
+     *
+     * @param fileName The name of the file to manage.
+     * @param append true if the file should be appended to, false if it should
+     *            be overwritten.
+     * @param isForce true if the contents should be forced to storage on every
+     *            write
+     * @param regionLength The mapped region length.
+     * @param advertiseURI the URI to use when advertising the file
+     * @param layout The layout.
+     * @return A MemoryMappedFileManager for the File.
+     */
+    public static MemoryMappedFileManager getFileManager(final String fileName, final boolean append,
+            final boolean isForce, final int regionLength, final String advertiseURI,
+            final Layout<? extends Serializable> layout) {
+        return (MemoryMappedFileManager) getManager(fileName, new FactoryData(append,
+                isForce, regionLength, advertiseURI, layout), FACTORY);
+    }
+
+    /**
+     * Writes the layout's header to the mapped region, if the layout has a header.
+     */
+    private void writeHeader() {
+        if (layout == null) {
+            return;
+        }
+        final byte[] header = layout.getHeader();
+        if (header != null) {
+            write(header);
+        }
+    }
+
+    @Override
+    protected synchronized void write(final byte[] bytes, int offset, int length) {
+        super.write(bytes, offset, length); // writes to dummy output stream
+
+        while (length > mappedBuffer().remaining()) {
+            final int chunk = mappedBuffer.remaining();
+            mappedBuffer.put(bytes, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+            remap();
+        }
+        mappedBuffer.put(bytes, offset, length);
+    }
+
+    /**
+     * Lets the layout encode the event straight into the mapped region.
+     *
+     * @param layout The layout that formats the event.
+     * @param event The event to write.
+     */
+    @Override
+    protected synchronized void encode(final Layout<?> layout, final LogEvent event) {
+        layout.encode(event, this);
+    }
+
+    @Override
+    public ByteBuffer getByteBuffer() {
+        return mappedBuffer();
+    }
+
+    @Override
+    public synchronized ByteBuffer drain(final ByteBuffer buf) {
+        remap();
+        return mappedBuffer;
+    }
+
+    private MappedByteBuffer mappedBuffer() {
+        if (mappedBuffer == null) {
+            throw new AppenderLoggingException("MemoryMappedFile " + getName() + " is closed");
+        }
+        return mappedBuffer;
+    }
+
+    /**
+     * Maps the region of the file that starts right after the bytes written so far.
+     */
+    private void remap() {
+        final long offset = mappingOffset + mappedBuffer.position();
+        LOGGER.trace("MemoryMappedFileManager remapping {} at offset {}", getName(), offset);
+        final MappedByteBuffer old = mappedBuffer;
+        mappedBuffer = null; // never touch an unmapped buffer
+        unsafeUnmap(old);
+        try {
+            mappedBuffer = mmap(randomAccessFile.getChannel(), offset, regionLength);
+            mappingOffset = offset;
+        } catch (final IOException ex) {
+            throw new AppenderLoggingException("Unable to remap MemoryMappedFile " + getName(), ex);
+        }
+    }
+
+    /**
+     * Forces the mapped region to storage if so configured. Otherwise there is nothing to do: the bytes are in the
+     * operating system's page cache as soon as they are written.
+     */
+    @Override
+    public synchronized void flush() {
+        if (isForce && mappedBuffer != null) {
+            mappedBuffer.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (mappedBuffer == null) {
+            return;
+        }
+        final long length = mappingOffset + mappedBuffer.position();
+        final MappedByteBuffer old = mappedBuffer;
+        mappedBuffer = null;
+        if (isForce) {
+            old.force();
+        }
+        unsafeUnmap(old);
+        try {
+            LOGGER.trace("MemoryMappedFileManager closing {}, truncating to {} bytes", getName(), length);
+            randomAccessFile.setLength(length);
+            randomAccessFile.close();
+        } catch (final IOException ex) {
+            LOGGER.error("Unable to close MemoryMappedFile " + getName() + ". " + ex);
+        }
+    }
+
+    /**
+     * Maps a region of the specified file channel into memory, extending the file if necessary.
+     *
+     * @param fileChannel the channel of the file
+     * @param start the position in the file where the region starts
+     * @param size the length of the region
+     * @return the mapped region
+     * @throws IOException if the region could not be mapped
+     */
+    public static MappedByteBuffer mmap(final FileChannel fileChannel, final long start, final int size)
+            throws IOException {
+        return fileChannel.map(FileChannel.MapMode.READ_WRITE, start, size);
+    }
+
+    /**
+     * Releases the native memory of the specified buffer without waiting for it to be garbage collected, so that the
+     * file can be truncated or renamed. The buffer must not be accessed afterwards. This relies on JVM internals and
+     * does nothing if they are not available.
+     *
+     * @param mappedBuffer the buffer to unmap
+     */
+    public static void unsafeUnmap(final MappedByteBuffer mappedBuffer) {
+        if (mappedBuffer == null) {
+            return;
+        }
+        try {
+            final Method getCleaner = mappedBuffer.getClass().getMethod("cleaner");
+            getCleaner.setAccessible(true);
+            final Object cleaner = getCleaner.invoke(mappedBuffer);
+            if (cleaner != null) {
+                final Method clean = cleaner.getClass().getMethod("clean");
+                clean.setAccessible(true);
+                clean.invoke(cleaner);
+            }
+        } catch (final Exception ex) {
+            LOGGER.debug("Unable to unmap MappedByteBuffer, leaving it to the garbage collector: {}", ex.toString());
+        }
+    }
+
+    /**
+     * Returns the name of the File being managed.
+     *
+     * @return The name of the File being managed.
+     */
+    public String getFileName() {
+        return getName();
+    }
+
+    /**
+     * Returns the length of the memory mapped region.
+     *
+     * @return the length of the mapped region
+     */
+    public int getRegionLength() {
+        return regionLength;
+    }
+
+    /**
+     * Returns {@code true} if the content of the buffer is forced to storage on every flush.
+     *
+     * @return whether the mapped region is forced to storage on every flush
+     */
+    public boolean isImmediateFlush() {
+        return isForce;
+    }
+
+    /**
+     * FileManager's content format is specified by:
+     * <p/>
+     * Key: "fileURI" Value: provided "advertiseURI" param.
+     *
+     * @return Map of content format keys supporting FileManager
+     */
+    @Override
+    public Map<String, String> getContentFormat() {
+        final Map<String, String> result = new HashMap<String, String>(super.getContentFormat());
+        result.put("fileURI", advertiseURI);
+        return result;
+    }
+
+    /**
+     * Factory Data.
+     */
+    private static class FactoryData {
+        private final boolean append;
+        private final boolean force;
+        private final int regionLength;
+        private final String advertiseURI;
+        private final Layout<? extends Serializable> layout;
+
+        /**
+         * Constructor.
+         *
+         * @param append Append status.
+         * @param force Force to storage on every flush.
+         * @param regionLength Length of the mapped region.
+         * @param advertiseURI The URI to advertise.
+         * @param layout The layout.
+         */
+        public FactoryData(final boolean append, final boolean force, final int regionLength,
+                final String advertiseURI, final Layout<? extends Serializable> layout) {
+            this.append = append;
+            this.force = force;
+            this.regionLength = regionLength;
+            this.advertiseURI = advertiseURI;
+            this.layout = layout;
+        }
+    }
+
+    /**
+     * Factory to create a MemoryMappedFileManager.
+     */
+    private static class MemoryMappedFileManagerFactory implements
+            ManagerFactory<MemoryMappedFileManager, FactoryData> {
+
+        /**
+         * Create a MemoryMappedFileManager.
+         *
+         * @param name The name of the File.
+         * @param data The FactoryData
+         * @return The MemoryMappedFileManager for the File.
+         */
+        @Override
+        public MemoryMappedFileManager createManager(final String name, final FactoryData data) {
+            final File file = new File(name);
+            final File parent = file.getParentFile();
+            if (null != parent && !parent.exists()) {
+                parent.mkdirs();
+            }
+            if (!data.append) {
+                file.delete();
+            }
+
+            final OutputStream os = new RandomAccessFileManager.DummyOutputStream();
+            RandomAccessFile raf = null;
+            try {
+                raf = new RandomAccessFile(name, "rw");
+                final long position = data.append ? raf.length() : 0;
+                if (!data.append) {
+                    raf.setLength(0);
+                }
+                return new MemoryMappedFileManager(raf, name, os, data.force, position, data.regionLength,
+                        data.advertiseURI, data.layout);
+            } catch (final Exception ex) {
+                LOGGER.error("MemoryMappedFileManager (" + name + ") " + ex);
+                if (raf != null) {
+                    try {
+                        raf.close();
+                    } catch (final IOException e) {
+                        LOGGER.error("Cannot close RandomAccessFile {}", name, e);
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+}
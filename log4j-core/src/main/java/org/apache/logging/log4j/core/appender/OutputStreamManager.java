@@ -18,17 +18,24 @@ package org.apache.logging.log4j.core.appender;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
 
 /**
  * Manages an OutputStream so that it can be shared by multiple Appenders and will
  * allow appenders to reconfigure without requiring a new stream.
  */
-public class OutputStreamManager extends AbstractManager {
+public class OutputStreamManager extends AbstractManager implements ByteBufferDestination {
+
+    private static final int DEFAULT_ENCODE_BUFFER_SIZE = 2 * 1024;
+    private static final int MAX_ENCODE_BUFFER_SIZE = 64 * 1024;
 
     private volatile OutputStream os;
     protected final Layout<?> layout;
+    private final ThreadLocal<ByteBuffer> threadLocalBuffer = new ThreadLocal<ByteBuffer>();
 
     protected OutputStreamManager(final OutputStream os, final String streamName, final Layout<?> layout) {
         super(streamName);
@@ -136,6 +143,59 @@ public class OutputStreamManager extends AbstractManager {
         write(bytes, 0, bytes.length);
     }
 
+    /**
+     * Returns the buffer that layouts encode events into. Each thread encodes into its own buffer, which is handed
+     * to {@link #write(byte[], int, int)} once the event is complete.
+     *
+     * @return the current thread's buffer, in write mode
+     */
+    @Override
+    public ByteBuffer getByteBuffer() {
+        ByteBuffer buf = threadLocalBuffer.get();
+        if (buf == null) {
+            buf = ByteBuffer.allocate(DEFAULT_ENCODE_BUFFER_SIZE);
+            threadLocalBuffer.set(buf);
+        }
+        return buf;
+    }
+
+    /**
+     * Grows the current thread's buffer instead of writing out a partial event, so that every event still reaches
+     * the stream with a single {@link #write(byte[], int, int)} call.
+     *
+     * @param buf the full buffer
+     * @return a buffer twice as large, containing the bytes of the specified buffer
+     */
+    @Override
+    public ByteBuffer drain(final ByteBuffer buf) {
+        final ByteBuffer larger = ByteBuffer.allocate(buf.capacity() * 2);
+        buf.flip();
+        larger.put(buf);
+        threadLocalBuffer.set(larger);
+        return larger;
+    }
+
+    /**
+     * Lets the layout encode the event into the current thread's buffer and writes the result to the stream, without
+     * creating an intermediate String or byte array for the event.
+     *
+     * @param layout The layout that formats the event.
+     * @param event The event to write.
+     * @throws AppenderLoggingException if an error occurs.
+     */
+    protected void encode(final Layout<?> layout, final LogEvent event) {
+        getByteBuffer().clear();
+        layout.encode(event, this);
+        final ByteBuffer buf = getByteBuffer(); // may have grown
+        buf.flip();
+        if (buf.capacity() > MAX_ENCODE_BUFFER_SIZE) {
+            threadLocalBuffer.remove(); // do not hold on to the buffer of an unusually large event
+        }
+        if (buf.hasRemaining()) {
+            write(buf.array(), buf.arrayOffset(), buf.remaining());
+        }
+    }
+
     protected synchronized void close() {
         final OutputStream stream = os; // access volatile field only once per method
         if (stream == System.out || stream == System.err) {
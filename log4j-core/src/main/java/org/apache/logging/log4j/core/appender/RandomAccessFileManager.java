@@ -26,6 +26,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
 
 /**
  * Extends OutputStreamManager but instead of using a buffered output stream,
@@ -103,6 +104,32 @@ public class RandomAccessFileManager extends OutputStreamManager {
         }
     }
 
+    /**
+     * Lets the layout encode the event straight into the file buffer, which is written to the file when it is full,
+     * at the end of a batch or immediately if so configured.
+     *
+     * @param layout The layout that formats the event.
+     * @param event The event to write.
+     */
+    @Override
+    protected synchronized void encode(final Layout<?> layout, final LogEvent event) {
+        layout.encode(event, this);
+        if (isImmediateFlush || isEndOfBatch.get() == Boolean.TRUE) {
+            flush();
+        }
+    }
+
+    @Override
+    public ByteBuffer getByteBuffer() {
+        return buffer;
+    }
+
+    @Override
+    public synchronized ByteBuffer drain(final ByteBuffer buf) {
+        flush();
+        return buffer;
+    }
+
     @Override
     public synchronized void flush() {
         buffer.flip();
@@ -100,6 +100,55 @@ public class SocketAppender extends AbstractOutputStreamAppender<AbstractSocketM
      *        The Configuration
      * @return A SocketAppender.
      */
+    public static SocketAppender createAppender(final String host, final String portNum, final String protocolStr,
+            final SslConfiguration sslConfig, final String delay, final String immediateFail, final String name,
+            final String immediateFlush, final String ignore, final Layout<? extends Serializable> layout,
+            final Filter filter, final String advertise, final Configuration config) {
+        return createAppender(host, portNum, protocolStr, sslConfig, delay, immediateFail, name, immediateFlush,
+                ignore, layout, filter, advertise, null, null, null, null, config);
+    }
+
+    /**
+     * 
+     * @param host
+     *        The name of the host to connect to.
+     * @param portNum
+     *        The port to connect to on the target host.
+     * @param protocolStr
+     *        The Protocol to use.
+     * @param sslConfig
+     *        The SSL configuration file for TCP/SSL, ignored for UPD.
+     * @param delay
+     *        The interval in which failed writes should be retried.
+     * @param immediateFail
+     *        True if the write should fail if no socket is immediately available.
+     * @param name
+     *        The name of the Appender.
+     * @param immediateFlush
+     *        "true" if data should be flushed on each write.
+     * @param ignore
+     *        If {@code "true"} (default) exceptions encountered when appending events are logged; otherwise they are
+     *        propagated to the caller.
+     * @param layout
+     *        The layout to use (defaults to SerializedLayout).
+     * @param filter
+     *        The Filter or null.
+     * @param advertise
+     *        "true" if the appender configuration should be advertised, "false" otherwise.
+     * @param bufferSize
+     *        The size in bytes of the buffer TCP events are gathered in before they are sent; 0 (default) sends each
+     *        event on its own. Buffered appenders do not flush after every event unless immediateFlush is "true".
+     * @param flushInterval
+     *        The maximum number of milliseconds buffered TCP events wait to be sent; 0 (default) for no limit.
+     * @param spoolSize
+     *        The maximum number of bytes kept while the TCP connection is down, to be sent once it is reestablished;
+     *        0 (default) keeps none.
+     * @param spoolFile
+     *        The file the bytes are kept in while the TCP connection is down; by default they are kept in memory.
+     * @param config
+     *        The Configuration
+     * @return A SocketAppender.
+     */
     @PluginFactory
     public static SocketAppender createAppender(
             // @formatter:off
@@ -115,9 +164,14 @@ public class SocketAppender extends AbstractOutputStreamAppender<AbstractSocketM
             @PluginElement("Layout") Layout<? extends Serializable> layout,
             @PluginElement("Filters") final Filter filter,
             @PluginAttribute("advertise") final String advertise, 
+            @PluginAttribute("bufferSize") final String bufferSize,
+            @PluginAttribute("flushInterval") final String flushInterval,
+            @PluginAttribute("spoolSize") final String spoolSize,
+            @PluginAttribute("spoolFile") final String spoolFile,
             @PluginConfiguration final Configuration config) {
             // @formatter:on
-        boolean isFlush = Booleans.parseBoolean(immediateFlush, true);
+        final int bufferBytes = AbstractAppender.parseInt(bufferSize, 0);
+        boolean isFlush = Booleans.parseBoolean(immediateFlush, bufferBytes <= 0);
         final boolean isAdvertise = Boolean.parseBoolean(advertise);
         final boolean ignoreExceptions = Booleans.parseBoolean(ignore, true);
         final boolean fail = Booleans.parseBoolean(immediateFail, true);
@@ -139,7 +193,8 @@ public class SocketAppender extends AbstractOutputStreamAppender<AbstractSocketM
         }
 
         final AbstractSocketManager manager = createSocketManager(name, protocol, host, port, sslConfig,
-                reconnectDelay, fail, layout);
+                reconnectDelay, fail, layout, bufferBytes, AbstractAppender.parseInt(flushInterval, 0),
+                AbstractAppender.parseInt(spoolSize, 0), spoolFile);
 
         return new SocketAppender(name, layout, filter, manager, ignoreExceptions, isFlush,
                 isAdvertise ? config.getAdvertiser() : null);
@@ -151,9 +206,22 @@ public class SocketAppender extends AbstractOutputStreamAppender<AbstractSocketM
      * @throws IllegalArgumentException
      *         if the protocol cannot be handled.
      */
+    protected static AbstractSocketManager createSocketManager(final String name, final Protocol protocol,
+            final String host, final int port, final SslConfiguration sslConfig, final int delay,
+            final boolean immediateFail, final Layout<? extends Serializable> layout) {
+        return createSocketManager(name, protocol, host, port, sslConfig, delay, immediateFail, layout, 0, 0, 0, null);
+    }
+
+    /**
+     * Creates an AbstractSocketManager for TCP, UDP, and SSL. The buffer and spool settings only apply to TCP.
+     * 
+     * @throws IllegalArgumentException
+     *         if the protocol cannot be handled.
+     */
     protected static AbstractSocketManager createSocketManager(final String name, Protocol protocol, final String host,
             final int port, final SslConfiguration sslConfig, final int delay, final boolean immediateFail,
-            final Layout<? extends Serializable> layout) {
+            final Layout<? extends Serializable> layout, final int bufferSize, final int flushInterval,
+            final int spoolSize, final String spoolFile) {
         if (protocol == Protocol.TCP && sslConfig != null) {
             // Upgrade TCP to SSL if an SSL config is specified.
             protocol = Protocol.SSL;
@@ -161,9 +229,13 @@ public class SocketAppender extends AbstractOutputStreamAppender<AbstractSocketM
         if (protocol != Protocol.SSL && sslConfig != null) {
             LOGGER.info("Appender {} ignoring SSL configuration for {} protocol", name, protocol);
         }
+        if (protocol != Protocol.TCP && (bufferSize > 0 || spoolSize > 0)) {
+            LOGGER.info("Appender {} ignoring buffer and spool settings for {} protocol", name, protocol);
+        }
         switch (protocol) {
         case TCP:
-            return TcpSocketManager.getSocketManager(host, port, delay, immediateFail, layout);
+            return TcpSocketManager.getSocketManager(host, port, delay, immediateFail, layout, bufferSize,
+                    flushInterval, spoolSize, spoolFile);
         case UDP:
             return DatagramSocketManager.getSocketManager(host, port, layout);
         case SSL:
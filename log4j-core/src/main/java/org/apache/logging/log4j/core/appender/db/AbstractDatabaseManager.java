@@ -17,19 +17,41 @@
 package org.apache.logging.log4j.core.appender.db;
 
 import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.AbstractManager;
 import org.apache.logging.log4j.core.appender.ManagerFactory;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.impl.ReusableLogEventFactory;
 
 /**
  * Manager that allows database appenders to have their configuration reloaded without losing events.
+ * <p>
+ * By default events are written by the appending thread, which also flushes the buffer once it is full. With a
+ * {@link BackgroundFlushConfig}, appending threads only hand the events to a bounded queue and a background thread
+ * writes them to the database, so that a slow database does not hold up the application.
+ * </p>
  */
 public abstract class AbstractDatabaseManager extends AbstractManager {
+    private static final long OFFER_RETRY_MILLIS = 100;
+
     private final ArrayList<LogEvent> buffer;
     private final int bufferSize;
+    private final BackgroundFlushConfig backgroundFlush;
+    private final BlockingQueue<LogEvent> queue;
+    private final AtomicInteger droppedEvents = new AtomicInteger();
+    private final AtomicInteger enqueuingThreads = new AtomicInteger();
+
+    private volatile boolean running = false;
+
+    /** Set when shutdown begins: events are no longer queued but written by the appending thread. */
+    private volatile boolean closing = false;
 
-    private boolean running = false;
+    private Flusher flusher;
 
     /**
      * Instantiates the base manager.
@@ -39,9 +61,26 @@ public abstract class AbstractDatabaseManager extends AbstractManager {
      * @param bufferSize The size of the log event buffer.
      */
     protected AbstractDatabaseManager(final String name, final int bufferSize) {
+        this(name, bufferSize, null);
+    }
+
+    /**
+     * Instantiates the base manager.
+     *
+     * @param name The manager name, which should include any configuration details that one might want to be able to
+     *             reconfigure at runtime, such as database name, username, (hashed) password, etc.
+     * @param bufferSize The size of the log event buffer.
+     * @param backgroundFlush The settings of the background flushing, or {@code null} to write events on the
+     *                        appending thread.
+     */
+    protected AbstractDatabaseManager(final String name, final int bufferSize,
+                                      final BackgroundFlushConfig backgroundFlush) {
         super(name);
         this.bufferSize = bufferSize;
         this.buffer = new ArrayList<LogEvent>(bufferSize + 1);
+        this.backgroundFlush = backgroundFlush;
+        this.queue = backgroundFlush == null ? null :
+                new ArrayBlockingQueue<LogEvent>(backgroundFlush.getQueueSize());
     }
 
     /**
@@ -60,7 +99,13 @@ public abstract class AbstractDatabaseManager extends AbstractManager {
         if (!this.isRunning()) {
             try {
                 this.startupInternal();
+                this.closing = false;
                 this.running = true;
+                if (this.queue != null) {
+                    this.flusher = new Flusher();
+                    this.flusher.setDaemon(true);
+                    this.flusher.start();
+                }
             } catch (final Exception e) {
                 LOGGER.error("Could not perform database startup operations using logging manager [{}].",
                         this.getName(), e);
@@ -79,18 +124,46 @@ public abstract class AbstractDatabaseManager extends AbstractManager {
     /**
      * This method is called from the {@link #release()} method when the appender is stopped or the appender's manager
      * is replaced. If it has not already been called, it calls {@link #shutdownInternal()} and catches any exceptions
-     * it might throw.
+     * it might throw. The background flushing thread, if any, is stopped first and the events it has not written yet
+     * are flushed. Events appended while the manager shuts down are no longer queued but written by the appending
+     * threads.
      */
-    public final synchronized void shutdown() {
-        this.flush();
-        if (this.isRunning()) {
+    public final void shutdown() {
+        final Flusher current;
+        // appending threads that see this flag write their events themselves, so none are queued after the last drain
+        this.closing = true;
+        synchronized (this) {
+            current = this.flusher;
+            this.flusher = null;
+            if (current != null) {
+                // the flusher is waiting for events, it only writes to the database while holding this lock
+                current.shutdown();
+                current.interrupt();
+            }
+        }
+        if (current != null) {
             try {
-                this.shutdownInternal();
-            } catch (final Exception e) {
-                LOGGER.warn("Error while performing database shutdown operations using logging manager [{}].",
-                        this.getName(), e);
-            } finally {
-                this.running = false;
+                current.join();
+                // threads blocked on the full queue notice the flag within OFFER_RETRY_MILLIS
+                while (this.enqueuingThreads.get() > 0) {
+                    Thread.sleep(1);
+                }
+            } catch (final InterruptedException e) {
+                LOGGER.warn("Interrupted while stopping the flushing thread of logging manager [{}].", this.getName());
+            }
+        }
+        synchronized (this) {
+            this.flush();
+            this.reportDroppedEvents();
+            if (this.isRunning()) {
+                try {
+                    this.shutdownInternal();
+                } catch (final Exception e) {
+                    LOGGER.warn("Error while performing database shutdown operations using logging manager [{}].",
+                            this.getName(), e);
+                } finally {
+                    this.running = false;
+                }
             }
         }
     }
@@ -105,6 +178,16 @@ public abstract class AbstractDatabaseManager extends AbstractManager {
         return this.running;
     }
 
+    /**
+     * Gets the size of the log event buffer. If greater than 0, {@link #writeInternal} is called for several events
+     * between {@link #connectAndStart()} and {@link #commitAndClose()}.
+     *
+     * @return the buffer size.
+     */
+    protected final int getBufferSize() {
+        return this.bufferSize;
+    }
+
     /**
      * Connects to the database and starts a transaction (if applicable). With buffering enabled, this is called when
      * flushing the buffer begins, before the first call to {@link #writeInternal}. With buffering disabled, this is
@@ -130,9 +213,17 @@ public abstract class AbstractDatabaseManager extends AbstractManager {
 
     /**
      * This method is called automatically when the buffer size reaches its maximum or at the beginning of a call to
-     * {@link #shutdown()}. It can also be called manually to flush events to the database.
+     * {@link #shutdown()}. It can also be called manually to flush events to the database. With background flushing,
+     * this also writes the events waiting in the queue.
      */
     public final synchronized void flush() {
+        if (this.queue != null && this.isRunning()) {
+            this.queue.drainTo(this.buffer);
+        }
+        this.flushBuffer();
+    }
+
+    private void flushBuffer() {
         if (this.isRunning() && this.buffer.size() > 0) {
             this.connectAndStart();
             for (final LogEvent event : this.buffer) {
@@ -144,13 +235,31 @@ public abstract class AbstractDatabaseManager extends AbstractManager {
     }
 
     /**
-     * This method manages buffering and writing of events.
+     * This method manages buffering and writing of events. With background flushing, it only queues the event, or
+     * applies the overflow policy if the queue is full.
      *
      * @param event The event to write to the database.
      */
-    public final synchronized void write(final LogEvent event) {
+    public final void write(final LogEvent event) {
+        if (this.queue != null && this.isRunning()) {
+            // counted before checking the flag, so that shutdown() can wait for the threads that passed the check
+            this.enqueuingThreads.incrementAndGet();
+            try {
+                if (!this.closing) {
+                    // the thread name, location and message of the event are resolved here rather than on the flusher
+                    this.enqueue(Log4jLogEvent.createMemento(event, event.isIncludeLocation()));
+                    return;
+                }
+            } finally {
+                this.enqueuingThreads.decrementAndGet();
+            }
+        }
+        this.writeOnCaller(event);
+    }
+
+    private synchronized void writeOnCaller(final LogEvent event) {
         if (this.bufferSize > 0) {
-            this.buffer.add(event);
+            this.buffer.add(ReusableLogEventFactory.memento(event));
             if (this.buffer.size() >= this.bufferSize || event.isEndOfBatch()) {
                 this.flush();
             }
@@ -161,6 +270,115 @@ public abstract class AbstractDatabaseManager extends AbstractManager {
         }
     }
 
+    private void enqueue(final LogEvent event) {
+        if (this.queue.offer(event)) {
+            return;
+        }
+        switch (this.backgroundFlush.getOverflowPolicy()) {
+        case DROP:
+            this.droppedEvents.incrementAndGet();
+            return;
+        case DROP_BELOW_LEVEL:
+            if (!event.getLevel().isMoreSpecificThan(this.backgroundFlush.getOverflowLevel())) {
+                this.droppedEvents.incrementAndGet();
+                return;
+            }
+            break;
+        default:
+            break;
+        }
+        try {
+            while (!this.queue.offer(event, OFFER_RETRY_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (this.closing) {
+                    // the flusher is stopping and will not make room in the queue any more
+                    this.writeOnCaller(event);
+                    return;
+                }
+            }
+        } catch (final InterruptedException e) {
+            this.droppedEvents.incrementAndGet();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void reportDroppedEvents() {
+        final int dropped = this.droppedEvents.getAndSet(0);
+        if (dropped > 0) {
+            LOGGER.warn("Dropped {} events because the queue of logging manager [{}] was full.", dropped,
+                    this.getName());
+        }
+    }
+
+    /**
+     * Moves the queued events to the buffer and flushes it once it is full or its oldest event has waited for the
+     * flush interval. If the database fails, the buffered events are kept and written again after the flush
+     * interval; meanwhile the queue fills up and the overflow policy applies.
+     */
+    private class Flusher extends Thread {
+
+        private volatile boolean shutdown = false;
+
+        public Flusher() {
+            super("DatabaseFlusher-" + AbstractDatabaseManager.this.getName());
+        }
+
+        public void shutdown() {
+            this.shutdown = true;
+        }
+
+        @Override
+        public void run() {
+            final AbstractDatabaseManager manager = AbstractDatabaseManager.this;
+            final int interval = manager.backgroundFlush.getFlushInterval();
+            final int capacity = manager.bufferSize > 0 ? manager.bufferSize : manager.backgroundFlush.getQueueSize();
+            long deadline = 0;
+            while (!this.shutdown) {
+                try {
+                    final long wait;
+                    final boolean full;
+                    synchronized (manager) {
+                        full = manager.buffer.size() >= capacity;
+                        wait = deadline == 0 ? interval : deadline - System.currentTimeMillis();
+                    }
+                    LogEvent event = null;
+                    if (wait > 0) {
+                        if (full) {
+                            sleep(wait);
+                        } else {
+                            event = manager.queue.poll(wait, TimeUnit.MILLISECONDS);
+                        }
+                    }
+                    synchronized (manager) {
+                        Thread.interrupted(); // shutdown() only interrupts this thread while it holds the lock
+                        if (event != null) {
+                            manager.buffer.add(event);
+                            manager.queue.drainTo(manager.buffer, capacity - manager.buffer.size());
+                        }
+                        if (manager.buffer.isEmpty()) {
+                            deadline = 0;
+                            continue;
+                        }
+                        final long now = System.currentTimeMillis();
+                        if (deadline == 0) {
+                            deadline = now + interval;
+                        }
+                        if (manager.buffer.size() >= capacity || manager.bufferSize <= 0 || now >= deadline) {
+                            deadline = now + interval; // retry after the interval if the flush fails
+                            manager.flushBuffer();
+                            deadline = 0;
+                            manager.reportDroppedEvents();
+                        }
+                    }
+                } catch (final InterruptedException e) {
+                    // shutdown() flushes the remaining events
+                } catch (final Exception e) {
+                    LOGGER.error("Unable to flush events to the database using logging manager [{}].",
+                            manager.getName(), e);
+                }
+            }
+        }
+    }
+
     @Override
     public final void releaseSub() {
         this.shutdown();
@@ -195,6 +413,7 @@ public abstract class AbstractDatabaseManager extends AbstractManager {
      */
     protected abstract static class AbstractFactoryData {
         private final int bufferSize;
+        private final BackgroundFlushConfig backgroundFlush;
 
         /**
          * Constructs the base factory data.
@@ -202,7 +421,27 @@ public abstract class AbstractDatabaseManager extends AbstractManager {
          * @param bufferSize The size of the buffer.
          */
         protected AbstractFactoryData(final int bufferSize) {
+            this(bufferSize, null);
+        }
+
+        /**
+         * Constructs the base factory data.
+         *
+         * @param bufferSize The size of the buffer.
+         * @param backgroundFlush The settings of the background flushing, or {@code null}.
+         */
+        protected AbstractFactoryData(final int bufferSize, final BackgroundFlushConfig backgroundFlush) {
             this.bufferSize = bufferSize;
+            this.backgroundFlush = backgroundFlush;
+        }
+
+        /**
+         * Gets the settings of the background flushing.
+         *
+         * @return the settings, or {@code null} if events are written by the appending thread.
+         */
+        public BackgroundFlushConfig getBackgroundFlush() {
+            return backgroundFlush;
         }
 
         /**
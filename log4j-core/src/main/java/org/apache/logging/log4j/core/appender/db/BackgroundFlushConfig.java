@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender.db;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.util.EnglishEnums;
+
+/**
+ * Settings of the background flushing of an {@link AbstractDatabaseManager}. Appending threads hand their events to a
+ * bounded queue and a dedicated thread writes them to the database, once the manager's buffer size is reached or the
+ * oldest event has waited for the flush interval. The overflow policy decides what happens to events appended while
+ * the queue is full.
+ */
+public final class BackgroundFlushConfig {
+
+    /**
+     * The default maximum number of milliseconds an event waits in the buffer before it is written.
+     */
+    public static final int DEFAULT_FLUSH_INTERVAL = 1000;
+
+    /**
+     * What to do with an event that is appended while the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait for room in the queue. */
+        BLOCK,
+        /** Discard the event. */
+        DROP,
+        /** Discard the event if it is less specific than the overflow level, otherwise wait for room in the queue. */
+        DROP_BELOW_LEVEL
+    }
+
+    private final int queueSize;
+    private final int flushInterval;
+    private final OverflowPolicy overflowPolicy;
+    private final Level overflowLevel;
+
+    /**
+     * Constructs the settings.
+     *
+     * @param queueSize The maximum number of events waiting to be written.
+     * @param flushInterval The maximum number of milliseconds an event waits in the buffer before it is written.
+     * @param overflowPolicy What to do with events appended while the queue is full.
+     * @param overflowLevel The level below which {@link OverflowPolicy#DROP_BELOW_LEVEL} discards events.
+     */
+    public BackgroundFlushConfig(final int queueSize, final int flushInterval, final OverflowPolicy overflowPolicy,
+                                 final Level overflowLevel) {
+        this.queueSize = queueSize;
+        this.flushInterval = flushInterval;
+        this.overflowPolicy = overflowPolicy;
+        this.overflowLevel = overflowLevel;
+    }
+
+    /**
+     * Creates the settings from the attributes of a database appender.
+     *
+     * @param queueSize If an integer greater than 0, events are written to the database by a background thread and
+     *                  up to this many events wait for it; otherwise events are written by the appending thread.
+     * @param flushInterval The maximum number of milliseconds an event waits in the buffer before it is written,
+     *                      {@value #DEFAULT_FLUSH_INTERVAL} by default.
+     * @param overflowPolicy {@code Block} (default), {@code Drop} or {@code Drop_Below_Level}.
+     * @param overflowLevel The level below which events are discarded by {@code Drop_Below_Level}, {@code WARN} by
+     *                      default.
+     * @return the settings, or {@code null} if events are written by the appending thread.
+     */
+    public static BackgroundFlushConfig createConfig(final String queueSize, final String flushInterval,
+                                                     final String overflowPolicy, final String overflowLevel) {
+        final int queueSizeInt = AbstractAppender.parseInt(queueSize, 0);
+        if (queueSizeInt <= 0) {
+            return null;
+        }
+        final int flushIntervalInt = AbstractAppender.parseInt(flushInterval, DEFAULT_FLUSH_INTERVAL);
+        final OverflowPolicy policy = EnglishEnums.valueOf(OverflowPolicy.class, overflowPolicy,
+                OverflowPolicy.BLOCK);
+        final Level level = Level.toLevel(overflowLevel, Level.WARN);
+        return new BackgroundFlushConfig(queueSizeInt, flushIntervalInt > 0 ? flushIntervalInt :
+                DEFAULT_FLUSH_INTERVAL, policy, level);
+    }
+
+    /**
+     * Gets the maximum number of events waiting to be written.
+     *
+     * @return the queue size.
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * Gets the maximum number of milliseconds an event waits in the buffer before it is written.
+     *
+     * @return the flush interval.
+     */
+    public int getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * Gets what to do with events appended while the queue is full.
+     *
+     * @return the overflow policy.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Gets the level below which {@link OverflowPolicy#DROP_BELOW_LEVEL} discards events.
+     *
+     * @return the overflow level.
+     */
+    public Level getOverflowLevel() {
+        return overflowLevel;
+    }
+
+    @Override
+    public String toString() {
+        return "queueSize=" + queueSize + ", flushInterval=" + flushInterval + ", overflowPolicy=" + overflowPolicy
+                + (overflowPolicy == OverflowPolicy.DROP_BELOW_LEVEL ? ", overflowLevel=" + overflowLevel : "");
+    }
+}
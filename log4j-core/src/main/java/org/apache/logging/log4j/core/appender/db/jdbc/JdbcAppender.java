@@ -19,6 +19,7 @@ package org.apache.logging.log4j.core.appender.db.jdbc;
 import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.appender.AbstractAppender;
 import org.apache.logging.log4j.core.appender.db.AbstractDatabaseAppender;
+import org.apache.logging.log4j.core.appender.db.BackgroundFlushConfig;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
 import org.apache.logging.log4j.core.config.plugins.PluginElement;
@@ -64,6 +65,68 @@ public final class JdbcAppender extends AbstractDatabaseAppender<JdbcDatabaseMan
      *                      that data.
      * @return a new JDBC appender.
      */
+    public static JdbcAppender createAppender(final String name, final String ignore, final Filter filter,
+                                              final ConnectionSource connectionSource, final String bufferSize,
+                                              final String tableName, final ColumnConfig[] columnConfigs) {
+        return createAppender(name, ignore, filter, connectionSource, bufferSize, tableName, columnConfigs, null, null,
+                null, null, null);
+    }
+
+    /**
+     * Factory method for creating a JDBC appender within the plugin manager.
+     *
+     * @param name The name of the appender.
+     * @param ignore If {@code "true"} (default) exceptions encountered when appending events are logged; otherwise
+     *               they are propagated to the caller.
+     * @param filter The filter, if any, to use.
+     * @param connectionSource The connections source from which database connections should be retrieved.
+     * @param bufferSize If an integer greater than 0, this causes the appender to buffer log events and flush whenever
+     *                   the buffer reaches this size.
+     * @param tableName The name of the database table to insert log events into.
+     * @param columnConfigs Information about the columns that log event data should be inserted into and how to insert
+     *                      that data.
+     * @param asyncQueueSize If an integer greater than 0, events are written to the database by a background thread
+     *                       and up to this many events wait for it.
+     * @param flushInterval With a background thread, the maximum number of milliseconds an event waits in the buffer
+     *                      before it is written (default 1000).
+     * @param overflowPolicy With a background thread, what to do with events appended while the queue is full:
+     *                       {@code Block} (default), {@code Drop} or {@code Drop_Below_Level}.
+     * @param overflowLevel The level below which {@code Drop_Below_Level} discards events (default {@code WARN}).
+     * @return a new JDBC appender.
+     */
+    public static JdbcAppender createAppender(final String name, final String ignore, final Filter filter,
+                                              final ConnectionSource connectionSource, final String bufferSize,
+                                              final String tableName, final ColumnConfig[] columnConfigs,
+                                              final String asyncQueueSize, final String flushInterval,
+                                              final String overflowPolicy, final String overflowLevel) {
+        return createAppender(name, ignore, filter, connectionSource, bufferSize, tableName, columnConfigs,
+                asyncQueueSize, flushInterval, overflowPolicy, overflowLevel, null);
+    }
+
+    /**
+     * Factory method for creating a JDBC appender within the plugin manager.
+     *
+     * @param name The name of the appender.
+     * @param ignore If {@code "true"} (default) exceptions encountered when appending events are logged; otherwise
+     *               they are propagated to the caller.
+     * @param filter The filter, if any, to use.
+     * @param connectionSource The connections source from which database connections should be retrieved.
+     * @param bufferSize If an integer greater than 0, this causes the appender to buffer log events and flush whenever
+     *                   the buffer reaches this size.
+     * @param tableName The name of the database table to insert log events into.
+     * @param columnConfigs Information about the columns that log event data should be inserted into and how to insert
+     *                      that data.
+     * @param asyncQueueSize If an integer greater than 0, events are written to the database by a background thread
+     *                       and up to this many events wait for it.
+     * @param flushInterval With a background thread, the maximum number of milliseconds an event waits in the buffer
+     *                      before it is written (default 1000).
+     * @param overflowPolicy With a background thread, what to do with events appended while the queue is full:
+     *                       {@code Block} (default), {@code Drop} or {@code Drop_Below_Level}.
+     * @param overflowLevel The level below which {@code Drop_Below_Level} discards events (default {@code WARN}).
+     * @param batchSize The maximum number of events sent to the database in one JDBC batch when the buffer is flushed
+     *                  (default is the buffer size). With 1, events are inserted one by one.
+     * @return a new JDBC appender.
+     */
     @PluginFactory
     public static JdbcAppender createAppender(
             @PluginAttribute("name") final String name,
@@ -72,13 +135,25 @@ public final class JdbcAppender extends AbstractDatabaseAppender<JdbcDatabaseMan
             @PluginElement("ConnectionSource") final ConnectionSource connectionSource,
             @PluginAttribute("bufferSize") final String bufferSize,
             @PluginAttribute("tableName") final String tableName,
-            @PluginElement("ColumnConfigs") final ColumnConfig[] columnConfigs) {
+            @PluginElement("ColumnConfigs") final ColumnConfig[] columnConfigs,
+            @PluginAttribute("asyncQueueSize") final String asyncQueueSize,
+            @PluginAttribute("flushInterval") final String flushInterval,
+            @PluginAttribute("overflowPolicy") final String overflowPolicy,
+            @PluginAttribute("overflowLevel") final String overflowLevel,
+            @PluginAttribute("batchSize") final String batchSize) {
 
         final int bufferSizeInt = AbstractAppender.parseInt(bufferSize, 0);
+        final int batchSizeInt = AbstractAppender.parseInt(batchSize, 0);
         final boolean ignoreExceptions = Booleans.parseBoolean(ignore, true);
+        final BackgroundFlushConfig backgroundFlush = BackgroundFlushConfig.createConfig(asyncQueueSize, flushInterval,
+                overflowPolicy, overflowLevel);
 
         final StringBuilder managerName = new StringBuilder("jdbcManager{ description=").append(name)
-                .append(", bufferSize=").append(bufferSizeInt).append(", connectionSource=")
+                .append(", bufferSize=").append(bufferSizeInt).append(", batchSize=").append(batchSizeInt);
+        if (backgroundFlush != null) {
+            managerName.append(", ").append(backgroundFlush);
+        }
+        managerName.append(", connectionSource=")
                 .append(connectionSource.toString()).append(", tableName=").append(tableName).append(", columns=[ ");
 
         int i = 0;
@@ -92,7 +167,8 @@ public final class JdbcAppender extends AbstractDatabaseAppender<JdbcDatabaseMan
         managerName.append(" ] }");
 
         final JdbcDatabaseManager manager = JdbcDatabaseManager.getJDBCDatabaseManager(
-                managerName.toString(), bufferSizeInt, connectionSource, tableName, columnConfigs
+                managerName.toString(), bufferSizeInt, backgroundFlush, batchSizeInt, connectionSource, tableName,
+                columnConfigs
         );
         if (manager == null) {
             return null;
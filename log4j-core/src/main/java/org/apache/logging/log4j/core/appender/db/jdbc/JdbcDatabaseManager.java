@@ -20,6 +20,7 @@ import java.io.StringReader;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,6 +29,7 @@ import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.AppenderLoggingException;
 import org.apache.logging.log4j.core.appender.ManagerFactory;
 import org.apache.logging.log4j.core.appender.db.AbstractDatabaseManager;
+import org.apache.logging.log4j.core.appender.db.BackgroundFlushConfig;
 import org.apache.logging.log4j.core.layout.PatternLayout;
 import org.apache.logging.log4j.core.util.Closer;
 
@@ -40,13 +42,19 @@ public final class JdbcDatabaseManager extends AbstractDatabaseManager {
     private final List<Column> columns;
     private final ConnectionSource connectionSource;
     private final String sqlStatement;
+    private final int batchSize;
+    private final List<StringReader> batchReaders = new ArrayList<StringReader>();
 
     private Connection connection;
     private PreparedStatement statement;
+    private Boolean supportsBatchUpdates;
+    private int batchCount;
 
-    private JdbcDatabaseManager(final String name, final int bufferSize, final ConnectionSource connectionSource,
+    private JdbcDatabaseManager(final String name, final int bufferSize, final BackgroundFlushConfig backgroundFlush,
+                                final int batchSize, final ConnectionSource connectionSource,
                                 final String sqlStatement, final List<Column> columns) {
-        super(name, bufferSize);
+        super(name, bufferSize, backgroundFlush);
+        this.batchSize = batchSize;
         this.connectionSource = connectionSource;
         this.sqlStatement = sqlStatement;
         this.columns = columns;
@@ -70,6 +78,15 @@ public final class JdbcDatabaseManager extends AbstractDatabaseManager {
             this.connection = this.connectionSource.getConnection();
             this.connection.setAutoCommit(false);
             this.statement = this.connection.prepareStatement(this.sqlStatement);
+            this.batchCount = 0;
+            this.batchReaders.clear();
+            if (this.batchSize > 1 && this.supportsBatchUpdates == null) {
+                this.supportsBatchUpdates = this.connection.getMetaData().supportsBatchUpdates();
+                if (!this.supportsBatchUpdates) {
+                    LOGGER.warn("The JDBC driver does not support batch updates, JDBC manager [{}] inserts the events "
+                            + "one by one.", this.getName());
+                }
+            }
         } catch (final SQLException e) {
             throw new AppenderLoggingException(
                     "Cannot write logging event or flush buffer; JDBC manager cannot connect to the database.", e
@@ -79,6 +96,7 @@ public final class JdbcDatabaseManager extends AbstractDatabaseManager {
 
     @Override
     protected void writeInternal(final LogEvent event) {
+        final boolean batch = this.isBatching();
         StringReader reader = null;
         try {
             if (!this.isRunning() || this.connection == null || this.connection.isClosed() || this.statement == null
@@ -94,6 +112,10 @@ public final class JdbcDatabaseManager extends AbstractDatabaseManager {
                 } else {
                     if (column.isClob) {
                         reader = new StringReader(column.layout.toSerializable(event));
+                        if (batch) {
+                            // the driver may read the CLOB only when the batch is executed
+                            this.batchReaders.add(reader);
+                        }
                         if (column.isUnicode) {
                             this.statement.setNClob(i++, reader);
                         } else {
@@ -109,7 +131,12 @@ public final class JdbcDatabaseManager extends AbstractDatabaseManager {
                 }
             }
 
-            if (this.statement.executeUpdate() == 0) {
+            if (batch) {
+                this.statement.addBatch();
+                if (++this.batchCount >= this.batchSize) {
+                    this.executeBatch();
+                }
+            } else if (this.statement.executeUpdate() == 0) {
                 throw new AppenderLoggingException(
                         "No records inserted in database table for log event in JDBC manager.");
             }
@@ -117,14 +144,49 @@ public final class JdbcDatabaseManager extends AbstractDatabaseManager {
             throw new AppenderLoggingException("Failed to insert record for log event in JDBC manager: " +
                     e.getMessage(), e);
         } finally {
-            Closer.closeSilently(reader);
+            if (!batch) {
+                Closer.closeSilently(reader);
+            }
         }
     }
 
+    private boolean isBatching() {
+        return this.batchSize > 1 && this.supportsBatchUpdates != null && this.supportsBatchUpdates;
+    }
+
+    /**
+     * Sends the events added to the statement since the last batch to the database in one round-trip.
+     */
+    private void executeBatch() throws SQLException {
+        if (this.batchCount == 0) {
+            return;
+        }
+        final int count = this.batchCount;
+        this.batchCount = 0;
+        final long start = System.nanoTime();
+        try {
+            final int[] results = this.statement.executeBatch();
+            for (final int result : results) {
+                if (result == 0 || result == Statement.EXECUTE_FAILED) {
+                    throw new AppenderLoggingException(
+                            "No records inserted in database table for log event in JDBC manager.");
+                }
+            }
+        } finally {
+            for (final StringReader reader : this.batchReaders) {
+                Closer.closeSilently(reader);
+            }
+            this.batchReaders.clear();
+        }
+        LOGGER.debug("JDBC manager [{}] inserted a batch of {} events in {} microseconds.", this.getName(), count,
+                (System.nanoTime() - start) / 1000);
+    }
+
     @Override
     protected void commitAndClose() {
         try {
             if (this.connection != null && !this.connection.isClosed()) {
+                this.executeBatch();
                 this.connection.commit();
             }
         } catch (final SQLException e) {
@@ -162,9 +224,54 @@ public final class JdbcDatabaseManager extends AbstractDatabaseManager {
                                                              final ConnectionSource connectionSource,
                                                              final String tableName,
                                                              final ColumnConfig[] columnConfigs) {
+        return getJDBCDatabaseManager(name, bufferSize, null, connectionSource, tableName, columnConfigs);
+    }
+
+    /**
+     * Creates a JDBC manager for use within the {@link JdbcAppender}, or returns a suitable one if it already exists.
+     *
+     * @param name The name of the manager, which should include connection details and hashed passwords where possible.
+     * @param bufferSize The size of the log event buffer.
+     * @param backgroundFlush The settings of the background flushing, or {@code null} to write events on the
+     *                        appending thread.
+     * @param connectionSource The source for connections to the database.
+     * @param tableName The name of the database table to insert log events into.
+     * @param columnConfigs Configuration information about the log table columns.
+     * @return a new or existing JDBC manager as applicable.
+     */
+    public static JdbcDatabaseManager getJDBCDatabaseManager(final String name, final int bufferSize,
+                                                             final BackgroundFlushConfig backgroundFlush,
+                                                             final ConnectionSource connectionSource,
+                                                             final String tableName,
+                                                             final ColumnConfig[] columnConfigs) {
+        return getJDBCDatabaseManager(name, bufferSize, backgroundFlush, 0, connectionSource, tableName,
+                columnConfigs);
+    }
+
+    /**
+     * Creates a JDBC manager for use within the {@link JdbcAppender}, or returns a suitable one if it already exists.
+     *
+     * @param name The name of the manager, which should include connection details and hashed passwords where possible.
+     * @param bufferSize The size of the log event buffer.
+     * @param backgroundFlush The settings of the background flushing, or {@code null} to write events on the
+     *                        appending thread.
+     * @param batchSize The maximum number of events sent to the database in one JDBC batch when the buffer is flushed,
+     *                  the buffer size if 0 or less. With 1, events are inserted one by one.
+     * @param connectionSource The source for connections to the database.
+     * @param tableName The name of the database table to insert log events into.
+     * @param columnConfigs Configuration information about the log table columns.
+     * @return a new or existing JDBC manager as applicable.
+     */
+    public static JdbcDatabaseManager getJDBCDatabaseManager(final String name, final int bufferSize,
+                                                             final BackgroundFlushConfig backgroundFlush,
+                                                             final int batchSize,
+                                                             final ConnectionSource connectionSource,
+                                                             final String tableName,
+                                                             final ColumnConfig[] columnConfigs) {
 
         return AbstractDatabaseManager.getManager(
-                name, new FactoryData(bufferSize, connectionSource, tableName, columnConfigs), FACTORY
+                name, new FactoryData(bufferSize, backgroundFlush, batchSize, connectionSource, tableName,
+                        columnConfigs), FACTORY
         );
     }
 
@@ -175,10 +282,13 @@ public final class JdbcDatabaseManager extends AbstractDatabaseManager {
         private final ColumnConfig[] columnConfigs;
         private final ConnectionSource connectionSource;
         private final String tableName;
+        private final int batchSize;
 
-        protected FactoryData(final int bufferSize, final ConnectionSource connectionSource, final String tableName,
+        protected FactoryData(final int bufferSize, final BackgroundFlushConfig backgroundFlush, final int batchSize,
+                              final ConnectionSource connectionSource, final String tableName,
                               final ColumnConfig[] columnConfigs) {
-            super(bufferSize);
+            super(bufferSize, backgroundFlush);
+            this.batchSize = batchSize;
             this.connectionSource = connectionSource;
             this.tableName = tableName;
             this.columnConfigs = columnConfigs;
@@ -216,7 +326,9 @@ public final class JdbcDatabaseManager extends AbstractDatabaseManager {
             final String sqlStatement = "INSERT INTO " + data.tableName + " (" + columnPart + ") VALUES (" +
                     valuePart + ')';
 
-            return new JdbcDatabaseManager(name, data.getBufferSize(), data.connectionSource, sqlStatement, columns);
+            final int batchSize = data.batchSize > 0 ? data.batchSize : data.getBufferSize();
+            return new JdbcDatabaseManager(name, data.getBufferSize(), data.getBackgroundFlush(), batchSize,
+                    data.connectionSource, sqlStatement, columns);
         }
     }
 
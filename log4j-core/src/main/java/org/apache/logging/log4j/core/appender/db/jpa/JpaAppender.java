@@ -22,6 +22,7 @@ import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.AbstractAppender;
 import org.apache.logging.log4j.core.appender.db.AbstractDatabaseAppender;
+import org.apache.logging.log4j.core.appender.db.BackgroundFlushConfig;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
 import org.apache.logging.log4j.core.config.plugins.PluginElement;
@@ -66,6 +67,34 @@ public final class JpaAppender extends AbstractDatabaseAppender<JpaDatabaseManag
      * @param persistenceUnitName The name of the JPA persistence unit that should be used for persisting log events.
      * @return a new JPA appender.
      */
+    public static JpaAppender createAppender(final String name, final String ignore, final Filter filter,
+                                             final String bufferSize, final String entityClassName,
+                                             final String persistenceUnitName) {
+        return createAppender(name, ignore, filter, bufferSize, entityClassName, persistenceUnitName, null, null, null,
+                null);
+    }
+
+    /**
+     * Factory method for creating a JPA appender within the plugin manager.
+     *
+     * @param name The name of the appender.
+     * @param ignore If {@code "true"} (default) exceptions encountered when appending events are logged; otherwise
+     *               they are propagated to the caller.
+     * @param filter The filter, if any, to use.
+     * @param bufferSize If an integer greater than 0, this causes the appender to buffer log events and flush whenever
+     *                   the buffer reaches this size.
+     * @param entityClassName The fully qualified name of the concrete {@link AbstractLogEventWrapperEntity}
+     *                        implementation that has JPA annotations mapping it to a database table.
+     * @param persistenceUnitName The name of the JPA persistence unit that should be used for persisting log events.
+     * @param asyncQueueSize If an integer greater than 0, events are written to the database by a background thread
+     *                       and up to this many events wait for it.
+     * @param flushInterval With a background thread, the maximum number of milliseconds an event waits in the buffer
+     *                      before it is written (default 1000).
+     * @param overflowPolicy With a background thread, what to do with events appended while the queue is full:
+     *                       {@code Block} (default), {@code Drop} or {@code Drop_Below_Level}.
+     * @param overflowLevel The level below which {@code Drop_Below_Level} discards events (default {@code WARN}).
+     * @return a new JPA appender.
+     */
     @PluginFactory
     public static JpaAppender createAppender(
             @PluginAttribute("name") final String name,
@@ -73,7 +102,11 @@ public final class JpaAppender extends AbstractDatabaseAppender<JpaDatabaseManag
             @PluginElement("Filter") final Filter filter,
             @PluginAttribute("bufferSize") final String bufferSize,
             @PluginAttribute("entityClassName") final String entityClassName,
-            @PluginAttribute("persistenceUnitName") final String persistenceUnitName) {
+            @PluginAttribute("persistenceUnitName") final String persistenceUnitName,
+            @PluginAttribute("asyncQueueSize") final String asyncQueueSize,
+            @PluginAttribute("flushInterval") final String flushInterval,
+            @PluginAttribute("overflowPolicy") final String overflowPolicy,
+            @PluginAttribute("overflowLevel") final String overflowLevel) {
         if (Strings.isEmpty(entityClassName) || Strings.isEmpty(persistenceUnitName)) {
             LOGGER.error("Attributes entityClassName and persistenceUnitName are required for JPA Appender.");
             return null;
@@ -81,6 +114,8 @@ public final class JpaAppender extends AbstractDatabaseAppender<JpaDatabaseManag
 
         final int bufferSizeInt = AbstractAppender.parseInt(bufferSize, 0);
         final boolean ignoreExceptions = Booleans.parseBoolean(ignore, true);
+        final BackgroundFlushConfig backgroundFlush = BackgroundFlushConfig.createConfig(asyncQueueSize, flushInterval,
+                overflowPolicy, overflowLevel);
 
         try {
             @SuppressWarnings("unchecked")
@@ -104,10 +139,11 @@ public final class JpaAppender extends AbstractDatabaseAppender<JpaDatabaseManag
                     entityClass.getConstructor(LogEvent.class);
 
             final String managerName = "jpaManager{ description=" + name + ", bufferSize=" + bufferSizeInt
+                    + (backgroundFlush == null ? "" : ", " + backgroundFlush)
                     + ", persistenceUnitName=" + persistenceUnitName + ", entityClass=" + entityClass.getName() + '}';
 
             final JpaDatabaseManager manager = JpaDatabaseManager.getJPADatabaseManager(
-                    managerName, bufferSizeInt, entityClass, entityConstructor, persistenceUnitName
+                    managerName, bufferSizeInt, backgroundFlush, entityClass, entityConstructor, persistenceUnitName
             );
             if (manager == null) {
                 return null;
@@ -27,6 +27,7 @@ import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.AppenderLoggingException;
 import org.apache.logging.log4j.core.appender.ManagerFactory;
 import org.apache.logging.log4j.core.appender.db.AbstractDatabaseManager;
+import org.apache.logging.log4j.core.appender.db.BackgroundFlushConfig;
 
 /**
  * An {@link AbstractDatabaseManager} implementation for relational databases accessed via JPA.
@@ -43,11 +44,11 @@ public final class JpaDatabaseManager extends AbstractDatabaseManager {
     private EntityManager entityManager;
     private EntityTransaction transaction;
 
-    private JpaDatabaseManager(final String name, final int bufferSize,
+    private JpaDatabaseManager(final String name, final int bufferSize, final BackgroundFlushConfig backgroundFlush,
                                final Class<? extends AbstractLogEventWrapperEntity> entityClass,
                                final Constructor<? extends AbstractLogEventWrapperEntity> entityConstructor,
                                final String persistenceUnitName) {
-        super(name, bufferSize);
+        super(name, bufferSize, backgroundFlush);
         this.entityClassName = entityClass.getName();
         this.entityConstructor = entityConstructor;
         this.persistenceUnitName = persistenceUnitName;
@@ -149,9 +150,33 @@ public final class JpaDatabaseManager extends AbstractDatabaseManager {
                                                            final Constructor<? extends AbstractLogEventWrapperEntity>
                                                                    entityConstructor,
                                                            final String persistenceUnitName) {
+        return getJPADatabaseManager(name, bufferSize, null, entityClass, entityConstructor, persistenceUnitName);
+    }
+
+    /**
+     * Creates a JPA manager for use within the {@link JpaAppender}, or returns a suitable one if it already exists.
+     *
+     * @param name The name of the manager, which should include connection details, entity class name, etc.
+     * @param bufferSize The size of the log event buffer.
+     * @param backgroundFlush The settings of the background flushing, or {@code null} to write events on the
+     *                        appending thread.
+     * @param entityClass The fully-qualified class name of the {@link AbstractLogEventWrapperEntity} concrete
+     *                    implementation.
+     * @param entityConstructor The one-arg {@link LogEvent} constructor for the concrete entity class.
+     * @param persistenceUnitName The name of the JPA persistence unit that should be used for persisting log events.
+     * @return a new or existing JPA manager as applicable.
+     */
+    public static JpaDatabaseManager getJPADatabaseManager(final String name, final int bufferSize,
+                                                           final BackgroundFlushConfig backgroundFlush,
+                                                           final Class<? extends AbstractLogEventWrapperEntity>
+                                                                   entityClass,
+                                                           final Constructor<? extends AbstractLogEventWrapperEntity>
+                                                                   entityConstructor,
+                                                           final String persistenceUnitName) {
 
         return AbstractDatabaseManager.getManager(
-                name, new FactoryData(bufferSize, entityClass, entityConstructor, persistenceUnitName), FACTORY
+                name, new FactoryData(bufferSize, backgroundFlush, entityClass, entityConstructor, persistenceUnitName),
+                FACTORY
         );
     }
 
@@ -163,10 +188,11 @@ public final class JpaDatabaseManager extends AbstractDatabaseManager {
         private final Constructor<? extends AbstractLogEventWrapperEntity> entityConstructor;
         private final String persistenceUnitName;
 
-        protected FactoryData(final int bufferSize, final Class<? extends AbstractLogEventWrapperEntity> entityClass,
+        protected FactoryData(final int bufferSize, final BackgroundFlushConfig backgroundFlush,
+                              final Class<? extends AbstractLogEventWrapperEntity> entityClass,
                               final Constructor<? extends AbstractLogEventWrapperEntity> entityConstructor,
                               final String persistenceUnitName) {
-            super(bufferSize);
+            super(bufferSize, backgroundFlush);
 
             this.entityClass = entityClass;
             this.entityConstructor = entityConstructor;
@@ -181,7 +207,8 @@ public final class JpaDatabaseManager extends AbstractDatabaseManager {
         @Override
         public JpaDatabaseManager createManager(final String name, final FactoryData data) {
             return new JpaDatabaseManager(
-                    name, data.getBufferSize(), data.entityClass, data.entityConstructor, data.persistenceUnitName
+                    name, data.getBufferSize(), data.getBackgroundFlush(), data.entityClass, data.entityConstructor,
+                    data.persistenceUnitName
             );
         }
     }
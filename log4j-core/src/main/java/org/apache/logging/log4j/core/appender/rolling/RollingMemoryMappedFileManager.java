@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender.rolling;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.nio.MappedByteBuffer;
+
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.appender.AppenderLoggingException;
+import org.apache.logging.log4j.core.appender.ManagerFactory;
+import org.apache.logging.log4j.core.appender.MemoryMappedFileManager;
+
+/**
+ * Extends RollingFileManager but instead of using a buffered output stream,
+ * this class maps regions of the file into memory and writes to them, like
+ * {@link MemoryMappedFileManager}. On rollover the unused part of the last
+ * region is truncated and the file is unmapped before the rollover strategy
+ * renames it.
+ */
+public class RollingMemoryMappedFileManager extends RollingFileManager {
+    /**
+     * The default length of the mapped region.
+     */
+    public static final int DEFAULT_REGION_LENGTH = 32 * 1024 * 1024;
+
+    private static final RollingMemoryMappedFileManagerFactory FACTORY = new RollingMemoryMappedFileManagerFactory();
+
+    private final boolean isForce;
+    private final int regionLength;
+    private RandomAccessFile randomAccessFile;
+    private MappedByteBuffer mappedBuffer;
+    private long mappingOffset;
+
+    public RollingMemoryMappedFileManager(final RandomAccessFile raf, final String fileName,
+            final String pattern, final OutputStream os, final boolean append,
+            final boolean force, final int regionLength, final long size, final long time,
+            final TriggeringPolicy policy, final RolloverStrategy strategy,
+            final String advertiseURI, final Layout<? extends Serializable> layout) throws IOException {
+        super(fileName, pattern, os, append, size, time, policy, strategy, advertiseURI, layout, regionLength);
+        this.isForce = force;
+        this.regionLength = regionLength;
+        open(raf);
+    }
+
+    public static RollingMemoryMappedFileManager getRollingMemoryMappedFileManager(final String fileName,
+            final String filePattern, final boolean isAppend, final boolean isForce, final int regionLength,
+            final TriggeringPolicy policy, final RolloverStrategy strategy, final String advertiseURI,
+            final Layout<? extends Serializable> layout) {
+        return (RollingMemoryMappedFileManager) getManager(fileName, new FactoryData(filePattern, isAppend,
+                isForce, regionLength, policy, strategy, advertiseURI, layout), FACTORY);
+    }
+
+    /**
+     * Maps the first region of the specified file, starting at its end, and writes the layout's header.
+     */
+    private void open(final RandomAccessFile raf) throws IOException {
+        this.randomAccessFile = raf;
+        this.mappingOffset = raf.length();
+        this.mappedBuffer = MemoryMappedFileManager.mmap(raf.getChannel(), mappingOffset, regionLength);
+        if (layout != null) {
+            final byte[] header = layout.getHeader();
+            if (header != null) {
+                write(header, 0, header.length);
+            }
+        }
+    }
+
+    @Override
+    protected synchronized void write(final byte[] bytes, int offset, int length) {
+        super.write(bytes, offset, length); // writes to dummy output stream, needed to track file size
+
+        if (mappedBuffer == null) {
+            throw new AppenderLoggingException("MemoryMappedFile " + getName() + " is closed");
+        }
+        while (length > mappedBuffer.remaining()) {
+            final int chunk = mappedBuffer.remaining();
+            mappedBuffer.put(bytes, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+            remap();
+        }
+        mappedBuffer.put(bytes, offset, length);
+    }
+
+    private void remap() {
+        final long offset = mappingOffset + mappedBuffer.position();
+        final MappedByteBuffer old = mappedBuffer;
+        mappedBuffer = null; // never touch an unmapped buffer
+        MemoryMappedFileManager.unsafeUnmap(old);
+        try {
+            mappedBuffer = MemoryMappedFileManager.mmap(randomAccessFile.getChannel(), offset, regionLength);
+            mappingOffset = offset;
+        } catch (final IOException ex) {
+            throw new AppenderLoggingException("Unable to remap MemoryMappedFile " + getName(), ex);
+        }
+    }
+
+    @Override
+    protected void createFileAfterRollover() throws IOException {
+        final RandomAccessFile raf = new RandomAccessFile(getFileName(), "rw");
+        if (!isAppend()) {
+            raf.setLength(0);
+        }
+        open(raf);
+    }
+
+    /**
+     * Forces the mapped region to storage if so configured.
+     */
+    @Override
+    public synchronized void flush() {
+        if (isForce && mappedBuffer != null) {
+            mappedBuffer.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (mappedBuffer == null) {
+            return;
+        }
+        final long length = mappingOffset + mappedBuffer.position();
+        final MappedByteBuffer old = mappedBuffer;
+        mappedBuffer = null;
+        if (isForce) {
+            old.force();
+        }
+        MemoryMappedFileManager.unsafeUnmap(old);
+        try {
+            randomAccessFile.setLength(length);
+            randomAccessFile.close();
+        } catch (final IOException ex) {
+            LOGGER.error("Unable to close MemoryMappedFile " + getName() + ". " + ex);
+        }
+    }
+
+    /**
+     * Returns the length of the memory mapped region.
+     * @return the region length
+     */
+    public int getRegionLength() {
+        return regionLength;
+    }
+
+    /**
+     * Factory to create a RollingMemoryMappedFileManager.
+     */
+    private static class RollingMemoryMappedFileManagerFactory
+            implements ManagerFactory<RollingMemoryMappedFileManager, FactoryData> {
+
+        /**
+         * Create the RollingMemoryMappedFileManager.
+         *
+         * @param name The name of the entity to manage.
+         * @param data The data required to create the entity.
+         * @return a RollingFileManager.
+         */
+        @Override
+        public RollingMemoryMappedFileManager createManager(final String name, final FactoryData data) {
+            final File file = new File(name);
+            final File parent = file.getParentFile();
+            if (null != parent && !parent.exists()) {
+                parent.mkdirs();
+            }
+
+            if (!data.append) {
+                file.delete();
+            }
+            final long size = data.append ? file.length() : 0;
+            final long time = file.exists() ? file.lastModified() : System.currentTimeMillis();
+
+            RandomAccessFile raf = null;
+            try {
+                raf = new RandomAccessFile(name, "rw");
+                if (!data.append) {
+                    raf.setLength(0);
+                }
+                return new RollingMemoryMappedFileManager(raf, name, data.pattern,
+                        new RollingRandomAccessFileManager.DummyOutputStream(), data.append, data.force,
+                        data.regionLength, size, time, data.policy, data.strategy, data.advertiseURI, data.layout);
+            } catch (final IOException ex) {
+                LOGGER.error("Cannot map MemoryMappedFile {}: {}", name, ex);
+                if (raf != null) {
+                    try {
+                        raf.close();
+                    } catch (final IOException e) {
+                        LOGGER.error("Cannot close RandomAccessFile {}", name, e);
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Factory data.
+     */
+    private static class FactoryData {
+        private final String pattern;
+        private final boolean append;
+        private final boolean force;
+        private final int regionLength;
+        private final TriggeringPolicy policy;
+        private final RolloverStrategy strategy;
+        private final String advertiseURI;
+        private final Layout<? extends Serializable> layout;
+
+        public FactoryData(final String pattern, final boolean append, final boolean force,
+                final int regionLength, final TriggeringPolicy policy, final RolloverStrategy strategy,
+                final String advertiseURI, final Layout<? extends Serializable> layout) {
+            this.pattern = pattern;
+            this.append = append;
+            this.force = force;
+            this.regionLength = regionLength;
+            this.policy = policy;
+            this.strategy = strategy;
+            this.advertiseURI = advertiseURI;
+            this.layout = layout;
+        }
+    }
+
+}
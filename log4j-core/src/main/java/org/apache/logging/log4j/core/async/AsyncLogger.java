@@ -16,7 +16,8 @@
  */
 package org.apache.logging.log4j.core.async;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -25,8 +26,9 @@ import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.ThreadContext;
 import org.apache.logging.log4j.core.Logger;
 import org.apache.logging.log4j.core.LoggerContext;
-import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.CompiledProperties;
 import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.impl.ReusableMessageFactory;
 import org.apache.logging.log4j.core.jmx.RingBufferAdmin;
 import org.apache.logging.log4j.core.util.Clock;
 import org.apache.logging.log4j.core.util.ClockFactory;
@@ -35,12 +37,9 @@ import org.apache.logging.log4j.message.Message;
 import org.apache.logging.log4j.message.MessageFactory;
 import org.apache.logging.log4j.status.StatusLogger;
 
-import com.lmax.disruptor.BlockingWaitStrategy;
 import com.lmax.disruptor.ExceptionHandler;
 import com.lmax.disruptor.RingBuffer;
-import com.lmax.disruptor.SleepingWaitStrategy;
 import com.lmax.disruptor.WaitStrategy;
-import com.lmax.disruptor.YieldingWaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
 import com.lmax.disruptor.util.Util;
@@ -72,6 +71,16 @@ import com.lmax.disruptor.util.Util;
  * that even with immediateFlush=false, there will never be any items left in
  * the buffer; all log events will all be written to disk in a very efficient
  * manner.
+ * <p>
+ * By default all AsyncLoggers share a single ring buffer that is consumed by a
+ * single background thread. Specify System property {@code AsyncLogger.Shards}
+ * to distribute the events over multiple ring buffers, each with its own
+ * background thread, so that a slow appender does not hold up the loggers
+ * whose events go to other appenders. System property
+ * {@code AsyncLogger.ShardStrategy} determines which ring buffer an event is
+ * published to: {@code LOGGER_NAME} (the default) or {@code LOGGER_CONFIG}.
+ * Either way all events of one logger end up in the same ring buffer, so they
+ * are logged in the order they were published.
  */
 public class AsyncLogger extends Logger {
     private static final long serialVersionUID = 1L;
@@ -79,8 +88,11 @@ public class AsyncLogger extends Logger {
     private static final int MAX_DRAIN_ATTEMPTS_BEFORE_SHUTDOWN = 200;
     private static final int RINGBUFFER_MIN_SIZE = 128;
     private static final int RINGBUFFER_DEFAULT_SIZE = 256 * 1024;
+    private static final int MAX_SHARDS = 64;
     private static final StatusLogger LOGGER = StatusLogger.getLogger();
     private static final ThreadNameStrategy THREAD_NAME_STRATEGY = ThreadNameStrategy.create();
+    private static final ShardStrategy SHARD_STRATEGY = ShardStrategy.create();
+    private static final int SHARDS = calculateShardCount();
     private static final ThreadLocal<Info> threadlocalInfo = new ThreadLocal<Info>();
 
     static enum ThreadNameStrategy { // LOG4J2-467
@@ -108,26 +120,102 @@ public class AsyncLogger extends Logger {
             }
         }
     }
-    private static volatile Disruptor<RingBufferLogEvent> disruptor;
-    private static final Clock clock = ClockFactory.getClock();
 
-    private static final ExecutorService executor = Executors
-            .newSingleThreadExecutor(new DaemonThreadFactory("AsyncLogger-"));
+    static enum ShardStrategy {
+        /** All events of a logger go to the ring buffer selected by the logger name. */
+        LOGGER_NAME {
+            @Override
+            int getShard(final AsyncLogger logger) {
+                return logger.nameShard;
+            }
+        },
+        /**
+         * Events go to the ring buffer selected by the name of the LoggerConfig of the logger,
+         * so loggers that share appenders share a background thread.
+         */
+        LOGGER_CONFIG {
+            @Override
+            int getShard(final AsyncLogger logger) {
+                return shardOf(logger.config.loggerConfig.getName());
+            }
+        };
+        abstract int getShard(AsyncLogger logger);
+
+        static ShardStrategy create() {
+            final String name = System.getProperty("AsyncLogger.ShardStrategy", LOGGER_NAME.name());
+            try {
+                return ShardStrategy.valueOf(name);
+            } catch (final Exception ex) {
+                LOGGER.debug("Using AsyncLogger.ShardStrategy.LOGGER_NAME: '{}' not valid: {}", name, ex.toString());
+                return LOGGER_NAME;
+            }
+        }
+    }
+
+    private static volatile Disruptor<RingBufferLogEvent>[] disruptors;
+    private static final WaitStrategy[] waitStrategies = new WaitStrategy[SHARDS];
+    private static final BatchStatistics[] statistics = new BatchStatistics[SHARDS];
+    private static final ExecutorService[] executors = new ExecutorService[SHARDS];
+    private static final Clock clock = ClockFactory.getClock();
 
     static {
-        initInfoForExecutorThread();
         LOGGER.debug("AsyncLogger.ThreadNameStrategy={}", THREAD_NAME_STRATEGY);
+        LOGGER.debug("AsyncLogger.Shards={}, AsyncLogger.ShardStrategy={}", SHARDS, SHARD_STRATEGY);
         final int ringBufferSize = calculateRingBufferSize();
+        final ExceptionHandler exceptionHandler = getExceptionHandler();
+        final DaemonThreadFactory threadFactory = new DaemonThreadFactory("AsyncLogger-");
+
+        @SuppressWarnings("unchecked")
+        final Disruptor<RingBufferLogEvent>[] shards = new Disruptor[SHARDS];
+        for (int i = 0; i < SHARDS; i++) {
+            executors[i] = Executors.newSingleThreadExecutor(threadFactory);
+            initInfoForExecutorThread(executors[i]);
+            waitStrategies[i] = DisruptorUtil.createWaitStrategy("AsyncLogger.WaitStrategy");
+            shards[i] = new Disruptor<RingBufferLogEvent>(RingBufferLogEvent.FACTORY, ringBufferSize, executors[i],
+                    ProducerType.MULTI, waitStrategies[i]);
+            statistics[i] = new BatchStatistics(shards[i].getRingBuffer());
+            shards[i].handleExceptionsWith(exceptionHandler);
+            shards[i].handleEventsWith(new RingBufferLogEventHandler(statistics[i]));
+
+            LOGGER.debug("Starting AsyncLogger disruptor {} with ringbuffer size {}, waitStrategy={}...", i,
+                    shards[i].getRingBuffer().getBufferSize(), DisruptorUtil.describe(waitStrategies[i]));
+            shards[i].start();
+        }
+        disruptors = shards;
+    }
+
+    private final int nameShard;
+
+    private static int calculateShardCount() {
+        final String userPreferredShards = System.getProperty("AsyncLogger.Shards", "1");
+        try {
+            final int shards = Integer.parseInt(userPreferredShards);
+            if (shards < 1 || shards > MAX_SHARDS) {
+                LOGGER.warn("Invalid AsyncLogger.Shards {}, must be between 1 and {}, using 1.", userPreferredShards,
+                        MAX_SHARDS);
+                return 1;
+            }
+            return shards;
+        } catch (final Exception ex) {
+            LOGGER.warn("Invalid AsyncLogger.Shards {}, using 1.", userPreferredShards);
+            return 1;
+        }
+    }
 
-        final WaitStrategy waitStrategy = createWaitStrategy();
-        disruptor = new Disruptor<RingBufferLogEvent>(RingBufferLogEvent.FACTORY, ringBufferSize, executor,
-                ProducerType.MULTI, waitStrategy);
-        disruptor.handleExceptionsWith(getExceptionHandler());
-        disruptor.handleEventsWith(new RingBufferLogEventHandler());
+    /**
+     * Returns the index of the ring buffer that events for the specified name are published to.
+     */
+    static int shardOf(final String name) {
+        return SHARDS == 1 || name == null ? 0 : (name.hashCode() & Integer.MAX_VALUE) % SHARDS;
+    }
 
-        LOGGER.debug("Starting AsyncLogger disruptor with ringbuffer size {}...", disruptor.getRingBuffer()
-                .getBufferSize());
-        disruptor.start();
+    /**
+     * Returns the number of ring buffers (and background threads) used by AsyncLoggers.
+     *
+     * @return the number of ring buffers, at least one
+     */
+    public static int getShardCount() {
+        return SHARDS;
     }
 
     private static int calculateRingBufferSize() {
@@ -155,7 +243,7 @@ public class AsyncLogger extends Logger {
      * This allows us to detect Logger.log() calls initiated from the appender thread,
      * which may cause deadlock when the RingBuffer is full. (LOG4J2-471)
      */
-    private static void initInfoForExecutorThread() {
+    private static void initInfoForExecutorThread(final ExecutorService executor) {
         executor.submit(new Runnable(){
             @Override
             public void run() {
@@ -167,20 +255,6 @@ public class AsyncLogger extends Logger {
         });
     }
 
-    private static WaitStrategy createWaitStrategy() {
-        final String strategy = System.getProperty("AsyncLogger.WaitStrategy");
-        LOGGER.debug("property AsyncLogger.WaitStrategy={}", strategy);
-        if ("Sleep".equals(strategy)) {
-            return new SleepingWaitStrategy();
-        } else if ("Yield".equals(strategy)) {
-            return new YieldingWaitStrategy();
-        } else if ("Block".equals(strategy)) {
-            return new BlockingWaitStrategy();
-        }
-        LOGGER.debug("disruptor event handler uses BlockingWaitStrategy");
-        return new BlockingWaitStrategy();
-    }
-
     private static ExceptionHandler getExceptionHandler() {
         final String cls = System.getProperty("AsyncLogger.ExceptionHandler");
         if (cls == null) {
@@ -207,6 +281,7 @@ public class AsyncLogger extends Logger {
      */
     public AsyncLogger(final LoggerContext context, final String name, final MessageFactory messageFactory) {
         super(context, name, messageFactory);
+        this.nameShard = shardOf(name);
     }
 
     /**
@@ -224,22 +299,27 @@ public class AsyncLogger extends Logger {
     }
 
     @Override
-    public void logMessage(final String fqcn, final Level level, final Marker marker, final Message message, final Throwable thrown) {
+    public void logMessage(final String fqcn, final Level level, final Marker marker, final Message data, final Throwable thrown) {
+        // a reusable message is only valid during this call but the event is processed later on another thread;
+        // the memento of a caching message has its text cached before the caller can modify the parameters
+        final Message message = ReusableMessageFactory.memento(data);
+        ReusableMessageFactory.release(data);
         Info info = threadlocalInfo.get();
         if (info == null) {
             info = new Info(new RingBufferLogEventTranslator(), Thread.currentThread().getName(), false);
             threadlocalInfo.set(info);
         }
         
-        final Disruptor<RingBufferLogEvent> temp = disruptor;
+        final Disruptor<RingBufferLogEvent>[] temp = disruptors;
         if (temp == null) { // LOG4J2-639
             LOGGER.fatal("Ignoring log event after log4j was shut down");
             return;
         }
+        final int shard = SHARD_STRATEGY.getShard(this);
 
         // LOG4J2-471: prevent deadlock when RingBuffer is full and object
         // being logged calls Logger.log() from its toString() method
-        if (info.isAppenderThread && temp.getRingBuffer().remainingCapacity() == 0) {
+        if (info.isAppenderThread && temp[shard].getRingBuffer().remainingCapacity() == 0) {
             // bypass RingBuffer and invoke Appender directly
             config.loggerConfig.log(getName(), fqcn, marker, level, message, thrown);
             return;
@@ -277,7 +357,7 @@ public class AsyncLogger extends Logger {
             // Note: do NOT use the temp variable above!
             // That could result in adding a log event to the disruptor after it was shut down,
             // which could cause the publishEvent method to hang and never return.
-            disruptor.publishEvent(info.translator);
+            disruptors[shard].publishEvent(info.translator);
         } catch (final NullPointerException npe) {
             LOGGER.fatal("Ignoring log event after log4j was shut down.");
         }
@@ -294,41 +374,48 @@ public class AsyncLogger extends Logger {
      * @param event the event to log
      */
     public void actualAsyncLog(final RingBufferLogEvent event) {
-        final Map<Property, Boolean> properties = config.loggerConfig.getProperties();
+        final CompiledProperties properties = config.loggerConfig.getCompiledProperties();
         event.mergePropertiesIntoContextMap(properties, config.config.getStrSubstitutor());
         config.logEvent(event);
     }
 
     public static void stop() {
-        final Disruptor<RingBufferLogEvent> temp = disruptor;
+        final Disruptor<RingBufferLogEvent>[] temp = disruptors;
 
         // Must guarantee that publishing to the RingBuffer has stopped
         // before we call disruptor.shutdown()
-        disruptor = null; // client code fails with NPE if log after stop = OK
+        disruptors = null; // client code fails with NPE if log after stop = OK
         if (temp == null) {
             return; // stop() has already been called
         }
 
         // Calling Disruptor.shutdown() will wait until all enqueued events are fully processed,
         // but this waiting happens in a busy-spin. To avoid (postpone) wasting CPU,
-        // we sleep in short chunks, up to 10 seconds, waiting for the ringbuffer to drain.
+        // we sleep in short chunks, up to 10 seconds, waiting for the ringbuffers to drain.
         for (int i = 0; hasBacklog(temp) && i < MAX_DRAIN_ATTEMPTS_BEFORE_SHUTDOWN; i++) {
             try {
                 Thread.sleep(SLEEP_MILLIS_BETWEEN_DRAIN_ATTEMPTS); // give up the CPU for a while
             } catch (final InterruptedException e) { // ignored
             }
         }
-        temp.shutdown(); // busy-spins until all events currently in the disruptor have been processed
-        executor.shutdown(); // finally, kill the processor thread
+        for (int i = 0; i < temp.length; i++) {
+            temp[i].shutdown(); // busy-spins until all events currently in the disruptor have been processed
+            executors[i].shutdown(); // finally, kill the processor thread
+        }
         threadlocalInfo.remove(); // LOG4J2-323
     }
 
     /**
-     * Returns {@code true} if the specified disruptor still has unprocessed events.
+     * Returns {@code true} if any of the specified disruptors still has unprocessed events.
      */
-    private static boolean hasBacklog(final Disruptor<?> disruptor) {
-        final RingBuffer<?> ringBuffer = disruptor.getRingBuffer();
-        return !ringBuffer.hasAvailableCapacity(ringBuffer.getBufferSize());
+    private static boolean hasBacklog(final Disruptor<?>[] disruptors) {
+        for (final Disruptor<?> disruptor : disruptors) {
+            final RingBuffer<?> ringBuffer = disruptor.getRingBuffer();
+            if (!ringBuffer.hasAvailableCapacity(ringBuffer.getBufferSize())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -336,8 +423,39 @@ public class AsyncLogger extends Logger {
      * ringbuffer of the {@code AsyncLogger}.
      *
      * @param contextName name of the global {@code AsyncLoggerContext}
+     * @return a {@code RingBufferAdmin} for the first ringbuffer, or {@code null} if there is none
+     * @deprecated With several shards this only instruments the first one; use
+     *             {@link #createRingBufferAdmins(String)}.
      */
+    @Deprecated
     public static RingBufferAdmin createRingBufferAdmin(final String contextName) {
-        return RingBufferAdmin.forAsyncLogger(disruptor.getRingBuffer(), contextName);
+        final List<RingBufferAdmin> admins = createRingBufferAdmins(contextName);
+        return admins.isEmpty() ? null : admins.get(0);
+    }
+
+    /**
+     * Creates and returns new {@code RingBufferAdmin} objects that instrument the
+     * ringbuffers of the {@code AsyncLogger}, one for each shard.
+     *
+     * @param contextName name of the global {@code AsyncLoggerContext}
+     * @return a list with one {@code RingBufferAdmin} per ringbuffer
+     */
+    public static List<RingBufferAdmin> createRingBufferAdmins(final String contextName) {
+        final Disruptor<RingBufferLogEvent>[] temp = disruptors;
+        final List<RingBufferAdmin> result = new ArrayList<RingBufferAdmin>();
+        if (temp == null) {
+            return result;
+        }
+        for (int i = 0; i < temp.length; i++) {
+            final String waitStrategy = DisruptorUtil.describe(waitStrategies[i]);
+            if (temp.length == 1) {
+                result.add(RingBufferAdmin.forAsyncLogger(temp[i].getRingBuffer(), statistics[i], waitStrategy,
+                        contextName));
+            } else {
+                result.add(RingBufferAdmin.forAsyncLoggerShard(temp[i].getRingBuffer(), statistics[i], waitStrategy,
+                        contextName, i));
+            }
+        }
+        return result;
     }
 }
@@ -34,6 +34,8 @@ import org.apache.logging.log4j.core.config.plugins.PluginElement;
 import org.apache.logging.log4j.core.config.plugins.PluginFactory;
 import org.apache.logging.log4j.core.jmx.RingBufferAdmin;
 import org.apache.logging.log4j.core.util.Booleans;
+import org.apache.logging.log4j.core.util.Constants;
+import org.apache.logging.log4j.message.CachingMessage;
 import org.apache.logging.log4j.util.Strings;
 
 /**
@@ -106,6 +108,9 @@ public class AsyncLoggerConfig extends LoggerConfig {
         // populate lazily initialized fields
         event.getSource();
         event.getThreadName();
+        if (!Constants.FORMAT_MESSAGES_IN_BACKGROUND && event.getMessage() instanceof CachingMessage) {
+            event.getMessage().getFormattedMessage();
+        }
 
         // pass on the event to a separate thread
         if (!helper.callAppendersFromAnotherThread(event)) {
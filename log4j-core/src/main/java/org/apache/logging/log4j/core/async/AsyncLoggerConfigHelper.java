@@ -22,10 +22,10 @@ import java.util.concurrent.ThreadFactory;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.ReusableLogEventFactory;
 import org.apache.logging.log4j.core.jmx.RingBufferAdmin;
 import org.apache.logging.log4j.status.StatusLogger;
 
-import com.lmax.disruptor.BlockingWaitStrategy;
 import com.lmax.disruptor.EventFactory;
 import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.EventTranslatorTwoArg;
@@ -33,9 +33,7 @@ import com.lmax.disruptor.ExceptionHandler;
 import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.Sequence;
 import com.lmax.disruptor.SequenceReportingEventHandler;
-import com.lmax.disruptor.SleepingWaitStrategy;
 import com.lmax.disruptor.WaitStrategy;
-import com.lmax.disruptor.YieldingWaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
 import com.lmax.disruptor.util.Util;
@@ -67,6 +65,8 @@ class AsyncLoggerConfigHelper {
     private static ThreadFactory threadFactory = new DaemonThreadFactory("AsyncLoggerConfig-");
     private static volatile Disruptor<Log4jEventWrapper> disruptor;
     private static ExecutorService executor;
+    private static WaitStrategy waitStrategy;
+    private static BatchStatistics statistics;
 
     private static volatile int count = 0;
     private static ThreadLocal<Boolean> isAppenderThread = new ThreadLocal<Boolean>();
@@ -110,38 +110,24 @@ class AsyncLoggerConfigHelper {
         }
         LOGGER.trace("AsyncLoggerConfigHelper creating new disruptor. Ref count is {}.", count);
         final int ringBufferSize = calculateRingBufferSize();
-        final WaitStrategy waitStrategy = createWaitStrategy();
+        waitStrategy = DisruptorUtil.createWaitStrategy("AsyncLoggerConfig.WaitStrategy");
         executor = Executors.newSingleThreadExecutor(threadFactory);
         initThreadLocalForExecutorThread();
         disruptor = new Disruptor<Log4jEventWrapper>(FACTORY, ringBufferSize,
                 executor, ProducerType.MULTI, waitStrategy);
+        statistics = new BatchStatistics(disruptor.getRingBuffer());
         final EventHandler<Log4jEventWrapper>[] handlers = new Log4jEventWrapperHandler[] {//
-        new Log4jEventWrapperHandler() };
+        new Log4jEventWrapperHandler(statistics) };
         final ExceptionHandler errorHandler = getExceptionHandler();
         disruptor.handleExceptionsWith(errorHandler);
         disruptor.handleEventsWith(handlers);
 
         LOGGER.debug(
                 "Starting AsyncLoggerConfig disruptor with ringbuffer size={}, waitStrategy={}, exceptionHandler={}...",
-                disruptor.getRingBuffer().getBufferSize(), waitStrategy.getClass().getSimpleName(), errorHandler);
+                disruptor.getRingBuffer().getBufferSize(), DisruptorUtil.describe(waitStrategy), errorHandler);
         disruptor.start();
     }
 
-    private static WaitStrategy createWaitStrategy() {
-        final String strategy = System
-                .getProperty("AsyncLoggerConfig.WaitStrategy");
-        LOGGER.debug("property AsyncLoggerConfig.WaitStrategy={}", strategy);
-        if ("Sleep".equals(strategy)) {
-            return new SleepingWaitStrategy();
-        } else if ("Yield".equals(strategy)) {
-            return new YieldingWaitStrategy();
-        } else if ("Block".equals(strategy)) {
-            return new BlockingWaitStrategy();
-        }
-        LOGGER.debug("disruptor event handler uses BlockingWaitStrategy");
-        return new BlockingWaitStrategy();
-    }
-
     private static int calculateRingBufferSize() {
         int ringBufferSize = RINGBUFFER_DEFAULT_SIZE;
         final String userPreferredRBSize = System.getProperty(
@@ -207,9 +193,14 @@ class AsyncLoggerConfigHelper {
     private static class Log4jEventWrapperHandler implements
             SequenceReportingEventHandler<Log4jEventWrapper> {
         private static final int NOTIFY_PROGRESS_THRESHOLD = 50;
+        private final BatchStatistics statistics;
         private Sequence sequenceCallback;
         private int counter;
 
+        public Log4jEventWrapperHandler(final BatchStatistics statistics) {
+            this.statistics = statistics;
+        }
+
         @Override
         public void setSequenceCallback(final Sequence sequenceCallback) {
             this.sequenceCallback = sequenceCallback;
@@ -221,6 +212,7 @@ class AsyncLoggerConfigHelper {
             event.event.setEndOfBatch(endOfBatch);
             event.loggerConfig.asyncCallAppenders(event.event);
             event.clear();
+            statistics.onEvent(sequence, endOfBatch);
 
             // notify the BatchEventProcessor that the sequence has progressed.
             // Without this callback the sequence would not be progressed
@@ -332,10 +324,9 @@ class AsyncLoggerConfigHelper {
         }
         // LOG4J2-639: catch NPE if disruptor field was set to null after our check above
         try {
-            LogEvent logEvent = event;
-            if (event instanceof RingBufferLogEvent) {
-                logEvent = ((RingBufferLogEvent) event).createMemento();
-            }
+            final LogEvent logEvent = event instanceof RingBufferLogEvent
+                    ? ((RingBufferLogEvent) event).createMemento()
+                    : ReusableLogEventFactory.memento(event);
             // Note: do NOT use the temp variable above!
             // That could result in adding a log event to the disruptor after it was shut down,
             // which could cause the publishEvent method to hang and never return.
@@ -354,7 +345,8 @@ class AsyncLoggerConfigHelper {
      * @param loggerConfigName name of the logger config
      */
     public RingBufferAdmin createRingBufferAdmin(final String contextName, final String loggerConfigName) {
-        return RingBufferAdmin.forAsyncLoggerConfig(disruptor.getRingBuffer(), contextName, loggerConfigName);
+        return RingBufferAdmin.forAsyncLoggerConfig(disruptor.getRingBuffer(), statistics,
+                DisruptorUtil.describe(waitStrategy), contextName, loggerConfigName);
     }
 
 }
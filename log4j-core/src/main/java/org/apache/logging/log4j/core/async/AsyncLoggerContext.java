@@ -24,6 +24,11 @@ import org.apache.logging.log4j.message.MessageFactory;
 
 /**
  * {@code LoggerContext} that creates {@code AsyncLogger} objects.
+ * <p>
+ * The ring buffers shared by all AsyncLoggers are configured with System properties; see
+ * {@link AsyncLogger} for how to distribute the events over multiple ring buffers with
+ * {@code AsyncLogger.Shards}. Stopping this context stops all of them.
+ * </p>
  */
 public class AsyncLoggerContext extends LoggerContext {
 
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.lmax.disruptor.Cursored;
+
+/**
+ * Keeps track of the batches in which the background thread consumes events from a ring buffer: how many events
+ * there are per batch, and how far the consumer lags behind the producers at the end of each batch.
+ * <p>
+ * Only the consumer thread updates the statistics, so they are maintained with ordered writes instead of atomic
+ * read-modify-write operations; any thread can read them. Values are updated at the end of each batch.
+ * </p>
+ */
+public class BatchStatistics {
+
+    /**
+     * Number of buckets in the batch size histogram. Bucket {@code i} counts batches of
+     * {@code 2^i} to {@code 2^(i+1) - 1} events, the last bucket counts all larger batches.
+     */
+    public static final int HISTOGRAM_BUCKETS = 20;
+
+    private final Cursored cursor;
+    private final AtomicLong eventCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+    private final AtomicLong consumerLag = new AtomicLong();
+    private final AtomicLong maxConsumerLag = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+    private long currentBatchSize;
+
+    /**
+     * Constructs statistics for the consumer of the specified ring buffer.
+     *
+     * @param cursor the ring buffer whose cursor tells how far the producers are ahead of the consumer
+     */
+    public BatchStatistics(final Cursored cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * Records that the consumer thread processed the event at the specified sequence. Must only be called by the
+     * consumer thread.
+     *
+     * @param sequence the sequence of the processed event
+     * @param endOfBatch {@code true} if this was the last event of a batch
+     */
+    public void onEvent(final long sequence, final boolean endOfBatch) {
+        currentBatchSize++;
+        if (endOfBatch) {
+            endBatch(sequence);
+        }
+    }
+
+    private void endBatch(final long sequence) {
+        final long size = currentBatchSize;
+        currentBatchSize = 0;
+        eventCount.lazySet(eventCount.get() + size);
+        batchCount.lazySet(batchCount.get() + 1);
+        if (size > maxBatchSize.get()) {
+            maxBatchSize.lazySet(size);
+        }
+        final int bucket = Math.min(HISTOGRAM_BUCKETS - 1, 63 - Long.numberOfLeadingZeros(size));
+        histogram.lazySet(bucket, histogram.get(bucket) + 1);
+
+        final long lag = Math.max(0, cursor.getCursor() - sequence);
+        consumerLag.lazySet(lag);
+        if (lag > maxConsumerLag.get()) {
+            maxConsumerLag.lazySet(lag);
+        }
+    }
+
+    /**
+     * Returns the number of events processed in completed batches.
+     *
+     * @return the number of events processed
+     */
+    public long getEventCount() {
+        return eventCount.get();
+    }
+
+    /**
+     * Returns the number of completed batches, which is the number of times the consumer saw an end-of-batch
+     * event and appenders had the opportunity to flush.
+     *
+     * @return the number of completed batches
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    /**
+     * Returns the number of events that had been claimed by producers but not yet processed when the last batch
+     * completed.
+     *
+     * @return the consumer lag in sequences at the end of the last batch
+     */
+    public long getConsumerLag() {
+        return consumerLag.get();
+    }
+
+    public long getMaxConsumerLag() {
+        return maxConsumerLag.get();
+    }
+
+    /**
+     * Returns a snapshot of the batch size histogram.
+     *
+     * @return an array of {@link #HISTOGRAM_BUCKETS} counts, where element {@code i} is the number of batches of
+     *         {@code 2^i} to {@code 2^(i+1) - 1} events
+     */
+    public long[] getBatchSizeHistogram() {
+        final long[] result = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = histogram.get(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.util.Loader;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.TimeoutBlockingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+
+/**
+ * Utility methods for setting up the Disruptor used by Async Loggers and Async LoggerConfigs.
+ */
+final class DisruptorUtil {
+    private static final Logger LOGGER = StatusLogger.getLogger();
+    private static final long DEFAULT_TIMEOUT_MILLIS = 10;
+
+    private DisruptorUtil() {
+    }
+
+    /**
+     * Creates the wait strategy specified by the value of the specified system property. Valid values are
+     * {@code Block} (the default), {@code Sleep}, {@code Yield}, {@code BusySpin}, {@code TimeoutBlocking},
+     * {@code Hybrid} or the fully qualified name of a class implementing {@code WaitStrategy}.
+     * <p>
+     * The timeout of {@code TimeoutBlocking} is read from property {@code <propertyName>.Timeout} (milliseconds);
+     * the phases of {@code Hybrid} are read from {@code <propertyName>.SpinTries}, {@code <propertyName>.YieldTries}
+     * and {@code <propertyName>.ParkNanos}.
+     * </p>
+     *
+     * @param propertyName name of the system property, for example {@code AsyncLogger.WaitStrategy}
+     * @return the wait strategy to use
+     */
+    static WaitStrategy createWaitStrategy(final String propertyName) {
+        final String strategy = System.getProperty(propertyName);
+        LOGGER.debug("property {}={}", propertyName, strategy);
+        final PropertiesUtil props = PropertiesUtil.getProperties();
+        if ("Sleep".equals(strategy)) {
+            return new SleepingWaitStrategy();
+        } else if ("Yield".equals(strategy)) {
+            return new YieldingWaitStrategy();
+        } else if ("Block".equals(strategy)) {
+            return new BlockingWaitStrategy();
+        } else if ("BusySpin".equals(strategy)) {
+            return new BusySpinWaitStrategy();
+        } else if ("TimeoutBlocking".equals(strategy)) {
+            final long timeout = props.getLongProperty(propertyName + ".Timeout", DEFAULT_TIMEOUT_MILLIS);
+            return new TimeoutBlockingWaitStrategy(timeout, TimeUnit.MILLISECONDS);
+        } else if ("Hybrid".equals(strategy)) {
+            return new HybridWaitStrategy(
+                    props.getIntegerProperty(propertyName + ".SpinTries", HybridWaitStrategy.DEFAULT_SPIN_TRIES),
+                    props.getIntegerProperty(propertyName + ".YieldTries", HybridWaitStrategy.DEFAULT_YIELD_TRIES),
+                    props.getLongProperty(propertyName + ".ParkNanos", HybridWaitStrategy.DEFAULT_PARK_NANOS));
+        } else if (strategy != null) {
+            try {
+                return Loader.newCheckedInstanceOf(strategy, WaitStrategy.class);
+            } catch (final Exception ex) {
+                LOGGER.warn("Invalid {} '{}', using BlockingWaitStrategy: {}", propertyName, strategy, ex.toString());
+            }
+        }
+        LOGGER.debug("disruptor event handler uses BlockingWaitStrategy");
+        return new BlockingWaitStrategy();
+    }
+
+    /**
+     * Returns a short description of the specified wait strategy for display in JMX and status messages.
+     *
+     * @param waitStrategy the wait strategy
+     * @return the simple class name of the strategy, or the strategy itself if it describes its settings
+     */
+    static String describe(final WaitStrategy waitStrategy) {
+        return waitStrategy instanceof HybridWaitStrategy ? waitStrategy.toString()
+                : waitStrategy.getClass().getSimpleName();
+    }
+}
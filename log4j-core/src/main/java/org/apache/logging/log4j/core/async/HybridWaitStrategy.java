@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import java.util.concurrent.locks.LockSupport;
+
+import com.lmax.disruptor.AlertException;
+import com.lmax.disruptor.Sequence;
+import com.lmax.disruptor.SequenceBarrier;
+import com.lmax.disruptor.WaitStrategy;
+
+/**
+ * Wait strategy that busy-spins for a number of attempts, then yields the CPU for a number of attempts, and finally
+ * parks the waiting thread for a fixed period between attempts. Unlike the {@code SleepingWaitStrategy}, all three
+ * phases can be tuned, so the same strategy can be configured for sub-microsecond handoff (many spins, dedicating a
+ * core to the background thread) or for low CPU usage on shared machines (few spins, longer parks).
+ * <p>
+ * Publishers never need to signal this strategy, so it does not add any cost to the logging threads.
+ * </p>
+ */
+public class HybridWaitStrategy implements WaitStrategy {
+
+    /** Default number of busy-spin attempts before yielding. */
+    public static final int DEFAULT_SPIN_TRIES = 100;
+
+    /** Default number of {@code Thread.yield()} attempts before parking. */
+    public static final int DEFAULT_YIELD_TRIES = 100;
+
+    /** Default park period in nanoseconds. */
+    public static final long DEFAULT_PARK_NANOS = 100 * 1000;
+
+    private final int spinTries;
+    private final int yieldTries;
+    private final long parkNanos;
+
+    public HybridWaitStrategy() {
+        this(DEFAULT_SPIN_TRIES, DEFAULT_YIELD_TRIES, DEFAULT_PARK_NANOS);
+    }
+
+    /**
+     * Constructs a HybridWaitStrategy.
+     *
+     * @param spinTries number of busy-spin attempts before the waiting thread starts to yield
+     * @param yieldTries number of yield attempts before the waiting thread starts to park
+     * @param parkNanos how long to park between attempts once spinning and yielding did not succeed
+     */
+    public HybridWaitStrategy(final int spinTries, final int yieldTries, final long parkNanos) {
+        this.spinTries = Math.max(0, spinTries);
+        this.yieldTries = Math.max(0, yieldTries);
+        this.parkNanos = Math.max(1, parkNanos);
+    }
+
+    @Override
+    public long waitFor(final long sequence, final Sequence cursor, final Sequence dependentSequence,
+            final SequenceBarrier barrier) throws AlertException {
+        long availableSequence;
+        int counter = 0;
+        while ((availableSequence = dependentSequence.get()) < sequence) {
+            barrier.checkAlert();
+            if (counter < spinTries) {
+                counter++;
+            } else if (counter < spinTries + yieldTries) {
+                counter++;
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(parkNanos);
+            }
+        }
+        return availableSequence;
+    }
+
+    @Override
+    public void signalAllWhenBlocking() {
+        // nothing to do: waiting threads are never blocked indefinitely
+    }
+
+    public int getSpinTries() {
+        return spinTries;
+    }
+
+    public int getYieldTries() {
+        return yieldTries;
+    }
+
+    public long getParkNanos() {
+        return parkNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "HybridWaitStrategy[spinTries=" + spinTries + ", yieldTries=" + yieldTries + ", parkNanos="
+                + parkNanos + ']';
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.ThreadContext.ContextStack;
 import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.CompiledProperties;
 import org.apache.logging.log4j.core.config.Property;
 import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 import org.apache.logging.log4j.core.impl.ThrowableProxy;
@@ -91,6 +92,24 @@ public class RingBufferLogEvent implements LogEvent {
         this.currentTimeMillis = currentTimeMillis;
     }
 
+    /**
+     * Copies the values of the specified event into this event, so that the event can be handed off to another thread
+     * without creating new objects.
+     *
+     * @param event the event to copy
+     * @param includeLocation whether to copy the location of the specified event (this may be expensive)
+     */
+    public void setValues(final LogEvent event, final boolean includeLocation) {
+        setValues(null, event.getLoggerName(), event.getMarker(), event.getLoggerFqcn(), event.getLevel(),
+                event.getMessage(), event.getThrown(), event.getContextMap(), event.getContextStack(),
+                event.getThreadName(), includeLocation ? event.getSource() : null, event.getTimeMillis());
+        if (thrown == null) {
+            this.thrownProxy = event.getThrownProxy(); // deserialized events may only have a proxy
+        }
+        this.endOfBatch = event.isEndOfBatch();
+        this.includeLocation = includeLocation;
+    }
+
     /**
      * Event processor that reads the event from the ringbuffer can call this method.
      * 
@@ -236,6 +255,21 @@ public class RingBufferLogEvent implements LogEvent {
         contextMap = map;
     }
 
+    /**
+     * Merges the configured properties into the contextMap, after replacing any variables in the property
+     * values with the StrSubstitutor-supplied actual values.
+     * 
+     * @param properties configured properties, may be {@code null}
+     * @param strSubstitutor used to lookup values of variables in properties
+     */
+    public void mergePropertiesIntoContextMap(final CompiledProperties properties,
+            final StrSubstitutor strSubstitutor) {
+        if (properties == null) {
+            return; // nothing to do
+        }
+        contextMap = properties.mergeInto(contextMap, strSubstitutor);
+    }
+
     /**
      * Release references held by ring buffer to allow objects to be garbage-collected.
      */
@@ -29,9 +29,19 @@ public class RingBufferLogEventHandler implements
         SequenceReportingEventHandler<RingBufferLogEvent> {
 
     private static final int NOTIFY_PROGRESS_THRESHOLD = 50;
+    private final BatchStatistics statistics;
     private Sequence sequenceCallback;
     private int counter;
 
+    /**
+     * Constructs a handler that records its batches in the specified statistics.
+     *
+     * @param statistics the statistics to update for every processed event
+     */
+    public RingBufferLogEventHandler(final BatchStatistics statistics) {
+        this.statistics = statistics;
+    }
+
     @Override
     public void setSequenceCallback(final Sequence sequenceCallback) {
         this.sequenceCallback = sequenceCallback;
@@ -42,6 +52,7 @@ public class RingBufferLogEventHandler implements
             final boolean endOfBatch) throws Exception {
         event.execute(endOfBatch);
         event.clear();
+        statistics.onEvent(sequence, endOfBatch);
 
         // notify the BatchEventProcessor that the sequence has progressed.
         // Without this callback the sequence would not be progressed
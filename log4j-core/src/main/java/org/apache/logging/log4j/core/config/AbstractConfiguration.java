@@ -136,11 +136,15 @@ public abstract class AbstractConfiguration extends AbstractFilterable implement
         final Map<String, PluginType<?>> plugins = levelPlugins.getPlugins();
         if (plugins != null) {
             for (final PluginType<?> type : plugins.values()) {
+                final Class<?> clazz = type.getPluginClass();
+                if (clazz == null) {
+                    continue;
+                }
                 try {
                     // Cause the class to be initialized if it isn't already.
-                    Loader.initializeClass(type.getPluginClass().getName(), type.getPluginClass().getClassLoader());
+                    Loader.initializeClass(clazz.getName(), clazz.getClassLoader());
                 } catch (final Exception ex) {
-                    LOGGER.error("Unable to initialize {} due to {}: {}", type.getPluginClass().getName(),
+                    LOGGER.error("Unable to initialize {} due to {}: {}", clazz.getName(),
                             ex.getClass().getSimpleName(), ex.getMessage());
                 }
             }
@@ -171,6 +175,11 @@ public abstract class AbstractConfiguration extends AbstractFilterable implement
         this.setStopping();
         LOGGER.trace("Stopping {}...", this);
 
+        // stop watching the configuration file so the old configuration is not reconfigured again
+        if (monitor instanceof FileConfigurationMonitor) {
+            ((FileConfigurationMonitor) monitor).stop();
+        }
+
         // LOG4J2-392 first stop AsyncLogger Disruptor thread
         final LoggerContextFactory factory = LogManager.getFactory();
         if (factory instanceof Log4jContextFactory) {
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.core.lookup.StrSubstitutor;
+
+/**
+ * The {@code Property} elements of a {@link LoggerConfig}, prepared once at configuration time so that logging an
+ * event does as little work as possible.
+ * <p>
+ * Properties whose value does not contain a variable are constant: their {@code Property} objects, the list of them
+ * and the map of their names to values are created once and shared by all events. Only the properties whose value
+ * contains a variable, for example {@code $${ctx:user}} or {@code $${date:HH:mm}}, are substituted for each event.
+ * </p>
+ */
+public final class CompiledProperties {
+
+    private final Map<Property, Boolean> properties;
+    private final Property[] constants;
+    private final Property[] variables;
+    private final List<Property> constantList;
+    private final Map<String, String> constantMap;
+
+    /**
+     * Prepares the specified properties.
+     *
+     * @param properties the configured properties, must not be empty.
+     */
+    public CompiledProperties(final Property[] properties) {
+        final List<Property> constant = new ArrayList<Property>(properties.length);
+        final List<Property> variable = new ArrayList<Property>(properties.length);
+        final Map<Property, Boolean> all = new LinkedHashMap<Property, Boolean>(properties.length);
+        final Map<String, String> map = new HashMap<String, String>(properties.length);
+        for (final Property prop : properties) {
+            final boolean interpolate = prop.getValue().contains("${");
+            all.put(prop, interpolate);
+            if (interpolate) {
+                variable.add(prop);
+            } else {
+                constant.add(prop);
+                map.put(prop.getName(), prop.getValue());
+            }
+        }
+        this.properties = Collections.unmodifiableMap(all);
+        this.constants = constant.toArray(new Property[constant.size()]);
+        this.variables = variable.toArray(new Property[variable.size()]);
+        this.constantList = Collections.unmodifiableList(Arrays.asList(constants));
+        this.constantMap = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Returns an unmodifiable map with the configured properties. For each {@code Property} key in the map, the value
+     * is {@code true} if the property value has a variable that needs to be substituted.
+     *
+     * @return an unmodifiable map with the configured properties.
+     */
+    public Map<Property, Boolean> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Returns {@code true} if at least one property value has a variable that needs to be substituted for each event.
+     *
+     * @return {@code true} if some property values are variable.
+     */
+    public boolean hasVariables() {
+        return variables.length > 0;
+    }
+
+    /**
+     * Returns the properties with their values for the current event. If no value has variables, the shared list of
+     * constant properties is returned.
+     *
+     * @param strSubstitutor substitutes the variables in property values.
+     * @return an unmodifiable list of the resolved properties.
+     */
+    public List<Property> resolve(final StrSubstitutor strSubstitutor) {
+        if (variables.length == 0) {
+            return constantList;
+        }
+        final Property[] result = Arrays.copyOf(constants, constants.length + variables.length);
+        for (int i = 0; i < variables.length; i++) {
+            final Property prop = variables[i];
+            result[constants.length + i] = Property.createProperty(prop.getName(),
+                    strSubstitutor.replace(prop.getValue()));
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * Merges the resolved properties into the specified context map. Values in the context map take precedence over
+     * property values.
+     *
+     * @param contextMap the context map of the event, may be {@code null}.
+     * @param strSubstitutor substitutes the variables in property values.
+     * @return the merged map, which is shared between events if the context map was empty and no property value has
+     *         variables.
+     */
+    public Map<String, String> mergeInto(final Map<String, String> contextMap, final StrSubstitutor strSubstitutor) {
+        if (variables.length == 0 && (contextMap == null || contextMap.isEmpty())) {
+            return constantMap;
+        }
+        final Map<String, String> map = contextMap == null ? new HashMap<String, String>()
+                : new HashMap<String, String>(contextMap);
+        for (final Property prop : constants) {
+            if (!map.containsKey(prop.getName())) { // contextMap overrides config properties
+                map.put(prop.getName(), prop.getValue());
+            }
+        }
+        for (final Property prop : variables) {
+            if (!map.containsKey(prop.getName())) {
+                map.put(prop.getName(), strSubstitutor.replace(prop.getValue()));
+            }
+        }
+        return map;
+    }
+}
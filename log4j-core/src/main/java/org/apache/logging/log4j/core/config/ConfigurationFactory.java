@@ -135,6 +135,9 @@ public abstract class ConfigurationFactory {
                         try {
                             @SuppressWarnings("unchecked")
                             final Class<ConfigurationFactory> clazz = (Class<ConfigurationFactory>)type.getPluginClass();
+                            if (clazz == null) {
+                                continue;
+                            }
                             final Order order = clazz.getAnnotation(Order.class);
                             if (order != null) {
                                 final int weight = order.value();
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import java.io.File;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.async.DaemonThreadFactory;
+import org.apache.logging.log4j.core.util.Loader;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+/**
+ * Watches configuration files in the background. All the checks run on a single shared daemon thread, which is also
+ * the thread that notifies the {@link ConfigurationListener}s.
+ * <p>
+ * On Java 7 and later, the directories of the files are watched with a {@code java.nio.file.WatchService}, so a
+ * check only runs when a file may have changed, one interval after the first change reported. Otherwise, or if
+ * system property {@code log4j.configurationWatchService} is {@code false}, each file is polled at its monitor
+ * interval.
+ * </p>
+ */
+final class ConfigurationFileWatcher {
+
+    /**
+     * Cancels the watching of a file.
+     */
+    interface Watch {
+        void cancel();
+    }
+
+    /**
+     * Watches a set of files and runs their checks on the shared thread when they may have changed.
+     */
+    interface FileEventSource {
+        /**
+         * @param delayMillis How long after a change is reported the check runs; the changes reported meanwhile
+         *            are covered by the same check.
+         * @return the watch, or {@code null} if the file cannot be watched by this source.
+         */
+        Watch watch(File file, long delayMillis, Runnable check);
+    }
+
+    private static final Logger LOGGER = StatusLogger.getLogger();
+
+    private static final String WATCH_SERVICE_CLASS = "java.nio.file.WatchService";
+
+    private static final String EVENT_SOURCE_CLASS = "org.apache.logging.log4j.core.config.WatchServiceEventSource";
+
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+            new DaemonThreadFactory("Log4j2-ConfigurationMonitor-"));
+
+    private static final FileEventSource EVENT_SOURCE = createEventSource();
+
+    private ConfigurationFileWatcher() {
+    }
+
+    private static FileEventSource createEventSource() {
+        if (!PropertiesUtil.getProperties().getBooleanProperty("log4j.configurationWatchService", true)
+                || !Loader.isClassAvailable(WATCH_SERVICE_CLASS)) {
+            return null;
+        }
+        try {
+            return (FileEventSource) Class.forName(EVENT_SOURCE_CLASS).newInstance();
+        } catch (final Exception ex) {
+            LOGGER.debug("Unable to watch configuration files, polling them instead: {}", ex.toString());
+            return null;
+        } catch (final LinkageError ex) {
+            LOGGER.debug("Unable to watch configuration files, polling them instead: {}", ex.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the executor that runs the checks.
+     * 
+     * @return the shared executor
+     */
+    static ScheduledExecutorService getExecutor() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Starts watching a file.
+     * 
+     * @param file The File to watch.
+     * @param intervalMillis The polling interval, or the delay of the check after a change is reported.
+     * @param check Checks whether the file has changed; runs on the shared thread.
+     * @return the Watch that cancels the watching of the file.
+     */
+    static Watch watch(final File file, final long intervalMillis, final Runnable check) {
+        final Runnable safeCheck = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    check.run();
+                } catch (final RuntimeException ex) {
+                    LOGGER.error("Error checking configuration file {} for changes", file, ex);
+                }
+            }
+        };
+        if (EVENT_SOURCE != null) {
+            final Watch watch = EVENT_SOURCE.watch(file, intervalMillis, safeCheck);
+            if (watch != null) {
+                return watch;
+            }
+        }
+        final ScheduledFuture<?> future = EXECUTOR.scheduleWithFixedDelay(safeCheck, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+        return new Watch() {
+            @Override
+            public void cancel() {
+                future.cancel(false);
+            }
+        };
+    }
+}
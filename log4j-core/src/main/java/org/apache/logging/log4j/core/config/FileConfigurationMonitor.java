@@ -18,38 +18,38 @@ package org.apache.logging.log4j.core.config;
 
 import java.io.File;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Configuration monitor that periodically checks the timestamp of the configuration file and calls the
- * ConfigurationListeners when an update occurs.
+ * Configuration monitor that watches the configuration file in the background and calls the ConfigurationListeners
+ * when an update occurs.
+ * <p>
+ * The file is checked by a single shared daemon thread, either when the file system reports that the file may have
+ * changed or, where that is not possible, every monitor interval. The listeners are called on that same thread, so
+ * {@link #checkConfiguration()} has nothing left to do on the logging path.
+ * </p>
  */
 public class FileConfigurationMonitor implements ConfigurationMonitor {
 
-    private static final int MASK = 0x0f;
-
     private static final int MIN_INTERVAL = 5;
 
     private static final int MILLIS_PER_SECOND = 1000;
 
+    /** The coarsest modification time resolution of common file systems (FAT). */
+    private static final long MODIFICATION_TIME_GRANULARITY_MILLIS = 2000;
+
     private final File file;
 
+    // only accessed by the monitor thread after construction
     private long lastModified;
 
-    private final List<ConfigurationListener> listeners;
-
-    private final int interval;
-
-    private long nextCheck;
+    private long lastLength;
 
-    private final AtomicInteger counter = new AtomicInteger(0);
-
-    private static final Lock LOCK = new ReentrantLock();
+    private final List<ConfigurationListener> listeners;
 
     private final Reconfigurable reconfigurable;
 
+    private final ConfigurationFileWatcher.Watch watch;
+
     /**
      * Constructor.
      * @param reconfigurable The Configuration that can be reconfigured.
@@ -63,48 +63,46 @@ public class FileConfigurationMonitor implements ConfigurationMonitor {
         this.reconfigurable = reconfigurable;
         this.file = file;
         this.lastModified = file.lastModified();
+        this.lastLength = file.length();
         this.listeners = listeners;
-        this.interval = (interval < MIN_INTERVAL ? MIN_INTERVAL : interval) * MILLIS_PER_SECOND;
-        this.nextCheck = System.currentTimeMillis() + interval;
+        final long intervalMillis = (interval < MIN_INTERVAL ? MIN_INTERVAL : interval) * MILLIS_PER_SECOND;
+        this.watch = ConfigurationFileWatcher.watch(file, intervalMillis, new Runnable() {
+            @Override
+            public void run() {
+                checkFile();
+            }
+        });
     }
 
     /**
-     * Called to determine if the configuration has changed.
+     * Does nothing: changes are detected in the background.
      */
     @Override
     public void checkConfiguration() {
-        final long current = System.currentTimeMillis();
-        if (((counter.incrementAndGet() & MASK) == 0) && (current >= nextCheck)) {
-            LOCK.lock();
-            try {
-                nextCheck = current + interval;
-                if (file.lastModified() > lastModified) {
-                    lastModified = file.lastModified();
-                    for (final ConfigurationListener listener : listeners) {
-                        final Thread thread = new Thread(new ReconfigurationWorker(listener, reconfigurable));
-                        thread.setDaemon(true);
-                        thread.start();
-                    }
-                }
-            } finally {
-                LOCK.unlock();
-            }
-        }
+        // do nothing
     }
 
-    private class ReconfigurationWorker implements Runnable {
-
-        private final ConfigurationListener listener;
-        private final Reconfigurable reconfigurable;
-
-        public ReconfigurationWorker(final ConfigurationListener listener, final Reconfigurable reconfigurable) {
-            this.listener = listener;
-            this.reconfigurable = reconfigurable;
-        }
+    /**
+     * Stops watching the configuration file.
+     */
+    public void stop() {
+        watch.cancel();
+    }
 
-        @Override
-        public void run() {
-            listener.onChange(reconfigurable);
+    private void checkFile() {
+        final long modified = file.lastModified();
+        final long length = file.length();
+        if (modified != lastModified || length != lastLength) {
+            // A later write within the same tick of the file system clock would keep this time stamp and go
+            // unnoticed, so a recent one is not recorded: the next check reports the file changed again.
+            final long age = System.currentTimeMillis() - modified;
+            if (age < 0 || age >= MODIFICATION_TIME_GRANULARITY_MILLIS) {
+                lastModified = modified;
+                lastLength = length;
+            }
+            for (final ConfigurationListener listener : listeners) {
+                listener.onChange(reconfigurable);
+            }
         }
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Counts the events that are being logged through a {@link LoggerConfig}, so that reconfiguration can wait for them
+ * to complete.
+ * <p>
+ * As long as only one thread at a time logs through the LoggerConfig, a single counter is used. The first time two
+ * threads collide on it, the counter is inflated into padded stripes selected by thread ID, so that threads on
+ * different cores no longer write to the same cache line. This is the approach of {@code java.util.concurrent.atomic.
+ * LongAdder}, which is not available on Java 6.
+ * </p>
+ * <p>
+ * {@link #increment()} returns a token that must be passed to {@link #decrement(int)} by the same thread, so that
+ * each stripe's count never drops below zero and {@link #get()} only needs to look at every stripe once.
+ * </p>
+ */
+final class InFlightCounter {
+
+    /** Token returned by {@link #increment()} when the base counter was used. */
+    static final int BASE = -1;
+
+    /** Ints between two stripes: 64 bytes, the size of a cache line on common CPUs. */
+    private static final int PADDING = 16;
+
+    /** Number of stripes, the next power of two of twice the number of processors, at most 64. */
+    static final int STRIPES = stripes(Runtime.getRuntime().availableProcessors());
+
+    private static final AtomicIntegerFieldUpdater<InFlightCounter> BASE_UPDATER = AtomicIntegerFieldUpdater
+            .newUpdater(InFlightCounter.class, "base");
+
+    private static final AtomicReferenceFieldUpdater<InFlightCounter, AtomicIntegerArray> CELLS_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(InFlightCounter.class, AtomicIntegerArray.class, "cells");
+
+    private volatile int base;
+    private volatile AtomicIntegerArray cells;
+
+    static int stripes(final int processors) {
+        int stripes = 1;
+        while (stripes < processors * 2 && stripes < 64) {
+            stripes <<= 1;
+        }
+        return stripes;
+    }
+
+    /**
+     * Counts an event that starts being logged.
+     *
+     * @return the token to pass to {@link #decrement(int)} when the event has been logged.
+     */
+    int increment() {
+        AtomicIntegerArray stripes = cells;
+        if (stripes == null) {
+            final int current = base;
+            if (BASE_UPDATER.compareAndSet(this, current, current + 1)) {
+                return BASE;
+            }
+            // contended: spread this and all later events over the stripes
+            CELLS_UPDATER.compareAndSet(this, null, new AtomicIntegerArray(STRIPES * PADDING));
+            stripes = cells;
+        }
+        final int index = ((int) Thread.currentThread().getId() & (STRIPES - 1)) * PADDING;
+        stripes.incrementAndGet(index);
+        return index;
+    }
+
+    /**
+     * Counts an event that has been logged.
+     *
+     * @param token the value returned by the corresponding call to {@link #increment()}.
+     */
+    void decrement(final int token) {
+        if (token == BASE) {
+            BASE_UPDATER.decrementAndGet(this);
+        } else {
+            cells.decrementAndGet(token);
+        }
+    }
+
+    /**
+     * Returns the number of events being logged. The result is only exact if no events start or finish being logged
+     * while it is computed.
+     *
+     * @return the number of events being logged.
+     */
+    int get() {
+        int sum = base;
+        final AtomicIntegerArray stripes = cells;
+        if (stripes != null) {
+            for (int i = 0; i < stripes.length(); i += PADDING) {
+                sum += stripes.get(i);
+            }
+        }
+        return sum;
+    }
+}
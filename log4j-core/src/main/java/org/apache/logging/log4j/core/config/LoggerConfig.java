@@ -19,7 +19,6 @@ package org.apache.logging.log4j.core.config;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -27,7 +26,6 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -47,6 +45,7 @@ import org.apache.logging.log4j.core.config.plugins.PluginFactory;
 import org.apache.logging.log4j.core.filter.AbstractFilterable;
 import org.apache.logging.log4j.core.impl.DefaultLogEventFactory;
 import org.apache.logging.log4j.core.impl.LogEventFactory;
+import org.apache.logging.log4j.core.impl.ReusableLogEventFactory;
 import org.apache.logging.log4j.core.lookup.StrSubstitutor;
 import org.apache.logging.log4j.core.util.Booleans;
 import org.apache.logging.log4j.core.util.Constants;
@@ -72,9 +71,9 @@ public class LoggerConfig extends AbstractFilterable {
     private boolean additive = true;
     private boolean includeLocation = true;
     private LoggerConfig parent;
-    private final AtomicInteger counter = new AtomicInteger();
+    private final InFlightCounter counter = new InFlightCounter();
     private final AtomicBoolean shutdown = new AtomicBoolean(false);
-    private final Map<Property, Boolean> properties;
+    private final CompiledProperties properties;
     private final Configuration config;
     private final Lock shutdownLock = new ReentrantLock();
     private final Condition noLogEvents = shutdownLock.newCondition(); // should only be used when shutdown == true
@@ -138,11 +137,7 @@ public class LoggerConfig extends AbstractFilterable {
         this.includeLocation = includeLocation;
         this.config = config;
         if (properties != null && properties.length > 0) {
-            this.properties = new HashMap<Property, Boolean>(properties.length);
-            for (final Property prop : properties) {
-                final boolean interpolate = prop.getValue().contains("${");
-                this.properties.put(prop, interpolate);
-            }
+            this.properties = new CompiledProperties(properties);
         } else {
             this.properties = null;
         }
@@ -333,8 +328,18 @@ public class LoggerConfig extends AbstractFilterable {
      */
     // LOG4J2-157
     public Map<Property, Boolean> getProperties() {
-        return properties == null ? null : Collections
-                .unmodifiableMap(properties);
+        return properties == null ? null : properties.getProperties();
+    }
+
+    /**
+     * Returns the configuration properties prepared for logging, or
+     * {@code null} if this {@code LoggerConfig} does not have any configuration
+     * properties.
+     *
+     * @return the compiled configuration properties, or {@code null}
+     */
+    public CompiledProperties getCompiledProperties() {
+        return properties;
     }
 
     /**
@@ -350,19 +355,13 @@ public class LoggerConfig extends AbstractFilterable {
     public void log(final String loggerName, final String fqcn,
             final Marker marker, final Level level, final Message data,
             final Throwable t) {
-        List<Property> props = null;
-        if (properties != null) {
-            props = new ArrayList<Property>(properties.size());
-
-            for (final Map.Entry<Property, Boolean> entry : properties.entrySet()) {
-                final Property prop = entry.getKey();
-                final String value = entry.getValue() ? config.getStrSubstitutor()
-                        .replace(prop.getValue()) : prop.getValue();
-                props.add(Property.createProperty(prop.getName(), value));
-            }
-        }
+        final List<Property> props = properties == null ? null : properties.resolve(config.getStrSubstitutor());
         final LogEvent event = logEventFactory.createEvent(loggerName, marker, fqcn, level, data, props, t);
-        log(event);
+        try {
+            log(event);
+        } finally {
+            ReusableLogEventFactory.release(event);
+        }
     }
 
     /**
@@ -372,17 +371,20 @@ public class LoggerConfig extends AbstractFilterable {
     private void waitForCompletion() {
         if (shutdown.compareAndSet(false, true)) {
             int retries = 0;
-            while (counter.get() > 0) {
-                shutdownLock.lock();
-                try {
-                    noLogEvents.await(retries + 1, TimeUnit.SECONDS);
-                } catch (final InterruptedException ie) {
-                    if (++retries > MAX_RETRIES) {
-                        break;
+            shutdownLock.lock();
+            try {
+                // the count is checked with the lock held so that a signal cannot be missed
+                while (counter.get() > 0) {
+                    try {
+                        noLogEvents.await(retries + 1, TimeUnit.SECONDS);
+                    } catch (final InterruptedException ie) {
+                        if (++retries > MAX_RETRIES) {
+                            break;
+                        }
                     }
-                } finally {
-                    shutdownLock.unlock();
                 }
+            } finally {
+                shutdownLock.unlock();
             }
         }
     }
@@ -394,7 +396,7 @@ public class LoggerConfig extends AbstractFilterable {
      */
     public void log(final LogEvent event) {
 
-        counter.incrementAndGet();
+        final int token = counter.increment();
         try {
             if (isFiltered(event)) {
                 return;
@@ -408,12 +410,12 @@ public class LoggerConfig extends AbstractFilterable {
                 parent.log(event);
             }
         } finally {
-            if (counter.decrementAndGet() == 0) {
+            counter.decrement(token);
+            // only look at the count and take the lock while waitForCompletion() may be waiting for it
+            if (shutdown.get() && counter.get() == 0) {
                 shutdownLock.lock();
                 try {
-                    if (shutdown.get()) {
-                        noLogEvents.signalAll();
-                    }
+                    noLogEvents.signalAll();
                 } finally {
                     shutdownLock.unlock();
                 }
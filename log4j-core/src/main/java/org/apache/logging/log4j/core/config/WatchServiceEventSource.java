@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * Watches the directories of configuration files with a {@link WatchService} and schedules the checks of the files
+ * that may have changed on the executor of the {@link ConfigurationFileWatcher}.
+ * <p>
+ * Editors and copies usually modify a file with several writes, each reported by its own event. The first event
+ * schedules a check after the delay of the file, and the events received until the check starts are covered by it.
+ * </p>
+ * <p>
+ * Requires Java 7; only loaded by {@link ConfigurationFileWatcher} when the WatchService is available.
+ * </p>
+ */
+final class WatchServiceEventSource implements ConfigurationFileWatcher.FileEventSource, Runnable {
+
+    private static final Logger LOGGER = StatusLogger.getLogger();
+
+    /**
+     * A watched file.
+     */
+    private final class Entry implements ConfigurationFileWatcher.Watch, Runnable {
+        private final WatchKey key;
+        private final Path fileName;
+        private final long delayMillis;
+        private final Runnable check;
+        // guarded by entries
+        private ScheduledFuture<?> scheduled;
+
+        Entry(final WatchKey key, final Path fileName, final long delayMillis, final Runnable check) {
+            this.key = key;
+            this.fileName = fileName;
+            this.delayMillis = delayMillis;
+            this.check = check;
+        }
+
+        /**
+         * Schedules the check unless it is already waiting to run. Called with the entries lock held.
+         */
+        void schedule() {
+            if (scheduled == null) {
+                scheduled = ConfigurationFileWatcher.getExecutor().schedule(this, delayMillis,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+
+        @Override
+        public void run() {
+            synchronized (entries) {
+                // an event received from now on may come from a write the check does not see
+                scheduled = null;
+            }
+            check.run();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (entries) {
+                if (scheduled != null) {
+                    scheduled.cancel(false);
+                    scheduled = null;
+                }
+                final List<Entry> list = entries.get(key);
+                if (list != null && list.remove(this) && list.isEmpty()) {
+                    entries.remove(key);
+                    key.cancel();
+                }
+            }
+        }
+    }
+
+    private final WatchService watchService;
+
+    private final Map<WatchKey, List<Entry>> entries = new HashMap<WatchKey, List<Entry>>();
+
+    WatchServiceEventSource() throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        final Thread thread = new Thread(this, "Log4j2-ConfigurationWatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public ConfigurationFileWatcher.Watch watch(final File file, final long delayMillis, final Runnable check) {
+        final Path path = file.getAbsoluteFile().toPath();
+        final Path dir = path.getParent();
+        if (dir == null) {
+            return null;
+        }
+        synchronized (entries) {
+            final WatchKey key;
+            try {
+                key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+            } catch (final Exception ex) {
+                LOGGER.debug("Unable to watch directory {}, polling {} instead: {}", dir, file, ex.toString());
+                return null;
+            }
+            List<Entry> list = entries.get(key);
+            if (list == null) {
+                list = new ArrayList<Entry>();
+                entries.put(key, list);
+            }
+            final Entry entry = new Entry(key, path.getFileName(), delayMillis, check);
+            list.add(entry);
+            return entry;
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            final WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (final InterruptedException ex) {
+                return;
+            }
+            final List<WatchEvent<?>> events = key.pollEvents();
+            synchronized (entries) {
+                final List<Entry> list = entries.get(key);
+                if (list != null) {
+                    for (final Entry entry : list) {
+                        if (isAffected(entry, events)) {
+                            entry.schedule();
+                        }
+                    }
+                }
+                if (!key.reset() && list != null) {
+                    entries.remove(key);
+                    LOGGER.warn("Configuration directory {} is no longer watched", key.watchable());
+                }
+            }
+        }
+    }
+
+    private static boolean isAffected(final Entry entry, final List<WatchEvent<?>> events) {
+        for (final WatchEvent<?> event : events) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || entry.fileName.equals(event.context())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
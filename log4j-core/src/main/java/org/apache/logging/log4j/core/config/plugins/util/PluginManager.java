@@ -78,16 +78,18 @@ public class PluginManager {
     }
 
     /**
-     * Returns the type of a specified plugin.
+     * Returns the type of a specified plugin, loading the plugin class if it has not been loaded yet.
      * @param name The name of the plugin.
-     * @return The plugin's type.
+     * @return The plugin's type, or null if there is no such plugin or its class cannot be loaded.
      */
     public PluginType<?> getPluginType(final String name) {
-        return plugins.get(name.toLowerCase());
+        final PluginType<?> type = plugins.get(name.toLowerCase());
+        return type == null || type.getPluginClass() == null ? null : type;
     }
 
     /**
-     * Returns all the matching plugins.
+     * Returns all the matching plugins. The plugin classes are only loaded when
+     * {@link PluginType#getPluginClass()} is called, which returns null for classes that cannot be loaded.
      * @return A Map containing the name of the plugin and its type.
      */
     public Map<String, PluginType<?>> getPlugins() {
@@ -164,14 +166,10 @@ public class PluginManager {
                         final String name = dis.readUTF();
                         final boolean printable = dis.readBoolean();
                         final boolean defer = dis.readBoolean();
-                        try {
-                            final Class<?> clazz = loader.loadClass(className);
-                            @SuppressWarnings({"unchecked","rawtypes"})
-                            final PluginType<?> pluginType = new PluginType(clazz, name, printable, defer);
-                            types.put(key, pluginType);
-                        } catch (final ClassNotFoundException e) {
-                            LOGGER.info("Plugin [{}] could not be loaded due to missing classes.", className, e);
-                        }
+                        // the class is loaded when the plugin is first used
+                        @SuppressWarnings({"unchecked","rawtypes"})
+                        final PluginType<?> pluginType = new PluginType(className, loader, name, printable, defer);
+                        types.put(key, pluginType);
                     }
                 }
             } catch (final IOException ex) {
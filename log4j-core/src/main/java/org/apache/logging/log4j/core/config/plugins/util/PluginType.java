@@ -19,8 +19,16 @@ package org.apache.logging.log4j.core.config.plugins.util;
 
 import java.io.Serializable;
 
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.util.ResourceLoader;
+import org.apache.logging.log4j.status.StatusLogger;
+
 /**
  * Plugin Descriptor. This is a memento object for Plugin annotations paired to their annotated classes.
+ * <p>
+ * Plugin types read from the plugin cache file only hold the name of the plugin class, which is loaded the first time
+ * {@link #getPluginClass()} is called, so that configuring Log4j only loads the classes of the plugins it uses.
+ * </p>
  *
  * @param <T> The plug-in class, which can be any kind of class.
  * @see org.apache.logging.log4j.core.config.plugins.Plugin
@@ -29,20 +37,71 @@ public class PluginType<T> implements Serializable {
 
     private static final long serialVersionUID = 4743255148794846612L;
 
-    private final Class<T> pluginClass;
+    private static final Logger LOGGER = StatusLogger.getLogger();
+
+    private volatile Class<T> pluginClass;
+    private final String pluginClassName;
+    private final transient ResourceLoader loader;
     private final String elementName;
     private final boolean printObject;
     private final boolean deferChildren;
 
     public PluginType(final Class<T> clazz, final String name, final boolean printObj, final boolean deferChildren) {
         this.pluginClass = clazz;
+        this.pluginClassName = clazz.getName();
+        this.loader = null;
         this.elementName = name;
         this.printObject = printObj;
         this.deferChildren = deferChildren;
     }
 
+    /**
+     * Creates a plugin type whose class is loaded on first use.
+     *
+     * @param className The name of the plugin class.
+     * @param loader The loader to load the plugin class with.
+     * @param name The element name of the plugin.
+     * @param printObj Whether the plugin object may be printed.
+     * @param deferChildren Whether the plugin's children are configured by the plugin itself.
+     */
+    public PluginType(final String className, final ResourceLoader loader, final String name, final boolean printObj,
+            final boolean deferChildren) {
+        this.pluginClassName = className;
+        this.loader = loader;
+        this.elementName = name;
+        this.printObject = printObj;
+        this.deferChildren = deferChildren;
+    }
+
+    /**
+     * Returns the plugin class, loading it if this is the first call.
+     *
+     * @return The plugin class, or null if it could not be loaded.
+     */
     public Class<T> getPluginClass() {
-        return this.pluginClass;
+        Class<T> clazz = this.pluginClass;
+        if (clazz == null && this.loader != null) {
+            try {
+                @SuppressWarnings("unchecked")
+                final Class<T> loaded = (Class<T>) this.loader.loadClass(this.pluginClassName);
+                clazz = loaded;
+                this.pluginClass = clazz;
+            } catch (final ClassNotFoundException e) {
+                LOGGER.info("Plugin [{}] could not be loaded due to missing classes.", this.pluginClassName, e);
+            } catch (final LinkageError e) {
+                LOGGER.info("Plugin [{}] could not be loaded due to missing classes.", this.pluginClassName, e);
+            }
+        }
+        return clazz;
+    }
+
+    /**
+     * Returns the name of the plugin class without loading it.
+     *
+     * @return The plugin class name.
+     */
+    public String getPluginClassName() {
+        return this.pluginClassName;
     }
 
     public String getElementName() {
@@ -59,7 +118,7 @@ public class PluginType<T> implements Serializable {
 
     @Override
     public String toString() {
-        return "PluginType [pluginClass=" + this.pluginClass + ", elementName=" + this.elementName + ", printObject="
+        return "PluginType [pluginClass=" + this.pluginClassName + ", elementName=" + this.elementName + ", printObject="
                 + this.printObject + ", deferChildren=" + this.deferChildren + "]";
     }
 }
@@ -97,6 +97,60 @@ public abstract class AbstractFilter extends AbstractLifeCycle implements Filter
         return Result.NEUTRAL;
     }
 
+    /**
+     * Appender Filter method. The default delegates to
+     * {@link #filter(Logger, Level, Marker, String, Object...)} so that subclasses that only override the varargs
+     * form still see the parameters; subclasses that ignore the parameters should override this method as well.
+     * @param logger the Logger.
+     * @param level The logging Level.
+     * @param marker The Marker, if any.
+     * @param msg The message, if present.
+     * @param p0 the first message parameter.
+     * @return The Result of filtering.
+     */
+    @Override
+    public Result filter(final Logger logger, final Level level, final Marker marker, final String msg,
+                         final Object p0) {
+        return filter(logger, level, marker, msg, new Object[] {p0});
+    }
+
+    /**
+     * Appender Filter method. The default delegates to
+     * {@link #filter(Logger, Level, Marker, String, Object...)} so that subclasses that only override the varargs
+     * form still see the parameters; subclasses that ignore the parameters should override this method as well.
+     * @param logger the Logger.
+     * @param level The logging Level.
+     * @param marker The Marker, if any.
+     * @param msg The message, if present.
+     * @param p0 the first message parameter.
+     * @param p1 the second message parameter.
+     * @return The Result of filtering.
+     */
+    @Override
+    public Result filter(final Logger logger, final Level level, final Marker marker, final String msg,
+                         final Object p0, final Object p1) {
+        return filter(logger, level, marker, msg, new Object[] {p0, p1});
+    }
+
+    /**
+     * Appender Filter method. The default delegates to
+     * {@link #filter(Logger, Level, Marker, String, Object...)} so that subclasses that only override the varargs
+     * form still see the parameters; subclasses that ignore the parameters should override this method as well.
+     * @param logger the Logger.
+     * @param level The logging Level.
+     * @param marker The Marker, if any.
+     * @param msg The message, if present.
+     * @param p0 the first message parameter.
+     * @param p1 the second message parameter.
+     * @param p2 the third message parameter.
+     * @return The Result of filtering.
+     */
+    @Override
+    public Result filter(final Logger logger, final Level level, final Marker marker, final String msg,
+                         final Object p0, final Object p1, final Object p2) {
+        return filter(logger, level, marker, msg, new Object[] {p0, p1, p2});
+    }
+
     /**
      * Appender Filter method. The default returns NEUTRAL.
      * @param logger the Logger.
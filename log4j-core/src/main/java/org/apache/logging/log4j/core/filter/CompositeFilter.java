@@ -161,6 +161,96 @@ public final class CompositeFilter extends AbstractLifeCycle implements Iterable
         return result;
     }
 
+    /**
+     * Filter an event.
+     *
+     * @param logger
+     *            The Logger.
+     * @param level
+     *            The event logging Level.
+     * @param marker
+     *            The Marker for the event or null.
+     * @param msg
+     *            String text to filter on.
+     * @param p0
+     *            The first message parameter.
+     * @return the Result.
+     */
+    @Override
+    public Result filter(final Logger logger, final Level level, final Marker marker, final String msg,
+                         final Object p0) {
+        Result result = Result.NEUTRAL;
+        for (final Filter filter : filters) {
+            result = filter.filter(logger, level, marker, msg, p0);
+            if (result == Result.ACCEPT || result == Result.DENY) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Filter an event.
+     *
+     * @param logger
+     *            The Logger.
+     * @param level
+     *            The event logging Level.
+     * @param marker
+     *            The Marker for the event or null.
+     * @param msg
+     *            String text to filter on.
+     * @param p0
+     *            The first message parameter.
+     * @param p1
+     *            The second message parameter.
+     * @return the Result.
+     */
+    @Override
+    public Result filter(final Logger logger, final Level level, final Marker marker, final String msg,
+                         final Object p0, final Object p1) {
+        Result result = Result.NEUTRAL;
+        for (final Filter filter : filters) {
+            result = filter.filter(logger, level, marker, msg, p0, p1);
+            if (result == Result.ACCEPT || result == Result.DENY) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Filter an event.
+     *
+     * @param logger
+     *            The Logger.
+     * @param level
+     *            The event logging Level.
+     * @param marker
+     *            The Marker for the event or null.
+     * @param msg
+     *            String text to filter on.
+     * @param p0
+     *            The first message parameter.
+     * @param p1
+     *            The second message parameter.
+     * @param p2
+     *            The third message parameter.
+     * @return the Result.
+     */
+    @Override
+    public Result filter(final Logger logger, final Level level, final Marker marker, final String msg,
+                         final Object p0, final Object p1, final Object p2) {
+        Result result = Result.NEUTRAL;
+        for (final Filter filter : filters) {
+            result = filter.filter(logger, level, marker, msg, p0, p1, p2);
+            if (result == Result.ACCEPT || result == Result.DENY) {
+                return result;
+            }
+        }
+        return result;
+    }
+
     /**
      * Filter an event.
      *
@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.core.util.Constants;
+
+/**
+ * Process-wide cache of the packaging information {@link ThrowableProxy} resolves for the classes in stack traces.
+ * <p>
+ * Entries are keyed by the ClassLoader the class was looked up with and the class name. The ClassLoaders are held
+ * weakly, so the entries of an undeployed application disappear with its ClassLoader, and the entries themselves only
+ * refer to ClassLoaders weakly. Lookups do not lock. The total number of entries is bounded; when the bound is
+ * reached, another entry of the ClassLoader being added to is evicted, or the entries of all other ClassLoaders are
+ * removed if that ClassLoader has none.
+ * </p>
+ */
+final class ExtendedClassInfoCache {
+
+    static final ExtendedClassInfoCache INSTANCE = new ExtendedClassInfoCache(Constants.THROWABLE_PROXY_CACHE_SIZE);
+
+    private static final LookupKey NULL_LOADER = new LookupKey(null);
+
+    private final int maxSize;
+
+    private final ConcurrentMap<Key, ConcurrentMap<String, ThrowableProxy.CacheEntry>> loaders =
+            new ConcurrentHashMap<Key, ConcurrentMap<String, ThrowableProxy.CacheEntry>>();
+
+    private final ReferenceQueue<ClassLoader> collected = new ReferenceQueue<ClassLoader>();
+
+    /**
+     * The number of entries added since the size was last counted. Entries of collected ClassLoaders and entries
+     * added concurrently with a removal are only accounted for when the size is counted again.
+     */
+    private final AtomicInteger size = new AtomicInteger();
+
+    ExtendedClassInfoCache(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached entry for the class.
+     *
+     * @param loader The ClassLoader the class is looked up with, may be null.
+     * @param className The name of the class.
+     * @return The entry, or null if the class has not been resolved with this ClassLoader.
+     */
+    ThrowableProxy.CacheEntry get(final ClassLoader loader, final String className) {
+        final Map<String, ThrowableProxy.CacheEntry> classes = loaders.get(lookupKey(loader));
+        return classes == null ? null : classes.get(className);
+    }
+
+    /**
+     * Caches the entry for the class.
+     *
+     * @param loader The ClassLoader the class was looked up with, may be null.
+     * @param className The name of the class.
+     * @param entry The resolved entry.
+     */
+    void put(final ClassLoader loader, final String className, final ThrowableProxy.CacheEntry entry) {
+        if (maxSize <= 0) {
+            return;
+        }
+        expungeCollected();
+        ConcurrentMap<String, ThrowableProxy.CacheEntry> classes = loaders.get(lookupKey(loader));
+        if (classes == null) {
+            final ConcurrentMap<String, ThrowableProxy.CacheEntry> created =
+                    new ConcurrentHashMap<String, ThrowableProxy.CacheEntry>();
+            final Key key = loader == null ? NULL_LOADER : new LoaderKey(loader, collected);
+            classes = loaders.putIfAbsent(key, created);
+            if (classes == null) {
+                classes = created;
+            }
+        }
+        if (classes.put(className, entry) != null) {
+            return;
+        }
+        if (size.incrementAndGet() > maxSize && countSize() > maxSize) {
+            evict(classes, className);
+        }
+    }
+
+    private void evict(final Map<String, ThrowableProxy.CacheEntry> classes, final String added) {
+        // ConcurrentHashMap keeps no access order, so any other entry of the ClassLoader goes
+        final Iterator<String> classNames = classes.keySet().iterator();
+        while (classNames.hasNext()) {
+            final String className = classNames.next();
+            if (!className.equals(added) && classes.remove(className) != null) {
+                size.decrementAndGet();
+                return;
+            }
+        }
+        for (final Map.Entry<Key, ConcurrentMap<String, ThrowableProxy.CacheEntry>> other : loaders.entrySet()) {
+            if (other.getValue() != classes && loaders.remove(other.getKey(), other.getValue())) {
+                size.addAndGet(-other.getValue().size());
+            }
+        }
+    }
+
+    private void expungeCollected() {
+        Reference<? extends ClassLoader> ref;
+        while ((ref = collected.poll()) != null) {
+            final Map<String, ThrowableProxy.CacheEntry> classes = loaders.remove(ref);
+            if (classes != null) {
+                size.addAndGet(-classes.size());
+            }
+        }
+    }
+
+    private int countSize() {
+        int count = 0;
+        for (final Map<String, ThrowableProxy.CacheEntry> classes : loaders.values()) {
+            count += classes.size();
+        }
+        size.set(count);
+        return count;
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return The number of entries.
+     */
+    int size() {
+        expungeCollected();
+        return countSize();
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        loaders.clear();
+        size.set(0);
+    }
+
+    private static Key lookupKey(final ClassLoader loader) {
+        return loader == null ? NULL_LOADER : new LookupKey(loader);
+    }
+
+    /**
+     * Identifies a ClassLoader by identity. A key whose ClassLoader has been collected only equals itself.
+     */
+    private interface Key {
+        ClassLoader getLoader();
+    }
+
+    private static boolean sameLoader(final Key key, final Object obj) {
+        if (key == obj) {
+            return true;
+        }
+        if (!(obj instanceof Key)) {
+            return false;
+        }
+        final ClassLoader loader = key.getLoader();
+        return loader != null && loader == ((Key) obj).getLoader();
+    }
+
+    /**
+     * Key stored in the cache, which does not keep its ClassLoader reachable.
+     */
+    private static final class LoaderKey extends WeakReference<ClassLoader> implements Key {
+        private final int hashCode;
+
+        LoaderKey(final ClassLoader loader, final ReferenceQueue<ClassLoader> queue) {
+            super(loader, queue);
+            this.hashCode = System.identityHashCode(loader);
+        }
+
+        @Override
+        public ClassLoader getLoader() {
+            return get();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return sameLoader(this, obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Short-lived key used to look up a ClassLoader.
+     */
+    private static final class LookupKey implements Key {
+        private final ClassLoader loader;
+
+        LookupKey(final ClassLoader loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public ClassLoader getLoader() {
+            return loader;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return sameLoader(this, obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(loader);
+        }
+    }
+}
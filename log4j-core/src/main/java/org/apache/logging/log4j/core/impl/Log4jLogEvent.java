@@ -149,6 +149,30 @@ public class Log4jLogEvent implements LogEvent {
         return result;
     }
 
+    /**
+     * Creates an immutable copy of an event that can be kept beyond the log call or handed to another thread. The
+     * thread name, the location if requested, the ThrowableProxy and the formatted message are computed by the
+     * calling thread.
+     *
+     * @param event The LogEvent to copy.
+     * @param includeLocation true if the location of the caller must be kept.
+     * @return A Log4jLogEvent with the values of the event.
+     */
+    public static Log4jLogEvent createMemento(final LogEvent event, final boolean includeLocation) {
+        final LogEvent source = ReusableLogEventFactory.memento(event);
+        final Message message = source.getMessage();
+        if (message != null) {
+            message.getFormattedMessage(); // caching messages no longer depend on their parameters
+        }
+        final Log4jLogEvent result = new Log4jLogEvent(source.getLoggerName(), source.getMarker(),
+                source.getLoggerFqcn(), source.getLevel(), message, source.getThrown(), source.getThrownProxy(),
+                source.getContextMap(), source.getContextStack(), source.getThreadName(),
+                includeLocation ? source.getSource() : null, source.getTimeMillis());
+        result.setIncludeLocation(includeLocation);
+        result.setEndOfBatch(source.isEndOfBatch());
+        return result;
+    }
+
     /**
      * Constructor.
      * @param loggerName The name of the Logger.
@@ -185,7 +209,7 @@ public class Log4jLogEvent implements LogEvent {
         }
     }
 
-    private static Map<String, String> createMap(final List<Property> properties) {
+    static Map<String, String> createMap(final List<Property> properties) {
         final Map<String, String> contextMap = ThreadContext.getImmutableContext();
         if (contextMap == null && (properties == null || properties.isEmpty())) {
             return null;
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.util.Clock;
+import org.apache.logging.log4j.core.util.ClockFactory;
+import org.apache.logging.log4j.message.LoggerNameAwareMessage;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.TimestampMessage;
+
+/**
+ * Mutable LogEvent that is owned by a single thread and reused for each log call made on that thread.
+ * <p>
+ * Instances are handed out by {@link ReusableLogEventFactory} and are only valid until the log call returns.
+ * Appenders that keep the event or pass it to another thread must use {@link #createMemento()} first.
+ * Serializing this event writes such a copy.
+ * </p>
+ */
+public class MutableLogEvent implements LogEvent {
+
+    private static final long serialVersionUID = 1L;
+    private static final Clock clock = ClockFactory.getClock();
+
+    private transient String loggerFqcn;
+    private transient Marker marker;
+    private transient Level level;
+    private transient String loggerName;
+    private transient Message message;
+    private transient long timeMillis;
+    private transient Throwable thrown;
+    private transient ThrowableProxy thrownProxy;
+    private transient Map<String, String> contextMap;
+    private transient ThreadContext.ContextStack contextStack;
+    private transient StackTraceElement source;
+    private transient boolean includeLocation;
+    private transient boolean endOfBatch;
+    transient boolean reserved;
+
+    MutableLogEvent set(final String loggerName, final Marker marker, final String loggerFQCN, final Level level,
+            final Message message, final List<Property> properties, final Throwable t) {
+        this.reserved = true;
+        this.loggerName = loggerName;
+        this.marker = marker;
+        this.loggerFqcn = loggerFQCN;
+        this.level = (level == null) ? Level.OFF : level; // LOG4J2-462, LOG4J2-465
+        this.message = message;
+        this.thrown = t;
+        this.thrownProxy = null;
+        final Map<String, String> map = Log4jLogEvent.createMap(properties);
+        this.contextMap = map == null ? ThreadContext.EMPTY_MAP : map;
+        // the stack is only read while this thread is still inside the log call; createMemento() copies it
+        this.contextStack = ThreadContext.getDepth() == 0 ? ThreadContext.EMPTY_STACK : ThreadContext
+                .getImmutableStack();
+        this.timeMillis = message instanceof TimestampMessage ? ((TimestampMessage) message).getTimestamp() : clock
+                .currentTimeMillis();
+        this.source = null;
+        this.includeLocation = false;
+        this.endOfBatch = false;
+        if (message instanceof LoggerNameAwareMessage) {
+            ((LoggerNameAwareMessage) message).setLoggerName(loggerName);
+        }
+        return this;
+    }
+
+    /**
+     * Drops the references held by this event and makes it available for the next log call.
+     */
+    void clear() {
+        loggerName = null;
+        marker = null;
+        loggerFqcn = null;
+        message = null;
+        thrown = null;
+        thrownProxy = null;
+        contextMap = null;
+        contextStack = null;
+        source = null;
+        reserved = false;
+    }
+
+    /**
+     * Returns an immutable copy of this event that can safely be kept or handed to another thread.
+     * @return a Log4jLogEvent with the same values as this event.
+     */
+    public LogEvent createMemento() {
+        final ThreadContext.ContextStack stack = contextStack.getDepth() == 0 ? null : contextStack.copy();
+        final Log4jLogEvent result = Log4jLogEvent.createEvent(loggerName, marker, loggerFqcn, level,
+                ReusableMessageFactory.memento(message), thrown, thrownProxy, contextMap, stack, getThreadName(),
+                includeLocation ? getSource() : null, timeMillis);
+        result.setIncludeLocation(includeLocation);
+        result.setEndOfBatch(endOfBatch);
+        return result;
+    }
+
+    @Override
+    public Map<String, String> getContextMap() {
+        return contextMap;
+    }
+
+    @Override
+    public ThreadContext.ContextStack getContextStack() {
+        return contextStack;
+    }
+
+    @Override
+    public String getLoggerFqcn() {
+        return loggerFqcn;
+    }
+
+    @Override
+    public Level getLevel() {
+        return level;
+    }
+
+    @Override
+    public String getLoggerName() {
+        return loggerName;
+    }
+
+    @Override
+    public Marker getMarker() {
+        return marker;
+    }
+
+    @Override
+    public Message getMessage() {
+        return message;
+    }
+
+    @Override
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    @Override
+    public StackTraceElement getSource() {
+        if (source != null) {
+            return source;
+        }
+        if (loggerFqcn == null || !includeLocation) {
+            return null;
+        }
+        source = Log4jLogEvent.calcLocation(loggerFqcn);
+        return source;
+    }
+
+    /**
+     * Returns the name of the current Thread, which is the Thread that owns this event.
+     * @return The name of the Thread.
+     */
+    @Override
+    public String getThreadName() {
+        return Thread.currentThread().getName();
+    }
+
+    @Override
+    public Throwable getThrown() {
+        return thrown;
+    }
+
+    @Override
+    public ThrowableProxy getThrownProxy() {
+        if (thrownProxy == null && thrown != null) {
+            thrownProxy = new ThrowableProxy(thrown);
+        }
+        return thrownProxy;
+    }
+
+    @Override
+    public boolean isEndOfBatch() {
+        return endOfBatch;
+    }
+
+    @Override
+    public boolean isIncludeLocation() {
+        return includeLocation;
+    }
+
+    @Override
+    public void setEndOfBatch(final boolean endOfBatch) {
+        this.endOfBatch = endOfBatch;
+    }
+
+    @Override
+    public void setIncludeLocation(final boolean includeLocation) {
+        this.includeLocation = includeLocation;
+    }
+
+    /**
+     * Serializes an immutable copy instead of this thread-bound instance.
+     * @return a serializable proxy of the memento.
+     */
+    protected Object writeReplace() {
+        return Log4jLogEvent.serialize((Log4jLogEvent) createMemento(), includeLocation);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        final String n = loggerName == null || loggerName.isEmpty() ? "root" : loggerName;
+        sb.append("Logger=").append(n);
+        sb.append(" Level=").append(level == null ? null : level.name());
+        sb.append(" Message=").append(message == null ? null : message.getFormattedMessage());
+        return sb.toString();
+    }
+}
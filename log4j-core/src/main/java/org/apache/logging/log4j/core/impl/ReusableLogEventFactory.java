@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import java.util.List;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.async.RingBufferLogEvent;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.message.Message;
+
+/**
+ * Creates log events without allocating: each thread reuses one {@link MutableLogEvent}.
+ * <p>
+ * The event is released by {@code LoggerConfig} once all appenders have been called. An event created while the
+ * thread's event is still in use (an appender logging from within its {@code append} method) is a regular
+ * {@link Log4jLogEvent}. Select this factory by setting system property {@code Log4jLogEventFactory} to its class
+ * name; it works best together with {@link ReusableMessageFactory}.
+ * </p>
+ */
+public class ReusableLogEventFactory implements LogEventFactory {
+
+    private static final ThreadLocal<MutableLogEvent> threadLocalEvent = new ThreadLocal<MutableLogEvent>() {
+        @Override
+        protected MutableLogEvent initialValue() {
+            return new MutableLogEvent();
+        }
+    };
+
+    /**
+     * Creates a log event, reusing the current thread's event when it is available.
+     *
+     * @param loggerName The name of the Logger.
+     * @param marker An optional Marker.
+     * @param fqcn The fully qualified class name of the caller.
+     * @param level The event Level.
+     * @param data The Message.
+     * @param properties Properties to be added to the log event.
+     * @param t An optional Throwable.
+     * @return The LogEvent.
+     */
+    @Override
+    public LogEvent createEvent(final String loggerName, final Marker marker,
+                                final String fqcn, final Level level, final Message data,
+                                final List<Property> properties, final Throwable t) {
+        final MutableLogEvent result = threadLocalEvent.get();
+        if (result.reserved) {
+            return new Log4jLogEvent(loggerName, marker, fqcn, level, ReusableMessageFactory.memento(data),
+                    properties, t);
+        }
+        return result.set(loggerName, marker, fqcn, level, data, properties, t);
+    }
+
+    /**
+     * Makes the given event available for reuse if it is a thread's reusable event. Other events are ignored.
+     * @param event The LogEvent whose log call has just completed.
+     */
+    public static void release(final LogEvent event) {
+        if (event instanceof MutableLogEvent) {
+            ((MutableLogEvent) event).clear();
+        }
+    }
+
+    /**
+     * Returns an event that can safely be kept beyond the log call or handed to another thread: an immutable copy of
+     * a reusable event, of a ring buffer event or of an event carrying a reusable message, or the given event itself.
+     * @param event The LogEvent.
+     * @return A LogEvent that is not reused by later log calls.
+     */
+    public static LogEvent memento(final LogEvent event) {
+        if (event instanceof MutableLogEvent) {
+            return ((MutableLogEvent) event).createMemento();
+        }
+        if (event instanceof RingBufferLogEvent) {
+            // an AsyncAppender Disruptor slot is cleared and reused once the appenders have been called
+            final LogEvent copy = ((RingBufferLogEvent) event).createMemento();
+            copy.setIncludeLocation(event.isIncludeLocation());
+            copy.setEndOfBatch(event.isEndOfBatch());
+            return memento(copy);
+        }
+        final Message message = event.getMessage();
+        final Message memento = ReusableMessageFactory.memento(message);
+        if (memento == message) {
+            return event;
+        }
+        // any LogEventFactory may be handed a reusable message, which is cleared when the log call returns
+        final Throwable thrown = event.getThrown();
+        final Log4jLogEvent result = Log4jLogEvent.createEvent(event.getLoggerName(), event.getMarker(),
+                event.getLoggerFqcn(), event.getLevel(), memento, thrown, thrown == null ? event.getThrownProxy()
+                        : null, event.getContextMap(), event.getContextStack(), event.getThreadName(),
+                event.isIncludeLocation() ? event.getSource() : null, event.getTimeMillis());
+        result.setIncludeLocation(event.isIncludeLocation());
+        result.setEndOfBatch(event.isEndOfBatch());
+        return result;
+    }
+}
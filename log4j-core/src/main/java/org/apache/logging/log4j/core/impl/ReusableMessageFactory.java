@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import org.apache.logging.log4j.core.util.Constants;
+import org.apache.logging.log4j.message.AbstractMessageFactory;
+import org.apache.logging.log4j.message.CachingMessage;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+
+/**
+ * Enables use of <code>{}</code> parameter markers in message strings without creating a new message per log call.
+ * <p>
+ * Each thread gets one {@link ReusableParameterizedMessage} that is filled in by {@code newMessage} and released by
+ * the core {@code Logger} when the log call returns. A log call made while the thread's message is still in use
+ * (for example from a parameter's {@code toString()} method) gets a regular {@link ParameterizedMessage} instead.
+ * Components that keep the message beyond the log call must use {@link #memento(Message)}.
+ * </p>
+ * <p>
+ * Select this factory by setting system property {@code Log4jMessageFactory} to its class name.
+ * </p>
+ */
+public final class ReusableMessageFactory extends AbstractMessageFactory {
+
+    /**
+     * Instance of ReusableMessageFactory.
+     */
+    public static final ReusableMessageFactory INSTANCE = new ReusableMessageFactory();
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<ReusableParameterizedMessage> threadLocalMessage =
+            new ThreadLocal<ReusableParameterizedMessage>() {
+        @Override
+        protected ReusableParameterizedMessage initialValue() {
+            return new ReusableParameterizedMessage();
+        }
+    };
+
+    private static ReusableParameterizedMessage getAvailable() {
+        final ReusableParameterizedMessage result = threadLocalMessage.get();
+        return result.reserved ? null : result;
+    }
+
+    @Override
+    public Message newMessage(final String message) {
+        final ReusableParameterizedMessage result = getAvailable();
+        return result == null ? super.newMessage(message) : result.set(message, (Object[]) null);
+    }
+
+    @Override
+    public Message newMessage(final String message, final Object... params) {
+        final ReusableParameterizedMessage result = getAvailable();
+        return result == null ? new ParameterizedMessage(message, params) : result.set(message, params);
+    }
+
+    /**
+     * Creates a message with one parameter without creating a parameter array.
+     * @param message The message pattern.
+     * @param p0 The parameter.
+     * @return The Message.
+     */
+    public Message newMessage(final String message, final Object p0) {
+        final ReusableParameterizedMessage result = getAvailable();
+        return result == null ? new ParameterizedMessage(message, new Object[] {p0}) : result.set(message, p0);
+    }
+
+    /**
+     * Creates a message with two parameters without creating a parameter array.
+     * @param message The message pattern.
+     * @param p0 The first parameter.
+     * @param p1 The second parameter.
+     * @return The Message.
+     */
+    public Message newMessage(final String message, final Object p0, final Object p1) {
+        final ReusableParameterizedMessage result = getAvailable();
+        return result == null ? new ParameterizedMessage(message, new Object[] {p0, p1}) : result.set(message, p0, p1);
+    }
+
+    /**
+     * Creates a message with three parameters without creating a parameter array.
+     * @param message The message pattern.
+     * @param p0 The first parameter.
+     * @param p1 The second parameter.
+     * @param p2 The third parameter.
+     * @return The Message.
+     */
+    public Message newMessage(final String message, final Object p0, final Object p1, final Object p2) {
+        final ReusableParameterizedMessage result = getAvailable();
+        return result == null ? new ParameterizedMessage(message, new Object[] {p0, p1, p2})
+                : result.set(message, p0, p1, p2);
+    }
+
+    /**
+     * Makes the given message available for reuse if it is a thread's reusable message. Other messages are ignored.
+     * @param message The Message passed to the log call that has just completed.
+     */
+    public static void release(final Message message) {
+        if (message instanceof ReusableParameterizedMessage) {
+            ((ReusableParameterizedMessage) message).clear();
+        }
+    }
+
+    /**
+     * Returns a message that can safely be kept beyond the log call: an immutable copy of a reusable message, or the
+     * given message itself. A {@link CachingMessage} is formatted first, so that its text does not change when the
+     * caller later modifies one of its parameters, unless {@link Constants#FORMAT_MESSAGES_IN_BACKGROUND} is set.
+     * @param message The Message.
+     * @return A Message that is not reused by later log calls.
+     */
+    public static Message memento(final Message message) {
+        if (message instanceof ReusableParameterizedMessage) {
+            return ((ReusableParameterizedMessage) message).memento();
+        }
+        if (!Constants.FORMAT_MESSAGES_IN_BACKGROUND && message instanceof CachingMessage) {
+            // the message keeps the caller's parameters: cache its text now, before they can be modified
+            message.getFormattedMessage();
+        }
+        return message;
+    }
+
+    private Object readResolve() {
+        return INSTANCE;
+    }
+}
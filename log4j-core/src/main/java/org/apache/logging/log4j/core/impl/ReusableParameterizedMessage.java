@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import java.util.Arrays;
+
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+/**
+ * Mutable {@code {}}-style message that is owned by a single thread and reused for each log call made on that thread.
+ * <p>
+ * Instances are handed out by {@link ReusableMessageFactory} and must not be retained after the log call returns.
+ * Code that keeps the message or passes it to another thread must take an immutable copy with {@link #memento()}
+ * first. Serializing this message writes such a copy.
+ * </p>
+ */
+public class ReusableParameterizedMessage implements Message, StringBuilderFormattable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int INITIAL_PARAMS = 10;
+    private static final int MAX_BUFFER_SIZE = 518;
+
+    private transient String messagePattern;
+    private transient Object[] params = new Object[INITIAL_PARAMS];
+    private transient int argCount;
+    private transient int placeholderCount;
+    private transient Throwable throwable;
+    private transient StringBuilder buffer;
+    transient boolean reserved;
+
+    ReusableParameterizedMessage set(final String pattern, final Object[] arguments) {
+        final int count = arguments == null ? 0 : arguments.length;
+        if (count > params.length) {
+            params = new Object[count];
+        }
+        if (count > 0) {
+            System.arraycopy(arguments, 0, params, 0, count);
+        }
+        return init(pattern, count);
+    }
+
+    ReusableParameterizedMessage set(final String pattern, final Object p0) {
+        params[0] = p0;
+        return init(pattern, 1);
+    }
+
+    ReusableParameterizedMessage set(final String pattern, final Object p0, final Object p1) {
+        params[0] = p0;
+        params[1] = p1;
+        return init(pattern, 2);
+    }
+
+    ReusableParameterizedMessage set(final String pattern, final Object p0, final Object p1, final Object p2) {
+        params[0] = p0;
+        params[1] = p1;
+        params[2] = p2;
+        return init(pattern, 3);
+    }
+
+    private ReusableParameterizedMessage init(final String pattern, final int count) {
+        reserved = true;
+        messagePattern = pattern;
+        argCount = count;
+        throwable = null;
+        placeholderCount = count == 0 || pattern == null ? 0 : ParameterizedMessage.countArgumentPlaceholders(pattern);
+        if (placeholderCount < count && params[count - 1] instanceof Throwable) {
+            throwable = (Throwable) params[count - 1];
+            argCount--;
+        }
+        return this;
+    }
+
+    /**
+     * Clears the parameters so they can be garbage collected and makes this message available for the next log call.
+     */
+    void clear() {
+        Arrays.fill(params, 0, argCount + (throwable == null ? 0 : 1), null);
+        messagePattern = null;
+        throwable = null;
+        argCount = 0;
+        reserved = false;
+    }
+
+    /**
+     * Returns an immutable copy of this message that can safely be kept or handed to another thread.
+     *
+     * @return a ParameterizedMessage with the same pattern, parameters and Throwable.
+     */
+    public Message memento() {
+        final Object[] args = new Object[argCount];
+        System.arraycopy(params, 0, args, 0, argCount);
+        return new ParameterizedMessage(messagePattern, args, throwable);
+    }
+
+    private boolean isSinglePlaceholderForAll() {
+        return placeholderCount == 1 && throwable == null && argCount > 1;
+    }
+
+    /**
+     * Returns the formatted message. This creates a new String on each call; prefer {@link #formatTo(StringBuilder)}.
+     * @return the formatted message.
+     */
+    @Override
+    public String getFormattedMessage() {
+        StringBuilder sb = buffer;
+        if (sb == null) {
+            sb = new StringBuilder(INITIAL_PARAMS * 16);
+            buffer = sb;
+        }
+        sb.setLength(0);
+        formatTo(sb);
+        final String result = sb.toString();
+        if (sb.length() > MAX_BUFFER_SIZE) {
+            sb.setLength(MAX_BUFFER_SIZE);
+            sb.trimToSize();
+        }
+        return result;
+    }
+
+    @Override
+    public void formatTo(final StringBuilder builder) {
+        if (isSinglePlaceholderForAll()) {
+            // rare special case: one placeholder takes all the parameters as an array
+            ((StringBuilderFormattable) memento()).formatTo(builder);
+        } else {
+            ParameterizedMessage.format(builder, messagePattern, params, argCount);
+        }
+    }
+
+    @Override
+    public String getFormat() {
+        return messagePattern;
+    }
+
+    /**
+     * Returns a copy of the message parameters.
+     * @return the message parameters.
+     */
+    @Override
+    public Object[] getParameters() {
+        final Object[] result = new Object[argCount];
+        System.arraycopy(params, 0, result, 0, argCount);
+        return result;
+    }
+
+    @Override
+    public Throwable getThrowable() {
+        return throwable;
+    }
+
+    /**
+     * Serializes an immutable copy instead of this thread-bound instance.
+     * @return a ParameterizedMessage.
+     */
+    protected Object writeReplace() {
+        return memento();
+    }
+
+    @Override
+    public String toString() {
+        return "ReusableParameterizedMessage[messagePattern=" + messagePattern + ", argCount=" + argCount
+                + ", throwable=" + throwable + ']';
+    }
+}
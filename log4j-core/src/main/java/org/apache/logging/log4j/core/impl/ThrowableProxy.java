@@ -16,16 +16,18 @@
  */
 package org.apache.logging.log4j.core.impl;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
 import java.net.URL;
 import java.security.CodeSource;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Stack;
 
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.util.Constants;
 import org.apache.logging.log4j.core.util.Loader;
 import org.apache.logging.log4j.core.util.Throwables;
 import org.apache.logging.log4j.status.StatusLogger;
@@ -46,18 +48,30 @@ import org.apache.logging.log4j.util.Strings;
 public class ThrowableProxy implements Serializable {
 
     /**
-     * Cached StackTracePackageElement and ClassLoader.
+     * Cached packaging information and ClassLoader of a class. Immutable, so that entries can be shared by all proxies
+     * through the {@link ExtendedClassInfoCache}. The ClassLoader is held weakly so that the cache does not keep it
+     * reachable.
      * <p>
      * Consider this class private.
      * </p>
      */
     static class CacheEntry {
         private final ExtendedClassInfo element;
-        private final ClassLoader loader;
+        private final ExtendedClassInfo exactElement;
+        private final WeakReference<ClassLoader> loader;
 
-        public CacheEntry(final ExtendedClassInfo element, final ClassLoader loader) {
-            this.element = element;
-            this.loader = loader;
+        public CacheEntry(final String location, final String version, final ClassLoader loader) {
+            this.element = new ExtendedClassInfo(false, location, version);
+            this.exactElement = new ExtendedClassInfo(true, location, version);
+            this.loader = loader == null ? null : new WeakReference<ClassLoader>(loader);
+        }
+
+        ExtendedClassInfo getElement(final boolean exact) {
+            return exact ? exactElement : element;
+        }
+
+        ClassLoader getLoader() {
+            return loader == null ? null : loader.get();
         }
     }
 
@@ -104,7 +118,10 @@ public class ThrowableProxy implements Serializable {
 
     private int commonElementCount;
 
-    private final ExtendedStackTraceElement[] extendedStackTrace;
+    /**
+     * Resolved on first use if {@link Constants#THROWABLE_PROXY_DEFER_RESOLUTION} is set.
+     */
+    private volatile ExtendedStackTraceElement[] extendedStackTrace;
 
     private final String localizedMessage;
 
@@ -130,6 +147,37 @@ public class ThrowableProxy implements Serializable {
         this.suppressedProxies = EMPTY_THROWABLE_PROXY_ARRAY;
     }
 
+    /**
+     * Constructs a proxy from data read from a stream, for binary IO.
+     * 
+     * @param name
+     *        The class name of the Throwable.
+     * @param message
+     *        The message of the Throwable.
+     * @param localizedMessage
+     *        The localized message of the Throwable.
+     * @param extendedStackTrace
+     *        The stack trace with packaging data.
+     * @param commonElementCount
+     *        The number of elements the stack trace has in common with the parent's.
+     * @param causeProxy
+     *        The proxy of the cause, or null.
+     * @param suppressedProxies
+     *        The proxies of the suppressed Throwables, or null.
+     */
+    public ThrowableProxy(final String name, final String message, final String localizedMessage,
+            final ExtendedStackTraceElement[] extendedStackTrace, final int commonElementCount,
+            final ThrowableProxy causeProxy, final ThrowableProxy[] suppressedProxies) {
+        this.throwable = null;
+        this.name = name;
+        this.message = message;
+        this.localizedMessage = localizedMessage;
+        this.extendedStackTrace = extendedStackTrace;
+        this.commonElementCount = commonElementCount;
+        this.causeProxy = causeProxy;
+        this.suppressedProxies = suppressedProxies == null ? EMPTY_THROWABLE_PROXY_ARRAY : suppressedProxies;
+    }
+
     /**
      * Constructs the wrapper for the Throwable that includes packaging data.
      * 
@@ -141,11 +189,10 @@ public class ThrowableProxy implements Serializable {
         this.name = throwable.getClass().getName();
         this.message = throwable.getMessage();
         this.localizedMessage = throwable.getLocalizedMessage();
-        final Map<String, CacheEntry> map = new HashMap<String, CacheEntry>();
-        final Stack<Class<?>> stack = this.getCurrentStack();
-        this.extendedStackTrace = this.toExtendedStackTrace(stack, map, null, throwable.getStackTrace());
+        final Stack<Class<?>> stack = Constants.THROWABLE_PROXY_DEFER_RESOLUTION ? null : this.getCurrentStack();
+        this.extendedStackTrace = this.toExtendedStackTrace(stack, null, throwable.getStackTrace());
         final Throwable throwableCause = throwable.getCause();
-        this.causeProxy = throwableCause == null ? null : new ThrowableProxy(throwable, stack, map, throwableCause);
+        this.causeProxy = throwableCause == null ? null : new ThrowableProxy(throwable, stack, throwableCause);
         this.suppressedProxies = this.toSuppressedProxies(throwable);
     }
 
@@ -155,20 +202,17 @@ public class ThrowableProxy implements Serializable {
      * @param parent
      *        The Throwable referencing this Throwable.
      * @param stack
-     *        The Class stack.
-     * @param map
-     *        The cache containing the packaging data.
+     *        The Class stack, or null to defer the resolution of the packaging data.
      * @param cause
      *        The Throwable to wrap.
      */
-    private ThrowableProxy(final Throwable parent, final Stack<Class<?>> stack, final Map<String, CacheEntry> map,
-            final Throwable cause) {
+    private ThrowableProxy(final Throwable parent, final Stack<Class<?>> stack, final Throwable cause) {
         this.throwable = cause;
         this.name = cause.getClass().getName();
         this.message = this.throwable.getMessage();
         this.localizedMessage = this.throwable.getLocalizedMessage();
-        this.extendedStackTrace = this.toExtendedStackTrace(stack, map, parent.getStackTrace(), cause.getStackTrace());
-        this.causeProxy = cause.getCause() == null ? null : new ThrowableProxy(parent, stack, map, cause.getCause());
+        this.extendedStackTrace = this.toExtendedStackTrace(stack, parent.getStackTrace(), cause.getStackTrace());
+        this.causeProxy = cause.getCause() == null ? null : new ThrowableProxy(parent, stack, cause.getCause());
         this.suppressedProxies = this.toSuppressedProxies(cause);
     }
 
@@ -201,7 +245,7 @@ public class ThrowableProxy implements Serializable {
         } else if (!this.name.equals(other.name)) {
             return false;
         }
-        if (!Arrays.equals(this.extendedStackTrace, other.extendedStackTrace)) {
+        if (!Arrays.equals(this.getExtendedStackTrace(), other.getExtendedStackTrace())) {
             return false;
         }
         if (!Arrays.equals(this.suppressedProxies, other.suppressedProxies)) {
@@ -214,7 +258,7 @@ public class ThrowableProxy implements Serializable {
     private void formatCause(final StringBuilder sb, final ThrowableProxy cause, final List<String> ignorePackages) {
         sb.append("Caused by: ").append(cause).append(EOL);
         this.formatElements(sb, cause.commonElementCount, cause.getThrowable().getStackTrace(),
-                cause.extendedStackTrace, ignorePackages);
+                cause.getExtendedStackTrace(), ignorePackages);
         if (cause.getCauseProxy() != null) {
             this.formatCause(sb, cause.causeProxy, ignorePackages);
         }
@@ -294,7 +338,7 @@ public class ThrowableProxy implements Serializable {
         }
         sb.append(cause).append('\n');
         this.formatElements(sb, cause.commonElementCount, cause.getThrowable().getStackTrace(),
-                cause.extendedStackTrace, packages);
+                cause.getExtendedStackTrace(), packages);
     }
 
     public ThrowableProxy getCauseProxy() {
@@ -325,7 +369,7 @@ public class ThrowableProxy implements Serializable {
         }
         sb.append(this.toString());
         sb.append('\n');
-        this.formatElements(sb, 0, this.throwable.getStackTrace(), this.extendedStackTrace, packages);
+        this.formatElements(sb, 0, this.throwable.getStackTrace(), this.getExtendedStackTrace(), packages);
         return sb.toString();
     }
 
@@ -372,7 +416,14 @@ public class ThrowableProxy implements Serializable {
      * @return The stack trace including packaging information.
      */
     public ExtendedStackTraceElement[] getExtendedStackTrace() {
-        return this.extendedStackTrace;
+        ExtendedStackTraceElement[] result = this.extendedStackTrace;
+        if (result == null && this.throwable != null) {
+            final StackTraceElement[] stackTrace = this.throwable.getStackTrace();
+            result = this.resolveExtendedStackTrace(new Stack<Class<?>>(), stackTrace,
+                    stackTrace.length - this.commonElementCount);
+            this.extendedStackTrace = result;
+        }
+        return result;
     }
 
     /**
@@ -398,7 +449,7 @@ public class ThrowableProxy implements Serializable {
             sb.append(": ").append(msg);
         }
         sb.append('\n');
-        this.formatElements(sb, 0, this.throwable.getStackTrace(), this.extendedStackTrace, ignorePackages);
+        this.formatElements(sb, 0, this.throwable.getStackTrace(), this.getExtendedStackTrace(), ignorePackages);
         if (this.causeProxy != null) {
             this.formatCause(sb, this.causeProxy, ignorePackages);
         }
@@ -467,7 +518,8 @@ public class ThrowableProxy implements Serializable {
         int result = 1;
         result = prime * result + (this.causeProxy == null ? 0 : this.causeProxy.hashCode());
         result = prime * result + this.commonElementCount;
-        result = prime * result + (this.extendedStackTrace == null ? 0 : Arrays.hashCode(this.extendedStackTrace));
+        final ExtendedStackTraceElement[] trace = this.getExtendedStackTrace();
+        result = prime * result + (trace == null ? 0 : Arrays.hashCode(trace));
         result = prime * result + (this.suppressedProxies == null ? 0 : Arrays.hashCode(this.suppressedProxies));
         result = prime * result + (this.name == null ? 0 : this.name.hashCode());
         return result;
@@ -484,53 +536,50 @@ public class ThrowableProxy implements Serializable {
     }
 
     /**
-     * Loads classes not located via Reflection.getCallerClass.
+     * Loads classes not located via Reflection.getCallerClass through the ClassLoader of the previous stack entry.
      * 
      * @param lastLoader
      *        The ClassLoader that loaded the Class that called this Class.
      * @param className
      *        The name of the Class.
-     * @return The Class object for the Class or null if it could not be located.
+     * @return The Class object for the Class or null if lastLoader cannot locate it.
      */
-    private Class<?> loadClass(final ClassLoader lastLoader, final String className) {
-        // XXX: this is overly complicated
-        Class<?> clazz;
-        if (lastLoader != null) {
-            try {
-                clazz = Loader.initializeClass(className, lastLoader);
-                if (clazz != null) {
-                    return clazz;
-                }
-            } catch (final Exception ignore) {
-                // Ignore exception.
-            }
+    private static Class<?> loadClass(final ClassLoader lastLoader, final String className) {
+        try {
+            return Loader.initializeClass(className, lastLoader);
+        } catch (final Exception ignore) {
+            return null;
         }
+    }
+
+    /**
+     * Loads classes not located via Reflection.getCallerClass or the ClassLoader of the previous stack entry.
+     * 
+     * @param className
+     *        The name of the Class.
+     * @return The Class object for the Class or null if it could not be located.
+     */
+    private Class<?> loadClass(final String className) {
         try {
-            clazz = Loader.loadClass(className);
+            return Loader.loadClass(className);
         } catch (final ClassNotFoundException ignored) {
             try {
-                clazz = Loader.initializeClass(className, this.getClass().getClassLoader());
+                return Loader.initializeClass(className, this.getClass().getClassLoader());
             } catch (final ClassNotFoundException ignore) {
                 return null;
             }
         }
-        return clazz;
     }
 
     /**
      * Construct the CacheEntry from the Class's information.
      * 
-     * @param stackTraceElement
-     *        The stack trace element
      * @param callerClass
-     *        The Class.
-     * @param exact
-     *        True if the class was obtained via Reflection.getCallerClass.
+     *        The Class, or null if it could not be loaded.
      * 
      * @return The CacheEntry.
      */
-    private CacheEntry toCacheEntry(final StackTraceElement stackTraceElement, final Class<?> callerClass,
-            final boolean exact) {
+    private static CacheEntry toCacheEntry(final Class<?> callerClass) {
         String location = "?";
         String version = "?";
         ClassLoader lastLoader = null;
@@ -562,24 +611,22 @@ public class ThrowableProxy implements Serializable {
             }
             lastLoader = callerClass.getClassLoader();
         }
-        return new CacheEntry(new ExtendedClassInfo(exact, location, version), lastLoader);
+        return new CacheEntry(location, version, lastLoader);
     }
 
     /**
      * Resolve all the stack entries in this stack trace that are not common with the parent.
      * 
      * @param stack
-     *        The callers Class stack.
-     * @param map
-     *        The cache of CacheEntry objects.
+     *        The callers Class stack, or null to only count the common elements and defer the resolution.
      * @param rootTrace
      *        The first stack trace resolve or null.
      * @param stackTrace
      *        The stack trace being resolved.
-     * @return The StackTracePackageElement array.
+     * @return The StackTracePackageElement array, or null if the resolution is deferred.
      */
-    ExtendedStackTraceElement[] toExtendedStackTrace(final Stack<Class<?>> stack, final Map<String, CacheEntry> map,
-            final StackTraceElement[] rootTrace, final StackTraceElement[] stackTrace) {
+    ExtendedStackTraceElement[] toExtendedStackTrace(final Stack<Class<?>> stack, final StackTraceElement[] rootTrace,
+            final StackTraceElement[] stackTrace) {
         int stackLength;
         if (rootTrace != null) {
             int rootIndex = rootTrace.length - 1;
@@ -594,6 +641,24 @@ public class ThrowableProxy implements Serializable {
             this.commonElementCount = 0;
             stackLength = stackTrace.length;
         }
+        return stack == null ? null : this.resolveExtendedStackTrace(stack, stackTrace, stackLength);
+    }
+
+    /**
+     * Resolves the packaging data of the first stack entries, looking up classes that are not on the callers Class
+     * stack in the {@link ExtendedClassInfoCache} first.
+     * 
+     * @param stack
+     *        The callers Class stack, which is consumed.
+     * @param stackTrace
+     *        The stack trace being resolved.
+     * @param stackLength
+     *        The number of entries to resolve.
+     * @return The StackTracePackageElement array.
+     */
+    private ExtendedStackTraceElement[] resolveExtendedStackTrace(final Stack<Class<?>> stack,
+            final StackTraceElement[] stackTrace, final int stackLength) {
+        final ExtendedClassInfoCache cache = ExtendedClassInfoCache.INSTANCE;
         final ExtendedStackTraceElement[] extStackTrace = new ExtendedStackTraceElement[stackLength];
         Class<?> clazz = stack.isEmpty() ? null : stack.peek();
         ClassLoader lastLoader = null;
@@ -605,27 +670,39 @@ public class ThrowableProxy implements Serializable {
             // present as those methods have returned.
             ExtendedClassInfo extClassInfo;
             if (clazz != null && className.equals(clazz.getName())) {
-                final CacheEntry entry = this.toCacheEntry(stackTraceElement, clazz, true);
-                extClassInfo = entry.element;
-                lastLoader = entry.loader;
+                final ClassLoader loader = clazz.getClassLoader();
+                CacheEntry entry = cache.get(loader, className);
+                if (entry == null) {
+                    entry = toCacheEntry(clazz);
+                    cache.put(loader, className, entry);
+                }
+                extClassInfo = entry.getElement(true);
+                lastLoader = loader;
                 stack.pop();
                 clazz = stack.isEmpty() ? null : stack.peek();
             } else {
-                if (map.containsKey(className)) {
-                    final CacheEntry entry = map.get(className);
-                    extClassInfo = entry.element;
-                    if (entry.loader != null) {
-                        lastLoader = entry.loader;
-                    }
-                } else {
-                    final CacheEntry entry = this.toCacheEntry(stackTraceElement,
-                            this.loadClass(lastLoader, className), false);
-                    extClassInfo = entry.element;
-                    map.put(stackTraceElement.toString(), entry);
-                    if (entry.loader != null) {
-                        lastLoader = entry.loader;
+                // Classes the last loader cannot see are resolved through the thread context ClassLoader, so they
+                // are cached under it rather than shared between applications
+                final ClassLoader contextLoader = Loader.getThreadContextClassLoader();
+                CacheEntry entry = lastLoader == null ? null : cache.get(lastLoader, className);
+                if (entry == null) {
+                    entry = cache.get(contextLoader, className);
+                }
+                if (entry == null) {
+                    final Class<?> loaded = lastLoader == null ? null : loadClass(lastLoader, className);
+                    if (loaded != null) {
+                        entry = toCacheEntry(loaded);
+                        cache.put(lastLoader, className, entry);
+                    } else {
+                        entry = toCacheEntry(this.loadClass(className));
+                        cache.put(contextLoader, className, entry);
                     }
                 }
+                extClassInfo = entry.getElement(false);
+                final ClassLoader loader = entry.getLoader();
+                if (loader != null) {
+                    lastLoader = loader;
+                }
             }
             extStackTrace[i] = new ExtendedStackTraceElement(stackTraceElement, extClassInfo);
         }
@@ -638,6 +715,14 @@ public class ThrowableProxy implements Serializable {
         return msg != null ? this.name + ": " + msg : this.name;
     }
 
+    /**
+     * Resolves a deferred extended stack trace before the default serialization writes it.
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        this.getExtendedStackTrace();
+        out.defaultWriteObject();
+    }
+
     private ThrowableProxy[] toSuppressedProxies(final Throwable thrown) {
         try {
             final Throwable[] suppressed = Throwables.getSuppressed(thrown);
@@ -18,6 +18,7 @@ package org.apache.logging.log4j.core.jmx;
 
 import javax.management.ObjectName;
 
+import org.apache.logging.log4j.core.async.BatchStatistics;
 import org.apache.logging.log4j.core.util.Assert;
 
 import com.lmax.disruptor.RingBuffer;
@@ -28,24 +29,38 @@ import com.lmax.disruptor.RingBuffer;
 public class RingBufferAdmin implements RingBufferAdminMBean {
 
     private final RingBuffer<?> ringBuffer;
+    private final BatchStatistics statistics;
+    private final String waitStrategy;
     private final ObjectName objectName;
 
-    public static RingBufferAdmin forAsyncLogger(final RingBuffer<?> ringBuffer, final String contextName) {
+    public static RingBufferAdmin forAsyncLogger(final RingBuffer<?> ringBuffer, final BatchStatistics statistics,
+            final String waitStrategy, final String contextName) {
         final String ctxName = Server.escape(contextName);
         final String name = String.format(PATTERN_ASYNC_LOGGER, ctxName);
-        return new RingBufferAdmin(ringBuffer, name);
+        return new RingBufferAdmin(ringBuffer, statistics, waitStrategy, name);
     }
 
-    public static RingBufferAdmin forAsyncLoggerConfig(final RingBuffer<?> ringBuffer, 
+    public static RingBufferAdmin forAsyncLoggerShard(final RingBuffer<?> ringBuffer,
+            final BatchStatistics statistics, final String waitStrategy, final String contextName, final int shard) {
+        final String ctxName = Server.escape(contextName);
+        final String name = String.format(PATTERN_ASYNC_LOGGER_SHARD, ctxName, shard);
+        return new RingBufferAdmin(ringBuffer, statistics, waitStrategy, name);
+    }
+
+    public static RingBufferAdmin forAsyncLoggerConfig(final RingBuffer<?> ringBuffer,
+            final BatchStatistics statistics, final String waitStrategy,
             final String contextName, final String configName) {
         final String ctxName = Server.escape(contextName);
         final String cfgName = Server.escape(configName);
         final String name = String.format(PATTERN_ASYNC_LOGGER_CONFIG, ctxName, cfgName);
-        return new RingBufferAdmin(ringBuffer, name);
+        return new RingBufferAdmin(ringBuffer, statistics, waitStrategy, name);
     }
     
-    protected RingBufferAdmin(final RingBuffer<?> ringBuffer, final String mbeanName) {
+    protected RingBufferAdmin(final RingBuffer<?> ringBuffer, final BatchStatistics statistics,
+            final String waitStrategy, final String mbeanName) {
         this.ringBuffer = Assert.requireNonNull(ringBuffer, "ringbuffer");        
+        this.statistics = Assert.requireNonNull(statistics, "statistics");
+        this.waitStrategy = waitStrategy;
         try {
             objectName = new ObjectName(mbeanName);
         } catch (final Exception e) {
@@ -63,6 +78,41 @@ public class RingBufferAdmin implements RingBufferAdminMBean {
         return ringBuffer.remainingCapacity();
     }
 
+    @Override
+    public String getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    @Override
+    public long getEventCount() {
+        return statistics.getEventCount();
+    }
+
+    @Override
+    public long getBatchCount() {
+        return statistics.getBatchCount();
+    }
+
+    @Override
+    public long getMaxBatchSize() {
+        return statistics.getMaxBatchSize();
+    }
+
+    @Override
+    public long[] getBatchSizeHistogram() {
+        return statistics.getBatchSizeHistogram();
+    }
+
+    @Override
+    public long getConsumerLag() {
+        return statistics.getConsumerLag();
+    }
+
+    @Override
+    public long getMaxConsumerLag() {
+        return statistics.getMaxConsumerLag();
+    }
+
     /**
      * Returns the {@code ObjectName} of this mbean.
      *
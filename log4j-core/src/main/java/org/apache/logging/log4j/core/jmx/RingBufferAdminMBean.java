@@ -35,6 +35,22 @@ public interface RingBufferAdminMBean {
      * </pre>
      */
     String PATTERN_ASYNC_LOGGER = Server.DOMAIN + ":type=%s,component=AsyncLoggerRingBuffer";
+
+    /**
+     * ObjectName pattern ({@value}) for the RingBufferAdmin MBeans that instrument
+     * the {@code AsyncLogger} ring buffers when System property {@code AsyncLogger.Shards}
+     * specifies more than one ring buffer.
+     * This pattern contains two variables: the name of the context and the index of the shard.
+     * <p>
+     * You can find the registered RingBufferAdmin MBeans for all AsyncLogger shards like this:
+     * </p>
+     * <pre>
+     * MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+     * String pattern = String.format(RingBufferAdminMBean.PATTERN_ASYNC_LOGGER_SHARD, &quot;*&quot;, &quot;*&quot;);
+     * Set&lt;ObjectName&gt; asyncLoggerNames = mbs.queryNames(new ObjectName(pattern), null);
+     * </pre>
+     */
+    String PATTERN_ASYNC_LOGGER_SHARD = Server.DOMAIN + ":type=%s,component=AsyncLoggerRingBuffer,shard=%s";
     
     /**
      * ObjectName pattern ({@value}) for RingBufferAdmin MBeans that instrument
@@ -68,4 +84,55 @@ public interface RingBufferAdminMBean {
      * @return the number of available slots in the ring buffer
      */
     long getRemainingCapacity();
+
+    /**
+     * Returns a description of the strategy the background thread uses to wait for new events.
+     *
+     * @return the wait strategy of the consumer thread
+     */
+    String getWaitStrategy();
+
+    /**
+     * Returns the number of events the background thread has processed so far.
+     *
+     * @return the number of processed events
+     */
+    long getEventCount();
+
+    /**
+     * Returns the number of batches in which the background thread has processed events so far.
+     * Dividing the event count by the batch count gives the average batch size.
+     *
+     * @return the number of processed batches
+     */
+    long getBatchCount();
+
+    /**
+     * Returns the largest number of events the background thread processed in a single batch.
+     *
+     * @return the largest batch size
+     */
+    long getMaxBatchSize();
+
+    /**
+     * Returns the batch size histogram. Element {@code i} holds the number of batches with a size between
+     * {@code 2^i} and {@code 2^(i+1) - 1} events; the last element also counts all larger batches.
+     *
+     * @return a snapshot of the batch size histogram
+     */
+    long[] getBatchSizeHistogram();
+
+    /**
+     * Returns how many events the producers were ahead of the background thread when it finished its last batch.
+     *
+     * @return the consumer lag at the end of the last batch
+     */
+    long getConsumerLag();
+
+    /**
+     * Returns the largest lag observed at the end of a batch.
+     *
+     * @return the maximum consumer lag
+     */
+    long getMaxConsumerLag();
 }
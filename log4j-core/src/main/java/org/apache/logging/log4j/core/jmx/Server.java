@@ -143,8 +143,9 @@ public final class Server {
                 register(mbs, mbean, mbean.getObjectName());
 
                 if (ctx instanceof AsyncLoggerContext) {
-                    final RingBufferAdmin rbmbean = AsyncLogger.createRingBufferAdmin(ctx.getName());
-                    register(mbs, rbmbean, rbmbean.getObjectName());
+                    for (final RingBufferAdmin rbmbean : AsyncLogger.createRingBufferAdmins(ctx.getName())) {
+                        register(mbs, rbmbean, rbmbean.getObjectName());
+                    }
                 }
 
                 // register the status logger and the context selector
@@ -163,6 +164,35 @@ public final class Server {
         }
     }
 
+    /**
+     * Registers the specified socket server MBean with the platform MBean server, unless JMX is disabled.
+     *
+     * @param mbean the MBean that instruments the socket server
+     */
+    public static void registerSocketServer(final SocketServerAdmin mbean) {
+        if (Boolean.getBoolean(PROPERTY_DISABLE_JMX)) {
+            LOGGER.debug("JMX disabled for log4j2. Not registering MBeans.");
+            return;
+        }
+        try {
+            register(ManagementFactory.getPlatformMBeanServer(), mbean, mbean.getObjectName());
+        } catch (final Exception ex) {
+            LOGGER.error("Could not register socket server MBean " + mbean.getObjectName(), ex);
+        }
+    }
+
+    /**
+     * Unregisters the specified socket server MBean from the platform MBean server if it was registered.
+     *
+     * @param mbean the MBean that instruments the socket server
+     */
+    public static void unregisterSocketServer(final SocketServerAdmin mbean) {
+        if (Boolean.getBoolean(PROPERTY_DISABLE_JMX)) {
+            return;
+        }
+        unregisterAllMatching(mbean.getObjectName().toString(), ManagementFactory.getPlatformMBeanServer());
+    }
+
     /**
      * Unregister all log4j MBeans from the platform MBean server.
      */
@@ -293,6 +323,9 @@ public final class Server {
         final String pattern1 = RingBufferAdminMBean.PATTERN_ASYNC_LOGGER;
         final String search1 = String.format(pattern1, escape(contextName));
         unregisterAllMatching(search1, mbs);
+        final String shardPattern = RingBufferAdminMBean.PATTERN_ASYNC_LOGGER_SHARD;
+        final String shardSearch = String.format(shardPattern, escape(contextName), "*");
+        unregisterAllMatching(shardSearch, mbs);
     }
 
     private static void unregisterAsyncLoggerConfigRingBufferAdmins(final String contextName, final MBeanServer mbs) {
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.jmx;
+
+import javax.management.ObjectName;
+
+import org.apache.logging.log4j.core.net.server.SocketServerStatistics;
+import org.apache.logging.log4j.core.util.Assert;
+
+/**
+ * Instruments a socket server that receives log events.
+ */
+public class SocketServerAdmin implements SocketServerAdminMBean {
+
+    private final SocketServerStatistics statistics;
+    private final int port;
+    private final ObjectName objectName;
+
+    /**
+     * Constructs a new {@code SocketServerAdmin}.
+     * 
+     * @param protocol the protocol of the server, for example "tcp".
+     * @param port the port the server listens to
+     * @param statistics the counters of the server
+     */
+    public SocketServerAdmin(final String protocol, final int port, final SocketServerStatistics statistics) {
+        this.statistics = Assert.requireNonNull(statistics, "statistics");
+        this.port = port;
+        try {
+            objectName = new ObjectName(String.format(PATTERN, Server.escape(protocol), port));
+        } catch (final Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public int getPort() {
+        return port;
+    }
+
+    @Override
+    public int getConnectionCount() {
+        return statistics.getConnectionCount();
+    }
+
+    @Override
+    public long getBytesReceived() {
+        return statistics.getBytesReceived();
+    }
+
+    @Override
+    public long getEventsReceived() {
+        return statistics.getEventsReceived();
+    }
+
+    @Override
+    public long getBytesPerSecond() {
+        return statistics.getBytesPerSecond();
+    }
+
+    @Override
+    public long getEventsPerSecond() {
+        return statistics.getEventsPerSecond();
+    }
+
+    @Override
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+}
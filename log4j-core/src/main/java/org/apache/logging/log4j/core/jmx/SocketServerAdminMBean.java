@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.jmx;
+
+import javax.management.ObjectName;
+
+/**
+ * The MBean interface for monitoring a socket server that receives log events.
+ */
+public interface SocketServerAdminMBean {
+    /**
+     * ObjectName pattern ({@value}) for SocketServerAdmin MBeans.
+     * This pattern contains two variables: the protocol and the port the server listens to.
+     * <p>
+     * You can find all registered SocketServerAdmin MBeans like this:
+     * </p>
+     * <pre>
+     * MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+     * String pattern = String.format(SocketServerAdminMBean.PATTERN, &quot;*&quot;, &quot;*&quot;);
+     * Set&lt;ObjectName&gt; serverNames = mbs.queryNames(new ObjectName(pattern), null);
+     * </pre>
+     */
+    String PATTERN = Server.DOMAIN + ":type=SocketServer,protocol=%s,port=%s";
+
+    /**
+     * Returns the port the server listens to.
+     * 
+     * @return the port
+     */
+    int getPort();
+
+    /**
+     * Returns the number of connections that are currently open.
+     * 
+     * @return the number of open connections
+     */
+    int getConnectionCount();
+
+    /**
+     * Returns the number of bytes the server has received so far.
+     * 
+     * @return the number of bytes received
+     */
+    long getBytesReceived();
+
+    /**
+     * Returns the number of events the server has received so far.
+     * 
+     * @return the number of events received
+     */
+    long getEventsReceived();
+
+    /**
+     * Returns the number of bytes received per second during the last second.
+     * 
+     * @return the number of bytes received per second
+     */
+    long getBytesPerSecond();
+
+    /**
+     * Returns the number of events received per second during the last second.
+     * 
+     * @return the number of events received per second
+     */
+    long getEventsPerSecond();
+
+    /**
+     * Returns the {@code ObjectName} of this mbean.
+     * 
+     * @return the {@code ObjectName}
+     * @see SocketServerAdminMBean#PATTERN
+     */
+    ObjectName getObjectName();
+}
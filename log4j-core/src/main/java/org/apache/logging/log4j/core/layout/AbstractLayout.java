@@ -17,9 +17,11 @@
 package org.apache.logging.log4j.core.layout;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.status.StatusLogger;
 
 /**
@@ -78,4 +80,37 @@ public abstract class AbstractLayout<T extends Serializable> implements Layout<T
     public byte[] getFooter() {
         return footer;
     }
+
+    /**
+     * Formats the event with {@link #toByteArray(LogEvent)} and copies the result into the destination. Subclasses
+     * that can format an event without creating a {@code byte[]} should override this method.
+     *
+     * @param event The Log Event.
+     * @param destination The destination that receives the formatted bytes.
+     */
+    @Override
+    public void encode(final LogEvent event, final ByteBufferDestination destination) {
+        final byte[] data = toByteArray(event);
+        writeTo(data, 0, data.length, destination);
+    }
+
+    /**
+     * Writes the specified bytes into the destination, draining the destination's buffer whenever it is full.
+     *
+     * @param data The bytes to write.
+     * @param offset The offset of the first byte to write.
+     * @param length The number of bytes to write.
+     * @param destination The destination that receives the bytes.
+     */
+    public static void writeTo(final byte[] data, int offset, int length, final ByteBufferDestination destination) {
+        ByteBuffer buffer = destination.getByteBuffer();
+        while (length > buffer.remaining()) {
+            final int chunk = buffer.remaining();
+            buffer.put(data, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+            buffer = destination.drain(buffer);
+        }
+        buffer.put(data, offset, length);
+    }
 }
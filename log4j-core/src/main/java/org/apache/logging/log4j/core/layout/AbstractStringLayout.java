@@ -26,11 +26,25 @@ import org.apache.logging.log4j.core.util.Charsets;
  */
 public abstract class AbstractStringLayout extends AbstractLayout<String> {
 
+    /**
+     * The initial capacity of the StringBuilders returned by {@link #getStringBuilder()}.
+     */
+    protected static final int DEFAULT_STRING_BUILDER_SIZE = 1024;
+
+    /**
+     * StringBuilders that grew beyond this capacity while formatting a large event are discarded rather than reused.
+     */
+    protected static final int MAX_STRING_BUILDER_SIZE = 32 * 1024;
+
+    private static final ThreadLocal<StringBuilder> threadLocalStringBuilder = new ThreadLocal<StringBuilder>();
+
     /**
      * The charset for the formatted message.
      */
     private final Charset charset;
 
+    private final ThreadLocal<StringBuilderEncoder> threadLocalEncoder = new ThreadLocal<StringBuilderEncoder>();
+
     protected AbstractStringLayout(final Charset charset, byte[] header, byte[] footer) {
         super(header, footer);
         this.charset = charset == null ? Charsets.UTF_8 : charset;
@@ -63,4 +77,36 @@ public abstract class AbstractStringLayout extends AbstractLayout<String> {
     protected Charset getCharset() {
         return charset;
     }
+
+    /**
+     * Returns an empty StringBuilder that is owned by the current thread. The same instance is returned on every call
+     * from the same thread, so callers must be done with it before formatting the next event.
+     *
+     * @return an empty StringBuilder
+     */
+    protected static StringBuilder getStringBuilder() {
+        StringBuilder result = threadLocalStringBuilder.get();
+        if (result == null || result.capacity() > MAX_STRING_BUILDER_SIZE) {
+            result = new StringBuilder(DEFAULT_STRING_BUILDER_SIZE);
+            threadLocalStringBuilder.set(result);
+        }
+        result.setLength(0);
+        return result;
+    }
+
+    /**
+     * Encodes the specified text in this layout's charset directly into the destination, using an encoder owned by
+     * the current thread.
+     *
+     * @param text The formatted event.
+     * @param destination The destination that receives the encoded bytes.
+     */
+    protected void encodeText(final StringBuilder text, final ByteBufferDestination destination) {
+        StringBuilderEncoder encoder = threadLocalEncoder.get();
+        if (encoder == null) {
+            encoder = new StringBuilderEncoder(charset);
+            threadLocalEncoder.set(encoder);
+        }
+        encoder.encode(text, destination);
+    }
 }
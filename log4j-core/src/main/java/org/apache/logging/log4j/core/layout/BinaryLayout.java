@@ -0,0 +1,496 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.layout;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.impl.ExtendedClassInfo;
+import org.apache.logging.log4j.core.impl.ExtendedStackTraceElement;
+import org.apache.logging.log4j.core.impl.ThrowableProxy;
+
+/**
+ * Formats a {@link LogEvent} in a compact binary form that can be read back without Java serialization, for example
+ * by a {@code TcpSocketServer} using a {@code BinaryInputStreamLogEventBridge}.
+ *
+ * <h4>Format</h4>
+ * <p>
+ * The header, written at the start of every stream, is a zero byte followed by {@code 'L', '4', 'J'} and the format
+ * {@link #VERSION version}. Each event is a frame: the length of the frame body as a varint, followed by the body.
+ * Integers are unsigned varints (7 bits per byte, least significant group first) except line numbers, which are
+ * zig-zag encoded. Strings are a varint of the UTF-8 length plus one, zero meaning {@code null}, followed by the UTF-8
+ * bytes.
+ * </p>
+ * <p>
+ * The body starts with a varint of {@code FLAG_*} bits, the dictionary channel and the level's integer value, then
+ * the logger name, logger FQCN, level name, time, thread name and formatted message. The marker, throwable, context
+ * map, context stack and location follow if their flag is set.
+ * </p>
+ * <h4>String dictionary</h4>
+ * <p>
+ * Logger names, thread names and class and method names repeat from one event to the next, so with
+ * {@code dictionary="true"} (the default) each thread writing events has its own dictionary channel: the first time a
+ * thread writes such a string it defines an index for it, and afterwards it writes only the index. Because a thread
+ * writes its events in order, a definition always precedes its uses. The dictionaries are reset whenever a header is
+ * written, that is, every time a new stream is opened; stream appenders format and write events under the lock their
+ * manager writes the header under, so no event refers to a dictionary entry defined before the header. Each UDP
+ * datagram starts with the header, so dictionaries must be disabled with {@code dictionary="false"} when sending
+ * events over UDP.
+ * </p>
+ */
+@Plugin(name = "BinaryLayout", category = "Core", elementType = "layout", printObject = true)
+public final class BinaryLayout extends AbstractLayout<LogEvent> implements StreamStatefulLayout {
+
+    /** The version of the format. */
+    public static final int VERSION = 1;
+
+    /** Flag set if the event has a marker. */
+    public static final int FLAG_MARKER = 1;
+    /** Flag set if the event has a throwable. */
+    public static final int FLAG_THROWN = 1 << 1;
+    /** Flag set if the context map is included. */
+    public static final int FLAG_CONTEXT_MAP = 1 << 2;
+    /** Flag set if the context stack is included. */
+    public static final int FLAG_CONTEXT_STACK = 1 << 3;
+    /** Flag set if the location is included. */
+    public static final int FLAG_LOCATION = 1 << 4;
+    /** Flag set if the event is the last of a batch. */
+    public static final int FLAG_END_OF_BATCH = 1 << 5;
+    /** Flag set if the event's location should be included by layouts. */
+    public static final int FLAG_INCLUDE_LOCATION = 1 << 6;
+
+    /** Dictionary string kind: the string is {@code null}. */
+    public static final int STRING_NULL = 0;
+    /** Dictionary string kind: the string follows and is not added to the dictionary. */
+    public static final int STRING_LITERAL = 1;
+    /** Dictionary string kind: the string follows and is added to the dictionary at the index given. */
+    public static final int STRING_DEFINE = 2;
+    /** Dictionary string kind: the string is the dictionary entry at the index given. */
+    public static final int STRING_REFERENCE = 3;
+
+    /** Maximum number of strings in the dictionary of a channel. */
+    public static final int MAX_DICTIONARY_SIZE = 1024;
+
+    private static final byte[] HEADER = {0, 'L', '4', 'J', VERSION};
+
+    /** Room left in front of the frame body for its length. */
+    private static final int MAX_VARINT_LENGTH = 5;
+
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final boolean locationInfo;
+    private final boolean properties;
+    private final boolean dictionary;
+    private final AtomicInteger channels = new AtomicInteger();
+    private final AtomicInteger generation = new AtomicInteger();
+    private final ThreadLocal<Encoder> encoders = new ThreadLocal<Encoder>();
+
+    private BinaryLayout(final boolean locationInfo, final boolean properties, final boolean dictionary) {
+        super(null, null);
+        this.locationInfo = locationInfo;
+        this.properties = properties;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Returns the header that starts every stream. A new stream starts with empty dictionaries, so managers call this
+     * method only when writing the header, while holding the lock events are written under.
+     *
+     * @return the header.
+     */
+    @Override
+    public byte[] getHeader() {
+        generation.incrementAndGet();
+        return HEADER.clone();
+    }
+
+    /**
+     * Returns whether the dictionary is enabled, in which case events must be formatted and written under the lock
+     * the header is written under.
+     *
+     * @return true if repeated strings are written as dictionary indexes.
+     */
+    @Override
+    public boolean isStreamStateful() {
+        return dictionary;
+    }
+
+    /**
+     * Formats a {@link LogEvent} as a frame.
+     *
+     * @param event The LogEvent.
+     * @return the frame.
+     */
+    @Override
+    public byte[] toByteArray(final LogEvent event) {
+        final Encoder encoder = getEncoder();
+        final int start = encodeFrame(event, encoder);
+        final byte[] result = Arrays.copyOfRange(encoder.buf, start, encoder.pos);
+        encoder.trim();
+        return result;
+    }
+
+    @Override
+    public void encode(final LogEvent event, final ByteBufferDestination destination) {
+        final Encoder encoder = getEncoder();
+        final int start = encodeFrame(event, encoder);
+        writeTo(encoder.buf, start, encoder.pos - start, destination);
+        encoder.trim();
+    }
+
+    /**
+     * Returns the LogEvent.
+     *
+     * @param event The Logging Event.
+     * @return The LogEvent.
+     */
+    @Override
+    public LogEvent toSerializable(final LogEvent event) {
+        return event;
+    }
+
+    @Override
+    public Map<String, String> getContentFormat() {
+        final Map<String, String> result = new HashMap<String, String>();
+        result.put("version", String.valueOf(VERSION));
+        return result;
+    }
+
+    /**
+     * BinaryLayout returns a binary stream.
+     * @return The content type.
+     */
+    @Override
+    public String getContentType() {
+        return "application/octet-stream";
+    }
+
+    private Encoder getEncoder() {
+        Encoder encoder = encoders.get();
+        if (encoder == null) {
+            encoder = new Encoder(dictionary ? channels.incrementAndGet() : 0);
+            encoders.set(encoder);
+        }
+        final int current = generation.get();
+        if (encoder.generation != current) {
+            encoder.generation = current;
+            encoder.ids.clear();
+        }
+        return encoder;
+    }
+
+    /**
+     * Encodes the frame, returning the index of its first byte in the encoder's buffer.
+     */
+    private int encodeFrame(final LogEvent event, final Encoder out) {
+        out.pos = MAX_VARINT_LENGTH;
+        encodeBody(event, out);
+        final int length = out.pos - MAX_VARINT_LENGTH;
+        final int start = MAX_VARINT_LENGTH - Encoder.varintLength(length);
+        final int end = out.pos;
+        out.pos = start;
+        out.writeVarint(length);
+        out.pos = end;
+        return start;
+    }
+
+    private void encodeBody(final LogEvent event, final Encoder out) {
+        final Marker marker = event.getMarker();
+        final ThrowableProxy thrown = event.getThrownProxy();
+        final Map<String, String> contextMap = properties ? event.getContextMap() : null;
+        final ThreadContext.ContextStack contextStack = properties ? event.getContextStack() : null;
+        final StackTraceElement location = locationInfo ? event.getSource() : null;
+        int flags = 0;
+        if (marker != null) {
+            flags |= FLAG_MARKER;
+        }
+        if (thrown != null) {
+            flags |= FLAG_THROWN;
+        }
+        if (contextMap != null && !contextMap.isEmpty()) {
+            flags |= FLAG_CONTEXT_MAP;
+        }
+        if (contextStack != null && contextStack.getDepth() > 0) {
+            flags |= FLAG_CONTEXT_STACK;
+        }
+        if (location != null) {
+            flags |= FLAG_LOCATION;
+        }
+        if (event.isEndOfBatch()) {
+            flags |= FLAG_END_OF_BATCH;
+        }
+        if (event.isIncludeLocation()) {
+            flags |= FLAG_INCLUDE_LOCATION;
+        }
+        out.writeVarint(flags);
+        out.writeVarint(out.channel);
+        out.writeVarint(event.getLevel().intLevel());
+        out.writeDictionaryString(event.getLoggerName());
+        out.writeDictionaryString(event.getLoggerFqcn());
+        out.writeDictionaryString(event.getLevel().name());
+        out.writeVarlong(event.getTimeMillis());
+        out.writeDictionaryString(event.getThreadName());
+        out.writeString(event.getMessage() == null ? null : event.getMessage().getFormattedMessage());
+        if (marker != null) {
+            encodeMarker(marker, out);
+        }
+        if (thrown != null) {
+            encodeThrowableProxy(thrown, out);
+        }
+        if ((flags & FLAG_CONTEXT_MAP) != 0) {
+            out.writeVarint(contextMap.size());
+            for (final Map.Entry<String, String> entry : contextMap.entrySet()) {
+                out.writeDictionaryString(entry.getKey());
+                out.writeString(entry.getValue());
+            }
+        }
+        if ((flags & FLAG_CONTEXT_STACK) != 0) {
+            final List<String> list = contextStack.asList();
+            out.writeVarint(list.size());
+            for (final String element : list) {
+                out.writeString(element);
+            }
+        }
+        if (location != null) {
+            encodeStackTraceElement(location, out);
+        }
+    }
+
+    private static void encodeMarker(final Marker marker, final Encoder out) {
+        out.writeDictionaryString(marker.getName());
+        final Marker[] parents = marker.getParents();
+        if (parents == null) {
+            out.writeVarint(0);
+            return;
+        }
+        out.writeVarint(parents.length);
+        for (final Marker parent : parents) {
+            encodeMarker(parent, out);
+        }
+    }
+
+    private static void encodeThrowableProxy(final ThrowableProxy proxy, final Encoder out) {
+        out.writeDictionaryString(proxy.getName());
+        out.writeString(proxy.getMessage());
+        final String localized = proxy.getLocalizedMessage();
+        final boolean sameMessage = localized == null ? proxy.getMessage() == null
+                : localized.equals(proxy.getMessage());
+        out.writeVarint(sameMessage ? 0 : 1);
+        if (!sameMessage) {
+            out.writeString(localized);
+        }
+        out.writeVarint(proxy.getCommonElementCount());
+        final ExtendedStackTraceElement[] trace = proxy.getExtendedStackTrace();
+        out.writeVarint(trace == null ? 0 : trace.length);
+        if (trace != null) {
+            for (final ExtendedStackTraceElement element : trace) {
+                encodeStackTraceElement(element.getStackTraceElement(), out);
+                final ExtendedClassInfo info = element.getExtraClassInfo();
+                if (info == null) {
+                    out.writeVarint(0);
+                } else {
+                    out.writeVarint(info.getExact() ? 2 : 1);
+                    out.writeDictionaryString(info.getLocation());
+                    out.writeDictionaryString(info.getVersion());
+                }
+            }
+        }
+        final ThrowableProxy cause = proxy.getCauseProxy();
+        out.writeVarint(cause == null ? 0 : 1);
+        if (cause != null) {
+            encodeThrowableProxy(cause, out);
+        }
+        final ThrowableProxy[] suppressed = proxy.getSuppressedProxies();
+        out.writeVarint(suppressed == null ? 0 : suppressed.length);
+        if (suppressed != null) {
+            for (final ThrowableProxy element : suppressed) {
+                encodeThrowableProxy(element, out);
+            }
+        }
+    }
+
+    private static void encodeStackTraceElement(final StackTraceElement element, final Encoder out) {
+        out.writeDictionaryString(element.getClassName());
+        out.writeDictionaryString(element.getMethodName());
+        out.writeDictionaryString(element.getFileName());
+        final int line = element.getLineNumber();
+        out.writeVarint((line << 1) ^ (line >> 31)); // zig-zag: native methods have line -2
+    }
+
+    /**
+     * Creates a BinaryLayout.
+     *
+     * @param locationInfo If "true", includes the location information in the generated frames.
+     * @param properties If "true" (the default), includes the thread context map and stack in the generated frames.
+     * @param dictionary If "true" (the default), repeated strings are written as dictionary indexes.
+     * @return A BinaryLayout.
+     */
+    @PluginFactory
+    public static BinaryLayout createLayout(
+            // @formatter:off
+            @PluginAttribute(value = "locationInfo", defaultBoolean = false) final boolean locationInfo,
+            @PluginAttribute(value = "properties", defaultBoolean = true) final boolean properties,
+            @PluginAttribute(value = "dictionary", defaultBoolean = true) final boolean dictionary
+            // @formatter:on
+    ) {
+        return new BinaryLayout(locationInfo, properties, dictionary);
+    }
+
+    /**
+     * Per-thread buffer and dictionary.
+     */
+    private static final class Encoder {
+        private final int channel;
+        private final Map<String, Integer> ids = new HashMap<String, Integer>();
+        private int generation;
+        private byte[] buf = new byte[INITIAL_BUFFER_SIZE];
+        private int pos;
+
+        Encoder(final int channel) {
+            this.channel = channel;
+        }
+
+        static int varintLength(int value) {
+            int length = 1;
+            while ((value & ~0x7F) != 0) {
+                value >>>= 7;
+                length++;
+            }
+            return length;
+        }
+
+        /** Does not keep the buffer of an unusually large event. */
+        void trim() {
+            if (buf.length > MAX_RETAINED_BUFFER_SIZE) {
+                buf = new byte[INITIAL_BUFFER_SIZE];
+            }
+        }
+
+        private void ensureCapacity(final int extra) {
+            if (pos + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + extra));
+            }
+        }
+
+        void writeVarint(int value) {
+            ensureCapacity(MAX_VARINT_LENGTH);
+            while ((value & ~0x7F) != 0) {
+                buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[pos++] = (byte) value;
+        }
+
+        void writeVarlong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[pos++] = (byte) value;
+        }
+
+        void writeString(final String value) {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            final int length = utf8Length(value);
+            writeVarint(length + 1);
+            writeUtf8(value, length);
+        }
+
+        void writeDictionaryString(final String value) {
+            if (value == null) {
+                writeVarint(STRING_NULL);
+                return;
+            }
+            if (channel != 0) {
+                final Integer id = ids.get(value);
+                if (id != null) {
+                    writeVarint((id.intValue() << 2) | STRING_REFERENCE);
+                    return;
+                }
+                if (ids.size() < MAX_DICTIONARY_SIZE) {
+                    final int newId = ids.size();
+                    ids.put(value, Integer.valueOf(newId));
+                    writeVarint((newId << 2) | STRING_DEFINE);
+                    writeString(value);
+                    return;
+                }
+            }
+            writeVarint(STRING_LITERAL);
+            writeString(value);
+        }
+
+        private static int utf8Length(final String value) {
+            final int chars = value.length();
+            int length = 0;
+            for (int i = 0; i < chars; i++) {
+                final char c = value.charAt(i);
+                if (c < 0x80) {
+                    length++;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < chars
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else {
+                    length += 3;
+                }
+            }
+            return length;
+        }
+
+        private void writeUtf8(final String value, final int length) {
+            ensureCapacity(length);
+            final int chars = value.length();
+            for (int i = 0; i < chars; i++) {
+                final char c = value.charAt(i);
+                if (c < 0x80) {
+                    buf[pos++] = (byte) c;
+                } else if (c < 0x800) {
+                    buf[pos++] = (byte) (0xC0 | (c >> 6));
+                    buf[pos++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < chars
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buf[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                    buf[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buf[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buf[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    buf[pos++] = (byte) (0xE0 | (c >> 12));
+                    buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buf[pos++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.layout;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Destination into which a {@link org.apache.logging.log4j.core.Layout} can encode a log event directly, without
+ * first creating a {@code byte[]} for the event.
+ * <p>
+ * Destinations decide how concurrent encoding is handled: a destination may give each thread a buffer of its own, or
+ * share one buffer and require callers to hold its lock for the duration of an encode operation.
+ * </p>
+ */
+public interface ByteBufferDestination {
+
+    /**
+     * Returns the buffer to write encoded bytes into.
+     *
+     * @return the buffer, in write mode (its position marks the end of the bytes written so far)
+     */
+    ByteBuffer getByteBuffer();
+
+    /**
+     * Consumes the bytes written into the specified buffer so far and returns a buffer that can be written into.
+     * Layouts call this method when the buffer has no space left for the remainder of an event.
+     *
+     * @param buf the buffer to drain, in write mode
+     * @return a buffer with available space, in write mode (typically the specified buffer, cleared)
+     */
+    ByteBuffer drain(ByteBuffer buf);
+}
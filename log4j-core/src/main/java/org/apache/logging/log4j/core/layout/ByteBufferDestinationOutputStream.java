@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.layout;
+
+import java.io.OutputStream;
+
+/**
+ * OutputStream that writes into the buffer of a {@link ByteBufferDestination}, so that stream based serializers can
+ * encode an event without an intermediate {@code byte[]}. Instances are owned by one thread and are pointed at the
+ * destination of each event in turn.
+ */
+final class ByteBufferDestinationOutputStream extends OutputStream {
+
+    private final byte[] single = new byte[1];
+    private ByteBufferDestination destination;
+
+    void setDestination(final ByteBufferDestination destination) {
+        this.destination = destination;
+    }
+
+    @Override
+    public void write(final int b) {
+        single[0] = (byte) b;
+        AbstractLayout.writeTo(single, 0, 1, destination);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+        AbstractLayout.writeTo(b, off, len, destination);
+    }
+
+    @Override
+    public void flush() {
+        // the destination decides when its buffer is written
+    }
+
+    @Override
+    public void close() {
+        destination = null;
+    }
+}
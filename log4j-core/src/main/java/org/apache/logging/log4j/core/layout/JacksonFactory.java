@@ -17,25 +17,55 @@
 package org.apache.logging.log4j.core.layout;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
+import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 import org.apache.logging.log4j.core.jackson.JsonConstants;
 import org.apache.logging.log4j.core.jackson.Log4jJsonObjectMapper;
 import org.apache.logging.log4j.core.jackson.Log4jXmlObjectMapper;
 import org.apache.logging.log4j.core.jackson.XmlConstants;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.PrettyPrinter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.fasterxml.jackson.dataformat.xml.util.DefaultXmlPrettyPrinter;
 
 abstract class JacksonFactory {
 
+    /**
+     * Leaves out the context map of events whose context map is empty.
+     */
+    private static class SkipEmptyContextMapFilter extends SimpleBeanPropertyFilter.SerializeExceptFilter {
+
+        private final String contextMapName;
+
+        SkipEmptyContextMapFilter(final Set<String> except, final String contextMapName) {
+            super(except);
+            this.contextMapName = contextMapName;
+        }
+
+        @Override
+        public void serializeAsField(final Object pojo, final JsonGenerator jgen, final SerializerProvider provider,
+                final PropertyWriter writer) throws Exception {
+            if (pojo instanceof LogEvent && contextMapName.equals(writer.getName())) {
+                final Map<String, String> contextMap = ((LogEvent) pojo).getContextMap();
+                if (contextMap == null || contextMap.isEmpty()) {
+                    return;
+                }
+            }
+            super.serializeAsField(pojo, jgen, provider, writer);
+        }
+    }
+
     static class JSON extends JacksonFactory {
 
         @Override
@@ -104,6 +134,11 @@ abstract class JacksonFactory {
     abstract protected PrettyPrinter newPrettyPrinter();
 
     ObjectWriter newWriter(final boolean locationInfo, final boolean properties, final boolean compact) {
+        return newWriter(locationInfo, properties, compact, false);
+    }
+
+    ObjectWriter newWriter(final boolean locationInfo, final boolean properties, final boolean compact,
+            final boolean skipEmptyContextMap) {
         final SimpleFilterProvider filters = new SimpleFilterProvider();
         final Set<String> except = new HashSet<String>(2);
         if (!locationInfo) {
@@ -112,7 +147,9 @@ abstract class JacksonFactory {
         if (!properties) {
             except.add(this.getPropertNameForContextMap());
         }
-        filters.addFilter(Log4jLogEvent.class.getName(), SimpleBeanPropertyFilter.serializeAllExcept(except));
+        filters.addFilter(Log4jLogEvent.class.getName(), skipEmptyContextMap
+                ? new SkipEmptyContextMapFilter(except, this.getPropertNameForContextMap())
+                : SimpleBeanPropertyFilter.serializeAllExcept(except));
         final ObjectWriter writer = this.newObjectMapper().writer(compact ? this.newCompactPrinter() : this.newPrettyPrinter());
         return writer.with(filters);
     }
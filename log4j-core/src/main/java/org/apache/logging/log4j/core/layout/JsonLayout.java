@@ -16,15 +16,23 @@
  */
 package org.apache.logging.log4j.core.layout;
 
+import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
 import org.apache.logging.log4j.core.config.plugins.PluginFactory;
 import org.apache.logging.log4j.core.util.Charsets;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
 /**
  * Appends a series of JSON events as strings serialized as bytes.
  *
@@ -788,13 +796,80 @@ import org.apache.logging.log4j.core.util.Charsets;
  * characters and indents lines to format the text. If {@code compact="true"}, then no end-of-line or indentation is used. Message content
  * may contain, of course, escaped end-of-lines.
  * </p>
+ * <h4>Streaming</h4>
+ * <p>
+ * When the charset is UTF-8, appenders that encode events into a buffer (such as the file appenders) get the JSON written
+ * straight into that buffer by a Jackson generator that each thread reuses, without creating a String or byte array for
+ * the event.
+ * </p>
  */
 @Plugin(name = "JsonLayout", category = "Core", elementType = "layout", printObject = true)
 public final class JsonLayout extends AbstractJacksonLayout {
 
+    /**
+     * A generator owned by one thread, together with the stream it writes to.
+     */
+    private static final class StreamingGenerator {
+        final ByteBufferDestinationOutputStream out = new ByteBufferDestinationOutputStream();
+        final JsonGenerator generator;
+
+        StreamingGenerator(final ObjectWriter writer) throws IOException {
+            generator = writer.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        }
+    }
+
+    /**
+     * Writes events like {@link #objectWriter}, but with a pretty printer that does not separate consecutive root values,
+     * since the generators it writes to are reused for many events.
+     */
+    private final ObjectWriter streamingWriter;
+
+    private final ThreadLocal<StreamingGenerator> threadLocalGenerator = new ThreadLocal<StreamingGenerator>();
+
     protected JsonLayout(final boolean locationInfo, final boolean properties, final boolean complete, final boolean compact,
             final Charset charset) {
-        super(new JacksonFactory.JSON().newWriter(locationInfo, properties, compact), charset, compact, complete);
+        this(locationInfo, properties, complete, compact, false, charset);
+    }
+
+    protected JsonLayout(final boolean locationInfo, final boolean properties, final boolean complete, final boolean compact,
+            final boolean skipEmptyContextMap, final Charset charset) {
+        super(new JacksonFactory.JSON().newWriter(locationInfo, properties, compact, skipEmptyContextMap), charset,
+                compact, complete);
+        this.streamingWriter = this.objectWriter.with(compact ? new MinimalPrettyPrinter(null)
+                : new DefaultPrettyPrinter((String) null));
+    }
+
+    /**
+     * Writes the JSON for the event straight into the destination's buffer when the charset is UTF-8, otherwise
+     * encodes the String returned by {@link #toSerializable(LogEvent)}.
+     *
+     * @param event The LogEvent.
+     * @param destination The destination that receives the encoded bytes.
+     */
+    @Override
+    public void encode(final LogEvent event, final ByteBufferDestination destination) {
+        if (!Charsets.UTF_8.equals(this.getCharset())) {
+            super.encode(event, destination);
+            return;
+        }
+        StreamingGenerator streaming = threadLocalGenerator.get();
+        try {
+            if (streaming == null) {
+                streaming = new StreamingGenerator(streamingWriter);
+                threadLocalGenerator.set(streaming);
+            }
+            streaming.out.setDestination(destination);
+            this.streamingWriter.writeValue(streaming.generator, event);
+            streaming.generator.flush();
+        } catch (final IOException e) {
+            // the generator may hold a partial event, start over with a new one
+            threadLocalGenerator.remove();
+            LOGGER.error(e);
+        } finally {
+            if (streaming != null) {
+                streaming.out.setDestination(null);
+            }
+        }
     }
 
     /**
@@ -851,6 +926,22 @@ public final class JsonLayout extends AbstractJacksonLayout {
      * @param charset The character set to use, if {@code null}, uses "UTF-8".
      * @return A JSON Layout.
      */
+    public static AbstractJacksonLayout createLayout(final boolean locationInfo, final boolean properties,
+            final boolean complete, final boolean compact, final Charset charset) {
+        return new JsonLayout(locationInfo, properties, complete, compact, charset);
+    }
+
+    /**
+     * Creates a JSON Layout.
+     *
+     * @param locationInfo If "true", includes the location information in the generated JSON.
+     * @param properties If "true", includes the thread context in the generated JSON.
+     * @param complete If "true", includes the JSON header and footer, defaults to "false".
+     * @param compact If "true", does not use end-of-lines and indentation, defaults to "false".
+     * @param charset The character set to use, if {@code null}, uses "UTF-8".
+     * @param skipEmptyContextMap If "true", leaves out the thread context map when it is empty, defaults to "false".
+     * @return A JSON Layout.
+     */
     @PluginFactory
     public static AbstractJacksonLayout createLayout(
             // @formatter:off
@@ -858,10 +949,11 @@ public final class JsonLayout extends AbstractJacksonLayout {
             @PluginAttribute(value = "properties", defaultBoolean = false) final boolean properties,
             @PluginAttribute(value = "complete", defaultBoolean = false) final boolean complete,
             @PluginAttribute(value = "compact", defaultBoolean = false) final boolean compact,
-            @PluginAttribute(value = "charset", defaultString = "UTF-8") final Charset charset
+            @PluginAttribute(value = "charset", defaultString = "UTF-8") final Charset charset,
+            @PluginAttribute(value = "skipEmptyContextMap", defaultBoolean = false) final boolean skipEmptyContextMap
             // @formatter:on
     ) {
-        return new JsonLayout(locationInfo, properties, complete, compact, charset);
+        return new JsonLayout(locationInfo, properties, complete, compact, skipEmptyContextMap, charset);
     }
 
     /**
@@ -184,17 +184,36 @@ public final class PatternLayout extends AbstractStringLayout {
      */
     @Override
     public String toSerializable(final LogEvent event) {
-        final StringBuilder buf = new StringBuilder();
-        for (final PatternFormatter formatter : formatters) {
-            formatter.format(event, buf);
-        }
-        String str = buf.toString();
+        String str = toText(event, new StringBuilder()).toString();
         if (replace != null) {
             str = replace.format(str);
         }
         return str;
     }
 
+    /**
+     * Formats the event into the destination without creating a String or byte array for it. Layouts with a
+     * regular expression replacement need the whole formatted String and fall back to {@link #toByteArray(LogEvent)}.
+     *
+     * @param event The logging event.
+     * @param destination The destination that receives the formatted bytes.
+     */
+    @Override
+    public void encode(final LogEvent event, final ByteBufferDestination destination) {
+        if (replace != null) {
+            super.encode(event, destination);
+            return;
+        }
+        encodeText(toText(event, getStringBuilder()), destination);
+    }
+
+    private StringBuilder toText(final LogEvent event, final StringBuilder buf) {
+        for (final PatternFormatter formatter : formatters) {
+            formatter.format(event, buf);
+        }
+        return buf;
+    }
+
     /**
      * Create a PatternParser.
      * @param config The Configuration.
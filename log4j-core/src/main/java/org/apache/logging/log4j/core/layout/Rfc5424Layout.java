@@ -18,18 +18,17 @@ package org.apache.logging.log4j.core.layout;
 
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LoggingException;
+import org.apache.logging.log4j.ThreadContext;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.TlsSyslogFrame;
 import org.apache.logging.log4j.core.config.Configuration;
@@ -51,6 +50,7 @@ import org.apache.logging.log4j.core.util.Patterns;
 import org.apache.logging.log4j.message.Message;
 import org.apache.logging.log4j.message.StructuredDataId;
 import org.apache.logging.log4j.message.StructuredDataMessage;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
 import org.apache.logging.log4j.util.Strings;
 
 
@@ -86,6 +86,14 @@ public final class Rfc5424Layout extends AbstractStringLayout {
     private static final int THREE_DIGITS = 100;
     private static final int MILLIS_PER_MINUTE = 60000;
     private static final int MINUTES_PER_HOUR = 60;
+    private static final int MILLIS_PER_SECOND = 1000;
+
+    private static final ThreadLocal<SortedKeys> SORTED_KEYS = new ThreadLocal<SortedKeys>() {
+        @Override
+        protected SortedKeys initialValue() {
+            return new SortedKeys();
+        }
+    };
 
     private static final String COMPONENT_KEY = "RFC5424-Converter";
 
@@ -109,9 +117,13 @@ public final class Rfc5424Layout extends AbstractStringLayout {
     private final boolean includeNewLine;
     private final String escapeNewLine;
     private final boolean useTlsMessageFormat;
+    private final String mdcSdIdString;
+    /**
+     * The HOSTNAME, APP-NAME and PROCID fields with their separating spaces, which are the same for every event.
+     */
+    private final String headerFields;
 
-    private long lastTimestamp = -1;
-    private String timestamppStr;
+    private volatile TimestampSlot timestampSlot = new TimestampSlot(Long.MAX_VALUE, Long.MIN_VALUE, null, null);
 
     private final List<PatternFormatter> exceptionFormatters;
     private final Map<String,  FieldFormatter> fieldFormatters;
@@ -130,9 +142,10 @@ public final class Rfc5424Layout extends AbstractStringLayout {
         this.enterpriseNumber = ein;
         this.includeMdc = includeMDC;
         this.includeNewLine = includeNL;
-        this.escapeNewLine = escapeNL == null ? null : Matcher.quoteReplacement(escapeNL);
+        this.escapeNewLine = escapeNL;
         this.mdcId = mdcId;
         this.mdcSdId = new StructuredDataId(mdcId, enterpriseNumber, null, null);
+        this.mdcSdIdString = mdcSdId.toString();
         this.mdcPrefix = mdcPrefix;
         this.eventPrefix = eventPrefix;
         this.appName = appName;
@@ -186,6 +199,15 @@ public final class Rfc5424Layout extends AbstractStringLayout {
         final String name = config == null ? null : config.getName();
         configName = name != null && name.length() > 0 ? name : null;
         this.fieldFormatters = createFieldFormatters(loggerFields, config);
+        final StringBuilder header = new StringBuilder();
+        appendSpace(header);
+        appendHostName(header);
+        appendSpace(header);
+        appendAppName(header);
+        appendSpace(header);
+        appendProcessId(header);
+        appendSpace(header);
+        this.headerFields = header.toString();
     }
 
     private Map<String, FieldFormatter> createFieldFormatters(final LoggerFields[] loggerFields,
@@ -257,24 +279,38 @@ public final class Rfc5424Layout extends AbstractStringLayout {
      */
     @Override
     public String toSerializable(final LogEvent event) {
-        final StringBuilder buf = new StringBuilder();
+        final StringBuilder buf = toText(event, new StringBuilder());
+        if (useTlsMessageFormat) {
+            return new TlsSyslogFrame(buf.toString()).toString();
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Formats the event into the destination without creating a String or byte array for it. RFC 5425 framing
+     * needs the length of the formatted record up front and falls back to {@link #toByteArray(LogEvent)}.
+     *
+     * @param event The LogEvent.
+     * @param destination The destination that receives the formatted bytes.
+     */
+    @Override
+    public void encode(final LogEvent event, final ByteBufferDestination destination) {
+        if (useTlsMessageFormat) {
+            super.encode(event, destination);
+            return;
+        }
+        encodeText(toText(event, getStringBuilder()), destination);
+    }
+
+    private StringBuilder toText(final LogEvent event, final StringBuilder buf) {
         appendPriority(buf, event.getLevel());
         appendTimestamp(buf, event.getTimeMillis());
-        appendSpace(buf);
-        appendHostName(buf);
-        appendSpace(buf);
-        appendAppName(buf);
-        appendSpace(buf);
-        appendProcessId(buf);
-        appendSpace(buf);
+        buf.append(headerFields);
         appendMessageId(buf, event.getMessage());
         appendSpace(buf);
         appendStructuredElements(buf, event);
         appendMessage(buf, event);
-        if (useTlsMessageFormat) {
-            return new TlsSyslogFrame(buf.toString()).toString();
-        }
-        return buf.toString();
+        return buf;
     }
 
     private void appendPriority(final StringBuilder buffer, final Level logLevel) {
@@ -284,7 +320,20 @@ public final class Rfc5424Layout extends AbstractStringLayout {
     }
 
     private void appendTimestamp(final StringBuilder buffer, final long milliseconds)  {
-        buffer.append(computeTimeStampString(milliseconds));
+        TimestampSlot slot = timestampSlot;
+        if (milliseconds < slot.begin || milliseconds >= slot.end) {
+            slot = createTimestampSlot(milliseconds);
+            timestampSlot = slot;
+        }
+        buffer.append(slot.dateTime);
+        final int millis = (int) (milliseconds - slot.begin);
+        if (millis != 0) {
+            buffer.append('.');
+            buffer.append((char) ('0' + millis / THREE_DIGITS));
+            buffer.append((char) ('0' + (millis / TWO_DIGITS) % TWO_DIGITS));
+            buffer.append((char) ('0' + millis % TWO_DIGITS));
+        }
+        buffer.append(slot.zone);
     }
 
     private void appendSpace(final StringBuilder buffer) {
@@ -324,10 +373,21 @@ public final class Rfc5424Layout extends AbstractStringLayout {
     private void appendMessage(final StringBuilder buffer, final LogEvent event) {
         final Message message = event.getMessage();
         // This layout formats StructuredDataMessages instead of delegating to the Message itself.
-        final String text = (message instanceof StructuredDataMessage) ? message.getFormat() : message.getFormattedMessage();
-
-        if (text != null && text.length() > 0) {
-            buffer.append(' ').append(escapeNewlines(text, escapeNewLine));
+        if (escapeNewLine == null && message instanceof StringBuilderFormattable
+                && !(message instanceof StructuredDataMessage)) {
+            final int start = buffer.length();
+            buffer.append(' ');
+            ((StringBuilderFormattable) message).formatTo(buffer);
+            if (buffer.length() == start + 1) {
+                buffer.setLength(start); // empty message
+            }
+        } else {
+            final String text = (message instanceof StructuredDataMessage) ? message.getFormat()
+                    : message.getFormattedMessage();
+            if (text != null && text.length() > 0) {
+                buffer.append(' ');
+                appendEscaped(text, false, buffer);
+            }
         }
 
         if (exceptionFormatters != null && event.getThrown() != null) {
@@ -335,7 +395,7 @@ public final class Rfc5424Layout extends AbstractStringLayout {
             for (final PatternFormatter formatter : exceptionFormatters) {
                 formatter.format(event, exception);
             }
-            buffer.append(escapeNewlines(exception.toString(), escapeNewLine));
+            appendEscaped(exception, false, buffer);
         }
         if (includeNewLine) {
             buffer.append(LF);
@@ -351,13 +411,19 @@ public final class Rfc5424Layout extends AbstractStringLayout {
             return;
         }
 
-        final Map<String, StructuredDataElement> sdElements = new HashMap<String, StructuredDataElement>();
         final Map<String, String> contextMap = event.getContextMap();
 
         if (mdcRequired != null) {
             checkRequired(contextMap);
         }
 
+        if (fieldFormatters == null) {
+            appendStructuredElements(buffer, message, contextMap);
+            return;
+        }
+
+        final Map<String, StructuredDataElement> sdElements = new HashMap<String, StructuredDataElement>();
+
         if (fieldFormatters != null) {
             for (final Map.Entry<String, FieldFormatter> sdElement: fieldFormatters.entrySet()) {
                 final String sdId = sdElement.getKey();
@@ -403,11 +469,54 @@ public final class Rfc5424Layout extends AbstractStringLayout {
         }
     }
 
-    private String escapeNewlines(final String text, final String escapeNewLine) {
-        if (null == escapeNewLine) {
-            return text;
+    /**
+     * Appends the MDC and StructuredDataMessage elements without intermediate maps when no LoggerFields are
+     * configured. The message's element comes first.
+     */
+    private void appendStructuredElements(final StringBuilder buffer, final Message message,
+            final Map<String, String> contextMap) {
+        final boolean hasMdc = includeMdc && contextMap.size() > 0;
+        if (!(message instanceof StructuredDataMessage)) {
+            if (hasMdc) {
+                formatStructuredElement(mdcSdIdString, mdcPrefix, contextMap, buffer);
+            } else {
+                buffer.append('-');
+            }
+            return;
+        }
+        final StructuredDataMessage data = (StructuredDataMessage) message;
+        final String sdId = getId(data.getId());
+        if (hasMdc && mdcSdIdString.equals(sdId)) {
+            final Map<String, String> union = new HashMap<String, String>(contextMap);
+            union.putAll(data.getData());
+            formatStructuredElement(sdId, mdcPrefix, union, buffer);
+            return;
+        }
+        formatStructuredElement(sdId, mdcPrefix, data.getData(), buffer);
+        if (hasMdc) {
+            formatStructuredElement(mdcSdIdString, mdcPrefix, contextMap, buffer);
+        }
+    }
+
+    /**
+     * Appends the text, escaping the characters RFC 5424 reserves in SD-PARAM values if requested and replacing each
+     * line break matched by {@link #NEWLINE_PATTERN} with the newline escape if one is configured.
+     */
+    private void appendEscaped(final CharSequence text, final boolean escapeParamValue, final StringBuilder buffer) {
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (escapeNewLine != null && c == '\n') {
+                buffer.append(escapeNewLine);
+            } else if (escapeNewLine != null && c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n') {
+                buffer.append(escapeNewLine);
+                i++;
+            } else if (escapeParamValue && (c == '"' || c == ']' || c == '\\')) {
+                buffer.append('\\').append(c);
+            } else {
+                buffer.append(c);
+            }
         }
-        return NEWLINE_PATTERN.matcher(text).replaceAll(escapeNewLine);
     }
 
     protected String getProcId() {
@@ -422,18 +531,12 @@ public final class Rfc5424Layout extends AbstractStringLayout {
         return mdcIncludes;
     }
 
-    private String computeTimeStampString(final long now) {
-        long last;
-        synchronized (this) {
-            last = lastTimestamp;
-            if (now == lastTimestamp) {
-                return timestamppStr;
-            }
-        }
-
-        final StringBuilder buffer = new StringBuilder();
+    private TimestampSlot createTimestampSlot(final long now) {
         final Calendar cal = new GregorianCalendar();
         cal.setTimeInMillis(now);
+        final long begin = now - cal.get(Calendar.MILLISECOND);
+
+        final StringBuilder buffer = new StringBuilder();
         buffer.append(Integer.toString(cal.get(Calendar.YEAR)));
         buffer.append('-');
         pad(cal.get(Calendar.MONTH) + 1, TWO_DIGITS, buffer);
@@ -445,13 +548,9 @@ public final class Rfc5424Layout extends AbstractStringLayout {
         pad(cal.get(Calendar.MINUTE), TWO_DIGITS, buffer);
         buffer.append(':');
         pad(cal.get(Calendar.SECOND), TWO_DIGITS, buffer);
+        final String dateTime = buffer.toString();
 
-        final int millis = cal.get(Calendar.MILLISECOND);
-        if (millis != 0) {
-            buffer.append('.');
-            pad(millis, THREE_DIGITS, buffer);
-        }
-
+        buffer.setLength(0);
         int tzmin = (cal.get(Calendar.ZONE_OFFSET) + cal.get(Calendar.DST_OFFSET)) / MILLIS_PER_MINUTE;
         if (tzmin == 0) {
             buffer.append('Z');
@@ -468,13 +567,7 @@ public final class Rfc5424Layout extends AbstractStringLayout {
             buffer.append(':');
             pad(tzmin, TWO_DIGITS, buffer);
         }
-        synchronized (this) {
-            if (last == lastTimestamp) {
-                lastTimestamp = now;
-                timestamppStr = buffer.toString();
-            }
-        }
-        return buffer.toString();
+        return new TimestampSlot(begin, begin + MILLIS_PER_SECOND, dateTime, buffer.toString());
     }
 
     private void pad(final int val, int max, final StringBuilder buf) {
@@ -492,13 +585,17 @@ public final class Rfc5424Layout extends AbstractStringLayout {
         if ((id == null && defaultId == null) || data.discard()) {
             return;
         }
+        formatStructuredElement(id, prefix, data.getFields(), sb);
+    }
 
+    private void formatStructuredElement(final String id, final String prefix, final Map<String, String> fields,
+                                         final StringBuilder sb) {
         sb.append('[');
         sb.append(id);
-        if (!mdcSdId.toString().equals(id)) {
-            appendMap(prefix, data.getFields(), sb, noopChecker);
+        if (!mdcSdIdString.equals(id)) {
+            appendMap(prefix, fields, sb, noopChecker);
         } else {
-            appendMap(prefix, data.getFields(), sb, checker);
+            appendMap(prefix, fields, sb, checker);
         }
         sb.append(']');
     }
@@ -531,21 +628,24 @@ public final class Rfc5424Layout extends AbstractStringLayout {
 
     private void appendMap(final String prefix, final Map<String, String> map, final StringBuilder sb,
                            final ListChecker checker) {
-        final SortedMap<String, String> sorted = new TreeMap<String, String>(map);
-        for (final Map.Entry<String, String> entry : sorted.entrySet()) {
-            if (checker.check(entry.getKey()) && entry.getValue() != null) {
+        final SortedKeys sortedKeys = SORTED_KEYS.get();
+        final String[] keys = sortedKeys.sort(map);
+        final int size = map.size();
+        for (int i = 0; i < size; i++) {
+            final String key = keys[i];
+            final String value = map.get(key);
+            if (checker.check(key) && value != null) {
                 sb.append(' ');
                 if (prefix != null) {
                     sb.append(prefix);
                 }
-                sb.append(escapeNewlines(escapeSDParams(entry.getKey()), escapeNewLine)).append("=\"")
-                    .append(escapeNewlines(escapeSDParams(entry.getValue()), escapeNewLine)).append('"');
+                appendEscaped(key, true, sb);
+                sb.append("=\"");
+                appendEscaped(value, true, sb);
+                sb.append('"');
             }
         }
-    }
-
-    private String escapeSDParams(final String value) {
-        return PARAM_VALUE_ESCAPE_PATTERN.matcher(value).replaceAll("\\\\$0");
+        sortedKeys.clearIfNotCached(map);
     }
 
     /**
@@ -585,6 +685,55 @@ public final class Rfc5424Layout extends AbstractStringLayout {
         }
     }
 
+    /**
+     * The date and time fields of one second of RFC 5424 timestamps. Immutable.
+     */
+    private static final class TimestampSlot {
+        final long begin;
+        final long end;
+        final String dateTime;
+        final String zone;
+
+        TimestampSlot(final long begin, final long end, final String dateTime, final String zone) {
+            this.begin = begin;
+            this.end = end;
+            this.dateTime = dateTime;
+            this.zone = zone;
+        }
+    }
+
+    /**
+     * Per-thread scratch space for sorting SD-PARAM names. The sorted names of the last immutable ThreadContext map
+     * are kept, since that map is the same instance until the context changes.
+     */
+    private static final class SortedKeys {
+        private Map<String, String> cachedMap;
+        private String[] keys = new String[16];
+
+        String[] sort(final Map<String, String> map) {
+            if (map == cachedMap) {
+                return keys;
+            }
+            final int size = map.size();
+            if (keys.length < size) {
+                keys = new String[size * 2];
+            }
+            int i = 0;
+            for (final String key : map.keySet()) {
+                keys[i++] = key;
+            }
+            Arrays.sort(keys, 0, size);
+            cachedMap = map == ThreadContext.getImmutableContext() ? map : null;
+            return keys;
+        }
+
+        void clearIfNotCached(final Map<String, String> map) {
+            if (map != cachedMap) {
+                Arrays.fill(keys, 0, map.size(), null);
+            }
+        }
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder();
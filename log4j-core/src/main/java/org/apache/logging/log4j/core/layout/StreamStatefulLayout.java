@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.layout;
+
+/**
+ * Implemented by layouts whose output depends on what was written to the stream before it, for example frames that
+ * refer back to state the layout resets each time it returns its {@link org.apache.logging.log4j.core.Layout#getHeader()
+ * header}.
+ * <p>
+ * Appenders writing to a stream that is reopened, such as a socket that reconnects, must then format and write each
+ * event while holding the lock under which their manager writes the header, so that no event formatted before a
+ * header is written after it.
+ * </p>
+ */
+public interface StreamStatefulLayout {
+
+    /**
+     * Returns whether events must be formatted and written under the manager's lock.
+     *
+     * @return true if the layout's output depends on the state of the stream.
+     */
+    boolean isStreamStateful();
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.layout;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Encodes the contents of a {@link StringBuilder} into a {@link ByteBufferDestination} without creating intermediate
+ * {@code String} or {@code byte[]} objects.
+ * <p>
+ * Instances reuse their {@link CharsetEncoder} and character buffer and are therefore not thread-safe: each thread
+ * should use its own instance.
+ * </p>
+ */
+public class StringBuilderEncoder {
+
+    /**
+     * The default number of characters copied out of the StringBuilder at a time.
+     */
+    public static final int DEFAULT_CHAR_BUFFER_SIZE = 2048;
+
+    private final Charset charset;
+    private final CharsetEncoder charsetEncoder;
+    private final CharBuffer charBuffer;
+
+    public StringBuilderEncoder(final Charset charset) {
+        this(charset, DEFAULT_CHAR_BUFFER_SIZE);
+    }
+
+    public StringBuilderEncoder(final Charset charset, final int charBufferSize) {
+        this.charset = charset;
+        this.charsetEncoder = charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.charBuffer = CharBuffer.wrap(new char[charBufferSize]);
+    }
+
+    /**
+     * Encodes the characters of the specified StringBuilder into the destination.
+     *
+     * @param source the text to encode
+     * @param destination the destination to write the encoded bytes to
+     */
+    public void encode(final StringBuilder source, final ByteBufferDestination destination) {
+        charsetEncoder.reset();
+        ByteBuffer byteBuf = destination.getByteBuffer();
+        final int length = source.length();
+        int start = 0;
+        while (start < length) {
+            int end = Math.min(length, start + charBuffer.capacity());
+            if (end < length && Character.isHighSurrogate(source.charAt(end - 1))) {
+                end--; // never split a surrogate pair between two chunks
+            }
+            charBuffer.clear();
+            source.getChars(start, end, charBuffer.array(), charBuffer.arrayOffset());
+            charBuffer.limit(end - start);
+            start = end;
+            byteBuf = encodeChunk(byteBuf, destination, start == length);
+        }
+        flushEncoder(byteBuf, destination);
+    }
+
+    private ByteBuffer encodeChunk(ByteBuffer byteBuf, final ByteBufferDestination destination,
+            final boolean endOfInput) {
+        for (;;) {
+            final CoderResult result = charsetEncoder.encode(charBuffer, byteBuf, endOfInput);
+            if (result.isUnderflow()) {
+                return byteBuf;
+            }
+            byteBuf = drainOrThrow(result, byteBuf, destination);
+        }
+    }
+
+    private void flushEncoder(ByteBuffer byteBuf, final ByteBufferDestination destination) {
+        for (;;) {
+            final CoderResult result = charsetEncoder.flush(byteBuf);
+            if (result.isUnderflow()) {
+                return;
+            }
+            byteBuf = drainOrThrow(result, byteBuf, destination);
+        }
+    }
+
+    private ByteBuffer drainOrThrow(final CoderResult result, final ByteBuffer byteBuf,
+            final ByteBufferDestination destination) {
+        if (!result.isOverflow()) {
+            // cannot happen with CodingErrorAction.REPLACE
+            throw new IllegalStateException("Unable to encode text as " + charset + ": " + result);
+        }
+        return destination.drain(byteBuf);
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+}
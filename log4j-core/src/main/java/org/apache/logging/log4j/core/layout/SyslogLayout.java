@@ -18,11 +18,9 @@ package org.apache.logging.log4j.core.layout;
 
 import java.nio.charset.Charset;
 import java.text.SimpleDateFormat;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.logging.log4j.core.LogEvent;
@@ -31,7 +29,10 @@ import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
 import org.apache.logging.log4j.core.config.plugins.PluginFactory;
 import org.apache.logging.log4j.core.net.Facility;
 import org.apache.logging.log4j.core.net.Priority;
+import org.apache.logging.log4j.core.pattern.CachedDateFormatter;
 import org.apache.logging.log4j.core.util.NetUtils;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
 
 
 /**
@@ -49,13 +50,14 @@ public final class SyslogLayout extends AbstractStringLayout {
     private final String escapeNewLine;
 
     /**
-     * Date format used if header = true.
+     * Date format used if header = true. Formats each second only once and is safe to share between threads.
      */
-    private final SimpleDateFormat dateFormat = new SimpleDateFormat("MMM dd HH:mm:ss ", Locale.ENGLISH);
+    private final CachedDateFormatter dateFormat = new CachedDateFormatter(new SimpleDateFormat("MMM dd HH:mm:ss ",
+            Locale.ENGLISH));
     /**
-     * Host name used to identify messages from this appender.
+     * Host name used to identify messages from this appender, followed by a space.
      */
-    private final String localHostname = NetUtils.getLocalHostname();
+    private final String localHostnameField = NetUtils.getLocalHostname() + ' ';
 
 
 
@@ -63,7 +65,7 @@ public final class SyslogLayout extends AbstractStringLayout {
         super(charset);
         this.facility = facility;
         this.includeNewLine = includeNL;
-        this.escapeNewLine = escapeNL == null ? null : Matcher.quoteReplacement(escapeNL);
+        this.escapeNewLine = escapeNL;
     }
 
     /**
@@ -74,37 +76,72 @@ public final class SyslogLayout extends AbstractStringLayout {
      */
     @Override
     public String toSerializable(final LogEvent event) {
-        final StringBuilder buf = new StringBuilder();
+        return toText(event, new StringBuilder()).toString();
+    }
+
+    /**
+     * Formats the event into the destination without creating a String or byte array for it.
+     *
+     * @param event The LogEvent
+     * @param destination The destination that receives the formatted bytes.
+     */
+    @Override
+    public void encode(final LogEvent event, final ByteBufferDestination destination) {
+        encodeText(toText(event, getStringBuilder()), destination);
+    }
 
+    private StringBuilder toText(final LogEvent event, final StringBuilder buf) {
         buf.append('<');
         buf.append(Priority.getPriority(facility, event.getLevel()));
         buf.append('>');
         addDate(event.getTimeMillis(), buf);
         buf.append(' ');
-        buf.append(localHostname);
-        buf.append(' ');
+        buf.append(localHostnameField);
 
-        String message = event.getMessage().getFormattedMessage();
-        if (null != escapeNewLine) {
-            message = NEWLINE_PATTERN.matcher(message).replaceAll(escapeNewLine);
+        final Message message = event.getMessage();
+        if (null == escapeNewLine && message instanceof StringBuilderFormattable) {
+            ((StringBuilderFormattable) message).formatTo(buf);
+        } else {
+            appendEscaped(message.getFormattedMessage(), buf);
         }
-        buf.append(message);
 
         if (includeNewLine) {
             buf.append('\n');
         }
-        return buf.toString();
+        return buf;
     }
 
-    private synchronized void addDate(final long timestamp, final StringBuilder buf) {
+    private void addDate(final long timestamp, final StringBuilder buf) {
         final int index = buf.length() + 4;
-        buf.append(dateFormat.format(new Date(timestamp)));
+        dateFormat.format(timestamp, buf);
         //  RFC 3164 says leading space, not leading zero on days 1-9
         if (buf.charAt(index) == '0') {
             buf.setCharAt(index, ' ');
         }
     }
 
+    /**
+     * Appends the text, replacing each line break matched by {@link #NEWLINE_PATTERN} with the newline escape.
+     */
+    private void appendEscaped(final String text, final StringBuilder buf) {
+        if (null == escapeNewLine) {
+            buf.append(text);
+            return;
+        }
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c == '\n') {
+                buf.append(escapeNewLine);
+            } else if (c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n') {
+                buf.append(escapeNewLine);
+                i++;
+            } else {
+                buf.append(c);
+            }
+        }
+    }
+
     /**
      * SyslogLayout's content format is specified by:<p/>
      * Key: "structured" Value: "false"<p/>
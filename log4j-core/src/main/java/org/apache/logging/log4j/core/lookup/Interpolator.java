@@ -49,6 +49,9 @@ public class Interpolator implements StrLookup {
         for (final Map.Entry<String, PluginType<?>> entry : plugins.entrySet()) {
             @SuppressWarnings("unchecked")
             final Class<? extends StrLookup> clazz = (Class<? extends StrLookup>) entry.getValue().getPluginClass();
+            if (clazz == null) {
+                continue;
+            }
             try {
                 lookups.put(entry.getKey(), clazz.getConstructor().newInstance());
             } catch (final Exception ex) {
@@ -41,6 +41,7 @@ import org.apache.logging.log4j.core.Layout;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.AbstractManager;
 import org.apache.logging.log4j.core.appender.ManagerFactory;
+import org.apache.logging.log4j.core.impl.ReusableLogEventFactory;
 import org.apache.logging.log4j.core.util.CyclicBuffer;
 import org.apache.logging.log4j.core.util.NameUtil;
 import org.apache.logging.log4j.core.util.NetUtils;
@@ -71,7 +72,7 @@ public class SmtpManager extends AbstractManager {
     }
 
     public void add(final LogEvent event) {
-        buffer.add(event);
+        buffer.add(ReusableLogEventFactory.memento(event));
     }
 
     public static SmtpManager getSMTPManager(final String to, final String cc, final String bcc,
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.net;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * Bounded store for the bytes written while a socket connection is down, replayed once it is reestablished. The bytes
+ * are kept in memory, or appended to a local file if a file name is given. The file holds each chunk that was added,
+ * which is a whole number of frames, preceded by its length, so that a spool file left by a previous run, which is
+ * replayed with the first reconnection, is only cut between chunks. Callers synchronize access.
+ */
+final class SocketSpool {
+
+    private static final Logger LOGGER = StatusLogger.getLogger();
+
+    private static final int REPLAY_CHUNK_SIZE = 8 * 1024;
+
+    /** Length of the prefix of each chunk in a spool file. */
+    private static final int LENGTH_PREFIX_SIZE = 4;
+
+    private final int maxSize;
+    private final String fileName;
+    private RandomAccessFile file;
+    private byte[] memory;
+    private int size;
+
+    SocketSpool(final int maxSize, final String fileName) throws IOException {
+        this.maxSize = maxSize;
+        this.fileName = fileName;
+        if (fileName == null) {
+            this.memory = new byte[Math.min(maxSize, REPLAY_CHUNK_SIZE)];
+        } else {
+            final File parent = new File(fileName).getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.exists()) {
+                parent.mkdirs();
+            }
+            this.file = new RandomAccessFile(fileName, "rw");
+            this.size = countWholeChunks();
+            if (size < file.length()) {
+                LOGGER.warn("Discarding {} bytes of spool file {} that exceed its size or were not completely written",
+                    file.length() - size, fileName);
+                this.file.setLength(size);
+            }
+        }
+    }
+
+    /**
+     * Returns the length of the chunks at the start of the spool file that are complete and fit in the spool.
+     */
+    private int countWholeChunks() throws IOException {
+        final long length = file.length();
+        long position = 0;
+        file.seek(0);
+        while (position + LENGTH_PREFIX_SIZE <= length) {
+            final int chunkLength = file.readInt();
+            final long end = position + LENGTH_PREFIX_SIZE + chunkLength;
+            if (chunkLength < 0 || end > length || end > maxSize) {
+                break;
+            }
+            file.seek(end);
+            position = end;
+        }
+        return (int) position;
+    }
+
+    /**
+     * Adds bytes to the spool.
+     *
+     * @param bytes The bytes to add.
+     * @param offset The offset of the first byte.
+     * @param length The number of bytes.
+     * @return false if the spool has no room for the bytes, in which case nothing is added.
+     * @throws IOException if the spool file cannot be written.
+     */
+    boolean add(final byte[] bytes, final int offset, final int length) throws IOException {
+        final int stored = file != null ? LENGTH_PREFIX_SIZE + length : length;
+        if (stored > maxSize - size) {
+            return false;
+        }
+        if (file != null) {
+            file.seek(size);
+            file.writeInt(length);
+            file.write(bytes, offset, length);
+        } else {
+            if (size + length > memory.length) {
+                final byte[] larger = new byte[Math.min(maxSize, Math.max(memory.length * 2, size + length))];
+                System.arraycopy(memory, 0, larger, 0, size);
+                memory = larger;
+            }
+            System.arraycopy(bytes, offset, memory, size, length);
+        }
+        size += stored;
+        return true;
+    }
+
+    /**
+     * Returns the number of bytes in the spool, including the length of each chunk in a spool file.
+     *
+     * @return The number of spooled bytes.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Writes the spooled bytes to the stream and empties the spool. If the stream fails, the spool keeps all its
+     * bytes, so a part of them may be sent again after the next reconnection.
+     *
+     * @param os The stream of the new connection.
+     * @throws IOException if the stream or the spool file fails.
+     */
+    void replay(final OutputStream os) throws IOException {
+        if (size == 0) {
+            return;
+        }
+        if (file != null) {
+            final byte[] chunk = new byte[REPLAY_CHUNK_SIZE];
+            file.seek(0);
+            long position = 0;
+            while (position < size) {
+                int remaining = file.readInt();
+                position += LENGTH_PREFIX_SIZE + remaining;
+                while (remaining > 0) {
+                    final int length = file.read(chunk, 0, Math.min(chunk.length, remaining));
+                    if (length < 0) {
+                        throw new IOException("Spool file " + fileName + " is shorter than expected");
+                    }
+                    os.write(chunk, 0, length);
+                    remaining -= length;
+                }
+            }
+            os.flush();
+            file.setLength(0);
+        } else {
+            os.write(memory, 0, size);
+            os.flush();
+            if (memory.length > REPLAY_CHUNK_SIZE) {
+                memory = new byte[REPLAY_CHUNK_SIZE]; // do not hold on to the memory of a long outage
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Releases the spool file, which keeps the bytes that were not replayed.
+     */
+    void close() {
+        if (file != null) {
+            try {
+                file.close();
+            } catch (final IOException ex) {
+                LOGGER.error("Unable to close spool file " + fileName + ". " + ex);
+            }
+            file = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return fileName == null ? "memory" : fileName;
+    }
+}
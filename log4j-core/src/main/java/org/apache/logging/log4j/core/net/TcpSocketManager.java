@@ -24,18 +24,35 @@ import java.net.ConnectException;
 import java.net.InetAddress;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 
 import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.AppenderLoggingException;
 import org.apache.logging.log4j.core.appender.ManagerFactory;
 import org.apache.logging.log4j.core.appender.OutputStreamManager;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.StreamStatefulLayout;
 import org.apache.logging.log4j.util.Strings;
 
 /**
  * Manager of TCP Socket connections.
+ * <p>
+ * By default every event is written to the socket as soon as it is appended. With a buffer size, events are gathered
+ * in a buffer that is sent when it is full, when the appender flushes (at the end of a batch of asynchronous events,
+ * or after every event with {@code immediateFlush}), and at the flush interval. With a spool size, the bytes written
+ * while the connection is down are spooled, in memory or to a local file, and sent once the connection is
+ * reestablished; writes only fail once the spool is full.
+ * </p>
+ * <p>
+ * The frames of a {@link StreamStatefulLayout} refer to the state of the connection they were written to, so with such
+ * a layout the spool starts with a header of its own, and the events whose frames were written to the lost connection
+ * but not sent are encoded again after it.
+ * </p>
  */
 public class TcpSocketManager extends AbstractSocketManager {
     /**
@@ -59,6 +76,30 @@ public class TcpSocketManager extends AbstractSocketManager {
 
     private final boolean immediateFail;
 
+    private final byte[] buffer;
+
+    private int bufferCount;
+
+    private final SocketSpool spool;
+
+    /** Whether spooled events are encoded again after a header, see {@link StreamStatefulLayout}. */
+    private final boolean reencodeSpooled;
+
+    /** Copies of the events in the buffer, kept when they may have to be encoded again. */
+    private final List<LogEvent> bufferedEvents;
+
+    /** The number of headers written since the manager was created. */
+    private int headers;
+
+    /** The value of headers when the header that starts the spooled frames was added to the spool, or -1. */
+    private int spoolHeaders = -1;
+
+    /** The event whose frame is being written, and the value of headers when its encoding started. */
+    private LogEvent encoding;
+    private int encodingHeaders;
+
+    private Flusher flusher;
+
     /**
      * The Constructor.
      * @param name The unique name of this connection.
@@ -74,16 +115,55 @@ public class TcpSocketManager extends AbstractSocketManager {
     public TcpSocketManager(final String name, final OutputStream os, final Socket sock, final InetAddress inetAddress,
                             final String host, final int port, final int delay, final boolean immediateFail,
                             final Layout<? extends Serializable> layout) {
+        this(name, os, sock, inetAddress, host, port, delay, immediateFail, layout, 0, 0, null);
+    }
+
+    /**
+     * The Constructor.
+     * @param name The unique name of this connection.
+     * @param os The OutputStream.
+     * @param sock The Socket.
+     * @param inetAddress The internet address of the host.
+     * @param host The name of the host.
+     * @param port The port number on the host.
+     * @param delay Reconnection interval.
+     * @param immediateFail
+     * @param layout The Layout.
+     * @param bufferSize The size of the buffer events are gathered in, or 0 to write every event to the socket.
+     * @param flushInterval The maximum number of milliseconds buffered events wait to be sent, or 0 for no limit.
+     * @param spool The spool for the bytes written while the connection is down, or null.
+     */
+    protected TcpSocketManager(final String name, final OutputStream os, final Socket sock,
+                               final InetAddress inetAddress, final String host, final int port, final int delay,
+                               final boolean immediateFail, final Layout<? extends Serializable> layout,
+                               final int bufferSize, final int flushInterval, final SocketSpool spool) {
         super(name, os, inetAddress, host, port, layout);
         this.reconnectionDelay = delay;
         this.socket = sock;
         this.immediateFail = immediateFail;
+        this.buffer = bufferSize > 0 ? new byte[bufferSize] : null;
+        this.spool = spool;
+        this.reencodeSpooled = spool != null && layout instanceof StreamStatefulLayout
+                && ((StreamStatefulLayout) layout).isStreamStateful();
+        this.bufferedEvents = reencodeSpooled && buffer != null ? new ArrayList<LogEvent>() : null;
         retry = delay > 0;
+        if (buffer != null && flushInterval > 0) {
+            flusher = new Flusher(flushInterval);
+            flusher.setDaemon(true);
+            flusher.setPriority(Thread.MIN_PRIORITY);
+            flusher.start();
+        }
         if (sock == null) {
             connector = new Reconnector(this);
             connector.setDaemon(true);
             connector.setPriority(Thread.MIN_PRIORITY);
             connector.start();
+        } else if (spool != null) {
+            try {
+                replaySpool(os);
+            } catch (final IOException ex) {
+                LOGGER.error("Unable to replay the spool of " + name + ". " + ex);
+            }
         }
     }
 
@@ -94,8 +174,27 @@ public class TcpSocketManager extends AbstractSocketManager {
      * @param delay The interval to pause between retries.
      * @return A TcpSocketManager.
      */
-    public static TcpSocketManager getSocketManager(final String host, int port, int delay,
+    public static TcpSocketManager getSocketManager(final String host, final int port, final int delay,
                                                     final boolean immediateFail, final Layout<? extends Serializable> layout ) {
+        return getSocketManager(host, port, delay, immediateFail, layout, 0, 0, 0, null);
+    }
+
+    /**
+     * Obtain a TcpSocketManager.
+     * @param host The host to connect to.
+     * @param port The port on the host.
+     * @param delay The interval to pause between retries.
+     * @param bufferSize The size of the buffer events are gathered in, or 0 to write every event to the socket.
+     * @param flushInterval The maximum number of milliseconds buffered events wait to be sent, or 0 for no limit.
+     * @param spoolSize The maximum number of bytes kept while the connection is down, or 0 to keep none.
+     * @param spoolFile The file the bytes are kept in while the connection is down, or null to keep them in memory.
+     * @return A TcpSocketManager.
+     */
+    public static TcpSocketManager getSocketManager(final String host, int port, int delay,
+                                                    final boolean immediateFail,
+                                                    final Layout<? extends Serializable> layout, final int bufferSize,
+                                                    final int flushInterval, final int spoolSize,
+                                                    final String spoolFile) {
         if (Strings.isEmpty(host)) {
             throw new IllegalArgumentException("A host name is required");
         }
@@ -106,44 +205,221 @@ public class TcpSocketManager extends AbstractSocketManager {
             delay = DEFAULT_RECONNECTION_DELAY;
         }
         return (TcpSocketManager) getManager("TCP:" + host + ':' + port,
-            new FactoryData(host, port, delay, immediateFail, layout), FACTORY);
+            new FactoryData(host, port, delay, immediateFail, layout, bufferSize, flushInterval, spoolSize, spoolFile),
+            FACTORY);
     }
 
+    /**
+     * Remembers the event while its frame is written when it may have to be encoded again.
+     */
     @Override
-    protected void write(final byte[] bytes, final int offset, final int length)  {
-        if (socket == null) {
-            if (connector != null && !immediateFail) {
-                connector.latch();
+    protected void encode(final Layout<?> layout, final LogEvent event) {
+        if (!reencodeSpooled) {
+            super.encode(layout, event);
+            return;
+        }
+        synchronized (this) {
+            encoding = event;
+            encodingHeaders = headers;
+            try {
+                super.encode(layout, event);
+            } finally {
+                encoding = null;
             }
+        }
+    }
+
+    @Override
+    protected void write(final byte[] bytes, final int offset, final int length)  {
+        // an appender holding the lock for a stream stateful layout would keep the reconnector from finishing
+        if (socket == null && connector != null && !immediateFail && spool == null && !Thread.holdsLock(this)) {
+            connector.latch();
+        }
+        synchronized (this) {
             if (socket == null) {
-                final String msg = "Error writing to " + getName() + " socket not available";
-                throw new AppenderLoggingException(msg);
+                spool(bytes, offset, length, null);
+                return;
+            }
+            try {
+                if (buffer == null) {
+                    getOutputStream().write(bytes, offset, length);
+                } else if (length > buffer.length - bufferCount) {
+                    flushBuffer();
+                    if (length >= buffer.length) {
+                        getOutputStream().write(bytes, offset, length);
+                    } else {
+                        System.arraycopy(bytes, offset, buffer, 0, length);
+                        bufferCount = length;
+                        buffered();
+                    }
+                } else {
+                    System.arraycopy(bytes, offset, buffer, bufferCount, length);
+                    bufferCount += length;
+                    buffered();
+                }
+            } catch (final IOException ex) {
+                connectionFailed();
+                spool(bytes, offset, length, ex);
             }
         }
-        synchronized (this) {
+    }
+
+    /**
+     * Sends the buffered events and flushes the socket stream.
+     */
+    @Override
+    public synchronized void flush() {
+        if (bufferCount > 0 && socket != null) {
             try {
-                getOutputStream().write(bytes, offset, length);
+                flushBuffer();
             } catch (final IOException ex) {
-                if (retry && connector == null) {
-                    connector = new Reconnector(this);
-                    connector.setDaemon(true);
-                    connector.setPriority(Thread.MIN_PRIORITY);
-                    connector.start();
+                connectionFailed();
+                if (spool == null) {
+                    throw new AppenderLoggingException("Error writing to " + getName(), ex);
                 }
-                final String msg = "Error writing to " + getName();
-                throw new AppenderLoggingException(msg, ex);
+                return;
+            }
+        }
+        super.flush();
+    }
+
+    private void buffered() {
+        if (bufferedEvents != null && encoding != null) {
+            bufferedEvents.add(Log4jLogEvent.createMemento(encoding, encoding.isIncludeLocation()));
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (bufferCount > 0) {
+            // the buffer is kept until it is written, so that it can be spooled if the connection fails
+            getOutputStream().write(buffer, 0, bufferCount);
+            bufferCount = 0;
+            if (bufferedEvents != null) {
+                bufferedEvents.clear();
             }
         }
     }
 
+    /**
+     * Starts reconnecting after a write failed. With a spool, the buffered events are moved to the spool and later
+     * writes go to the spool until the connection is reestablished; otherwise the buffered events are lost.
+     */
+    private void connectionFailed() {
+        if (retry && connector == null) {
+            connector = new Reconnector(this);
+            connector.setDaemon(true);
+            connector.setPriority(Thread.MIN_PRIORITY);
+            connector.start();
+        }
+        final int count = bufferCount;
+        bufferCount = 0;
+        if (spool != null) {
+            socket = null;
+            if (reencodeSpooled) {
+                // the buffered frames refer to the state of the lost connection
+                if (count > 0) {
+                    final List<LogEvent> events = new ArrayList<LogEvent>(bufferedEvents);
+                    bufferedEvents.clear();
+                    startSpool();
+                    for (final LogEvent event : events) {
+                        final byte[] frame = layout.toByteArray(event);
+                        addToSpool(frame, 0, frame.length);
+                    }
+                }
+            } else if (count > 0) {
+                spool(buffer, 0, count, null);
+            }
+        }
+    }
+
+    /**
+     * Adds a header to the spool, after which the layout encodes events without referring to an earlier state.
+     */
+    private void startSpool() {
+        final byte[] header = layout.getHeader();
+        ++headers;
+        spoolHeaders = headers;
+        if (header != null) {
+            addToSpool(header, 0, header.length);
+        }
+    }
+
+    /**
+     * Sends the spooled bytes to the stream of a new connection, after its header.
+     */
+    private void replaySpool(final OutputStream os) throws IOException {
+        if (spool.size() == 0) {
+            return;
+        }
+        spool.replay(os);
+        if (reencodeSpooled) {
+            // the receiver now holds the state of the spooled frames, start over for the events that follow
+            final byte[] header = layout.getHeader();
+            ++headers;
+            if (header != null) {
+                os.write(header, 0, header.length);
+            }
+        }
+    }
+
+    private void spool(final byte[] bytes, final int offset, final int length, final IOException cause) {
+        if (spool == null) {
+            if (cause != null) {
+                throw new AppenderLoggingException("Error writing to " + getName(), cause);
+            }
+            throw new AppenderLoggingException("Error writing to " + getName() + " socket not available");
+        }
+        if (reencodeSpooled) {
+            if (spoolHeaders != headers) {
+                startSpool();
+            }
+            if (encoding != null && encodingHeaders != spoolHeaders) {
+                // the frame was encoded before the spool was started
+                encodingHeaders = spoolHeaders;
+                final byte[] frame = layout.toByteArray(encoding);
+                addToSpool(frame, 0, frame.length);
+                return;
+            }
+        }
+        addToSpool(bytes, offset, length);
+    }
+
+    private void addToSpool(final byte[] bytes, final int offset, final int length) {
+        final boolean added;
+        try {
+            added = spool.add(bytes, offset, length);
+        } catch (final IOException ex) {
+            throw new AppenderLoggingException("Error writing to " + getName() + " spool " + spool, ex);
+        }
+        if (!added) {
+            throw new AppenderLoggingException("Error writing to " + getName() + " socket not available and spool "
+                + spool + " is full");
+        }
+    }
+
     @Override
     protected synchronized void close() {
+        if (bufferCount > 0 && socket != null) {
+            try {
+                flushBuffer();
+            } catch (final IOException ex) {
+                LOGGER.error("Unable to send the buffered events to " + getName() + ". " + ex);
+            }
+        }
         super.close();
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.interrupt();
+            flusher = null;
+        }
         if (connector != null) {
             connector.shutdown();
             connector.interrupt();
             connector = null;
         }
+        if (spool != null) {
+            spool.close();
+        }
     }
 
     /**
@@ -203,6 +479,10 @@ public class TcpSocketManager extends AbstractSocketManager {
                         }
 
                         setOutputStream(newOS);
+                        ++headers;
+                        if (spool != null) {
+                            replaySpool(newOS);
+                        }
                         socket = sock;
                         connector = null;
                         shutdown = true;
@@ -221,6 +501,38 @@ public class TcpSocketManager extends AbstractSocketManager {
         }
     }
 
+    /**
+     * Sends the buffered events that have waited for the flush interval.
+     */
+    private class Flusher extends Thread {
+
+        private final int interval;
+
+        private volatile boolean shutdown = false;
+
+        public Flusher(final int interval) {
+            this.interval = interval;
+        }
+
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public void run() {
+            while (!shutdown) {
+                try {
+                    sleep(interval);
+                    flush();
+                } catch (final InterruptedException ie) {
+                    LOGGER.debug("Flusher interrupted.");
+                } catch (final AppenderLoggingException ex) {
+                    LOGGER.debug("Unable to flush " + getName() + ". " + ex);
+                }
+            }
+        }
+    }
+
     protected Socket createSocket(final InetAddress host, final int port) throws IOException {
         return createSocket(host.getHostName(), port);
     }
@@ -238,14 +550,23 @@ public class TcpSocketManager extends AbstractSocketManager {
         private final int delay;
         private final boolean immediateFail;
         private final Layout<? extends Serializable> layout;
+        private final int bufferSize;
+        private final int flushInterval;
+        private final int spoolSize;
+        private final String spoolFile;
 
         public FactoryData(final String host, final int port, final int delay, final boolean immediateFail,
-                           final Layout<? extends Serializable> layout) {
+                           final Layout<? extends Serializable> layout, final int bufferSize,
+                           final int flushInterval, final int spoolSize, final String spoolFile) {
             this.host = host;
             this.port = port;
             this.delay = delay;
             this.immediateFail = immediateFail;
             this.layout = layout;
+            this.bufferSize = bufferSize;
+            this.flushInterval = flushInterval;
+            this.spoolSize = spoolSize;
+            this.spoolFile = spoolFile;
         }
     }
 
@@ -264,20 +585,32 @@ public class TcpSocketManager extends AbstractSocketManager {
                 LOGGER.error("Could not find address of " + data.host, ex);
                 return null;
             }
+            SocketSpool spool = null;
+            if (data.spoolSize > 0) {
+                try {
+                    spool = new SocketSpool(data.spoolSize, data.spoolFile);
+                } catch (final IOException ex) {
+                    LOGGER.error("TcpSocketManager (" + name + ") unable to open spool file " + data.spoolFile, ex);
+                    return null;
+                }
+            }
             try {
                 final Socket socket = new Socket(data.host, data.port);
                 os = socket.getOutputStream();
                 return new TcpSocketManager(name, os, socket, inetAddress, data.host, data.port, data.delay,
-                    data.immediateFail, data.layout);
+                    data.immediateFail, data.layout, data.bufferSize, data.flushInterval, spool);
             } catch (final IOException ex) {
                 LOGGER.error("TcpSocketManager (" + name + ") " + ex);
                 os = new ByteArrayOutputStream();
             }
             if (data.delay == 0) {
+                if (spool != null) {
+                    spool.close();
+                }
                 return null;
             }
             return new TcpSocketManager(name, os, null, inetAddress, data.host, data.port, data.delay, data.immediateFail,
-                data.layout);
+                data.layout, data.bufferSize, data.flushInterval, spool);
         }
     }
 }
@@ -0,0 +1,449 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.net.server;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LogEventListener;
+import org.apache.logging.log4j.core.impl.ExtendedClassInfo;
+import org.apache.logging.log4j.core.impl.ExtendedStackTraceElement;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.impl.ThrowableProxy;
+import org.apache.logging.log4j.core.layout.BinaryLayout;
+import org.apache.logging.log4j.core.util.Charsets;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.spi.MutableThreadContextStack;
+
+/**
+ * Reads and logs {@link LogEvent}s written by a {@link BinaryLayout}.
+ * <p>
+ * The dictionaries the events refer to are kept in the {@link BinaryInputStream} returned by
+ * {@link #wrapStream(InputStream)}, so the bridge itself is stateless.
+ * </p>
+ * <p>
+ * The stream usually comes from the network, so the frame length, the number of dictionaries and the nesting of
+ * markers and exceptions are bounded; a stream exceeding them is rejected with an {@link IOException}, which closes
+ * the connection. The stream cannot change the levels and markers of this process: an unknown level name is logged
+ * at the closest existing level, and a marker sent with parents is a copy private to the event.
+ * </p>
+ */
+public class BinaryInputStreamLogEventBridge extends
+        AbstractLogEventBridge<BinaryInputStreamLogEventBridge.BinaryInputStream> implements FrameDecoder {
+
+    /** Length of the header, including the zero length that introduces it. */
+    private static final int HEADER_LENGTH = 5;
+
+    /** Maximum number of bytes of a varint that holds an int. */
+    private static final int MAX_VARINT_LENGTH = 5;
+
+    /** Default maximum length of a frame body. */
+    public static final int DEFAULT_MAX_FRAME_LENGTH = 1024 * 1024;
+
+    /** Maximum number of dictionary channels of a stream. */
+    public static final int MAX_DICTIONARIES = 256;
+
+    /** Maximum nesting of marker parents and of exception causes and suppressed exceptions. */
+    public static final int MAX_NESTING_DEPTH = 100;
+
+    /** Levels an event with an unknown level name is mapped to, from the most to the least severe. */
+    private static final Level[] STANDARD_LEVELS = {Level.FATAL, Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG,
+        Level.TRACE};
+
+    private final int maxFrameLength;
+
+    /**
+     * Creates a bridge that accepts frames of up to {@link #DEFAULT_MAX_FRAME_LENGTH} bytes.
+     */
+    public BinaryInputStreamLogEventBridge() {
+        this(DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    /**
+     * Creates a bridge.
+     *
+     * @param maxFrameLength the maximum length of a frame body; longer frames close the stream.
+     */
+    public BinaryInputStreamLogEventBridge(final int maxFrameLength) {
+        if (maxFrameLength <= 0) {
+            throw new IllegalArgumentException("Invalid maximum frame length " + maxFrameLength);
+        }
+        this.maxFrameLength = maxFrameLength;
+    }
+
+    /**
+     * Reads one or more frames: the first one blocking, the following ones as long as they are available without
+     * blocking, so that all the events of a UDP datagram are logged.
+     *
+     * @throws java.io.EOFException if the end of the stream is reached before a frame is read.
+     */
+    @Override
+    public void logEvents(final BinaryInputStream inputStream, final LogEventListener logEventListener)
+            throws IOException {
+        do {
+            final int length = inputStream.readVarint();
+            if (length == 0) {
+                inputStream.readHeader();
+                continue;
+            }
+            final Decoder decoder = new Decoder(inputStream.readFrame(length), length, inputStream.dictionaries);
+            final LogEvent event;
+            try {
+                event = decoder.decodeEvent();
+            } catch (final UnknownDictionaryEntryException ex) {
+                logger.warn("Skipping binary log event: {}", ex.getMessage());
+                continue;
+            } catch (final ArrayIndexOutOfBoundsException ex) {
+                logger.error("Skipping corrupt binary log event of {} bytes", length);
+                continue;
+            }
+            logEventListener.log(event);
+        } while (inputStream.available() > 0);
+    }
+
+    @Override
+    public int frameLength(final ByteBuffer buffer) throws IOException {
+        final int start = buffer.position();
+        final int end = buffer.limit();
+        int length = 0;
+        for (int i = 0; i < MAX_VARINT_LENGTH; i++) {
+            if (start + i >= end) {
+                return -1;
+            }
+            final byte b = buffer.get(start + i);
+            length |= (b & 0x7F) << (7 * i);
+            if (b >= 0) {
+                if (length < 0 || length > maxFrameLength) {
+                    throw new IOException("Invalid frame length " + length + " in binary log event stream");
+                }
+                return length == 0 ? HEADER_LENGTH : i + 1 + length;
+            }
+        }
+        throw new IOException("Malformed varint in binary log event stream");
+    }
+
+    @Override
+    public BinaryInputStream wrapStream(final InputStream inputStream) throws IOException {
+        return new BinaryInputStream(inputStream, maxFrameLength);
+    }
+
+    /**
+     * Holds the dictionaries of the stream being read.
+     */
+    public static class BinaryInputStream extends DataInputStream {
+
+        private final Map<Integer, List<String>> dictionaries = new HashMap<Integer, List<String>>();
+        private final int maxFrameLength;
+        private byte[] frame = new byte[512];
+
+        public BinaryInputStream(final InputStream in) {
+            this(in, DEFAULT_MAX_FRAME_LENGTH);
+        }
+
+        public BinaryInputStream(final InputStream in, final int maxFrameLength) {
+            super(in);
+            this.maxFrameLength = maxFrameLength;
+        }
+
+        int readVarint() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                final byte b = readByte();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint in binary log event stream");
+        }
+
+        void readHeader() throws IOException {
+            if (readByte() != 'L' || readByte() != '4' || readByte() != 'J') {
+                throw new IOException("Not a binary log event stream");
+            }
+            final int version = readByte();
+            if (version > BinaryLayout.VERSION) {
+                throw new IOException("Unsupported binary log event format version " + version);
+            }
+            dictionaries.clear();
+        }
+
+        byte[] readFrame(final int length) throws IOException {
+            if (length < 0 || length > maxFrameLength) {
+                throw new IOException("Binary log event of " + length + " bytes exceeds the maximum frame length "
+                        + maxFrameLength);
+            }
+            if (frame.length < length) {
+                frame = new byte[Math.max(length, frame.length * 2)];
+            }
+            readFully(frame, 0, length);
+            return frame;
+        }
+    }
+
+    /**
+     * Thrown when an event refers to a dictionary entry that was not defined on this stream, for example because the
+     * stream was reconnected while the event was being written.
+     */
+    private static class UnknownDictionaryEntryException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        UnknownDictionaryEntryException(final int channel, final int index) {
+            super("unknown dictionary entry " + index + " in channel " + channel);
+        }
+    }
+
+    /**
+     * Decodes one frame body.
+     */
+    private static final class Decoder {
+        private final byte[] buf;
+        private final int limit;
+        private final Map<Integer, List<String>> dictionaries;
+        private int pos;
+        private int channel;
+        private List<String> dictionary;
+
+        Decoder(final byte[] buf, final int limit, final Map<Integer, List<String>> dictionaries) {
+            this.buf = buf;
+            this.limit = limit;
+            this.dictionaries = dictionaries;
+        }
+
+        LogEvent decodeEvent() throws IOException {
+            final int flags = readVarint();
+            channel = readVarint();
+            if (channel != 0) {
+                dictionary = dictionaries.get(Integer.valueOf(channel));
+                if (dictionary == null) {
+                    if (dictionaries.size() >= MAX_DICTIONARIES) {
+                        throw new IOException("Binary log event stream uses more than " + MAX_DICTIONARIES
+                                + " dictionary channels");
+                    }
+                    dictionary = new ArrayList<String>();
+                    dictionaries.put(Integer.valueOf(channel), dictionary);
+                }
+            }
+            final int intLevel = readVarint();
+            final String loggerName = readDictionaryString();
+            final String loggerFqcn = readDictionaryString();
+            final String levelName = readDictionaryString();
+            final long timeMillis = readVarlong();
+            final String threadName = readDictionaryString();
+            final String message = readString();
+            final Marker marker = (flags & BinaryLayout.FLAG_MARKER) != 0 ? readMarker(0) : null;
+            final ThrowableProxy thrownProxy = (flags & BinaryLayout.FLAG_THROWN) != 0 ? readThrowableProxy(0)
+                    : null;
+            Map<String, String> contextMap = null;
+            if ((flags & BinaryLayout.FLAG_CONTEXT_MAP) != 0) {
+                final int size = readCount();
+                contextMap = new HashMap<String, String>(size * 4 / 3 + 1);
+                for (int i = 0; i < size; i++) {
+                    final String key = readDictionaryString();
+                    contextMap.put(key, readString());
+                }
+            }
+            ThreadContext.ContextStack contextStack = null;
+            if ((flags & BinaryLayout.FLAG_CONTEXT_STACK) != 0) {
+                final int size = readCount();
+                final List<String> list = new ArrayList<String>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readString());
+                }
+                contextStack = new MutableThreadContextStack(list);
+            }
+            final StackTraceElement location = (flags & BinaryLayout.FLAG_LOCATION) != 0 ? readStackTraceElement()
+                    : null;
+
+            final Level level = levelName == null ? null : toLevel(levelName, intLevel);
+            final Log4jLogEvent event = Log4jLogEvent.createEvent(loggerName, marker, loggerFqcn, level,
+                    new SimpleMessage(message), null, thrownProxy, contextMap, contextStack, threadName, location,
+                    timeMillis);
+            event.setEndOfBatch((flags & BinaryLayout.FLAG_END_OF_BATCH) != 0);
+            // without a location, the event would try to compute one from the server's stack
+            event.setIncludeLocation(location != null && (flags & BinaryLayout.FLAG_INCLUDE_LOCATION) != 0);
+            return event;
+        }
+
+        /**
+         * Returns the existing level with the given name or, for a level that only exists on the sending side, the
+         * least severe standard level that is at least as severe as the given integer value.
+         */
+        private static Level toLevel(final String levelName, final int intLevel) {
+            final Level level = Level.getLevel(levelName);
+            if (level != null) {
+                return level;
+            }
+            Level result = STANDARD_LEVELS[0];
+            for (final Level standard : STANDARD_LEVELS) {
+                if (standard.intLevel() <= intLevel) {
+                    result = standard;
+                }
+            }
+            return result;
+        }
+
+        private Marker readMarker(final int depth) throws IOException {
+            checkDepth(depth);
+            final String name = readDictionaryString();
+            if (name == null) {
+                throw new IOException("Marker without a name in binary log event");
+            }
+            final int parentCount = readCount();
+            final Marker[] parents = new Marker[parentCount];
+            for (int i = 0; i < parentCount; i++) {
+                parents[i] = readMarker(depth + 1);
+            }
+            final Marker marker = MarkerManager.getMarker(name);
+            if (parentCount == 0) {
+                return marker;
+            }
+            // a private copy, so the stream cannot change the parents of the markers of this process
+            return new MarkerManager.Log4jMarker(name).setParents(parents);
+        }
+
+        private ThrowableProxy readThrowableProxy(final int depth) throws IOException {
+            checkDepth(depth);
+            final String name = readDictionaryString();
+            final String message = readString();
+            final String localizedMessage = readVarint() == 0 ? message : readString();
+            final int commonElementCount = readVarint();
+            final ExtendedStackTraceElement[] trace = new ExtendedStackTraceElement[readCount()];
+            for (int i = 0; i < trace.length; i++) {
+                final StackTraceElement element = readStackTraceElement();
+                final int exact = readVarint();
+                ExtendedClassInfo info = null;
+                if (exact != 0) {
+                    final String location = readDictionaryString();
+                    final String version = readDictionaryString();
+                    info = new ExtendedClassInfo(exact == 2, location, version);
+                }
+                trace[i] = new ExtendedStackTraceElement(element, info);
+            }
+            final ThrowableProxy cause = readVarint() == 0 ? null : readThrowableProxy(depth + 1);
+            final ThrowableProxy[] suppressed = new ThrowableProxy[readCount()];
+            for (int i = 0; i < suppressed.length; i++) {
+                suppressed[i] = readThrowableProxy(depth + 1);
+            }
+            return new ThrowableProxy(name, message, localizedMessage, trace, commonElementCount, cause, suppressed);
+        }
+
+        private StackTraceElement readStackTraceElement() throws IOException {
+            final String className = readDictionaryString();
+            final String methodName = readDictionaryString();
+            final String fileName = readDictionaryString();
+            final int zigzag = readVarint();
+            final int line = (zigzag >>> 1) ^ -(zigzag & 1);
+            return new StackTraceElement(className, methodName, fileName, line);
+        }
+
+        private int readVarint() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                final byte b = buf[checkPosition(pos++)];
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint in binary log event");
+        }
+
+        private long readVarlong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final byte b = buf[checkPosition(pos++)];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varlong in binary log event");
+        }
+
+        /** Reads a number of elements, each of which takes at least one byte. */
+        private int readCount() throws IOException {
+            final int count = readVarint();
+            if (count < 0 || count > limit - pos) {
+                throw new IOException("Invalid element count " + count + " in binary log event");
+            }
+            return count;
+        }
+
+        private String readString() throws IOException {
+            final int length = readVarint() - 1;
+            if (length < 0) {
+                return null;
+            }
+            checkPosition(pos + length - 1);
+            final String value = new String(buf, pos, length, Charsets.UTF_8);
+            pos += length;
+            return value;
+        }
+
+        private String readDictionaryString() throws IOException {
+            final int value = readVarint();
+            final int index = value >>> 2;
+            switch (value & 3) {
+            case BinaryLayout.STRING_NULL:
+                return null;
+            case BinaryLayout.STRING_LITERAL:
+                return readString();
+            case BinaryLayout.STRING_DEFINE:
+                final String string = readString();
+                if (dictionary != null && index < BinaryLayout.MAX_DICTIONARY_SIZE) {
+                    while (dictionary.size() <= index) {
+                        dictionary.add(null);
+                    }
+                    dictionary.set(index, string);
+                }
+                return string;
+            default:
+                final String entry = dictionary == null || index >= dictionary.size() ? null : dictionary.get(index);
+                if (entry == null) {
+                    throw new UnknownDictionaryEntryException(channel, index);
+                }
+                return entry;
+            }
+        }
+
+        private static void checkDepth(final int depth) throws IOException {
+            if (depth >= MAX_NESTING_DEPTH) {
+                throw new IOException("Binary log event nests markers or exceptions deeper than "
+                        + MAX_NESTING_DEPTH);
+            }
+        }
+
+        private int checkPosition(final int position) {
+            if (position >= limit) {
+                throw new ArrayIndexOutOfBoundsException(position);
+            }
+            return position;
+        }
+    }
+}
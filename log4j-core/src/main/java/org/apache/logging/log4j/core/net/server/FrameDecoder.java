@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.net.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Finds the frame boundaries of a log event stream, so that a non-blocking server can hand only complete frames to a
+ * {@link LogEventBridge}.
+ */
+public interface FrameDecoder {
+
+    /**
+     * Returns the length of the frame that starts at the position of the given buffer, including its length prefix.
+     * The frame itself does not need to be complete, only the part of it that holds its length.
+     * 
+     * @param buffer
+     *            the buffer to read from, must not be modified
+     * @return the length of the frame, or -1 if the buffer does not hold enough bytes to know it yet.
+     * @throws IOException
+     *             if the bytes cannot start a frame.
+     */
+    int frameLength(ByteBuffer buffer) throws IOException;
+}
@@ -0,0 +1,508 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.net.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.async.DaemonThreadFactory;
+import org.apache.logging.log4j.core.config.ConfigurationFactory;
+import org.apache.logging.log4j.core.jmx.Server;
+import org.apache.logging.log4j.core.jmx.SocketServerAdmin;
+import org.apache.logging.log4j.core.util.Assert;
+
+/**
+ * Listens for events over TCP connections using a single selector thread and a small fixed pool of worker threads,
+ * instead of one thread per connection.
+ * <p>
+ * The selector thread reads from the connections into pooled buffers. As soon as a read completes, the connection
+ * stops reading and a worker hands the complete frames in its buffer to the {@link LogEventBridge}; the connection
+ * resumes reading when the worker is done. A connection therefore never holds more than one unprocessed buffer, and a
+ * sender that is faster than the workers is slowed down by TCP flow control. The buffer goes back to the pool when it
+ * holds no partial frame, so idle connections do not hold any.
+ * </p>
+ * <p>
+ * Only formats whose frames can be delimited by a {@link FrameDecoder} are supported, see
+ * {@link #createBinarySocketServer(int)}. The server registers a {@link SocketServerAdmin} MBean while it runs.
+ * </p>
+ * 
+ * @param <T>
+ *        The kind of input stream read
+ */
+public class NioTcpSocketServer<T extends InputStream> extends AbstractSocketServer<T> {
+
+    /** Default size of the pooled read buffers. */
+    public static final int DEFAULT_BUFFER_SIZE = 32 * 1024;
+
+    /**
+     * Default maximum length of a frame; connections that send longer frames are closed. A connection receiving a
+     * frame longer than its pooled buffer holds a buffer of up to this size until the frame is processed.
+     */
+    public static final int DEFAULT_MAX_FRAME_LENGTH = BinaryInputStreamLogEventBridge.DEFAULT_MAX_FRAME_LENGTH;
+
+    /** Default number of worker threads. */
+    public static final int DEFAULT_WORKER_THREADS = Runtime.getRuntime().availableProcessors();
+
+    private static final int MAX_POOLED_BUFFERS = 64;
+
+    private static final long SELECT_TIMEOUT_MILLIS = 1000;
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10000;
+
+    /**
+     * Exposes the complete frames of a connection buffer to the {@link LogEventBridge}.
+     */
+    private static final class FrameInputStream extends InputStream {
+
+        private ByteBuffer buffer;
+        private int limit;
+
+        void setFrames(final ByteBuffer buffer, final int limit) {
+            this.buffer = buffer;
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() {
+            if (buffer.position() >= limit) {
+                return -1;
+            }
+            return buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            final int count = Math.min(len, available());
+            if (count <= 0) {
+                return -1;
+            }
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return limit - buffer.position();
+        }
+    }
+
+    /**
+     * A client connection. Its buffer belongs to the selector thread while the connection is reading and to a worker
+     * thread while it is being processed.
+     */
+    private final class Connection implements Runnable {
+
+        private final SocketChannel channel;
+        private final FrameInputStream frames = new FrameInputStream();
+        private final T inputStream;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private SelectionKey key;
+        private ByteBuffer buffer;
+
+        Connection(final SocketChannel channel) throws IOException {
+            this.channel = channel;
+            this.inputStream = logEventInput.wrapStream(frames);
+        }
+
+        /**
+         * Reads from the channel. Called by the selector thread.
+         */
+        void read() {
+            if (buffer == null) {
+                buffer = acquireBuffer();
+            }
+            final int count;
+            try {
+                count = channel.read(buffer);
+            } catch (final IOException ex) {
+                logger.error("IOException encountered while reading from socket", ex);
+                discard();
+                return;
+            }
+            if (count < 0) {
+                discard();
+            } else if (count > 0) {
+                statistics.bytesReceived(count);
+                key.interestOps(0);
+                workers.execute(this);
+            }
+        }
+
+        /**
+         * Processes the complete frames in the buffer. Called by a worker thread.
+         */
+        @Override
+        public void run() {
+            try {
+                buffer.flip();
+                final int start = buffer.position();
+                int length;
+                while (buffer.hasRemaining() && (length = frameDecoder.frameLength(buffer)) >= 0
+                        && length <= buffer.remaining()) {
+                    buffer.position(buffer.position() + length);
+                }
+                final int end = buffer.position();
+                if (end > start) {
+                    buffer.position(start);
+                    frames.setFrames(buffer, end);
+                    logEventInput.logEvents(inputStream, NioTcpSocketServer.this);
+                    buffer.position(end);
+                }
+                if (buffer.hasRemaining()) {
+                    length = frameDecoder.frameLength(buffer);
+                    if (length > buffer.capacity()) {
+                        growBuffer(length);
+                    }
+                }
+                buffer.compact();
+                if (buffer.position() == 0) {
+                    releaseBuffer(buffer);
+                    buffer = null;
+                }
+            } catch (final IOException ex) {
+                logger.error("IOException encountered while processing events from socket", ex);
+                discard();
+                return;
+            } catch (final RuntimeException ex) {
+                // the frames may have been only partly consumed, so the stream cannot be resumed
+                logger.error("Unexpected exception encountered while processing events from socket", ex);
+                discard();
+                return;
+            }
+            resumed.add(this);
+            selector.wakeup();
+        }
+
+        private void growBuffer(final int frameLength) throws IOException {
+            if (frameLength > maxFrameLength) {
+                throw new IOException("Frame of " + frameLength + " bytes exceeds the maximum frame length of "
+                        + maxFrameLength);
+            }
+            final int capacity = (int) Math.min(maxFrameLength, Math.max(frameLength, 2L * buffer.capacity()));
+            final ByteBuffer grown = ByteBuffer.allocate(capacity);
+            grown.put(buffer);
+            grown.flip();
+            releaseBuffer(buffer);
+            buffer = grown;
+        }
+
+        /**
+         * Makes the connection read again. Called by the selector thread.
+         */
+        void resume() {
+            if (key.isValid()) {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+
+        /**
+         * Closes the connection and returns its buffer to the pool. Called by the thread the buffer belongs to.
+         */
+        private void discard() {
+            close();
+            if (buffer != null) {
+                releaseBuffer(buffer);
+                buffer = null;
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (final IOException ex) {
+                // Ignore the exception
+            }
+            statistics.connectionClosed();
+        }
+    }
+
+    /**
+     * Creates a socket server that reads binary log events written by a BinaryLayout.
+     * 
+     * @param port
+     *        the port to listen
+     * @return a new a socket server
+     * @throws IOException
+     *        if an I/O error occurs when opening the socket.
+     */
+    public static NioTcpSocketServer<BinaryInputStreamLogEventBridge.BinaryInputStream> createBinarySocketServer(
+            final int port) throws IOException {
+        return createBinarySocketServer(port, DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    /**
+     * Creates a socket server that reads binary log events written by a BinaryLayout.
+     * 
+     * @param port
+     *        the port to listen
+     * @param maxFrameLength
+     *        the maximum length of an event, at least {@link #DEFAULT_BUFFER_SIZE}; a connection sending a longer one
+     *        is closed
+     * @return a new a socket server
+     * @throws IOException
+     *        if an I/O error occurs when opening the socket.
+     */
+    public static NioTcpSocketServer<BinaryInputStreamLogEventBridge.BinaryInputStream> createBinarySocketServer(
+            final int port, final int maxFrameLength) throws IOException {
+        final BinaryInputStreamLogEventBridge bridge = new BinaryInputStreamLogEventBridge(maxFrameLength);
+        return new NioTcpSocketServer<BinaryInputStreamLogEventBridge.BinaryInputStream>(port, bridge, bridge,
+                DEFAULT_WORKER_THREADS, DEFAULT_BUFFER_SIZE, maxFrameLength);
+    }
+
+    /**
+     * Main startup for the server.
+     * 
+     * @param args
+     *        The command line arguments.
+     * @throws Exception
+     *         if an error occurs.
+     */
+    public static void main(final String[] args) throws Exception {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Incorrect number of arguments");
+            printUsage();
+            return;
+        }
+        final int port = Integer.parseInt(args[0]);
+        if (port <= 0 || port >= MAX_PORT) {
+            System.err.println("Invalid port number");
+            printUsage();
+            return;
+        }
+        if (args.length == 2 && args[1].length() > 0) {
+            ConfigurationFactory.setConfigurationFactory(new ServerConfigurationFactory(args[1]));
+        }
+        final NioTcpSocketServer<BinaryInputStreamLogEventBridge.BinaryInputStream> socketServer =
+                NioTcpSocketServer.createBinarySocketServer(port);
+        final Thread serverThread = new Thread(socketServer);
+        serverThread.start();
+        final Charset enc = Charset.defaultCharset();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, enc));
+        while (true) {
+            final String line = reader.readLine();
+            if (line == null || line.equalsIgnoreCase("Quit") || line.equalsIgnoreCase("Stop")
+                    || line.equalsIgnoreCase("Exit")) {
+                socketServer.shutdown();
+                serverThread.join();
+                break;
+            }
+        }
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage: NioTcpSocketServer port configFilePath");
+    }
+
+    private final FrameDecoder frameDecoder;
+    private final int bufferSize;
+    private final int maxFrameLength;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final ExecutorService workers;
+    private final Queue<Connection> resumed = new ConcurrentLinkedQueue<Connection>();
+    private final Queue<ByteBuffer> bufferPool = new ConcurrentLinkedQueue<ByteBuffer>();
+    private final AtomicInteger pooledBuffers = new AtomicInteger();
+    private final SocketServerStatistics statistics = new SocketServerStatistics();
+    private final SocketServerAdmin admin;
+
+    /**
+     * Constructor.
+     * 
+     * @param port
+     *        to listen.
+     * @param logEventInput
+     *        the log even input
+     * @param frameDecoder
+     *        finds the frames of the events read by {@code logEventInput}
+     * @param workerThreads
+     *        the number of threads that hand the events to {@code logEventInput}
+     * @param bufferSize
+     *        the size of the pooled read buffers
+     * @param maxFrameLength
+     *        the maximum length of a frame
+     * @throws IOException
+     *         if an I/O error occurs when opening the socket.
+     */
+    public NioTcpSocketServer(final int port, final LogEventBridge<T> logEventInput, final FrameDecoder frameDecoder,
+            final int workerThreads, final int bufferSize, final int maxFrameLength) throws IOException {
+        super(port, logEventInput);
+        this.frameDecoder = Assert.requireNonNull(frameDecoder, "FrameDecoder");
+        if (workerThreads <= 0 || bufferSize <= 0 || maxFrameLength < bufferSize) {
+            throw new IllegalArgumentException("Invalid worker count " + workerThreads + ", buffer size "
+                    + bufferSize + " or maximum frame length " + maxFrameLength);
+        }
+        this.bufferSize = bufferSize;
+        this.maxFrameLength = maxFrameLength;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.socket().bind(new InetSocketAddress(port));
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (final IOException ex) {
+            serverChannel.close();
+            selector.close();
+            throw ex;
+        }
+        this.workers = Executors.newFixedThreadPool(workerThreads,
+                new DaemonThreadFactory(getClass().getSimpleName() + '-' + port + '-'));
+        this.admin = new SocketServerAdmin("tcp", port, statistics);
+    }
+
+    /**
+     * Returns the counters of this server.
+     * 
+     * @return the statistics of this server
+     */
+    public SocketServerStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public void log(final LogEvent event) {
+        statistics.eventReceived();
+        super.log(event);
+    }
+
+    /**
+     * Accept incoming connections and reads from them.
+     */
+    @Override
+    public void run() {
+        Server.registerSocketServer(admin);
+        try {
+            while (isActive()) {
+                selector.select(SELECT_TIMEOUT_MILLIS);
+                statistics.sample(System.nanoTime());
+                Connection connection;
+                while ((connection = resumed.poll()) != null) {
+                    connection.resume();
+                }
+                final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else if (key.isReadable()) {
+                        ((Connection) key.attachment()).read();
+                    }
+                }
+            }
+        } catch (final IOException ex) {
+            logger.error("IOException encountered while selecting", ex);
+        } finally {
+            closeAll();
+            Server.unregisterSocketServer(admin);
+        }
+    }
+
+    private void accept() {
+        SocketChannel channel;
+        try {
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.socket().setSoLinger(true, 0);
+                final Connection connection = new Connection(channel);
+                connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+                statistics.connectionOpened();
+            }
+        } catch (final IOException ex) {
+            logger.error("Exception encountered on accept. Ignoring.", ex);
+        }
+    }
+
+    private void closeAll() {
+        for (final SelectionKey key : selector.keys()) {
+            if (key.attachment() != null) {
+                ((Connection) key.attachment()).close();
+            }
+        }
+        try {
+            serverChannel.close();
+        } catch (final IOException ex) {
+            // Ignore the exception
+        }
+        workers.shutdown();
+        try {
+            workers.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            selector.close();
+        } catch (final IOException ex) {
+            // Ignore the exception
+        }
+    }
+
+    private ByteBuffer acquireBuffer() {
+        final ByteBuffer buffer = bufferPool.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocate(bufferSize);
+        }
+        pooledBuffers.decrementAndGet();
+        return buffer;
+    }
+
+    private void releaseBuffer(final ByteBuffer buffer) {
+        if (buffer.capacity() != bufferSize) {
+            return;
+        }
+        if (pooledBuffers.incrementAndGet() > MAX_POOLED_BUFFERS) {
+            pooledBuffers.decrementAndGet();
+            return;
+        }
+        buffer.clear();
+        bufferPool.add(buffer);
+    }
+
+    /**
+     * Shutdown the server.
+     */
+    public void shutdown() {
+        setActive(false);
+        selector.wakeup();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.net.server;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the connections, bytes and events of a socket server and samples how many bytes and events it receives per
+ * second.
+ */
+public final class SocketServerStatistics {
+
+    private static final long SAMPLE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong bytesReceived = new AtomicLong();
+    private final AtomicLong eventsReceived = new AtomicLong();
+
+    private volatile long bytesPerSecond;
+    private volatile long eventsPerSecond;
+
+    // only accessed by the thread that calls sample()
+    private long lastSampleNanos = System.nanoTime();
+    private long lastBytes;
+    private long lastEvents;
+
+    void connectionOpened() {
+        connectionCount.incrementAndGet();
+    }
+
+    void connectionClosed() {
+        connectionCount.decrementAndGet();
+    }
+
+    void bytesReceived(final int count) {
+        bytesReceived.addAndGet(count);
+    }
+
+    void eventReceived() {
+        eventsReceived.incrementAndGet();
+    }
+
+    /**
+     * Updates the rates if at least a second has passed since they were last updated.
+     * 
+     * @param nanoTime the current value of {@link System#nanoTime()}.
+     */
+    void sample(final long nanoTime) {
+        final long elapsed = nanoTime - lastSampleNanos;
+        if (elapsed < SAMPLE_INTERVAL_NANOS) {
+            return;
+        }
+        final long bytes = bytesReceived.get();
+        final long events = eventsReceived.get();
+        bytesPerSecond = (bytes - lastBytes) * SAMPLE_INTERVAL_NANOS / elapsed;
+        eventsPerSecond = (events - lastEvents) * SAMPLE_INTERVAL_NANOS / elapsed;
+        lastBytes = bytes;
+        lastEvents = events;
+        lastSampleNanos = nanoTime;
+    }
+
+    /**
+     * Returns the number of connections that are currently open.
+     * 
+     * @return the number of open connections
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * Returns the number of bytes received so far.
+     * 
+     * @return the number of bytes received
+     */
+    public long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    /**
+     * Returns the number of events received so far.
+     * 
+     * @return the number of events received
+     */
+    public long getEventsReceived() {
+        return eventsReceived.get();
+    }
+
+    /**
+     * Returns the number of bytes received per second, as measured over the last sampling interval of about a second.
+     * 
+     * @return the number of bytes received per second
+     */
+    public long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    /**
+     * Returns the number of events received per second, as measured over the last sampling interval of about a
+     * second.
+     * 
+     * @return the number of events received per second
+     */
+    public long getEventsPerSecond() {
+        return eventsPerSecond;
+    }
+}
@@ -86,6 +86,38 @@ public class TcpSocketServer<T extends InputStream> extends AbstractSocketServer
         }
     }
 
+    /**
+     * Creates a socket server that reads binary log events written by a BinaryLayout.
+     * 
+     * @param port
+     *        the port to listen
+     * @return a new a socket server
+     * @throws IOException
+     *        if an I/O error occurs when opening the socket.
+     */
+    public static TcpSocketServer<BinaryInputStreamLogEventBridge.BinaryInputStream> createBinarySocketServer(
+            final int port) throws IOException {
+        return new TcpSocketServer<BinaryInputStreamLogEventBridge.BinaryInputStream>(port,
+                new BinaryInputStreamLogEventBridge());
+    }
+
+    /**
+     * Creates a socket server that reads binary log events written by a BinaryLayout.
+     * 
+     * @param port
+     *        the port to listen
+     * @param maxFrameLength
+     *        the maximum length of an event; a connection sending a longer one is closed
+     * @return a new a socket server
+     * @throws IOException
+     *        if an I/O error occurs when opening the socket.
+     */
+    public static TcpSocketServer<BinaryInputStreamLogEventBridge.BinaryInputStream> createBinarySocketServer(
+            final int port, final int maxFrameLength) throws IOException {
+        return new TcpSocketServer<BinaryInputStreamLogEventBridge.BinaryInputStream>(port,
+                new BinaryInputStreamLogEventBridge(maxFrameLength));
+    }
+
     /**
      * Creates a socket server that reads JSON log events.
      * 
@@ -37,6 +37,21 @@ import org.apache.logging.log4j.core.config.ConfigurationFactory;
  */
 public class UdpSocketServer<T extends InputStream> extends AbstractSocketServer<T> {
 
+    /**
+     * Creates a socket server that reads binary log events written by a BinaryLayout.
+     * 
+     * @param port
+     *            the port to listen
+     * @return a new a socket server
+     * @throws IOException
+     *            if an I/O error occurs when opening the socket.
+     */
+    public static UdpSocketServer<BinaryInputStreamLogEventBridge.BinaryInputStream> createBinarySocketServer(
+            final int port) throws IOException {
+        return new UdpSocketServer<BinaryInputStreamLogEventBridge.BinaryInputStream>(port,
+                new BinaryInputStreamLogEventBridge());
+    }
+
     /**
      * Creates a socket server that reads JSON log events.
      * 
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.pattern;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import org.apache.logging.log4j.core.util.Constants;
+
+/**
+ * Thread-safe date formatter that calls the wrapped SimpleDateFormat at most once per second.
+ * <p>
+ * The text of the current second is formatted once and kept in an immutable {@link Slot} together with the position
+ * of its millisecond field, which is found the same way {@link CachedDateFormat} does it. Events within that second
+ * copy the slot's text and write the three millisecond digits arithmetically. A new slot replaces the old one through
+ * a volatile write, so readers never lock. Only a cache miss formats with the SimpleDateFormat, under its monitor.
+ * </p>
+ * <p>
+ * Patterns whose millisecond field cannot be located (for example {@code "SSS SSS"}) are only cached for repeated
+ * requests of the same millisecond.
+ * </p>
+ */
+public final class CachedDateFormatter {
+
+    /**
+     * Immutable formatted text of one cache period.
+     */
+    private static final class Slot {
+        final long begin;
+        final long end;
+        final char[] text;
+        final int millisStart;
+
+        Slot(final long begin, final long end, final char[] text, final int millisStart) {
+            this.begin = begin;
+            this.end = end;
+            this.text = text;
+            this.millisStart = millisStart;
+        }
+    }
+
+    private static final int DIGITS_IN_MILLIS = 3;
+
+    private final SimpleDateFormat simpleDateFormat;
+
+    private final int validity;
+
+    private volatile Slot slot = new Slot(Long.MAX_VALUE, Long.MIN_VALUE, new char[0],
+            CachedDateFormat.NO_MILLISECONDS);
+
+    /**
+     * Creates a new formatter.
+     *
+     * @param simpleDateFormat the format to use, including its time zone. It must not be used elsewhere afterwards.
+     */
+    public CachedDateFormatter(final SimpleDateFormat simpleDateFormat) {
+        this.simpleDateFormat = simpleDateFormat;
+        this.validity = CachedDateFormat.getMaximumCacheValidity(simpleDateFormat.toPattern());
+    }
+
+    /**
+     * Appends the formatted time to the given buffer.
+     *
+     * @param time the time in milliseconds since the epoch.
+     * @param output the buffer to append to.
+     */
+    public void format(final long time, final StringBuilder output) {
+        Slot current = slot;
+        if (time < current.begin || time >= current.end) {
+            current = createSlot(time);
+            slot = current;
+        }
+        final int millisStart = current.millisStart;
+        if (millisStart < 0) {
+            output.append(current.text);
+            return;
+        }
+        final int millis = (int) (time - current.begin);
+        output.append(current.text, 0, millisStart);
+        output.append((char) ('0' + millis / 100));
+        output.append((char) ('0' + (millis / 10) % 10));
+        output.append((char) ('0' + millis % 10));
+        final int rest = millisStart + DIGITS_IN_MILLIS;
+        output.append(current.text, rest, current.text.length - rest);
+    }
+
+    private Slot createSlot(final long time) {
+        long begin = (time / Constants.MILLIS_IN_SECONDS) * Constants.MILLIS_IN_SECONDS;
+        if (begin > time) {
+            begin -= Constants.MILLIS_IN_SECONDS;
+        }
+        final String formatted;
+        int millisStart = CachedDateFormat.UNRECOGNIZED_MILLISECONDS;
+        synchronized (simpleDateFormat) {
+            formatted = simpleDateFormat.format(new Date(time));
+            if (validity > 1) {
+                millisStart = CachedDateFormat.findMillisecondStart(time, formatted, simpleDateFormat);
+            }
+        }
+        if (millisStart == CachedDateFormat.UNRECOGNIZED_MILLISECONDS) {
+            // only repeated requests for this very millisecond can use the text
+            return new Slot(time, time + 1, formatted.toCharArray(), millisStart);
+        }
+        return new Slot(begin, begin + Constants.MILLIS_IN_SECONDS, formatted.toCharArray(), millisStart);
+    }
+
+    /**
+     * Returns the SimpleDateFormat pattern.
+     *
+     * @return the pattern.
+     */
+    public String toPattern() {
+        return simpleDateFormat.toPattern();
+    }
+}
@@ -25,13 +25,17 @@ import org.apache.logging.log4j.core.config.plugins.Plugin;
 
 /**
  * Convert and format the event's date in a StringBuilder.
+ * <p>
+ * This converter is thread-safe and does not lock: the date text is formatted once per second by a
+ * {@link CachedDateFormatter} and the milliseconds are filled in for each event.
+ * </p>
  */
 @Plugin(name = "DatePatternConverter", category = "Converter")
 @ConverterKeys({ "d", "date" })
 public final class DatePatternConverter extends LogEventPatternConverter implements ArrayPatternConverter {
 
     private abstract static class Formatter {
-        abstract String format(long time);
+        abstract void format(long time, StringBuilder output);
 
         public String toPattern() {
             return null;
@@ -39,28 +43,28 @@ public final class DatePatternConverter extends LogEventPatternConverter impleme
     }
 
     private static class PatternFormatter extends Formatter {
-        private final SimpleDateFormat simpleDateFormat;
+        private final CachedDateFormatter cachedDateFormatter;
 
         PatternFormatter(final SimpleDateFormat simpleDateFormat) {
-            this.simpleDateFormat = simpleDateFormat;
+            this.cachedDateFormatter = new CachedDateFormatter(simpleDateFormat);
         }
 
         @Override
-        String format(final long time) {
-            return simpleDateFormat.format(Long.valueOf(time));
+        void format(final long time, final StringBuilder output) {
+            cachedDateFormatter.format(time, output);
         }
 
         @Override
         public String toPattern() {
-            return simpleDateFormat.toPattern();
+            return cachedDateFormatter.toPattern();
         }
     }
 
     private static class UnixFormatter extends Formatter {
 
         @Override
-        String format(final long time) {
-            return Long.toString(time / 1000);
+        void format(final long time, final StringBuilder output) {
+            output.append(time / 1000);
         }
 
     }
@@ -68,8 +72,8 @@ public final class DatePatternConverter extends LogEventPatternConverter impleme
     private static class UnixMillisFormatter extends Formatter {
 
         @Override
-        String format(final long time) {
-            return Long.toString(time);
+        void format(final long time, final StringBuilder output) {
+            output.append(time);
         }
 
     }
@@ -145,15 +149,8 @@ public final class DatePatternConverter extends LogEventPatternConverter impleme
         return new DatePatternConverter(options);
     }
 
-    /**
-     * Date format.
-     */
-    private String cachedDateString;
-
     private final Formatter formatter;
 
-    private long lastTimestamp;
-
     /**
      * Private constructor.
      * 
@@ -218,9 +215,7 @@ public final class DatePatternConverter extends LogEventPatternConverter impleme
      *            buffer to which formatted date is appended.
      */
     public void format(final Date date, final StringBuilder toAppendTo) {
-        synchronized (this) {
-            toAppendTo.append(formatter.format(date.getTime()));
-        }
+        formatter.format(date.getTime(), toAppendTo);
     }
 
     /**
@@ -228,15 +223,7 @@ public final class DatePatternConverter extends LogEventPatternConverter impleme
      */
     @Override
     public void format(final LogEvent event, final StringBuilder output) {
-        final long timestamp = event.getTimeMillis();
-
-        synchronized (this) {
-            if (timestamp != lastTimestamp) {
-                lastTimestamp = timestamp;
-                cachedDateString = formatter.format(timestamp);
-            }
-        }
-        output.append(cachedDateString);
+        formatter.format(event.getTimeMillis(), output);
     }
 
     /**
@@ -134,6 +134,9 @@ public final class PatternParser {
             try {
                 @SuppressWarnings("unchecked")
                 final Class<PatternConverter> clazz = (Class<PatternConverter>) type.getPluginClass();
+                if (clazz == null) {
+                    continue;
+                }
                 if (filterClass != null && !filterClass.isAssignableFrom(clazz)) {
                     continue;
                 }
@@ -28,6 +28,11 @@ public final class Constants {
      */
     public static final String LOG4J_LOG_EVENT_FACTORY = "Log4jLogEventFactory";
 
+    /**
+     * Name of the system property to use to identify the default MessageFactory of Loggers created without one.
+     */
+    public static final String LOG4J_MESSAGE_FACTORY = "Log4jMessageFactory";
+
     /**
      * Name of the system property to use to identify the ContextSelector Class.
      */
@@ -45,6 +50,40 @@ public final class Constants {
      */
     public static final String LINE_SEPARATOR = PropertiesUtil.getProperties().getStringProperty("line.separator", "\n");
 
+    /**
+     * Whether appenders let their layout encode events directly into the output manager's byte buffer instead of
+     * creating a byte array per event. Enabled unless system property {@code log4j.enableDirectEncoders} is
+     * {@code false}.
+     */
+    public static final boolean ENABLE_DIRECT_ENCODERS = PropertiesUtil.getProperties().getBooleanProperty(
+            "log4j.enableDirectEncoders", true);
+
+    /**
+     * Whether messages handed to another thread by asynchronous loggers and appenders, or kept by buffering appenders,
+     * may be formatted later. By default ({@code false}) the caller formats a
+     * {@link org.apache.logging.log4j.message.CachingMessage} before the hand-off so that later changes to mutable
+     * message parameters are not seen. Set system property {@code log4j.format.msg.async} to {@code true} when the
+     * parameters are known not to change.
+     */
+    public static final boolean FORMAT_MESSAGES_IN_BACKGROUND = PropertiesUtil.getProperties().getBooleanProperty(
+            "log4j.format.msg.async", false);
+
+    /**
+     * Maximum number of classes whose location and version ThrowableProxy keeps cached across all stack traces, set
+     * with system property {@code log4j.throwableProxy.cacheSize}. Zero disables the cache.
+     */
+    public static final int THROWABLE_PROXY_CACHE_SIZE = PropertiesUtil.getProperties().getIntegerProperty(
+            "log4j.throwableProxy.cacheSize", 4096);
+
+    /**
+     * Whether ThrowableProxy resolves the location and version of the classes in a stack trace only when the extended
+     * stack trace is first used, for example by the {@code %xEx} pattern, instead of when the proxy is created. The
+     * deferred resolution cannot use the caller's class stack, so no frame is marked exact. Enabled by setting system
+     * property {@code log4j.throwableProxy.deferResolution} to {@code true}.
+     */
+    public static final boolean THROWABLE_PROXY_DEFER_RESOLUTION = PropertiesUtil.getProperties().getBooleanProperty(
+            "log4j.throwableProxy.deferResolution", false);
+
     /**
      * Number of milliseconds in a second.
      */
@@ -21,10 +21,14 @@ import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.MarkerManager;
 import org.apache.logging.log4j.ThreadContext;
 import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.filter.AbstractFilter;
+import org.apache.logging.log4j.core.filter.ThresholdFilter;
 import org.apache.logging.log4j.junit.InitialLoggerContext;
 import org.apache.logging.log4j.message.MessageFactory;
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
@@ -192,6 +196,43 @@ public class LoggerTest {
         assertEquals("Incorrect number of events. Expected 1, actual " + events.size(), 1, events.size());
     }
 
+    @Test
+    public void contextFilterAppliesToDisabledLevels() {
+        final org.apache.logging.log4j.Logger test1 = context.getLogger("org.apache.logging.log4j.test1");
+        assertFalse(test1.isTraceEnabled());
+        final Filter filter = ThresholdFilter.createFilter(Level.TRACE, Filter.Result.ACCEPT, Filter.Result.NEUTRAL);
+        context.getContext().addFilter(filter);
+        try {
+            assertTrue("Context filter ignored", test1.isTraceEnabled());
+        } finally {
+            context.getContext().removeFilter(filter);
+        }
+        assertFalse(test1.isTraceEnabled());
+    }
+
+    @Test
+    public void fixedArityParametersReachContextFilter() {
+        final Object[][] seen = new Object[1][];
+        final Filter filter = new AbstractFilter() {
+            @Override
+            public Result filter(final Logger logger, final Level level, final Marker marker, final String msg,
+                                 final Object... params) {
+                seen[0] = params;
+                return Result.NEUTRAL;
+            }
+        };
+        context.getContext().addFilter(filter);
+        try {
+            logger.debug("{} {} {}", "a", "b", "c");
+        } finally {
+            context.getContext().removeFilter(filter);
+        }
+        assertArrayEquals(new Object[] {"a", "b", "c"}, seen[0]);
+        final List<LogEvent> events = app.getEvents();
+        assertEquals(1, events.size());
+        assertEquals("a b c", events.get(0).getMessage().getFormattedMessage());
+    }
+
     @Test
     public void testReconfiguration() throws Exception {
         final Configuration oldConfig = context.getConfiguration();
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import java.util.Iterator;
+
+import org.apache.logging.dumbster.smtp.SimpleSmtpServer;
+import org.apache.logging.dumbster.smtp.SmtpMessage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.ConfigurationFactory;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.test.AvailablePortFinder;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that a buffering appender behind an AsyncAppender with the Disruptor queue implementation keeps its events
+ * after their ring buffer slots have been reused.
+ */
+public class AsyncAppenderDisruptorSmtpTest {
+    private static final String CONFIG = "log4j-asynch-disruptor-smtp.xml";
+    private static final int PORTNUM = AvailablePortFinder.getNextAvailable();
+    private static LoggerContext ctx;
+
+    @BeforeClass
+    public static void setupClass() {
+        System.setProperty("smtpPort", String.valueOf(PORTNUM));
+        System.setProperty(ConfigurationFactory.CONFIGURATION_FILE_PROPERTY, CONFIG);
+        ctx = (LoggerContext) LogManager.getContext(false);
+    }
+
+    @AfterClass
+    public static void cleanupClass() {
+        System.clearProperty(ConfigurationFactory.CONFIGURATION_FILE_PROPERTY);
+        System.clearProperty("smtpPort");
+        ctx.reconfigure();
+        StatusLogger.getLogger().reset();
+    }
+
+    @Test
+    public void testBufferedEventsAreCopied() throws Exception {
+        final SimpleSmtpServer server = SimpleSmtpServer.start(PORTNUM);
+        try {
+            final Logger logger = LogManager.getLogger(AsyncAppenderDisruptorSmtpTest.class);
+            logger.debug("Debug message #1");
+            logger.debug("Debug message #2");
+            logger.debug("Debug message #3");
+            logger.error("Error message");
+            for (int i = 0; i < 100 && server.getReceivedEmailSize() == 0; i++) {
+                Thread.sleep(50);
+            }
+        } finally {
+            server.stop();
+        }
+        assertEquals(1, server.getReceivedEmailSize());
+        final Iterator<SmtpMessage> messages = server.getReceivedEmail();
+        final String body = messages.next().getBody();
+        assertTrue(body, body.contains("Debug message #1"));
+        assertTrue(body, body.contains("Debug message #2"));
+        assertTrue(body, body.contains("Debug message #3"));
+        assertTrue(body, body.contains("Error message"));
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.logging.log4j.core.Appender;
 import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.ConfigurationFactory;
+import org.apache.logging.log4j.core.impl.ReusableMessageFactory;
 import org.apache.logging.log4j.status.StatusLogger;
 import org.apache.logging.log4j.test.appender.ListAppender;
 import org.junit.After;
@@ -94,4 +95,19 @@ public class AsyncAppenderTest {
         final String msg = list.get(0);
         assertTrue("No parent exception", msg.contains("java.lang.IllegalStateException"));
     }
+
+    @Test
+    public void testReusableMessage() throws Exception {
+        // the default LogEventFactory creates a Log4jLogEvent that carries the reusable message
+        final Logger logger = ctx.getLogger("ReusableMessage", ReusableMessageFactory.INSTANCE);
+        logger.error("Value {}", "a");
+        logger.error("Value {}", "b");
+        Thread.sleep(100);
+        final List<String> list = listAppender.getMessages();
+        assertNotNull("No events generated", list);
+        assertEquals("Incorrect number of events", 2, list.size());
+        final String prefix = AsyncAppenderTest.class.getName() + " testReusableMessage ";
+        assertEquals(prefix + "Value a", list.get(0));
+        assertEquals(prefix + "Value b", list.get(1));
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that both AsyncQueue implementations hand over events in batches.
+ */
+@RunWith(Parameterized.class)
+public class AsyncQueueTest {
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][] { { AsyncQueue.ARRAY_BLOCKING_QUEUE }, { AsyncQueue.DISRUPTOR } });
+    }
+
+    private final AsyncQueue queue;
+
+    public AsyncQueueTest(final String implementation) {
+        this.queue = AsyncQueue.create(implementation, 16, false);
+    }
+
+    private static Log4jLogEvent event(final String msg) {
+        return new Log4jLogEvent("AsyncQueueTest", null, null, Level.INFO, new SimpleMessage(msg), null);
+    }
+
+    @Test
+    public void testTakeBatchReturnsAllAvailableEvents() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            queue.put(event("msg" + i));
+        }
+        assertEquals(11, queue.remainingCapacity());
+
+        final List<LogEvent> batch = new ArrayList<LogEvent>();
+        assertTrue(queue.takeBatch(batch));
+        assertEquals(5, batch.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("msg" + i, batch.get(i).getMessage().getFormattedMessage());
+        }
+        batch.clear();
+        queue.release();
+        assertEquals(16, queue.remainingCapacity());
+        assertFalse(queue.pollBatch(batch));
+    }
+
+    @Test
+    public void testOfferFailsWhenFull() {
+        for (int i = 0; i < 16; i++) {
+            assertTrue(queue.offer(event("msg" + i)));
+        }
+        assertFalse(queue.offer(event("overflow")));
+
+        final List<LogEvent> batch = new ArrayList<LogEvent>();
+        assertTrue(queue.pollBatch(batch));
+        assertEquals(16, batch.size());
+    }
+
+    @Test
+    public void testSignalShutdownWakesUpTakeBatch() throws Exception {
+        queue.signalShutdown();
+        assertFalse(queue.takeBatch(new ArrayList<LogEvent>()));
+    }
+}
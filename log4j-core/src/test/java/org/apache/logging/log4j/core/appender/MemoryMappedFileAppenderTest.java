@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.util.Arrays;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LifeCycle;
+import org.apache.logging.log4j.core.config.ConfigurationFactory;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that the MemoryMappedFileAppender remaps when a region is full and
+ * truncates the unused part of the last region when it is stopped.
+ */
+public class MemoryMappedFileAppenderTest {
+
+    @BeforeClass
+    public static void beforeClass() {
+        System.setProperty(ConfigurationFactory.CONFIGURATION_FILE_PROPERTY,
+                "MemoryMappedFileAppenderTest.xml");
+    }
+
+    @Test
+    public void testMemMapRemapsAndTruncates() throws Exception {
+        final Logger log = LogManager.getLogger("com.foo.Bar");
+        final File f = new File("target", "MemoryMappedFileAppenderTest.log");
+        assertTrue("file created", f.exists());
+        assertEquals("initial region mapped", 64 * 1024, f.length());
+
+        final char[] padding = new char[1000];
+        Arrays.fill(padding, 'X');
+        final String msg = new String(padding);
+        final int count = 150; // more than two regions
+        for (int i = 0; i < count; i++) {
+            log.info(i + msg);
+        }
+        assertTrue("remapped", f.length() > 2 * 64 * 1024);
+
+        ((LifeCycle) LogManager.getContext(false)).stop();
+        assertTrue("truncated", f.length() < 3 * 64 * 1024);
+
+        final BufferedReader reader = new BufferedReader(new FileReader(f));
+        try {
+            for (int i = 0; i < count; i++) {
+                final String line = reader.readLine();
+                assertNotNull("line " + i, line);
+                assertTrue("line " + i, line.contains(i + msg));
+            }
+            assertNull("No more lines", reader.readLine());
+        } finally {
+            reader.close();
+        }
+        f.delete();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the MemoryMappedFileManager class.
+ */
+public class MemoryMappedFileManagerTest {
+
+    @Test
+    public void testRemapAfterRegionFull() throws IOException {
+        final File file = File.createTempFile("log4j2", "test");
+        file.deleteOnExit();
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        final OutputStream os = new RandomAccessFileManager.DummyOutputStream();
+        final int regionLength = 1024;
+        final MemoryMappedFileManager manager = new MemoryMappedFileManager(raf, file.getName(), os,
+                false, 0, regionLength, null, null);
+
+        final byte[] data = new byte[regionLength * 3 + 1];
+        manager.write(data); // no buffer overflow exception
+        assertEquals("mapped the fourth region", regionLength * 4, file.length());
+
+        manager.close();
+        assertEquals("unused tail truncated on close", data.length, file.length());
+    }
+
+    @Test
+    public void testConfigurableRegionLength() throws IOException {
+        final File file = File.createTempFile("log4j2", "test");
+        file.deleteOnExit();
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        final OutputStream os = new RandomAccessFileManager.DummyOutputStream();
+        final int regionLength = 4 * 1024;
+        assertNotEquals(regionLength, MemoryMappedFileManager.DEFAULT_REGION_LENGTH);
+
+        final MemoryMappedFileManager manager = new MemoryMappedFileManager(raf, file.getName(), os,
+                false, 0, regionLength, null, null);
+        assertEquals(regionLength, manager.getRegionLength());
+        manager.close();
+    }
+
+    @Test
+    public void testAppendDoesNotOverwriteExistingFile() throws IOException {
+        final File file = File.createTempFile("log4j2", "test");
+        file.deleteOnExit();
+        assertEquals(0, file.length());
+
+        final byte[] bytes = new byte[4 * 1024];
+
+        // create existing file
+        FileOutputStream fos = null;
+        try {
+            fos = new FileOutputStream(file);
+            fos.write(bytes, 0, bytes.length);
+            fos.flush();
+        } finally {
+            fos.close();
+        }
+        assertEquals("all flushed to disk", bytes.length, file.length());
+
+        final MemoryMappedFileManager manager = MemoryMappedFileManager.getFileManager(
+                file.getAbsolutePath(), true, false, MemoryMappedFileManager.MIN_REGION_LENGTH, null, null);
+        manager.write(bytes, 0, bytes.length);
+        manager.release();
+        assertEquals("appended, not overwritten", bytes.length * 2, file.length());
+    }
+
+    @Test
+    public void testNoAppendOverwritesExistingFile() throws IOException {
+        final File file = File.createTempFile("log4j2", "test");
+        file.deleteOnExit();
+
+        final byte[] bytes = new byte[4 * 1024];
+        FileOutputStream fos = null;
+        try {
+            fos = new FileOutputStream(file);
+            fos.write(bytes, 0, bytes.length);
+            fos.flush();
+        } finally {
+            fos.close();
+        }
+
+        final MemoryMappedFileManager manager = MemoryMappedFileManager.getFileManager(
+                file.getAbsolutePath(), false, false, MemoryMappedFileManager.MIN_REGION_LENGTH, null, null);
+        manager.write(bytes, 0, 100);
+        manager.release();
+        assertEquals("overwritten", 100, file.length());
+    }
+
+    @Test
+    public void testValidRegionLength() {
+        assertEquals(MemoryMappedFileManager.MIN_REGION_LENGTH,
+                MemoryMappedFileAppender.determineValidRegionLength("test", 1));
+        assertEquals(MemoryMappedFileManager.MAX_REGION_LENGTH,
+                MemoryMappedFileAppender.determineValidRegionLength("test", Integer.MAX_VALUE));
+        assertEquals(1024 * 1024, MemoryMappedFileAppender.determineValidRegionLength("test", 1024 * 1024));
+    }
+}
@@ -55,6 +55,8 @@ public class SocketAppenderTest {
     private static final String PORT = String.valueOf(PORTNUM1);
     private static final String DYN_PORT = String.valueOf(PORTNUM2);
     private static final String ERROR_PORT = String.valueOf(AvailablePortFinder.getNextAvailable());
+    private static final int BUFFER_PORTNUM = AvailablePortFinder.getNextAvailable();
+    private static final int SPOOL_PORTNUM = AvailablePortFinder.getNextAvailable();
 
     private static BlockingQueue<LogEvent> list = new ArrayBlockingQueue<LogEvent>(10);
 
@@ -122,6 +124,57 @@ public class SocketAppenderTest {
         assertTrue("Message not delivered via TCP", tcpCount > 1);
     }
 
+    @Test
+    public void testBufferedTcpAppender() throws Exception {
+
+        final TCPSocketServer server = new TCPSocketServer(BUFFER_PORTNUM);
+        server.start();
+        final SocketAppender appender = SocketAppender.createAppender("localhost", String.valueOf(BUFFER_PORTNUM),
+            "tcp", null, "-1", "false", "Test", null, null, null, null, null, "65536", null, null, null, null);
+        appender.start();
+
+        // set appender on root and set level to debug
+        root.addAppender(appender);
+        root.setAdditive(false);
+        root.setLevel(Level.DEBUG);
+        root.debug("This is a buffered message");
+        root.debug("This is another buffered message");
+        assertNull("Event sent before the buffer was flushed", list.poll(250, TimeUnit.MILLISECONDS));
+        appender.getManager().flush();
+        LogEvent event = list.poll(3, TimeUnit.SECONDS);
+        assertNotNull("No event retrieved", event);
+        assertEquals("This is a buffered message", event.getMessage().getFormattedMessage());
+        event = list.poll(3, TimeUnit.SECONDS);
+        assertNotNull("No event retrieved", event);
+        assertEquals("This is another buffered message", event.getMessage().getFormattedMessage());
+        server.shutdown();
+    }
+
+    @Test
+    public void testTcpAppenderSpool() throws Exception {
+
+        final SocketAppender appender = SocketAppender.createAppender("localhost", String.valueOf(SPOOL_PORTNUM),
+            "tcp", null, "100", "true", "Test", null, "false", null, null, null, null, null, "65536", null, null);
+        appender.start();
+        // set appender on root and set level to debug
+        root.addAppender(appender);
+        root.setAdditive(false);
+        root.setLevel(Level.DEBUG);
+
+        root.debug("This message is spooled while the server is down.");
+
+        final TCPSocketServer server = new TCPSocketServer(SPOOL_PORTNUM);
+        server.start();
+        try {
+            final LogEvent event = list.poll(3, TimeUnit.SECONDS);
+            assertNotNull("No event retrieved", event);
+            assertEquals("This message is spooled while the server is down.",
+                event.getMessage().getFormattedMessage());
+        } finally {
+            server.shutdown();
+        }
+    }
+
     @Test
     public void testDefaultProtocol() throws Exception {
 
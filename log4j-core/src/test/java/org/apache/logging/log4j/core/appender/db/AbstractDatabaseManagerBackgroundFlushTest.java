@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender.db;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.db.BackgroundFlushConfig.OverflowPolicy;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the background flushing of {@link AbstractDatabaseManager}.
+ */
+public class AbstractDatabaseManagerBackgroundFlushTest {
+
+    private static class RecordingManager extends AbstractDatabaseManager {
+        final List<LogEvent> written = new CopyOnWriteArrayList<LogEvent>();
+        final List<Thread> writers = new CopyOnWriteArrayList<Thread>();
+        final CountDownLatch commits = new CountDownLatch(1);
+        volatile CountDownLatch blockWrites;
+
+        RecordingManager(final int bufferSize, final BackgroundFlushConfig backgroundFlush) {
+            super("recording", bufferSize, backgroundFlush);
+        }
+
+        @Override
+        protected void startupInternal() {
+        }
+
+        @Override
+        protected void shutdownInternal() {
+        }
+
+        @Override
+        protected void connectAndStart() {
+        }
+
+        @Override
+        protected void writeInternal(final LogEvent event) {
+            final CountDownLatch block = blockWrites;
+            if (block != null) {
+                try {
+                    block.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            writers.add(Thread.currentThread());
+            written.add(event);
+        }
+
+        @Override
+        protected void commitAndClose() {
+            commits.countDown();
+        }
+    }
+
+    private RecordingManager manager;
+
+    @After
+    public void tearDown() {
+        if (this.manager != null) {
+            this.manager.blockWrites = null;
+            this.manager.shutdown();
+        }
+    }
+
+    private static LogEvent event(final Level level, final String message) {
+        return new Log4jLogEvent("test", null, AbstractDatabaseManagerBackgroundFlushTest.class.getName(), level,
+                new SimpleMessage(message), null);
+    }
+
+    @Test
+    public void testFlushOnBufferSize() throws Exception {
+        this.manager = new RecordingManager(2, new BackgroundFlushConfig(10, 60000, OverflowPolicy.BLOCK, Level.WARN));
+        this.manager.startup();
+
+        this.manager.write(event(Level.INFO, "one"));
+        this.manager.write(event(Level.INFO, "two"));
+
+        assertTrue("The buffer was not flushed.", this.manager.commits.await(5, TimeUnit.SECONDS));
+        assertEquals(2, this.manager.written.size());
+        assertNotSame("Events should be written by the background thread.", Thread.currentThread(),
+                this.manager.writers.get(0));
+    }
+
+    @Test
+    public void testFlushOnInterval() throws Exception {
+        this.manager = new RecordingManager(100, new BackgroundFlushConfig(10, 50, OverflowPolicy.BLOCK, Level.WARN));
+        this.manager.startup();
+
+        this.manager.write(event(Level.INFO, "one"));
+
+        assertTrue("The buffer was not flushed.", this.manager.commits.await(5, TimeUnit.SECONDS));
+        assertEquals("one", this.manager.written.get(0).getMessage().getFormattedMessage());
+    }
+
+    @Test
+    public void testEventIsSnapshotOnAppendingThread() throws Exception {
+        this.manager = new RecordingManager(1, new BackgroundFlushConfig(10, 60000, OverflowPolicy.BLOCK, Level.WARN));
+        this.manager.startup();
+
+        final Thread appender = new Thread("appending-thread") {
+            @Override
+            public void run() {
+                manager.write(event(Level.INFO, "one"));
+            }
+        };
+        appender.start();
+        appender.join();
+
+        assertTrue("The buffer was not flushed.", this.manager.commits.await(5, TimeUnit.SECONDS));
+        assertEquals("appending-thread", this.manager.written.get(0).getThreadName());
+    }
+
+    @Test
+    public void testShutdownFlushesQueuedEvents() throws Exception {
+        this.manager = new RecordingManager(100, new BackgroundFlushConfig(10, 60000, OverflowPolicy.BLOCK,
+                Level.WARN));
+        this.manager.startup();
+
+        this.manager.write(event(Level.INFO, "one"));
+        this.manager.write(event(Level.INFO, "two"));
+        this.manager.shutdown();
+
+        assertEquals(2, this.manager.written.size());
+        assertFalse(this.manager.isRunning());
+        this.manager = null;
+    }
+
+    @Test
+    public void testDropBelowLevelWhenFull() throws Exception {
+        this.manager = new RecordingManager(0, new BackgroundFlushConfig(1, 10, OverflowPolicy.DROP_BELOW_LEVEL,
+                Level.WARN));
+        this.manager.blockWrites = new CountDownLatch(1);
+        this.manager.startup();
+
+        // the flusher takes the first event and blocks writing it, the second one fills the queue
+        this.manager.write(event(Level.INFO, "taken"));
+        Thread.sleep(200);
+        this.manager.write(event(Level.INFO, "queued"));
+        this.manager.write(event(Level.DEBUG, "dropped"));
+        this.manager.blockWrites.countDown();
+        this.manager.write(event(Level.ERROR, "kept"));
+        this.manager.shutdown();
+
+        final StringBuilder messages = new StringBuilder();
+        for (final LogEvent event : this.manager.written) {
+            messages.append(event.getMessage().getFormattedMessage()).append(' ');
+        }
+        assertEquals("taken queued kept ", messages.toString());
+        this.manager = null;
+    }
+
+    @Test
+    public void testShutdownWritesEventsOfThreadsBlockedOnFullQueue() throws Exception {
+        this.manager = new RecordingManager(0, new BackgroundFlushConfig(1, 10, OverflowPolicy.BLOCK, Level.WARN));
+        this.manager.blockWrites = new CountDownLatch(1);
+        this.manager.startup();
+
+        // the flusher takes the first event and blocks writing it, the second one fills the queue
+        this.manager.write(event(Level.INFO, "taken"));
+        Thread.sleep(200);
+        this.manager.write(event(Level.INFO, "queued"));
+        final List<Thread> blocked = new ArrayList<Thread>();
+        for (int i = 0; i < 3; i++) {
+            final String message = "blocked" + i;
+            final Thread thread = new Thread() {
+                @Override
+                public void run() {
+                    manager.write(event(Level.INFO, message));
+                }
+            };
+            thread.start();
+            blocked.add(thread);
+        }
+        final Thread stopping = new Thread() {
+            @Override
+            public void run() {
+                manager.shutdown();
+            }
+        };
+        stopping.start();
+        Thread.sleep(200);
+        this.manager.blockWrites.countDown();
+        stopping.join(5000);
+        for (final Thread thread : blocked) {
+            thread.join(5000);
+            assertFalse("An appending thread is still blocked.", thread.isAlive());
+        }
+
+        final List<String> messages = new ArrayList<String>();
+        for (final LogEvent event : this.manager.written) {
+            messages.add(event.getMessage().getFormattedMessage());
+        }
+        Collections.sort(messages);
+        assertEquals("[blocked0, blocked1, blocked2, queued, taken]", messages.toString());
+        this.manager = null;
+    }
+
+    @Test
+    public void testCreateConfig() {
+        assertNull(BackgroundFlushConfig.createConfig(null, "100", "Drop", null));
+        final BackgroundFlushConfig config = BackgroundFlushConfig.createConfig("500", null, "drop_below_level",
+                "error");
+        assertEquals(500, config.getQueueSize());
+        assertEquals(BackgroundFlushConfig.DEFAULT_FLUSH_INTERVAL, config.getFlushInterval());
+        assertEquals(OverflowPolicy.DROP_BELOW_LEVEL, config.getOverflowPolicy());
+        assertEquals(Level.ERROR, config.getOverflowLevel());
+    }
+}
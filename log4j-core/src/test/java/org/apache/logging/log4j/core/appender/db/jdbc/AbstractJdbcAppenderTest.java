@@ -221,6 +221,48 @@ public abstract class AbstractJdbcAppenderTest {
         assertFalse("There should not be three rows.", resultSet.next());
     }
 
+    @Test
+    public void testBatchConfig() throws Exception {
+        this.setUp("batchLogEntry", "log4j2-" + this.databaseType + "-batch.xml");
+
+        final SQLException exception = new SQLException("Batched error message!");
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final PrintWriter writer = new PrintWriter(outputStream);
+        exception.printStackTrace(writer);
+        writer.close();
+        final String stackTrace = outputStream.toString();
+
+        final Logger logger = LogManager.getLogger(this.getClass().getName() + ".testBatchConfig");
+        for (int i = 1; i < 5; i++) {
+            logger.info("Batched message 0" + i + '.');
+        }
+
+        final Statement statement = this.connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SELECT * FROM batchLogEntry ORDER BY id");
+        assertFalse("There should not be any rows before the buffer is flushed.", resultSet.next());
+
+        logger.error("Batched error 05.", exception);
+
+        resultSet = statement.executeQuery("SELECT * FROM batchLogEntry ORDER BY id");
+        for (int i = 1; i < 5; i++) {
+            assertTrue("There should be row " + i + '.', resultSet.next());
+            assertEquals("The literal column is not correct (" + i + ").", "Batched Literal Value",
+                    resultSet.getString("literalColumn"));
+            assertEquals("The message column is not correct (" + i + ").", "Batched message 0" + i + '.',
+                    resultSet.getString("message"));
+            assertEquals("The exception column is not correct (" + i + ").", Strings.EMPTY,
+                    IOUtils.readStringAndClose(resultSet.getNClob("exception").getCharacterStream(), -1));
+        }
+
+        assertTrue("There should be five rows.", resultSet.next());
+        assertEquals("The level column is not correct (5).", "ERROR", resultSet.getNString("level"));
+        assertEquals("The message column is not correct (5).", "Batched error 05.", resultSet.getString("message"));
+        assertEquals("The exception column is not correct (5).", stackTrace,
+                IOUtils.readStringAndClose(resultSet.getNClob("exception").getCharacterStream(), -1));
+
+        assertFalse("There should not be six rows.", resultSet.next());
+    }
+
     @Test
     @Category(PerformanceTests.class)
     public void testPerformanceOfAppenderWith1000Events() throws Exception {
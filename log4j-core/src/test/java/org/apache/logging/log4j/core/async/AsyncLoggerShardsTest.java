@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LifeCycle;
+import org.apache.logging.log4j.core.config.ConfigurationFactory;
+import org.apache.logging.log4j.core.jmx.RingBufferAdmin;
+import org.apache.logging.log4j.core.util.Constants;
+import org.apache.logging.log4j.util.Strings;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that AsyncLoggers distribute their events over multiple ring buffers
+ * and still log the events of each logger in order.
+ */
+public class AsyncLoggerShardsTest {
+
+    private static final int SHARDS = 4;
+    private static final int LOGGERS = 8;
+    private static final int EVENTS = 500;
+
+    @BeforeClass
+    public static void beforeClass() {
+        System.setProperty("AsyncLogger.Shards", String.valueOf(SHARDS));
+        System.setProperty(Constants.LOG4J_CONTEXT_SELECTOR,
+                AsyncLoggerContextSelector.class.getName());
+        System.setProperty(ConfigurationFactory.CONFIGURATION_FILE_PROPERTY,
+                "AsyncLoggerShardsTest.xml");
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        System.setProperty(Constants.LOG4J_CONTEXT_SELECTOR, Strings.EMPTY);
+        System.clearProperty("AsyncLogger.Shards");
+    }
+
+    @Test
+    public void testEventsOfEachLoggerAreLoggedInOrder() throws Exception {
+        final File f = new File("target", "AsyncLoggerShardsTest.log");
+        f.delete();
+        final Logger[] loggers = new Logger[LOGGERS];
+        for (int i = 0; i < LOGGERS; i++) {
+            loggers[i] = LogManager.getLogger("com.foo.Bar" + i);
+        }
+        for (int event = 0; event < EVENTS; event++) {
+            for (final Logger logger : loggers) {
+                logger.info("{}", event);
+            }
+        }
+        assertEquals(SHARDS, AsyncLogger.getShardCount());
+        final List<RingBufferAdmin> admins = AsyncLogger.createRingBufferAdmins("ctx");
+        assertEquals(SHARDS, admins.size());
+        assertEquals("3", admins.get(3).getObjectName().getKeyProperty("shard"));
+        ((LifeCycle) LogManager.getContext()).stop(); // stop async threads
+
+        final Map<String, Integer> next = new HashMap<String, Integer>();
+        final BufferedReader reader = new BufferedReader(new FileReader(f));
+        int lines = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            final String[] parts = line.split(" ");
+            final Integer expected = next.containsKey(parts[0]) ? next.get(parts[0]) : Integer.valueOf(0);
+            assertEquals(parts[0], expected.intValue(), Integer.parseInt(parts[1]));
+            next.put(parts[0], expected + 1);
+            lines++;
+        }
+        reader.close();
+        f.delete();
+        assertEquals(LOGGERS * EVENTS, lines);
+    }
+
+}
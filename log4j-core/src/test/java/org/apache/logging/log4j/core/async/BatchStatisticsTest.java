@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.Cursored;
+import com.lmax.disruptor.TimeoutBlockingWaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the BatchStatistics class and the wait strategy selection in DisruptorUtil.
+ */
+public class BatchStatisticsTest {
+
+    private static final String PROPERTY = "BatchStatisticsTest.WaitStrategy";
+
+    private long cursorValue;
+
+    private final Cursored cursor = new Cursored() {
+        @Override
+        public long getCursor() {
+            return cursorValue;
+        }
+    };
+
+    @After
+    public void after() {
+        System.clearProperty(PROPERTY);
+        System.clearProperty(PROPERTY + ".SpinTries");
+    }
+
+    @Test
+    public void testStatisticsUpdatedAtEndOfBatch() {
+        final BatchStatistics stats = new BatchStatistics(cursor);
+        cursorValue = 10;
+        stats.onEvent(0, false);
+        stats.onEvent(1, false);
+        assertEquals("not updated before end of batch", 0, stats.getEventCount());
+        stats.onEvent(2, true);
+        assertEquals(3, stats.getEventCount());
+        assertEquals(1, stats.getBatchCount());
+        assertEquals(3, stats.getMaxBatchSize());
+        assertEquals(8, stats.getConsumerLag());
+        assertEquals(8, stats.getMaxConsumerLag());
+
+        stats.onEvent(3, true);
+        assertEquals(4, stats.getEventCount());
+        assertEquals(2, stats.getBatchCount());
+        assertEquals(3, stats.getMaxBatchSize());
+        assertEquals(7, stats.getConsumerLag());
+        assertEquals(8, stats.getMaxConsumerLag());
+    }
+
+    @Test
+    public void testBatchSizeHistogram() {
+        final BatchStatistics stats = new BatchStatistics(cursor);
+        long sequence = 0;
+        for (final int size : new int[] {1, 1, 2, 3, 4, 1000}) {
+            for (int i = 1; i <= size; i++) {
+                stats.onEvent(sequence++, i == size);
+            }
+        }
+        final long[] histogram = stats.getBatchSizeHistogram();
+        assertEquals(BatchStatistics.HISTOGRAM_BUCKETS, histogram.length);
+        assertEquals(2, histogram[0]); // 1
+        assertEquals(2, histogram[1]); // 2-3
+        assertEquals(1, histogram[2]); // 4-7
+        assertEquals(1, histogram[9]); // 512-1023
+    }
+
+    @Test
+    public void testDefaultWaitStrategyIsBlocking() {
+        assertTrue(DisruptorUtil.createWaitStrategy(PROPERTY) instanceof BlockingWaitStrategy);
+    }
+
+    @Test
+    public void testNamedWaitStrategies() {
+        System.setProperty(PROPERTY, "Yield");
+        assertTrue(DisruptorUtil.createWaitStrategy(PROPERTY) instanceof YieldingWaitStrategy);
+        System.setProperty(PROPERTY, "TimeoutBlocking");
+        assertTrue(DisruptorUtil.createWaitStrategy(PROPERTY) instanceof TimeoutBlockingWaitStrategy);
+    }
+
+    @Test
+    public void testHybridWaitStrategyTunables() {
+        System.setProperty(PROPERTY, "Hybrid");
+        System.setProperty(PROPERTY + ".SpinTries", "7");
+        final HybridWaitStrategy strategy = (HybridWaitStrategy) DisruptorUtil.createWaitStrategy(PROPERTY);
+        assertEquals(7, strategy.getSpinTries());
+        assertEquals(HybridWaitStrategy.DEFAULT_YIELD_TRIES, strategy.getYieldTries());
+    }
+
+    @Test
+    public void testCustomWaitStrategyClass() {
+        System.setProperty(PROPERTY, YieldingWaitStrategy.class.getName());
+        assertTrue(DisruptorUtil.createWaitStrategy(PROPERTY) instanceof YieldingWaitStrategy);
+        System.setProperty(PROPERTY, "no.such.Strategy");
+        assertTrue(DisruptorUtil.createWaitStrategy(PROPERTY) instanceof BlockingWaitStrategy);
+    }
+}
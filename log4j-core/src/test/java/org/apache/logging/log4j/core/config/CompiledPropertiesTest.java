@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.lookup.Interpolator;
+import org.apache.logging.log4j.core.lookup.StrSubstitutor;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the CompiledProperties class.
+ */
+public class CompiledPropertiesTest {
+
+    private final StrSubstitutor substitutor = new StrSubstitutor(new Interpolator());
+
+    @After
+    public void after() {
+        ThreadContext.clearMap();
+    }
+
+    @Test
+    public void testConstantsAreShared() {
+        final CompiledProperties props = new CompiledProperties(new Property[] {
+                Property.createProperty("a", "1"), Property.createProperty("b", "2") });
+        assertFalse(props.hasVariables());
+        final List<Property> first = props.resolve(substitutor);
+        assertSame("no allocation per event", first, props.resolve(substitutor));
+        assertEquals(2, first.size());
+        assertEquals("a", first.get(0).getName());
+        assertEquals("1", first.get(0).getValue());
+
+        final Map<String, String> merged = props.mergeInto(null, substitutor);
+        assertSame("no allocation per event", merged, props.mergeInto(new HashMap<String, String>(), substitutor));
+        assertEquals("1", merged.get("a"));
+        assertEquals("2", merged.get("b"));
+    }
+
+    @Test
+    public void testVariablesAreResolvedPerEvent() {
+        final Property constant = Property.createProperty("a", "1");
+        final Property variable = Property.createProperty("user", "${ctx:user}");
+        final CompiledProperties props = new CompiledProperties(new Property[] {constant, variable});
+        assertTrue(props.hasVariables());
+        assertEquals(Boolean.FALSE, props.getProperties().get(constant));
+        assertEquals(Boolean.TRUE, props.getProperties().get(variable));
+
+        ThreadContext.put("user", "alice");
+        List<Property> resolved = props.resolve(substitutor);
+        assertEquals(2, resolved.size());
+        assertEquals("1", resolved.get(0).getValue());
+        assertEquals("alice", resolved.get(1).getValue());
+
+        ThreadContext.put("user", "bob");
+        resolved = props.resolve(substitutor);
+        assertEquals("bob", resolved.get(1).getValue());
+        assertEquals("bob", props.mergeInto(null, substitutor).get("user"));
+    }
+
+    @Test
+    public void testContextMapTakesPrecedence() {
+        final CompiledProperties props = new CompiledProperties(new Property[] {
+                Property.createProperty("a", "1"), Property.createProperty("b", "${ctx:b}") });
+        final Map<String, String> contextMap = new HashMap<String, String>();
+        contextMap.put("a", "context");
+        contextMap.put("b", "context");
+        final Map<String, String> merged = props.mergeInto(contextMap, substitutor);
+        assertEquals("context", merged.get("a"));
+        assertEquals("context", merged.get("b"));
+        assertEquals("context map not modified", 2, contextMap.size());
+    }
+}
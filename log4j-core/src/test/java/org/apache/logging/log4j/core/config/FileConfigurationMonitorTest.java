@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the FileConfigurationMonitor class.
+ */
+public class FileConfigurationMonitorTest {
+
+    private static final int INTERVAL_SECONDS = 5;
+
+    private final BlockingQueue<Thread> notifications = new LinkedBlockingQueue<Thread>();
+
+    private final ConfigurationListener listener = new ConfigurationListener() {
+        @Override
+        public void onChange(final Reconfigurable reconfigurable) {
+            notifications.add(Thread.currentThread());
+        }
+    };
+
+    private File file;
+
+    @Before
+    public void before() throws Exception {
+        file = File.createTempFile("FileConfigurationMonitorTest", ".xml", new File("target"));
+    }
+
+    @After
+    public void after() {
+        file.delete();
+    }
+
+    private FileConfigurationMonitor createMonitor() {
+        return new FileConfigurationMonitor(null, file, Collections.singletonList(listener), INTERVAL_SECONDS);
+    }
+
+    @Test
+    public void testChangeDetectedInBackground() throws Exception {
+        final FileConfigurationMonitor monitor = createMonitor();
+        try {
+            assertTrue(file.setLastModified(file.lastModified() + 10000));
+            final Thread notifier = notifications.poll(INTERVAL_SECONDS * 3, TimeUnit.SECONDS);
+            assertNotNull("Change not detected", notifier);
+            assertNotSame("Listener called on the test thread", Thread.currentThread(), notifier);
+            assertTrue("Listener called on a non-daemon thread", notifier.isDaemon());
+        } finally {
+            monitor.stop();
+        }
+    }
+
+    @Test
+    public void testChangesCoalesced() throws Exception {
+        final FileConfigurationMonitor monitor = createMonitor();
+        try {
+            final long modified = file.lastModified();
+            for (int i = 1; i <= 3; i++) {
+                assertTrue(file.setLastModified(modified + i * 10000));
+            }
+            assertNotNull("Change not detected", notifications.poll(INTERVAL_SECONDS * 3, TimeUnit.SECONDS));
+            assertNull("Changes not coalesced", notifications.poll(INTERVAL_SECONDS + 2, TimeUnit.SECONDS));
+        } finally {
+            monitor.stop();
+        }
+    }
+
+    @Test
+    public void testChangeWithSameTimestampDetected() throws Exception {
+        final FileConfigurationMonitor monitor = createMonitor();
+        try {
+            final long modified = file.lastModified();
+            final FileOutputStream os = new FileOutputStream(file);
+            try {
+                os.write("<Configuration/>".getBytes("UTF-8"));
+            } finally {
+                os.close();
+            }
+            assertTrue(file.setLastModified(modified));
+            assertNotNull("Change not detected", notifications.poll(INTERVAL_SECONDS * 3, TimeUnit.SECONDS));
+        } finally {
+            monitor.stop();
+        }
+    }
+
+    @Test
+    public void testCheckConfigurationDoesNotNotify() throws Exception {
+        final FileConfigurationMonitor monitor = createMonitor();
+        try {
+            monitor.checkConfiguration();
+            assertNull(notifications.poll(100, TimeUnit.MILLISECONDS));
+        } finally {
+            monitor.stop();
+        }
+    }
+
+    @Test
+    public void testStoppedMonitorDoesNotNotify() throws Exception {
+        final FileConfigurationMonitor monitor = createMonitor();
+        monitor.stop();
+        assertTrue(file.setLastModified(file.lastModified() + 10000));
+        assertNull("Stopped monitor notified", notifications.poll(INTERVAL_SECONDS + 2, TimeUnit.SECONDS));
+    }
+}
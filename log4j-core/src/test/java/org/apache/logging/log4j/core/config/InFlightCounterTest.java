@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the InFlightCounter class.
+ */
+public class InFlightCounterTest {
+
+    @Test
+    public void testStripes() {
+        assertEquals(2, InFlightCounter.stripes(1));
+        assertEquals(8, InFlightCounter.stripes(4));
+        assertEquals(16, InFlightCounter.stripes(6));
+        assertEquals(64, InFlightCounter.stripes(256));
+    }
+
+    @Test
+    public void testUncontendedUsesBase() {
+        final InFlightCounter counter = new InFlightCounter();
+        final int token1 = counter.increment();
+        final int token2 = counter.increment();
+        assertEquals(InFlightCounter.BASE, token1);
+        assertEquals(InFlightCounter.BASE, token2);
+        assertEquals(2, counter.get());
+        counter.decrement(token2);
+        counter.decrement(token1);
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void testConcurrentIncrementsBalance() throws Exception {
+        final InFlightCounter counter = new InFlightCounter();
+        final int threadCount = 8;
+        final int iterations = 100000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch inFlight = new CountDownLatch(threadCount);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        for (int j = 0; j < iterations; j++) {
+                            counter.decrement(counter.increment());
+                        }
+                        final int token = counter.increment();
+                        inFlight.countDown();
+                        release.await();
+                        counter.decrement(token);
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        start.countDown();
+        inFlight.await();
+        assertEquals("one event in flight per thread", threadCount, counter.get());
+        release.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, counter.get());
+    }
+}
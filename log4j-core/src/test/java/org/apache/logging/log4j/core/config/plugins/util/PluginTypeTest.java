@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package org.apache.logging.log4j.core.config.plugins.util;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.core.appender.ConsoleAppender;
+import org.apache.logging.log4j.core.util.ResourceLoader;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the PluginType class.
+ */
+public class PluginTypeTest {
+
+    private static class CountingResourceLoader implements ResourceLoader {
+        final AtomicInteger loads = new AtomicInteger();
+
+        @Override
+        public Class<?> loadClass(final String name) throws ClassNotFoundException {
+            loads.incrementAndGet();
+            return Class.forName(name);
+        }
+
+        @Override
+        public URL getResource(final String name) {
+            return null;
+        }
+
+        @Override
+        public Enumeration<URL> getResources(final String name) throws IOException {
+            return null;
+        }
+    }
+
+    @Test
+    public void testClassIsLoadedOnFirstUse() {
+        final CountingResourceLoader loader = new CountingResourceLoader();
+        final PluginType<?> type = new PluginType<Object>(ConsoleAppender.class.getName(), loader, "console", true,
+                false);
+        assertEquals(0, loader.loads.get());
+        assertEquals(ConsoleAppender.class.getName(), type.getPluginClassName());
+        assertSame(ConsoleAppender.class, type.getPluginClass());
+        assertSame(ConsoleAppender.class, type.getPluginClass());
+        assertEquals(1, loader.loads.get());
+    }
+
+    @Test
+    public void testMissingClassIsNull() {
+        final CountingResourceLoader loader = new CountingResourceLoader();
+        final PluginType<?> type = new PluginType<Object>("org.example.DoesNotExist", loader, "missing", false,
+                false);
+        assertNull(type.getPluginClass());
+        assertEquals("org.example.DoesNotExist", type.getPluginClassName());
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.logging.log4j.MarkerManager;
 import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.Message;
 import org.apache.logging.log4j.message.SimpleMessage;
 import org.junit.Test;
 
@@ -42,9 +43,9 @@ public class MarkerFilterTest {
         MarkerFilter filter = MarkerFilter.createFilter("Parent", null, null);
         filter.start();
         assertTrue(filter.isStarted());
-        assertSame(Filter.Result.DENY, filter.filter(null, null, stranger, null, (Throwable) null));
-        assertSame(Filter.Result.NEUTRAL, filter.filter(null, null, child, null, (Throwable) null));
-        assertSame(Filter.Result.NEUTRAL, filter.filter(null, null, grandChild, null, (Throwable) null));
+        assertSame(Filter.Result.DENY, filter.filter(null, null, stranger, (Message) null, (Throwable) null));
+        assertSame(Filter.Result.NEUTRAL, filter.filter(null, null, child, (Message) null, (Throwable) null));
+        assertSame(Filter.Result.NEUTRAL, filter.filter(null, null, grandChild, (Message) null, (Throwable) null));
         filter.stop();
         LogEvent event = new Log4jLogEvent(null, grandChild, null, Level.DEBUG, new SimpleMessage("Test"), null);
         assertSame(Filter.Result.NEUTRAL, filter.filter(event));
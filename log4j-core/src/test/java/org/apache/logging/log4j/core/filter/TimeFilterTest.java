@@ -23,6 +23,7 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.Message;
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -41,7 +42,7 @@ public class TimeFilterTest {
         cal.set(Calendar.HOUR_OF_DAY, 2);
         long tod = cal.getTimeInMillis();
         LogEvent event = new Log4jLogEvent(null, null, null, null, null, null, null, null, null, null, tod);
-        assertSame(Filter.Result.NEUTRAL, filter.filter(null, Level.ERROR, null, null, (Throwable) null));
+        assertSame(Filter.Result.NEUTRAL, filter.filter(null, Level.ERROR, null, (Message) null, (Throwable) null));
         assertSame(Filter.Result.NEUTRAL, filter.filter(event));
         cal.roll(Calendar.DAY_OF_MONTH, true);
         tod = cal.getTimeInMillis();
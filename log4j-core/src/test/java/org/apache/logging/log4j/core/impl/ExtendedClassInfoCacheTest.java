@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ExtendedClassInfoCacheTest {
+
+    private static ThrowableProxy.CacheEntry entry(final String location) {
+        return new ThrowableProxy.CacheEntry(location, "?", null);
+    }
+
+    @Test
+    public void testEntriesAreKeyedByLoaderAndClassName() {
+        final ExtendedClassInfoCache cache = new ExtendedClassInfoCache(10);
+        final ClassLoader other = new URLClassLoader(new URL[0]);
+        final ThrowableProxy.CacheEntry a = entry("a.jar");
+        cache.put(null, "com.foo.Bar", a);
+        cache.put(other, "com.foo.Bar", entry("b.jar"));
+        assertSame(a, cache.get(null, "com.foo.Bar"));
+        assertEquals("b.jar", cache.get(other, "com.foo.Bar").getElement(false).getLocation());
+        assertNull(cache.get(other, "com.foo.Baz"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testOtherEntryIsEvicted() {
+        final ExtendedClassInfoCache cache = new ExtendedClassInfoCache(2);
+        cache.put(null, "A", entry("a"));
+        cache.put(null, "B", entry("b"));
+        cache.put(null, "C", entry("c"));
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(null, "C"));
+        assertTrue(cache.get(null, "A") == null ^ cache.get(null, "B") == null);
+    }
+
+    @Test
+    public void testConcurrentPuts() throws Exception {
+        final ExtendedClassInfoCache cache = new ExtendedClassInfoCache(100);
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; ++i) {
+            final String prefix = "T" + i + ".";
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 1000; ++j) {
+                        cache.put(null, prefix + j, entry(prefix));
+                        cache.get(null, prefix + (j / 2));
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(cache.size() <= 100);
+    }
+
+    @Test
+    public void testBoundAppliesAcrossLoaders() {
+        final ExtendedClassInfoCache cache = new ExtendedClassInfoCache(2);
+        cache.put(null, "A", entry("a"));
+        cache.put(null, "B", entry("b"));
+        final ClassLoader other = new URLClassLoader(new URL[0]);
+        cache.put(other, "C", entry("c"));
+        assertEquals(1, cache.size());
+        assertNotNull(cache.get(other, "C"));
+    }
+
+    @Test
+    public void testZeroSizeDisablesCache() {
+        final ExtendedClassInfoCache cache = new ExtendedClassInfoCache(0);
+        cache.put(null, "A", entry("a"));
+        assertNull(cache.get(null, "A"));
+    }
+
+    @Test
+    public void testCacheEntryDoesNotHoldLoaderStrongly() {
+        final ClassLoader loader = new URLClassLoader(new URL[0]);
+        final ThrowableProxy.CacheEntry entry = new ThrowableProxy.CacheEntry("?", "?", loader);
+        assertSame(loader, entry.getLoader());
+        assertTrue(entry.getElement(true).getExact());
+        assertFalse(entry.getElement(false).getExact());
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.Strings;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ReusableLogEventFactoryTest {
+
+    private final ReusableLogEventFactory factory = new ReusableLogEventFactory();
+
+    @Test
+    public void testEventIsReusedAfterRelease() {
+        final LogEvent event1 = factory.createEvent("a", null, Strings.EMPTY, Level.INFO, null, null, null);
+        ReusableLogEventFactory.release(event1);
+        final LogEvent event2 = factory.createEvent("b", null, Strings.EMPTY, Level.WARN, null, null, null);
+        ReusableLogEventFactory.release(event2);
+
+        assertTrue(event1 instanceof MutableLogEvent);
+        assertSame(event1, event2);
+    }
+
+    @Test
+    public void testNestedEventIsNotReused() {
+        final LogEvent outer = factory.createEvent("outer", null, Strings.EMPTY, Level.INFO, null, null, null);
+        final LogEvent inner = factory.createEvent("inner", null, Strings.EMPTY, Level.INFO, null, null, null);
+        try {
+            assertNotSame(outer, inner);
+            assertTrue(inner instanceof Log4jLogEvent);
+            assertEquals("outer", outer.getLoggerName());
+        } finally {
+            ReusableLogEventFactory.release(inner);
+            ReusableLogEventFactory.release(outer);
+        }
+    }
+
+    @Test
+    public void testMementoIsIndependentOfReusedEvent() {
+        final Message msg = ReusableMessageFactory.INSTANCE.newMessage("x={}", "1");
+        ThreadContext.push("ndc");
+        final LogEvent event = factory.createEvent("a", null, Strings.EMPTY, Level.INFO, msg, null, null);
+        final LogEvent memento;
+        try {
+            memento = ReusableLogEventFactory.memento(event);
+        } finally {
+            ThreadContext.pop();
+            ReusableLogEventFactory.release(event);
+            ReusableMessageFactory.release(msg);
+        }
+        final Message msg2 = ReusableMessageFactory.INSTANCE.newMessage("y={}", "2");
+        final LogEvent event2 = factory.createEvent("b", null, Strings.EMPTY, Level.ERROR, msg2, null, null);
+        try {
+            assertTrue(memento instanceof Log4jLogEvent);
+            assertEquals("a", memento.getLoggerName());
+            assertEquals(Level.INFO, memento.getLevel());
+            assertTrue(memento.getMessage() instanceof ParameterizedMessage);
+            assertEquals("x=1", memento.getMessage().getFormattedMessage());
+            assertEquals("ndc", memento.getContextStack().peek());
+            assertEquals(Thread.currentThread().getName(), memento.getThreadName());
+        } finally {
+            ReusableLogEventFactory.release(event2);
+            ReusableMessageFactory.release(msg2);
+        }
+    }
+
+    @Test
+    public void testMementoOfRegularEventWithReusableMessage() {
+        final Message msg = ReusableMessageFactory.INSTANCE.newMessage("x={}", "1");
+        final LogEvent event = new Log4jLogEvent("a", null, Strings.EMPTY, Level.INFO, msg, null);
+        final LogEvent memento;
+        try {
+            memento = ReusableLogEventFactory.memento(event);
+        } finally {
+            ReusableMessageFactory.release(msg);
+        }
+        assertNotSame(event, memento);
+        assertEquals("a", memento.getLoggerName());
+        assertEquals(event.getTimeMillis(), memento.getTimeMillis());
+        assertEquals(Thread.currentThread().getName(), memento.getThreadName());
+        assertEquals("x=1", memento.getMessage().getFormattedMessage());
+
+        final LogEvent plain = new Log4jLogEvent("a", null, Strings.EMPTY, Level.INFO, new SimpleMessage("x"),
+                null);
+        assertSame(plain, ReusableLogEventFactory.memento(plain));
+    }
+
+    @Test
+    public void testMementoIsNotChangedByLaterParameterChanges() {
+        final List<String> list = new ArrayList<String>();
+        list.add("a");
+        final Object[] params = {list, "b"};
+        final LogEvent event = new Log4jLogEvent("a", null, Strings.EMPTY, Level.INFO,
+                new ParameterizedMessage("{} {}", params), null);
+        final LogEvent memento = ReusableLogEventFactory.memento(event);
+        list.add("c");
+        params[1] = "d";
+        assertEquals("[a] b", memento.getMessage().getFormattedMessage());
+    }
+
+    @Test
+    public void testReusableMessage() {
+        final Throwable t = new IllegalStateException();
+        final Message msg = ReusableMessageFactory.INSTANCE.newMessage("{} and {}", "a", "b", t);
+        try {
+            assertTrue(msg instanceof ReusableParameterizedMessage);
+            assertEquals("a and b", msg.getFormattedMessage());
+            assertSame(t, msg.getThrowable());
+            assertArrayEquals(new Object[] {"a", "b"}, msg.getParameters());
+            assertTrue(ReusableMessageFactory.INSTANCE.newMessage("{}", "c") instanceof ParameterizedMessage);
+        } finally {
+            ReusableMessageFactory.release(msg);
+        }
+        assertSame(msg, ReusableMessageFactory.INSTANCE.newMessage("{}", "c"));
+        assertEquals("c", msg.getFormattedMessage());
+        ReusableMessageFactory.release(msg);
+    }
+}
@@ -21,8 +21,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.util.HashMap;
-import java.util.Map;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Stack;
 
 import javax.xml.bind.DatatypeConverter;
@@ -61,15 +61,42 @@ public class ThrowableProxyTest {
 
     @Test
     public void testStack() {
-        final Map<String, ThrowableProxy.CacheEntry> map = new HashMap<String, ThrowableProxy.CacheEntry>();
         final Stack<Class<?>> stack = new Stack<Class<?>>();
         final Throwable throwable = new IllegalStateException("This is a test");
         final ThrowableProxy proxy = new ThrowableProxy(throwable);
-        final ExtendedStackTraceElement[] callerPackageData = proxy.toExtendedStackTrace(stack, map, null,
+        final ExtendedStackTraceElement[] callerPackageData = proxy.toExtendedStackTrace(stack, null,
                 throwable.getStackTrace());
         assertNotNull("No package data returned", callerPackageData);
     }
 
+    @Test
+    public void testClassInfoIsSharedBetweenProxies() {
+        final Throwable throwable = new IllegalStateException("This is a test");
+        final ThrowableProxy proxy1 = new ThrowableProxy(throwable);
+        final ThrowableProxy proxy2 = new ThrowableProxy(new IllegalStateException("Another test"));
+        final ExtendedStackTraceElement[] trace1 = proxy1.getExtendedStackTrace();
+        final ExtendedStackTraceElement[] trace2 = proxy2.getExtendedStackTrace();
+        assertSame(trace1[trace1.length - 1].getExtraClassInfo(), trace2[trace2.length - 1].getExtraClassInfo());
+    }
+
+    @Test
+    public void testUnresolvedClassInfoIsCachedPerContextClassLoader() {
+        final String className = "org.example.NotOnTheClassPath";
+        final StackTraceElement[] stackTrace = { new StackTraceElement(className, "run", "Missing.java", 1) };
+        final ClassLoader contextLoader = new URLClassLoader(new URL[0]);
+        final ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(contextLoader);
+        try {
+            new ThrowableProxy(new IllegalStateException("This is a test")).toExtendedStackTrace(
+                    new Stack<Class<?>>(), null, stackTrace);
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+        assertNotNull(ExtendedClassInfoCache.INSTANCE.get(contextLoader, className));
+        assertNull(ExtendedClassInfoCache.INSTANCE.get(null, className));
+        assertNull(ExtendedClassInfoCache.INSTANCE.get(previous, className));
+    }
+
     @Test
     public void testSerialization() throws Exception {
         final Throwable throwable = new IllegalArgumentException("This is a test");
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.layout;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LogEventListener;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.util.Charsets;
+import org.apache.logging.log4j.core.net.server.BinaryInputStreamLogEventBridge;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the BinaryLayout by reading its output back with the BinaryInputStreamLogEventBridge.
+ */
+public class BinaryLayoutTest {
+
+    private static class ListListener extends LogEventListener {
+        private final List<LogEvent> events = new ArrayList<LogEvent>();
+
+        @Override
+        public void log(final LogEvent event) {
+            events.add(event);
+        }
+    }
+
+    private static List<LogEvent> decode(final byte[] bytes) throws IOException {
+        final BinaryInputStreamLogEventBridge bridge = new BinaryInputStreamLogEventBridge();
+        final ListListener listener = new ListListener();
+        bridge.logEvents(bridge.wrapStream(new ByteArrayInputStream(bytes)), listener);
+        return listener.events;
+    }
+
+    private static void writeVarint(final ByteArrayOutputStream out, final int value) {
+        int v = value;
+        while ((v & ~0x7F) != 0) {
+            out.write((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.write(v);
+    }
+
+    /** Writes a frame by hand, for input the layout never produces. */
+    private static void writeFrame(final ByteArrayOutputStream out, final int channel, final String levelName,
+            final int intLevel) {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeVarint(body, 0); // flags
+        writeVarint(body, channel);
+        writeVarint(body, intLevel);
+        writeVarint(body, BinaryLayout.STRING_NULL); // logger name
+        writeVarint(body, BinaryLayout.STRING_NULL); // logger FQCN
+        if (levelName == null) {
+            writeVarint(body, BinaryLayout.STRING_NULL);
+        } else {
+            final byte[] bytes = levelName.getBytes(Charsets.UTF_8);
+            writeVarint(body, BinaryLayout.STRING_LITERAL);
+            writeVarint(body, bytes.length + 1);
+            body.write(bytes, 0, bytes.length);
+        }
+        writeVarint(body, 0); // time
+        writeVarint(body, BinaryLayout.STRING_NULL); // thread name
+        writeVarint(body, 0); // null message
+        writeVarint(out, body.size());
+        out.write(body.toByteArray(), 0, body.size());
+    }
+
+    private static Log4jLogEvent createEvent(final String loggerName, final String message) {
+        return new Log4jLogEvent(loggerName, null, "f.q.c.n", Level.INFO, new SimpleMessage(message), null, null,
+                null, "main", null, 1234567890123L);
+    }
+
+    private void testAllFeatures(final boolean dictionary) throws Exception {
+        final Log4jLogEvent expected = LogEventFixtures.createLogEvent();
+        final BinaryLayout layout = BinaryLayout.createLayout(true, true, dictionary);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(layout.getHeader());
+        out.write(layout.toByteArray(expected));
+        out.write(layout.toByteArray(expected)); // second time with dictionary references
+        final List<LogEvent> events = decode(out.toByteArray());
+        assertEquals(2, events.size());
+        LogEventFixtures.assertEqualLogEvents(expected, events.get(0), true, true);
+        LogEventFixtures.assertEqualLogEvents(expected, events.get(1), true, true);
+    }
+
+    @Test
+    public void testAllFeaturesWithDictionary() throws Exception {
+        testAllFeatures(true);
+    }
+
+    @Test
+    public void testAllFeaturesWithoutDictionary() throws Exception {
+        testAllFeatures(false);
+    }
+
+    @Test
+    public void testExcludeLocationAndProperties() throws Exception {
+        final Log4jLogEvent expected = LogEventFixtures.createLogEvent();
+        final BinaryLayout layout = BinaryLayout.createLayout(false, false, true);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(layout.getHeader());
+        out.write(layout.toByteArray(expected));
+        final LogEvent actual = decode(out.toByteArray()).get(0);
+        assertNull(actual.getSource());
+        assertTrue(actual.getContextMap().isEmpty());
+        assertEquals(expected.getThrownProxy(), actual.getThrownProxy());
+        assertEquals(expected.getMarker(), actual.getMarker());
+    }
+
+    @Test
+    public void testDictionaryShrinksRepeatedEvents() throws Exception {
+        final Log4jLogEvent event = createEvent("org.example.SomeRatherLongLoggerName", "m");
+        final BinaryLayout layout = BinaryLayout.createLayout(false, true, true);
+        layout.getHeader();
+        final int first = layout.toByteArray(event).length;
+        final int second = layout.toByteArray(event).length;
+        assertTrue("first=" + first + ", second=" + second, second < first - 30);
+    }
+
+    @Test
+    public void testHeaderResetsDictionary() throws Exception {
+        final Log4jLogEvent event = createEvent("org.example.Logger", "m");
+        final BinaryLayout layout = BinaryLayout.createLayout(false, true, true);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(layout.getHeader());
+        out.write(layout.toByteArray(event));
+        decode(out.toByteArray());
+
+        // a new stream: the first event must define its strings again
+        final ByteArrayOutputStream reconnected = new ByteArrayOutputStream();
+        reconnected.write(layout.getHeader());
+        reconnected.write(layout.toByteArray(event));
+        final List<LogEvent> events = decode(reconnected.toByteArray());
+        assertEquals(1, events.size());
+        assertEquals("org.example.Logger", events.get(0).getLoggerName());
+    }
+
+    @Test
+    public void testStreamStatefulOnlyWithDictionary() {
+        assertTrue(BinaryLayout.createLayout(false, true, true).isStreamStateful());
+        assertFalse(BinaryLayout.createLayout(false, true, false).isStreamStateful());
+    }
+
+    @Test
+    public void testUnknownDictionaryReferenceSkipsEvent() throws Exception {
+        final BinaryLayout layout = BinaryLayout.createLayout(false, true, true);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(layout.getHeader());
+        layout.toByteArray(createEvent("a.b", "lost")); // defines the strings, but is never sent
+        out.write(layout.toByteArray(createEvent("a.b", "skipped")));
+        out.write(layout.getHeader()); // the stream goes on after a skipped event
+        out.write(layout.toByteArray(createEvent("c.d", "kept")));
+        final List<LogEvent> events = decode(out.toByteArray());
+        assertEquals(1, events.size());
+        assertEquals("kept", events.get(0).getMessage().getFormattedMessage());
+    }
+
+    @Test
+    public void testNonAsciiMessage() throws Exception {
+        final String message = "café € 😀 end";
+        final BinaryLayout layout = BinaryLayout.createLayout(false, true, true);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(layout.getHeader());
+        out.write(layout.toByteArray(createEvent("a.b", message)));
+        assertEquals(message, decode(out.toByteArray()).get(0).getMessage().getFormattedMessage());
+    }
+
+    @Test
+    public void testNotABinaryStream() {
+        try {
+            decode(new byte[] {0, 'X', 'M', 'L', 1});
+            fail("Expected IOException");
+        } catch (final IOException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testFrameLongerThanMaximumClosesStream() throws Exception {
+        final BinaryLayout layout = BinaryLayout.createLayout(false, true, true);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(layout.getHeader());
+        out.write(layout.toByteArray(createEvent("a.b", new String(new char[200]).replace('\0', 'x'))));
+        final BinaryInputStreamLogEventBridge bridge = new BinaryInputStreamLogEventBridge(100);
+        try {
+            bridge.logEvents(bridge.wrapStream(new ByteArrayInputStream(out.toByteArray())), new ListListener());
+            fail("Expected IOException");
+        } catch (final IOException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testDeeplyNestedExceptionClosesStream() throws Exception {
+        Throwable thrown = new IllegalStateException("root");
+        for (int i = 0; i < BinaryInputStreamLogEventBridge.MAX_NESTING_DEPTH; i++) {
+            thrown = new IllegalStateException("cause " + i, thrown);
+        }
+        final Log4jLogEvent event = new Log4jLogEvent("a.b", null, "f.q.c.n", Level.ERROR, new SimpleMessage("deep"),
+                thrown, null, null, "main", null, 1234567890123L);
+        final BinaryLayout layout = BinaryLayout.createLayout(false, true, true);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(layout.getHeader());
+        out.write(layout.toByteArray(event));
+        try {
+            decode(out.toByteArray());
+            fail("Expected IOException");
+        } catch (final IOException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testTooManyDictionariesCloseStream() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(BinaryLayout.createLayout(false, true, true).getHeader());
+        for (int channel = 1; channel <= BinaryInputStreamLogEventBridge.MAX_DICTIONARIES + 1; channel++) {
+            writeFrame(out, channel, null, Level.INFO.intLevel());
+        }
+        final BinaryInputStreamLogEventBridge bridge = new BinaryInputStreamLogEventBridge();
+        final ListListener listener = new ListListener();
+        try {
+            bridge.logEvents(bridge.wrapStream(new ByteArrayInputStream(out.toByteArray())), listener);
+            fail("Expected IOException");
+        } catch (final IOException expected) {
+            assertEquals(BinaryInputStreamLogEventBridge.MAX_DICTIONARIES, listener.events.size());
+        }
+    }
+
+    @Test
+    public void testUnknownLevelIsNotCreated() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(BinaryLayout.createLayout(false, true, true).getHeader());
+        writeFrame(out, 0, "BINARY_LAYOUT_TEST_LEVEL", 350);
+        final List<LogEvent> events = decode(out.toByteArray());
+        assertEquals(1, events.size());
+        assertEquals(Level.WARN, events.get(0).getLevel());
+        assertNull(Level.getLevel("BINARY_LAYOUT_TEST_LEVEL"));
+    }
+
+    @Test
+    public void testMarkerParentsDoNotChangeExistingMarkers() throws Exception {
+        final Marker existing = MarkerManager.getMarker("BinaryLayoutTestMarker");
+        final Marker sent = new MarkerManager.Log4jMarker("BinaryLayoutTestMarker")
+                .setParents(new MarkerManager.Log4jMarker("BinaryLayoutTestParent"));
+        final Log4jLogEvent event = new Log4jLogEvent("a.b", sent, "f.q.c.n", Level.INFO, new SimpleMessage("marked"),
+                null, null, null, "main", null, 1234567890123L);
+        final BinaryLayout layout = BinaryLayout.createLayout(false, true, true);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(layout.getHeader());
+        out.write(layout.toByteArray(event));
+        final Marker received = decode(out.toByteArray()).get(0).getMarker();
+        assertTrue(received.isInstanceOf("BinaryLayoutTestParent"));
+        assertNull(existing.getParents());
+    }
+}
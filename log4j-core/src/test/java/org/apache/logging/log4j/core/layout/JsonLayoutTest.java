@@ -171,6 +171,23 @@ public class JsonLayoutTest {
         assertEquals(Charsets.UTF_8, layout.getCharset());
     }
 
+    @Test
+    public void testEncodeMatchesToSerializable() throws Exception {
+        for (final boolean compact : new boolean[] {false, true}) {
+            final AbstractJacksonLayout layout = JsonLayout.createLayout(true, true, false, compact, Charsets.UTF_8);
+            final Log4jLogEvent event1 = LogEventFixtures.createLogEvent();
+            final Log4jLogEvent event2 = Log4jLogEvent.createEvent("a.B", null, "f.q.c.n", Level.DEBUG,
+                    new SimpleMessage("M\u00e9"), null, null, null, null, "threadName", null, 1);
+            final StringBuilderEncoderTest.SpyByteBufferDestination destination =
+                    new StringBuilderEncoderTest.SpyByteBufferDestination(64);
+            // the same generator is reused for consecutive events
+            layout.encode(event1, destination);
+            layout.encode(event2, destination);
+            final String expected = layout.toSerializable(event1) + layout.toSerializable(event2);
+            assertEquals(expected, new String(destination.toByteArray(), Charsets.UTF_8));
+        }
+    }
+
     @Test
     public void testEscapeLayout() throws Exception {
         final Map<String, Appender> appenders = this.rootLogger.getAppenders();
@@ -262,6 +279,19 @@ public class JsonLayoutTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testSkipEmptyContextMap() throws Exception {
+        final Log4jLogEvent event = Log4jLogEvent.createEvent("a.B", null, "f.q.c.n", Level.DEBUG,
+                new SimpleMessage("M"), null, null, null, null, "threadName", null, 1);
+        final String kept = JsonLayout.createLayout(false, true, false, true, Charsets.UTF_8).toSerializable(event);
+        assertTrue(kept, kept.contains("\"contextMap\":[]"));
+        final String skipped = JsonLayout.createLayout(false, true, false, true, Charsets.UTF_8, true)
+                .toSerializable(event);
+        assertFalse(skipped, skipped.contains("contextMap"));
+        final Log4jLogEvent actual = new Log4jJsonObjectMapper().readValue(skipped, Log4jLogEvent.class);
+        assertTrue(actual.getContextMap().isEmpty());
+    }
+
     @Test
     public void testLocationOffCompactOffMdcOff() throws Exception {
         this.testAllFeatures(false, false, false);
@@ -188,4 +188,16 @@ public class PatternLayoutTest {
         assertEquals("\\INFO\tHello, world!\n\torg.apache.logging.log4j.core.layout.PatternLayoutTest\r\n\f",
                 new String(result));
     }
+
+    @Test
+    public void testEncodeMatchesToByteArray() throws Exception {
+        final PatternLayout layout = PatternLayout.newBuilder().withPattern("%level %logger %msg%n")
+                .withConfiguration(ctx.getConfiguration()).build();
+        final LogEvent event = new Log4jLogEvent(this.getClass().getName(), null,
+                "org.apache.logging.log4j.core.Logger", Level.INFO, new SimpleMessage("Hello, world!"), null);
+        final StringBuilderEncoderTest.SpyByteBufferDestination destination =
+                new StringBuilderEncoderTest.SpyByteBufferDestination(10);
+        layout.encode(event, destination);
+        assertArrayEquals(layout.toByteArray(event), destination.toByteArray());
+    }
 }
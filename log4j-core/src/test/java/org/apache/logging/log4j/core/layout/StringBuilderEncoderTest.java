@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.layout;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import org.apache.logging.log4j.core.util.Charsets;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the StringBuilderEncoder class.
+ */
+public class StringBuilderEncoderTest {
+
+    /**
+     * Destination with a tiny buffer that collects everything drained from it.
+     */
+    static class SpyByteBufferDestination implements ByteBufferDestination {
+        final ByteBuffer buffer;
+        final ByteArrayOutputStream drained = new ByteArrayOutputStream();
+        int drainCount;
+
+        SpyByteBufferDestination(final int bufferSize) {
+            buffer = ByteBuffer.allocate(bufferSize);
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            return buffer;
+        }
+
+        @Override
+        public ByteBuffer drain(final ByteBuffer buf) {
+            drainCount++;
+            buf.flip();
+            drained.write(buf.array(), 0, buf.limit());
+            buf.clear();
+            return buf;
+        }
+
+        byte[] toByteArray() {
+            drain(buffer);
+            return drained.toByteArray();
+        }
+    }
+
+    @Test
+    public void testEncodeShortText() throws Exception {
+        final SpyByteBufferDestination destination = new SpyByteBufferDestination(64);
+        new StringBuilderEncoder(Charsets.UTF_8).encode(new StringBuilder("Hello, world!"), destination);
+        assertEquals(0, destination.drainCount);
+        assertEquals("Hello, world!", new String(destination.toByteArray(), Charsets.UTF_8));
+    }
+
+    @Test
+    public void testEncodeDrainsWhenBufferIsFull() throws Exception {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            text.append("line ").append(i).append('\n');
+        }
+        final SpyByteBufferDestination destination = new SpyByteBufferDestination(16);
+        new StringBuilderEncoder(Charsets.UTF_8, 7).encode(text, destination);
+        assertTrue(destination.drainCount > 0);
+        assertArrayEquals(text.toString().getBytes(Charsets.UTF_8), destination.toByteArray());
+    }
+
+    @Test
+    public void testEncodeDoesNotSplitSurrogatePairs() throws Exception {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            text.append("a\uD834\uDD1E"); // U+1D11E MUSICAL SYMBOL G CLEF
+        }
+        final SpyByteBufferDestination destination = new SpyByteBufferDestination(8);
+        new StringBuilderEncoder(Charsets.UTF_8, 2).encode(text, destination);
+        assertArrayEquals(text.toString().getBytes(Charsets.UTF_8), destination.toByteArray());
+    }
+
+    @Test
+    public void testEncoderIsReusable() throws Exception {
+        final Charset latin1 = Charset.forName("ISO-8859-1");
+        final StringBuilderEncoder encoder = new StringBuilderEncoder(latin1);
+        final SpyByteBufferDestination destination = new SpyByteBufferDestination(32);
+        encoder.encode(new StringBuilder("first "), destination);
+        encoder.encode(new StringBuilder("second \u00e9"), destination);
+        assertEquals("first second \u00e9", new String(destination.toByteArray(), latin1));
+    }
+}
@@ -26,9 +26,13 @@ import org.apache.logging.log4j.ThreadContext;
 import org.apache.logging.log4j.core.Appender;
 import org.apache.logging.log4j.core.BasicConfigurationFactory;
 import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.ConfigurationFactory;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 import org.apache.logging.log4j.core.net.Facility;
+import org.apache.logging.log4j.core.util.Charsets;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.logging.log4j.message.StructuredDataMessage;
 import org.apache.logging.log4j.test.appender.ListAppender;
 import org.junit.AfterClass;
@@ -118,4 +122,14 @@ public class SyslogLayoutTest {
         assertTrue("Expected line 3 to end with: " + line3 + " Actual " + list.get(2), list.get(2).endsWith(line3));
         assertTrue("Expected line 4 to end with: " + line4 + " Actual " + list.get(3), list.get(3).endsWith(line4));
     }
+
+    @Test
+    public void testNewLineEscape() {
+        final SyslogLayout layout = SyslogLayout.createLayout(Facility.LOCAL0, false, "#012", Charsets.UTF_8);
+        final LogEvent event = new Log4jLogEvent("test", null, null, Level.INFO,
+            new ParameterizedMessage("first {}\r\nsecond\nthird", "line"), null);
+        final String text = layout.toSerializable(event);
+        assertTrue(text, text.endsWith(" first line#012second#012third"));
+        assertTrue(text, text.startsWith("<134>"));
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.net;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SocketSpoolTest {
+
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("SocketSpoolTest", ".spool");
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    private static byte[] frame(final int length, final int value) {
+        final byte[] frame = new byte[length];
+        for (int i = 0; i < length; i++) {
+            frame[i] = (byte) value;
+        }
+        return frame;
+    }
+
+    @Test
+    public void testReplayMemory() throws Exception {
+        final SocketSpool spool = new SocketSpool(10, null);
+        assertTrue(spool.add(frame(6, 1), 0, 6));
+        assertFalse(spool.add(frame(5, 2), 0, 5));
+        assertTrue(spool.add(frame(4, 3), 0, 4));
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+        spool.replay(os);
+        assertEquals(0, spool.size());
+        assertEquals(10, os.size());
+        assertEquals(1, os.toByteArray()[5]);
+        assertEquals(3, os.toByteArray()[6]);
+    }
+
+    @Test
+    public void testFileLeftByPreviousRunIsCutBetweenChunks() throws Exception {
+        SocketSpool spool = new SocketSpool(200, file.getPath());
+        assertTrue(spool.add(frame(30, 1), 0, 30));
+        assertTrue(spool.add(frame(30, 2), 0, 30));
+        assertTrue(spool.add(frame(30, 3), 0, 30));
+        spool.close();
+
+        spool = new SocketSpool(70, file.getPath());
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+        spool.replay(os);
+        spool.close();
+        assertArrayEquals(concat(frame(30, 1), frame(30, 2)), os.toByteArray());
+        assertEquals(0, file.length());
+    }
+
+    @Test
+    public void testIncompleteChunkIsDiscarded() throws Exception {
+        SocketSpool spool = new SocketSpool(100, file.getPath());
+        assertTrue(spool.add(frame(30, 1), 0, 30));
+        assertTrue(spool.add(frame(30, 2), 0, 30));
+        spool.close();
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.setLength(raf.length() - 1);
+        raf.close();
+
+        spool = new SocketSpool(100, file.getPath());
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+        spool.replay(os);
+        spool.close();
+        assertArrayEquals(frame(30, 1), os.toByteArray());
+    }
+
+    private static byte[] concat(final byte[] first, final byte[] second) {
+        final byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
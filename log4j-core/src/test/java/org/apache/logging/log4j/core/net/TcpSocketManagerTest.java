@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.net;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LogEventListener;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.BinaryLayout;
+import org.apache.logging.log4j.core.net.server.BinaryInputStreamLogEventBridge;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TcpSocketManagerTest {
+
+    /**
+     * Stream that fails once told to, like the stream of a lost connection.
+     */
+    private static class FailingOutputStream extends FilterOutputStream {
+        private volatile boolean failing;
+
+        public FailingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            if (failing) {
+                throw new IOException("Connection lost");
+            }
+            out.write(b, off, len);
+        }
+    }
+
+    private static class EventCollector extends LogEventListener {
+        private final List<LogEvent> events = new ArrayList<LogEvent>();
+
+        @Override
+        public void log(final LogEvent event) {
+            events.add(event);
+        }
+    }
+
+    private static LogEvent event(final String message) {
+        return new Log4jLogEvent("org.example.Spooled", null, TcpSocketManagerTest.class.getName(), Level.INFO,
+                new SimpleMessage(message), null, null, null, "main", null, 1234567890123L);
+    }
+
+    private static void append(final TcpSocketManager manager, final BinaryLayout layout, final LogEvent event,
+                               final boolean flush) {
+        synchronized (manager) {
+            manager.encode(layout, event);
+            if (flush) {
+                manager.flush();
+            }
+        }
+    }
+
+    private static List<LogEvent> read(final Socket socket, final int count) throws IOException {
+        final BinaryInputStreamLogEventBridge bridge = new BinaryInputStreamLogEventBridge();
+        final BinaryInputStreamLogEventBridge.BinaryInputStream in = bridge.wrapStream(socket.getInputStream());
+        final EventCollector collector = new EventCollector();
+        while (collector.events.size() < count) {
+            bridge.logEvents(in, collector);
+        }
+        return collector.events;
+    }
+
+    @Test
+    public void testStreamStatefulFramesAreEncodedAgainForTheSpool() throws Exception {
+        final BinaryLayout layout = BinaryLayout.createLayout(false, false, true);
+        final ServerSocket serverSocket = new ServerSocket(0);
+        try {
+            final int port = serverSocket.getLocalPort();
+            final Socket socket = new Socket("localhost", port);
+            final Socket first = serverSocket.accept();
+            first.setSoTimeout(10000);
+            final FailingOutputStream os = new FailingOutputStream(socket.getOutputStream());
+            final TcpSocketManager manager = new TcpSocketManager("TcpSocketManagerTest", os, socket,
+                    InetAddress.getByName("localhost"), "localhost", port, 100, false, layout, 4096, 0,
+                    new SocketSpool(65536, null));
+            try {
+                append(manager, layout, event("sent"), true);
+                assertEquals("sent", read(first, 1).get(0).getMessage().getFormattedMessage());
+
+                // the logger name of these events refers to a dictionary entry defined on the lost connection, the
+                // flush of the second one fails
+                append(manager, layout, event("buffered"), false);
+                os.failing = true;
+                append(manager, layout, event("failed"), true);
+                append(manager, layout, event("spooled"), true);
+
+                final Socket second = serverSocket.accept();
+                second.setSoTimeout(10000);
+                final List<LogEvent> events = read(second, 3);
+                for (final LogEvent event : events) {
+                    assertEquals("org.example.Spooled", event.getLoggerName());
+                }
+                assertEquals("buffered", events.get(0).getMessage().getFormattedMessage());
+                assertEquals("failed", events.get(1).getMessage().getFormattedMessage());
+                assertEquals("spooled", events.get(2).getMessage().getFormattedMessage());
+                second.close();
+            } finally {
+                manager.close();
+            }
+            first.close();
+        } finally {
+            serverSocket.close();
+        }
+    }
+}
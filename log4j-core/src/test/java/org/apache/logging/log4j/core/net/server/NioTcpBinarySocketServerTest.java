@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.net.server;
+
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.net.Socket;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEventListener;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.jmx.SocketServerAdminMBean;
+import org.apache.logging.log4j.core.layout.BinaryLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.test.AvailablePortFinder;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class NioTcpBinarySocketServerTest extends AbstractSocketServerTest {
+
+    private static NioTcpSocketServer<BinaryInputStreamLogEventBridge.BinaryInputStream> server;
+
+    @BeforeClass
+    public static void setupClass() throws Exception {
+        ((LoggerContext) LogManager.getContext(false)).reconfigure();
+        server = NioTcpSocketServer.createBinarySocketServer(PORT_NUM);
+        thread = server.startNewThread();
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        server.shutdown();
+        try {
+            thread.join();
+        } catch (final InterruptedException e) {
+            // ignore
+        }
+    }
+
+    public NioTcpBinarySocketServerTest() {
+        super("tcp", PORT, false);
+    }
+
+    @Override
+    protected Layout<? extends Serializable> createLayout() {
+        return BinaryLayout.createLayout(false, true, true);
+    }
+
+    @Test
+    public void testStatistics() throws Exception {
+        final long events = server.getStatistics().getEventsReceived();
+        final long bytes = server.getStatistics().getBytesReceived();
+        testServer("first", "second", "third");
+        assertEquals("Events", events + 3, server.getStatistics().getEventsReceived());
+        assertTrue("Bytes", server.getStatistics().getBytesReceived() > bytes);
+        assertTrue("Connections", server.getStatistics().getConnectionCount() >= 1);
+
+        final MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(String.format(SocketServerAdminMBean.PATTERN, "tcp", PORT));
+        assertTrue("MBean registered", mbs.isRegistered(name));
+        assertEquals(Long.valueOf(server.getStatistics().getEventsReceived()),
+                mbs.getAttribute(name, "EventsReceived"));
+    }
+
+    @Test
+    public void testRuntimeExceptionClosesConnection() throws Exception {
+        final BinaryInputStreamLogEventBridge bridge = new BinaryInputStreamLogEventBridge() {
+            @Override
+            public void logEvents(final BinaryInputStream inputStream, final LogEventListener logEventListener) {
+                throw new IllegalStateException("Test");
+            }
+        };
+        final int port = AvailablePortFinder.getNextAvailable();
+        final NioTcpSocketServer<BinaryInputStreamLogEventBridge.BinaryInputStream> failing =
+                new NioTcpSocketServer<BinaryInputStreamLogEventBridge.BinaryInputStream>(port, bridge, bridge, 1,
+                        NioTcpSocketServer.DEFAULT_BUFFER_SIZE, NioTcpSocketServer.DEFAULT_MAX_FRAME_LENGTH);
+        final Thread failingThread = failing.startNewThread();
+        try {
+            final BinaryLayout layout = BinaryLayout.createLayout(false, true, true);
+            final Socket socket = new Socket("localhost", port);
+            try {
+                socket.setSoTimeout(10000);
+                final OutputStream os = socket.getOutputStream();
+                os.write(layout.getHeader());
+                os.write(layout.toByteArray(new Log4jLogEvent("a.b", null, "f.q.c.n", Level.INFO,
+                        new SimpleMessage("boom"), null, null, null, "main", null, 1234567890123L)));
+                os.flush();
+                assertEquals("Connection closed by the server", -1, socket.getInputStream().read());
+            } finally {
+                socket.close();
+            }
+        } finally {
+            failing.shutdown();
+            failingThread.join();
+        }
+    }
+
+    @Test
+    public void testFrameLongerThanMaximumClosesConnection() throws Exception {
+        final int port = AvailablePortFinder.getNextAvailable();
+        final NioTcpSocketServer<BinaryInputStreamLogEventBridge.BinaryInputStream> bounded =
+                NioTcpSocketServer.createBinarySocketServer(port, NioTcpSocketServer.DEFAULT_BUFFER_SIZE);
+        final Thread boundedThread = bounded.startNewThread();
+        try {
+            final BinaryLayout layout = BinaryLayout.createLayout(false, true, true);
+            final StringBuilder text = new StringBuilder();
+            while (text.length() <= NioTcpSocketServer.DEFAULT_BUFFER_SIZE) {
+                text.append("0123456789");
+            }
+            final Socket socket = new Socket("localhost", port);
+            try {
+                socket.setSoTimeout(10000);
+                final OutputStream os = socket.getOutputStream();
+                os.write(layout.getHeader());
+                os.write(layout.toByteArray(new Log4jLogEvent("a.b", null, "f.q.c.n", Level.INFO,
+                        new SimpleMessage(text.toString()), null, null, null, "main", null, 1234567890123L)));
+                os.flush();
+                assertEquals("Connection closed by the server", -1, socket.getInputStream().read());
+            } finally {
+                socket.close();
+            }
+        } finally {
+            bounded.shutdown();
+            boundedThread.join();
+        }
+    }
+}
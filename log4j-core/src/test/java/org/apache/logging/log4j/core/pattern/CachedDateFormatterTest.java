@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.pattern;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Compares {@link CachedDateFormatter} with a plain {@link SimpleDateFormat}.
+ */
+public class CachedDateFormatterTest {
+
+    private static final String[] PATTERNS = {
+        "HH:mm:ss,SSS", "yyyyMMddHHmmssSSS", "dd MMM yyyy HH:mm:ss,SSS", "yyyyMMdd HHmmss,SSS",
+        "yyyy-MM-dd HH:mm:ss,SSS", "yyyy-MM-dd'T'HH:mm:ss", "SSS SSS", "HH:mm:ss.S", "EEE, d MMM yyyy HH:mm:ss Z"
+    };
+
+    private static void assertSameAsSimpleDateFormat(final String pattern, final TimeZone timeZone) {
+        final SimpleDateFormat format = new SimpleDateFormat(pattern);
+        format.setTimeZone(timeZone);
+        final SimpleDateFormat expected = new SimpleDateFormat(pattern);
+        expected.setTimeZone(timeZone);
+        final CachedDateFormatter formatter = new CachedDateFormatter(format);
+
+        final Random random = new Random(pattern.hashCode());
+        long time = random.nextLong() % 4000000000000L;
+        for (int i = 0; i < 5000; i++) {
+            // mostly forward in small steps, sometimes back across a second boundary
+            time += i % 50 == 0 ? -5000 : random.nextInt(300);
+            final StringBuilder buffer = new StringBuilder();
+            formatter.format(time, buffer);
+            assertEquals(pattern + " at " + time, expected.format(new Date(time)), buffer.toString());
+        }
+    }
+
+    @Test
+    public void testPatternsMatchSimpleDateFormat() {
+        for (final String pattern : PATTERNS) {
+            assertSameAsSimpleDateFormat(pattern, TimeZone.getDefault());
+        }
+    }
+
+    @Test
+    public void testTimeZone() {
+        for (final String pattern : PATTERNS) {
+            assertSameAsSimpleDateFormat(pattern, TimeZone.getTimeZone("America/St_Johns"));
+        }
+    }
+
+    @Test
+    public void testAppendsToExistingText() {
+        final SimpleDateFormat format = new SimpleDateFormat("HH:mm:ss,SSS");
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        final CachedDateFormatter formatter = new CachedDateFormatter(format);
+        final StringBuilder buffer = new StringBuilder("[");
+        formatter.format(1007L, buffer);
+        buffer.append("][");
+        formatter.format(1999L, buffer);
+        buffer.append(']');
+        assertEquals("[00:00:01,007][00:00:01,999]", buffer.toString());
+        assertEquals("HH:mm:ss,SSS", formatter.toPattern());
+    }
+}
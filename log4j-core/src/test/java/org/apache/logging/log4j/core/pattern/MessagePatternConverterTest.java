@@ -22,6 +22,7 @@ import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.DefaultConfiguration;
 import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.logging.log4j.message.SimpleMessage;
 import org.junit.Test;
 
@@ -71,4 +72,26 @@ public class MessagePatternConverterTest {
         converter.format(event, sb);
         assertEquals("Incorrect length: " + sb.length(), 4, sb.length());
     }
+
+    @Test
+    public void testParameterizedMessageWithLookup() throws Exception {
+        final Configuration config = new DefaultConfiguration();
+        final MessagePatternConverter converter = MessagePatternConverter.newInstance(config, null);
+        final Message msg = new ParameterizedMessage("{} ${sys:java.specification.version}", "Hello");
+        final LogEvent event = new Log4jLogEvent("MyLogger", null, null, Level.DEBUG, msg, null);
+        final StringBuilder sb = new StringBuilder("Prefix ");
+        converter.format(event, sb);
+        assertEquals("Unexpected result", "Prefix Hello " + System.getProperty("java.specification.version"),
+            sb.toString());
+    }
+
+    @Test
+    public void testParameterizedMessageWithNullPattern() throws Exception {
+        final MessagePatternConverter converter = MessagePatternConverter.newInstance(null, null);
+        final Message msg = new ParameterizedMessage(null, "Hello");
+        final LogEvent event = new Log4jLogEvent("MyLogger", null, null, Level.DEBUG, msg, null);
+        final StringBuilder sb = new StringBuilder();
+        converter.format(event, sb);
+        assertEquals("Unexpected result", "null", sb.toString());
+    }
 }
@@ -159,6 +159,53 @@ public final class FlumeAppender extends AbstractAppender implements FlumeEventF
      *
      * @return A Flume Avro Appender.
      */
+    public static FlumeAppender createAppender(final Agent[] agents, final Property[] properties,
+                                               final String embedded, final String type, final String dataDir,
+                                               final String connectionTimeout, final String requestTimeout,
+                                               final String agentRetries, final String maxDelay, final String name,
+                                               final String ignore, final String excludes, final String includes,
+                                               final String required, final String mdcPrefix,
+                                               final String eventPrefix, final String compressBody,
+                                               final String batchSize, final String lockTimeoutRetries,
+                                               final FlumeEventFactory factory,
+                                               final Layout<? extends Serializable> layout, final Filter filter) {
+        return createAppender(agents, properties, embedded, type, dataDir, connectionTimeout, requestTimeout,
+            agentRetries, maxDelay, name, ignore, excludes, includes, required, mdcPrefix, eventPrefix, compressBody,
+            batchSize, lockTimeoutRetries, null, factory, layout, filter);
+    }
+
+    /**
+     * Create a Flume Avro Appender.
+     * @param agents An array of Agents.
+     * @param properties Properties to pass to the embedded agent.
+     * @param embedded true if the embedded agent manager should be used. otherwise the Avro manager will be used.
+     * <b>Note: </b><i>The embedded attribute is deprecated in favor of specifying the type attribute.</i>
+     * @param type Avro (default), Embedded, or Persistent.
+     * @param dataDir The directory where the Flume FileChannel should write its data.
+     * @param connectionTimeout The amount of time in milliseconds to wait before a connection times out. Minimum is
+     *                          1000.
+     * @param requestTimeout The amount of time in milliseconds to wait before a request times out. Minimum is 1000.
+     * @param agentRetries The number of times to retry an agent before failing to the next agent.
+     * @param maxDelay The maximum number of seconds to wait for a complete batch.
+     * @param name The name of the Appender.
+     * @param ignore If {@code "true"} (default) exceptions encountered when appending events are logged; otherwise
+     *               they are propagated to the caller.
+     * @param excludes A comma separated list of MDC elements to exclude.
+     * @param includes A comma separated list of MDC elements to include.
+     * @param required A comma separated list of MDC elements that are required.
+     * @param mdcPrefix The prefix to add to MDC key names.
+     * @param eventPrefix The prefix to add to event key names.
+     * @param compressBody If true the event body will be compressed.
+     * @param batchSize Number of events to include in a batch. Defaults to 1.
+     * @param lockTimeoutRetries Times to retry a lock timeout when writing to Berkeley DB.
+     * @param durability How events are made durable in Berkeley DB: {@code sync} (default), {@code write-no-sync} or
+     *                   {@code no-sync}.
+     * @param factory The factory to use to create Flume events.
+     * @param layout The layout to format the event.
+     * @param filter A Filter to filter events.
+     *
+     * @return A Flume Avro Appender.
+     */
     @PluginFactory
     public static FlumeAppender createAppender(@PluginElement("Agents") Agent[] agents,
                                                @PluginElement("Properties") final Property[] properties,
@@ -179,6 +226,7 @@ public final class FlumeAppender extends AbstractAppender implements FlumeEventF
                                                @PluginAttribute("compress") final String compressBody,
                                                @PluginAttribute("batchSize") final String batchSize,
                                                @PluginAttribute("lockTimeoutRetries") final String lockTimeoutRetries,
+                                               @PluginAttribute("durability") final String durability,
                                                @PluginElement("FlumeEventFactory") final FlumeEventFactory factory,
                                                @PluginElement("Layout") Layout<? extends Serializable> layout,
                                                @PluginElement("Filters") final Filter filter) {
@@ -250,7 +298,7 @@ public final class FlumeAppender extends AbstractAppender implements FlumeEventF
                     agents = new Agent[] {Agent.createAgent(null, null)};
                 }
                 manager = FlumePersistentManager.getManager(name, agents, properties, batchCount, retries,
-                    connectTimeout, reqTimeout, delay, lockTimeoutRetryCount, dataDir);
+                    connectTimeout, reqTimeout, delay, lockTimeoutRetryCount, dataDir, durability);
                 break;
             default:
                 LOGGER.debug("No manager type specified. Defaulting to AVRO");
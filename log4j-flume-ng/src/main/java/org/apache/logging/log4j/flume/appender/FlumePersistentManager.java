@@ -21,16 +21,17 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.Charset;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import javax.crypto.Cipher;
@@ -52,6 +53,7 @@ import com.sleepycat.je.CursorConfig;
 import com.sleepycat.je.Database;
 import com.sleepycat.je.DatabaseConfig;
 import com.sleepycat.je.DatabaseEntry;
+import com.sleepycat.je.Durability;
 import com.sleepycat.je.Environment;
 import com.sleepycat.je.EnvironmentConfig;
 import com.sleepycat.je.LockConflictException;
@@ -59,6 +61,7 @@ import com.sleepycat.je.LockMode;
 import com.sleepycat.je.OperationStatus;
 import com.sleepycat.je.StatsConfig;
 import com.sleepycat.je.Transaction;
+import com.sleepycat.je.TransactionConfig;
 
 /**
  * Manager that persists data to Berkeley DB before passing it on to Flume.
@@ -78,6 +81,11 @@ public class FlumePersistentManager extends FlumeAvroManager {
 
     private static final int LOCK_TIMEOUT_SLEEP_MILLIS = 500;
 
+    private static final int MAX_PENDING_WRITES = 1024;
+
+    /** Encoders that grew beyond this size for a large event are not kept by the appending threads. */
+    private static final int MAX_REUSABLE_ENCODER_SIZE = 64 * 1024;
+
     private static BDBManagerFactory factory = new BDBManagerFactory();
 
     private final Database database;
@@ -92,9 +100,9 @@ public class FlumePersistentManager extends FlumeAvroManager {
 
     private final int delay;
 
-    private final int lockTimeoutRetryCount;
+    private final CommitThread committer;
 
-    private final ExecutorService threadPool;
+    private final ThreadLocal<EventEncoder> encoders = new ThreadLocal<EventEncoder>();
 
     private final AtomicLong dbCount = new AtomicLong();
 
@@ -118,6 +126,31 @@ public class FlumePersistentManager extends FlumeAvroManager {
                                      final int requestTimeout, final int delay, final Database database,
                                      final Environment environment, final SecretKey secretKey,
                                      final int lockTimeoutRetryCount) {
+        this(name, shortName, agents, batchSize, retries, connectionTimeout, requestTimeout, delay, database,
+            environment, secretKey, lockTimeoutRetryCount, Durability.COMMIT_SYNC);
+    }
+
+    /**
+     * Constructor
+     * @param name The unique name of this manager.
+     * @param shortName Original name for the Manager.
+     * @param agents An array of Agents.
+     * @param batchSize The number of events to include in a batch.
+     * @param retries The number of times to retry connecting before giving up.
+     * @param connectionTimeout The amount of time to wait for a connection to be established.
+     * @param requestTimeout The amount of time to wair for a response to a request.
+     * @param delay The amount of time to wait between retries.
+     * @param database The database to write to.
+     * @param environment The database environment.
+     * @param secretKey The SecretKey to use for encryption.
+     * @param lockTimeoutRetryCount The number of times to retry a lock timeout.
+     * @param durability The durability of the transactions that persist the events.
+     */
+    protected FlumePersistentManager(final String name, final String shortName, final Agent[] agents,
+                                     final int batchSize, final int retries, final int connectionTimeout,
+                                     final int requestTimeout, final int delay, final Database database,
+                                     final Environment environment, final SecretKey secretKey,
+                                     final int lockTimeoutRetryCount, final Durability durability) {
         super(name, shortName, agents, batchSize, retries, connectionTimeout, requestTimeout);
         this.delay = delay;
         this.database = database;
@@ -127,8 +160,9 @@ public class FlumePersistentManager extends FlumeAvroManager {
             lockTimeoutRetryCount);
         this.worker.start();
         this.secretKey = secretKey;
-        this.threadPool = Executors.newCachedThreadPool(new DaemonThreadFactory());
-        this.lockTimeoutRetryCount = lockTimeoutRetryCount;
+        this.committer = new CommitThread(database, environment, durability, gate, batchSize, dbCount,
+            lockTimeoutRetryCount);
+        this.committer.start();
     }
 
 
@@ -146,11 +180,37 @@ public class FlumePersistentManager extends FlumeAvroManager {
      * @param dataDir The location of the Berkeley database.
      * @return A FlumeAvroManager.
      */
+    public static FlumePersistentManager getManager(final String name, final Agent[] agents,
+                                                    final Property[] properties, final int batchSize,
+                                                    final int retries, final int connectionTimeout,
+                                                    final int requestTimeout, final int delay,
+                                                    final int lockTimeoutRetryCount, final String dataDir) {
+        return getManager(name, agents, properties, batchSize, retries, connectionTimeout, requestTimeout, delay,
+            lockTimeoutRetryCount, dataDir, null);
+    }
+
+    /**
+     * Returns a FlumeAvroManager.
+     * @param name The name of the manager.
+     * @param agents The agents to use.
+     * @param properties Properties to pass to the Manager.
+     * @param batchSize The number of events to include in a batch.
+     * @param retries The number of times to retry connecting before giving up.
+     * @param connectionTimeout The amount of time to wait to establish a connection.
+     * @param requestTimeout The amount of time to wait for a response to a request.
+     * @param delay Amount of time to delay before delivering a batch.
+     * @param lockTimeoutRetryCount The number of times to retry after a lock timeout.
+     * @param dataDir The location of the Berkeley database.
+     * @param durability How the events are made durable: {@code sync} (default) flushes them to disk with the
+     *                   commit, {@code write-no-sync} leaves them to the operating system and {@code no-sync} may keep
+     *                   them in memory for a while.
+     * @return A FlumeAvroManager.
+     */
     public static FlumePersistentManager getManager(final String name, final Agent[] agents,
                                                     final Property[] properties, int batchSize, final int retries,
                                                     final int connectionTimeout, final int requestTimeout,
                                                     final int delay, final int lockTimeoutRetryCount,
-                                                    final String dataDir) {
+                                                    final String dataDir, final String durability) {
         if (agents == null || agents.length == 0) {
             throw new IllegalArgumentException("At least one agent is required");
         }
@@ -172,65 +232,96 @@ public class FlumePersistentManager extends FlumeAvroManager {
         sb.append(']');
         sb.append(' ').append(dataDirectory);
         return getManager(sb.toString(), factory, new FactoryData(name, agents, batchSize, retries,
-            connectionTimeout, requestTimeout, delay, lockTimeoutRetryCount, dataDir, properties));
+            connectionTimeout, requestTimeout, delay, lockTimeoutRetryCount, dataDir, properties,
+            toDurability(durability)));
+    }
+
+    private static Durability toDurability(final String durability) {
+        if (durability == null || durability.equalsIgnoreCase("sync")) {
+            return Durability.COMMIT_SYNC;
+        }
+        if (durability.equalsIgnoreCase("write-no-sync")) {
+            return Durability.COMMIT_WRITE_NO_SYNC;
+        }
+        if (durability.equalsIgnoreCase("no-sync")) {
+            return Durability.COMMIT_NO_SYNC;
+        }
+        LOGGER.warn("Invalid durability {}, using sync", durability);
+        return Durability.COMMIT_SYNC;
     }
 
     @Override
     public void send(final Event event)  {
-        if (worker.isShutdown()) {
+        if (worker.isShutdown() || committer.isShutdown()) {
             throw new LoggingException("Unable to record event");
         }
 
         final Map<String, String> headers = event.getHeaders();
         final byte[] keyData = headers.get(FlumeEvent.GUID).getBytes(UTF8);
+        final PendingWrite write;
         try {
-            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            final DataOutputStream daos = new DataOutputStream(baos);
-            daos.writeInt(event.getBody().length);
-            daos.write(event.getBody(), 0, event.getBody().length);
-            daos.writeInt(event.getHeaders().size());
-            for (final Map.Entry<String, String> entry : headers.entrySet()) {
-                daos.writeUTF(entry.getKey());
-                daos.writeUTF(entry.getValue());
+            EventEncoder encoder = encoders.get();
+            if (encoder == null) {
+                encoder = new EventEncoder(secretKey);
+                encoders.set(encoder);
             }
-            byte[] eventData = baos.toByteArray();
-            if (secretKey != null) {
-                final Cipher cipher = Cipher.getInstance("AES");
-                cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-                eventData = cipher.doFinal(eventData);
+            write = new PendingWrite(keyData, encoder.encode(event));
+            if (encoder.size() > MAX_REUSABLE_ENCODER_SIZE) {
+                encoders.remove();
             }
-            final Future<Integer> future = threadPool.submit(new BDBWriter(keyData, eventData, environment, database,
-                gate, dbCount, getBatchSize(), lockTimeoutRetryCount));
-            boolean interrupted = false;
-            int count = 0;
-            do {
+        } catch (final Exception ex) {
+            throw new LoggingException("Exception occurred writing log event", ex);
+        }
+
+        // the event is persisted by the commit thread, together with the events of other threads
+        boolean interrupted = false;
+        try {
+            boolean queued = false;
+            while (!queued) {
                 try {
-                    future.get();
+                    queued = committer.pending.offer(write, LOCK_TIMEOUT_SLEEP_MILLIS, TimeUnit.MILLISECONDS);
                 } catch (final InterruptedException ie) {
                     interrupted = true;
-                    ++count;
                 }
-            } while (interrupted && count <= 1);
-
-        } catch (final Exception ex) {
-            throw new LoggingException("Exception occurred writing log event", ex);
+                if (!queued && !committer.isAlive()) {
+                    throw new LoggingException("Unable to record event");
+                }
+            }
+            boolean done = false;
+            while (!done) {
+                try {
+                    done = write.await(LOCK_TIMEOUT_SLEEP_MILLIS);
+                } catch (final InterruptedException ie) {
+                    interrupted = true;
+                }
+                if (!done && !committer.isAlive() && !write.isDone()) {
+                    throw new LoggingException("Unable to record event");
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (write.exception != null) {
+            throw new LoggingException("Exception occurred writing log event", write.exception);
         }
     }
 
     @Override
     protected void releaseSub() {
         LOGGER.debug("Shutting down FlumePersistentManager");
-        worker.shutdown();
+        committer.shutdown();
         try {
-            worker.join(SHUTDOWN_WAIT * MILLIS_PER_SECOND);
+            committer.join(SHUTDOWN_WAIT * MILLIS_PER_SECOND);
         } catch (final InterruptedException ie) {
-            // Ignore the exception and shutdown.
+            LOGGER.warn("Interrupted while waiting for the commit thread to complete");
         }
-        threadPool.shutdown();
+        worker.shutdown();
         try {
-            threadPool.awaitTermination(SHUTDOWN_WAIT, TimeUnit.SECONDS);
+            worker.join(SHUTDOWN_WAIT * MILLIS_PER_SECOND);
         } catch (final InterruptedException ie) {
-            LOGGER.warn("PersistentManager Thread pool failed to shut down");
+            // Ignore the exception and shutdown.
         }
         try {
             worker.join();
@@ -258,74 +349,162 @@ public class FlumePersistentManager extends FlumeAvroManager {
     }
 
     /**
-     * Thread for writing to Berkeley DB to avoid having interrupts close the database.
+     * An event waiting for the commit thread to persist it.
      */
-    private static class BDBWriter implements Callable<Integer> {
-        private final byte[] eventData;
-        private final byte[] keyData;
-        private final Environment environment;
+    private static class PendingWrite {
+        private final DatabaseEntry key;
+        private final DatabaseEntry data;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Exception exception;
+
+        public PendingWrite(final byte[] keyData, final byte[] eventData) {
+            this.key = new DatabaseEntry(keyData);
+            this.data = new DatabaseEntry(eventData);
+        }
+
+        public void complete(final Exception ex) {
+            this.exception = ex;
+            done.countDown();
+        }
+
+        public boolean await(final long millis) throws InterruptedException {
+            return done.await(millis, TimeUnit.MILLISECONDS);
+        }
+
+        public boolean isDone() {
+            return done.getCount() == 0;
+        }
+    }
+
+    /**
+     * Serializes and encrypts the events of one appending thread, reusing its buffer and cipher.
+     */
+    private static class EventEncoder {
+        private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        private final DataOutputStream daos = new DataOutputStream(baos);
+        private final Cipher cipher;
+
+        public EventEncoder(final SecretKey secretKey) throws GeneralSecurityException {
+            if (secretKey != null) {
+                cipher = Cipher.getInstance("AES");
+                cipher.init(Cipher.ENCRYPT_MODE, secretKey);
+            } else {
+                cipher = null;
+            }
+        }
+
+        public byte[] encode(final Event event) throws IOException, GeneralSecurityException {
+            baos.reset();
+            daos.writeInt(event.getBody().length);
+            daos.write(event.getBody(), 0, event.getBody().length);
+            daos.writeInt(event.getHeaders().size());
+            for (final Map.Entry<String, String> entry : event.getHeaders().entrySet()) {
+                daos.writeUTF(entry.getKey());
+                daos.writeUTF(entry.getValue());
+            }
+            daos.flush();
+            final byte[] eventData = baos.toByteArray();
+            // doFinal resets the cipher to its initialized state
+            return cipher == null ? eventData : cipher.doFinal(eventData);
+        }
+
+        public int size() {
+            return baos.size();
+        }
+    }
+
+    /**
+     * Thread for writing to Berkeley DB to avoid having interrupts close the database. The events queued by the
+     * appending threads while a transaction commits are all written by the next transaction.
+     */
+    private static class CommitThread extends Thread {
+        private final BlockingQueue<PendingWrite> pending = new ArrayBlockingQueue<PendingWrite>(MAX_PENDING_WRITES);
+        private final List<PendingWrite> group = new ArrayList<PendingWrite>();
+        private volatile boolean shutdown = false;
         private final Database database;
+        private final Environment environment;
+        private final TransactionConfig txnConfig;
         private final Gate gate;
+        private final int batchSize;
         private final AtomicLong dbCount;
-        private final long batchSize;
         private final int lockTimeoutRetryCount;
 
-        public BDBWriter(final byte[] keyData, final byte[] eventData, final Environment environment,
-                         final Database database, final Gate gate, final AtomicLong dbCount, final long batchSize,
-                         final int lockTimeoutRetryCount) {
-            this.keyData = keyData;
-            this.eventData = eventData;
-            this.environment = environment;
+        public CommitThread(final Database database, final Environment environment, final Durability durability,
+                            final Gate gate, final int batchSize, final AtomicLong dbCount,
+                            final int lockTimeoutRetryCount) {
+            super("FlumePersistentCommit");
             this.database = database;
+            this.environment = environment;
+            this.txnConfig = new TransactionConfig();
+            this.txnConfig.setDurability(durability);
             this.gate = gate;
-            this.dbCount = dbCount;
             this.batchSize = batchSize;
-            this.lockTimeoutRetryCount = lockTimeoutRetryCount;
+            this.dbCount = dbCount;
+            this.lockTimeoutRetryCount = Math.max(lockTimeoutRetryCount, 1);
+            this.setDaemon(true);
+        }
+
+        public void shutdown() {
+            LOGGER.debug("Commit thread shutting down");
+            // not interrupted, Berkeley DB invalidates the environment if a thread is interrupted during I/O
+            this.shutdown = true;
+        }
+
+        public boolean isShutdown() {
+            return shutdown;
         }
 
         @Override
-        public Integer call() throws Exception {
-            final DatabaseEntry key = new DatabaseEntry(keyData);
-            final DatabaseEntry data = new DatabaseEntry(eventData);
+        public void run() {
+            while (!shutdown) {
+                final PendingWrite first;
+                try {
+                    first = pending.poll(LOCK_TIMEOUT_SLEEP_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (final InterruptedException ie) {
+                    LOGGER.warn("Commit thread interrupted, continuing");
+                    continue;
+                }
+                if (first != null) {
+                    group.add(first);
+                    pending.drainTo(group);
+                    commit();
+                }
+            }
+            // persist the events queued before the shutdown
+            pending.drainTo(group);
+            if (!group.isEmpty()) {
+                commit();
+            }
+            LOGGER.trace("Commit thread exiting");
+        }
+
+        private void commit() {
             Exception exception = null;
             for (int retryIndex = 0; retryIndex < lockTimeoutRetryCount; ++retryIndex) {
                 Transaction txn = null;
                 try {
-                    txn = environment.beginTransaction(null, null);
-                    try {
-                        database.put(txn, key, data);
-                        txn.commit();
-                        txn = null;
-                        if (dbCount.incrementAndGet() >= batchSize) {
-                            gate.open();
-                        }
-                        exception = null;
-                        break;
-                    } catch (final LockConflictException lce) {
-                        exception = lce;
-                        // Fall through and retry.
-                    } catch (final Exception ex) {
-                        if (txn != null) {
-                            txn.abort();
-                        }
-                        throw ex;
-                    } finally {
-                        if (txn != null) {
-                            txn.abort();
-                            txn = null;
-                        }
+                    txn = environment.beginTransaction(null, txnConfig);
+                    for (final PendingWrite write : group) {
+                        database.put(txn, write.key, write.data);
                     }
+                    txn.commit();
+                    txn = null;
+                    exception = null;
+                    break;
                 } catch (final LockConflictException lce) {
                     exception = lce;
+                    // Fall through and retry.
+                } catch (final Exception ex) {
+                    exception = ex;
+                    break;
+                } finally {
                     if (txn != null) {
                         try {
                             txn.abort();
-                            txn = null;
                         } catch (final Exception ex) {
-                            LOGGER.trace("Ignoring exception while aborting transaction during lock conflict.");
+                            LOGGER.trace("Ignored exception aborting transaction.");
                         }
                     }
-
                 }
                 try {
                     Thread.sleep(LOCK_TIMEOUT_SLEEP_MILLIS);
@@ -333,10 +512,13 @@ public class FlumePersistentManager extends FlumeAvroManager {
                     // Ignore the error
                 }
             }
-            if (exception != null) {
-                throw exception;
+            if (exception == null && dbCount.addAndGet(group.size()) >= batchSize) {
+                gate.open();
             }
-            return eventData.length;
+            for (final PendingWrite write : group) {
+                write.complete(exception);
+            }
+            group.clear();
         }
     }
 
@@ -354,6 +536,7 @@ public class FlumePersistentManager extends FlumeAvroManager {
         private final int delay;
         private final int lockTimeoutRetryCount;
         private final Property[] properties;
+        private final Durability durability;
 
         /**
          * Constructor.
@@ -364,7 +547,8 @@ public class FlumePersistentManager extends FlumeAvroManager {
          */
         public FactoryData(final String name, final Agent[] agents, final int batchSize, final int retries,
                            final int connectionTimeout, final int requestTimeout, final int delay,
-                           final int lockTimeoutRetryCount, final String dataDir, final Property[] properties) {
+                           final int lockTimeoutRetryCount, final String dataDir, final Property[] properties,
+                           final Durability durability) {
             this.name = name;
             this.agents = agents;
             this.batchSize = batchSize;
@@ -375,6 +559,7 @@ public class FlumePersistentManager extends FlumeAvroManager {
             this.delay = delay;
             this.lockTimeoutRetryCount = lockTimeoutRetryCount;
             this.properties = properties;
+            this.durability = durability;
         }
     }
 
@@ -446,8 +631,11 @@ public class FlumePersistentManager extends FlumeAvroManager {
                         boolean found = false;
                         for (final Map.Entry<String, PluginType<?>> entry : plugins.entrySet()) {
                             if (entry.getKey().equalsIgnoreCase(key)) {
-                                found = true;
                                 final Class<?> cl = entry.getValue().getPluginClass();
+                                if (cl == null) {
+                                    break;
+                                }
+                                found = true;
                                 try {
                                     final SecretKeyProvider provider = (SecretKeyProvider) cl.newInstance();
                                     secretKey = provider.getSecretKey();
@@ -471,7 +659,7 @@ public class FlumePersistentManager extends FlumeAvroManager {
             }
             return new FlumePersistentManager(name, data.name, data.agents, data.batchSize, data.retries,
                 data.connectionTimeout, data.requestTimeout, data.delay, database, environment, secretKey,
-                data.lockTimeoutRetryCount);
+                data.lockTimeoutRetryCount, data.durability);
         }
     }
 
@@ -488,6 +676,7 @@ public class FlumePersistentManager extends FlumeAvroManager {
         private final int batchSize;
         private final AtomicLong dbCounter;
         private final int lockTimeoutRetryCount;
+        private Cipher cipher;
 
         public WriterThread(final Database database, final Environment environment,
                             final FlumePersistentManager manager, final Gate gate, final int batchsize,
@@ -781,8 +970,10 @@ public class FlumePersistentManager extends FlumeAvroManager {
             try {
                 byte[] eventData = data.getData();
                 if (secretKey != null) {
-                    final Cipher cipher = Cipher.getInstance("AES");
-                    cipher.init(Cipher.DECRYPT_MODE, secretKey);
+                    if (cipher == null) {
+                        cipher = Cipher.getInstance("AES");
+                        cipher.init(Cipher.DECRYPT_MODE, secretKey);
+                    }
                     eventData = cipher.doFinal(eventData);
                 }
                 final ByteArrayInputStream bais = new ByteArrayInputStream(eventData);
@@ -808,33 +999,6 @@ public class FlumePersistentManager extends FlumeAvroManager {
 
     }
 
-    /**
-     * Factory that creates Daemon threads that can be properly shut down.
-     */
-    private static class DaemonThreadFactory implements ThreadFactory {
-        private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
-        private final ThreadGroup group;
-        private final AtomicInteger threadNumber = new AtomicInteger(1);
-        private final String namePrefix;
-
-        public DaemonThreadFactory() {
-            final SecurityManager securityManager = System.getSecurityManager();
-            group = securityManager != null ? securityManager.getThreadGroup() :
-                Thread.currentThread().getThreadGroup();
-            namePrefix = "DaemonPool-" + POOL_NUMBER.getAndIncrement() + "-thread-";
-        }
-
-        @Override
-        public Thread newThread(final Runnable r) {
-            final Thread thread = new Thread(group, r, namePrefix + threadNumber.getAndIncrement(), 0);
-            thread.setDaemon(true);
-            if (thread.getPriority() != Thread.NORM_PRIORITY) {
-                thread.setPriority(Thread.NORM_PRIORITY);
-            }
-            return thread;
-        }
-    }
-
     /**
      * An internal class.
      */
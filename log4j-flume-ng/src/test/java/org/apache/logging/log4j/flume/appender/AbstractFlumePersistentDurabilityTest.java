@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.flume.appender;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.avro.AvroRemoteException;
+import org.apache.avro.ipc.NettyServer;
+import org.apache.avro.ipc.Responder;
+import org.apache.avro.ipc.specific.SpecificResponder;
+import org.apache.flume.Event;
+import org.apache.flume.event.EventBuilder;
+import org.apache.flume.source.avro.AvroFlumeEvent;
+import org.apache.flume.source.avro.AvroSourceProtocol;
+import org.apache.flume.source.avro.Status;
+import org.apache.logging.log4j.EventLogger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.ConfigurationFactory;
+import org.apache.logging.log4j.message.StructuredDataMessage;
+import org.apache.logging.log4j.test.AvailablePortFinder;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Sends events through a persistent Flume appender configured with one durability mode.
+ */
+public abstract class AbstractFlumePersistentDurabilityTest {
+    private static final String HOSTNAME = "localhost";
+
+    private static final int WRITER_COUNT = 4;
+
+    private static final int EVENTS_PER_WRITER = 250;
+
+    private final String config;
+
+    private final String dataDir;
+
+    private LoggerContext ctx;
+
+    private EventCollector primary;
+
+    protected AbstractFlumePersistentDurabilityTest(final String config, final String dataDir) {
+        this.config = config;
+        this.dataDir = dataDir;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        deleteFiles(new File(dataDir));
+        final int primaryPort = AvailablePortFinder.getNextAvailable();
+        System.setProperty("primaryPort", Integer.toString(primaryPort));
+        primary = new EventCollector(primaryPort);
+        System.setProperty(ConfigurationFactory.CONFIGURATION_FILE_PROPERTY, config);
+        ctx = (LoggerContext) LogManager.getContext(false);
+        ctx.reconfigure();
+    }
+
+    @After
+    public void teardown() throws Exception {
+        System.clearProperty(ConfigurationFactory.CONFIGURATION_FILE_PROPERTY);
+        ctx.reconfigure();
+        primary.stop();
+        deleteFiles(new File(dataDir));
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final Set<ObjectName> names = server.queryNames(new ObjectName("org.apache.flume.*:*"), null);
+        for (final ObjectName name : names) {
+            try {
+                server.unregisterMBean(name);
+            } catch (final Exception ex) {
+                System.out.println("Unable to unregister " + name.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testSingle() throws InterruptedException, IOException {
+        final StructuredDataMessage msg = new StructuredDataMessage("Test", "Test Log4j", "Test");
+        EventLogger.logEvent(msg);
+
+        final Event event = primary.poll();
+        Assert.assertNotNull(event);
+        final String body = getBody(event);
+        Assert.assertTrue("Channel contained event, but not expected message. Received: " + body,
+            body.endsWith("Test Log4j"));
+    }
+
+    @Test
+    public void testMultipleConcurrent() throws InterruptedException, IOException {
+        final int eventsCount = WRITER_COUNT * EVENTS_PER_WRITER;
+        final Thread[] writers = new Thread[WRITER_COUNT];
+        for (int i = 0; i < WRITER_COUNT; ++i) {
+            writers[i] = new WriterThread(i * EVENTS_PER_WRITER, (i + 1) * EVENTS_PER_WRITER);
+            writers[i].start();
+        }
+
+        final boolean[] fields = new boolean[eventsCount];
+        for (int i = 0; i < eventsCount; ++i) {
+            final Event event = primary.poll();
+            Assert.assertNotNull("Received " + i + " events. Event " + (i + 1) + " is null", event);
+            final String value = event.getHeaders().get("counter");
+            Assert.assertNotNull("Missing counter", value);
+            final int counter = Integer.parseInt(value);
+            if (fields[counter]) {
+                Assert.fail("Duplicate event");
+            } else {
+                fields[counter] = true;
+            }
+            Assert.assertTrue("Channel contained event, but not expected message " + counter,
+                getBody(event).endsWith("Test Multiple " + counter));
+        }
+        for (final Thread writer : writers) {
+            writer.join();
+        }
+        for (int i = 0; i < eventsCount; ++i) {
+            Assert.assertTrue("Channel contained event, but not expected message " + i, fields[i]);
+        }
+    }
+
+    private static class WriterThread extends Thread {
+
+        private final int start;
+        private final int stop;
+
+        public WriterThread(final int start, final int stop) {
+            this.start = start;
+            this.stop = stop;
+        }
+
+        @Override
+        public void run() {
+            for (int i = start; i < stop; ++i) {
+                final StructuredDataMessage msg = new StructuredDataMessage("Test", "Test Multiple " + i, "Test");
+                msg.put("counter", Integer.toString(i));
+                EventLogger.logEvent(msg);
+            }
+        }
+    }
+
+    private static String getBody(final Event event) throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final InputStream is = new GZIPInputStream(new ByteArrayInputStream(event.getBody()));
+        int n = 0;
+        while (-1 != (n = is.read())) {
+            baos.write(n);
+        }
+        return new String(baos.toByteArray());
+    }
+
+    private static boolean deleteFiles(final File file) {
+        boolean result = true;
+        if (file.isDirectory()) {
+            final File[] files = file.listFiles();
+            for (final File child : files) {
+                result &= deleteFiles(child);
+            }
+        } else if (!file.exists()) {
+            return true;
+        }
+        return result &= file.delete();
+    }
+
+    private static class EventCollector implements AvroSourceProtocol {
+        private final LinkedBlockingQueue<AvroFlumeEvent> eventQueue = new LinkedBlockingQueue<AvroFlumeEvent>();
+
+        private final NettyServer nettyServer;
+
+        public EventCollector(final int port) {
+            final Responder responder = new SpecificResponder(AvroSourceProtocol.class, this);
+            nettyServer = new NettyServer(responder, new InetSocketAddress(HOSTNAME, port));
+            nettyServer.start();
+        }
+
+        public void stop() {
+            nettyServer.close();
+        }
+
+        public Event poll() {
+            AvroFlumeEvent avroEvent = null;
+            try {
+                avroEvent = eventQueue.poll(30000, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException ie) {
+                // Ignore the exception.
+            }
+            if (avroEvent != null) {
+                return EventBuilder.withBody(avroEvent.getBody().array(), toStringMap(avroEvent.getHeaders()));
+            }
+            System.out.println("No Event returned");
+            return null;
+        }
+
+        @Override
+        public Status append(final AvroFlumeEvent event) throws AvroRemoteException {
+            eventQueue.add(event);
+            return Status.OK;
+        }
+
+        @Override
+        public Status appendBatch(final List<AvroFlumeEvent> events) throws AvroRemoteException {
+            eventQueue.addAll(events);
+            return Status.OK;
+        }
+    }
+
+    private static Map<String, String> toStringMap(final Map<CharSequence, CharSequence> charSeqMap) {
+        final Map<String, String> stringMap = new HashMap<String, String>();
+        for (final Map.Entry<CharSequence, CharSequence> entry : charSeqMap.entrySet()) {
+            stringMap.put(entry.getKey().toString(), entry.getValue().toString());
+        }
+        return stringMap;
+    }
+}
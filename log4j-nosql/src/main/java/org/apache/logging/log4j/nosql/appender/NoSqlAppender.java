@@ -19,6 +19,7 @@ package org.apache.logging.log4j.nosql.appender;
 import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.appender.AbstractAppender;
 import org.apache.logging.log4j.core.appender.db.AbstractDatabaseAppender;
+import org.apache.logging.log4j.core.appender.db.BackgroundFlushConfig;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
 import org.apache.logging.log4j.core.config.plugins.PluginElement;
@@ -64,13 +65,41 @@ public final class NoSqlAppender extends AbstractDatabaseAppender<NoSqlDatabaseM
      * @param provider The NoSQL provider that provides connections to the chosen NoSQL database.
      * @return a new NoSQL appender.
      */
+    public static NoSqlAppender createAppender(final String name, final String ignore, final Filter filter,
+                                               final String bufferSize, final NoSqlProvider<?> provider) {
+        return createAppender(name, ignore, filter, bufferSize, provider, null, null, null, null);
+    }
+
+    /**
+     * Factory method for creating a NoSQL appender within the plugin manager.
+     *
+     * @param name The name of the appender.
+     * @param ignore If {@code "true"} (default) exceptions encountered when appending events are logged; otherwise
+     *               they are propagated to the caller.
+     * @param filter The filter, if any, to use.
+     * @param bufferSize If an integer greater than 0, this causes the appender to buffer log events and flush whenever
+     *                   the buffer reaches this size.
+     * @param provider The NoSQL provider that provides connections to the chosen NoSQL database.
+     * @param asyncQueueSize If an integer greater than 0, events are written to the database by a background thread
+     *                       and up to this many events wait for it.
+     * @param flushInterval With a background thread, the maximum number of milliseconds an event waits in the buffer
+     *                      before it is written (default 1000).
+     * @param overflowPolicy With a background thread, what to do with events appended while the queue is full:
+     *                       {@code Block} (default), {@code Drop} or {@code Drop_Below_Level}.
+     * @param overflowLevel The level below which {@code Drop_Below_Level} discards events (default {@code WARN}).
+     * @return a new NoSQL appender.
+     */
     @PluginFactory
     public static NoSqlAppender createAppender(
             @PluginAttribute("name") final String name,
             @PluginAttribute("ignoreExceptions") final String ignore,
             @PluginElement("Filter") final Filter filter,
             @PluginAttribute("bufferSize") final String bufferSize,
-            @PluginElement("NoSqlProvider") final NoSqlProvider<?> provider) {
+            @PluginElement("NoSqlProvider") final NoSqlProvider<?> provider,
+            @PluginAttribute("asyncQueueSize") final String asyncQueueSize,
+            @PluginAttribute("flushInterval") final String flushInterval,
+            @PluginAttribute("overflowPolicy") final String overflowPolicy,
+            @PluginAttribute("overflowLevel") final String overflowLevel) {
         if (provider == null) {
             LOGGER.error("NoSQL provider not specified for appender [{}].", name);
             return null;
@@ -78,12 +107,15 @@ public final class NoSqlAppender extends AbstractDatabaseAppender<NoSqlDatabaseM
 
         final int bufferSizeInt = AbstractAppender.parseInt(bufferSize, 0);
         final boolean ignoreExceptions = Booleans.parseBoolean(ignore, true);
+        final BackgroundFlushConfig backgroundFlush = BackgroundFlushConfig.createConfig(asyncQueueSize, flushInterval,
+                overflowPolicy, overflowLevel);
 
         final String managerName = "noSqlManager{ description=" + name + ", bufferSize=" + bufferSizeInt
+                + (backgroundFlush == null ? "" : ", " + backgroundFlush)
                 + ", provider=" + provider + " }";
 
         final NoSqlDatabaseManager<?> manager = NoSqlDatabaseManager.getNoSqlDatabaseManager(
-                managerName, bufferSizeInt, provider
+                managerName, bufferSizeInt, backgroundFlush, provider
         );
         if (manager == null) {
             return null;
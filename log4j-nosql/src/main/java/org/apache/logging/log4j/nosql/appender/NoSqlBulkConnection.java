@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.nosql.appender;
+
+import java.util.List;
+
+/**
+ * A {@link NoSqlConnection} that can insert several objects in one operation. When a buffered NoSQL appender flushes
+ * its buffer, it uses {@link #insertObjects(List)} if the connection implements this interface and otherwise inserts
+ * the objects one by one with {@link #insertObject(NoSqlObject)}.
+ *
+ * @param <T> Specifies which implementation of {@link NoSqlObject} this connection provides.
+ * @param <W> Specifies which type of database object is wrapped by the {@link NoSqlObject} implementation provided.
+ */
+public interface NoSqlBulkConnection<W, T extends NoSqlObject<W>> extends NoSqlConnection<W, T> {
+    /**
+     * Inserts the given objects into the underlying NoSQL database, in as few round-trips as the database allows.
+     *
+     * @param objects The objects to insert.
+     */
+    void insertObjects(List<NoSqlObject<W>> objects);
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.logging.log4j.nosql.appender;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.logging.log4j.Marker;
@@ -24,6 +26,7 @@ import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.AppenderLoggingException;
 import org.apache.logging.log4j.core.appender.ManagerFactory;
 import org.apache.logging.log4j.core.appender.db.AbstractDatabaseManager;
+import org.apache.logging.log4j.core.appender.db.BackgroundFlushConfig;
 import org.apache.logging.log4j.core.util.Closer;
 
 /**
@@ -36,11 +39,13 @@ public final class NoSqlDatabaseManager<W> extends AbstractDatabaseManager {
 
     private final NoSqlProvider<NoSqlConnection<W, ? extends NoSqlObject<W>>> provider;
 
+    private final List<NoSqlObject<W>> pendingObjects = new ArrayList<NoSqlObject<W>>();
+
     private NoSqlConnection<W, ? extends NoSqlObject<W>> connection;
 
-    private NoSqlDatabaseManager(final String name, final int bufferSize,
+    private NoSqlDatabaseManager(final String name, final int bufferSize, final BackgroundFlushConfig backgroundFlush,
             final NoSqlProvider<NoSqlConnection<W, ? extends NoSqlObject<W>>> provider) {
-        super(name, bufferSize);
+        super(name, bufferSize, backgroundFlush);
         this.provider = provider;
     }
 
@@ -59,6 +64,7 @@ public final class NoSqlDatabaseManager<W> extends AbstractDatabaseManager {
     protected void connectAndStart() {
         try {
             this.connection = this.provider.getConnection();
+            this.pendingObjects.clear();
         } catch (final Exception e) {
             throw new AppenderLoggingException("Failed to get connection from NoSQL connection provider.", e);
         }
@@ -135,7 +141,12 @@ public final class NoSqlDatabaseManager<W> extends AbstractDatabaseManager {
             entity.set("contextStack", contextStack.asList().toArray());
         }
 
-        this.connection.insertObject(entity);
+        if (this.getBufferSize() > 0) {
+            // the buffered objects are inserted together when the flush completes
+            this.pendingObjects.add(entity);
+        } else {
+            this.connection.insertObject(entity);
+        }
     }
 
     private NoSqlObject<W> buildMarkerEntity(final Marker marker) {
@@ -156,6 +167,23 @@ public final class NoSqlDatabaseManager<W> extends AbstractDatabaseManager {
 
     @Override
     protected void commitAndClose() {
+        if (!this.pendingObjects.isEmpty()) {
+            try {
+                if (this.connection == null || this.connection.isClosed()) {
+                    throw new AppenderLoggingException(
+                            "Cannot flush buffer; NoSQL manager not connected to the database.");
+                }
+                if (this.pendingObjects.size() > 1 && this.connection instanceof NoSqlBulkConnection) {
+                    ((NoSqlBulkConnection<W, ?>) this.connection).insertObjects(this.pendingObjects);
+                } else {
+                    for (final NoSqlObject<W> object : this.pendingObjects) {
+                        this.connection.insertObject(object);
+                    }
+                }
+            } finally {
+                this.pendingObjects.clear();
+            }
+        }
         // all NoSQL drivers auto-commit (since NoSQL doesn't generally use the concept of transactions).
         // also, all our NoSQL drivers use internal connection pooling and provide clients, not connections.
         // thus, we should not be closing the client until shutdown as NoSQL is very different from SQL.
@@ -189,7 +217,24 @@ public final class NoSqlDatabaseManager<W> extends AbstractDatabaseManager {
      */
     public static NoSqlDatabaseManager<?> getNoSqlDatabaseManager(final String name, final int bufferSize,
                                                                   final NoSqlProvider<?> provider) {
-        return AbstractDatabaseManager.getManager(name, new FactoryData(bufferSize, provider), FACTORY);
+        return getNoSqlDatabaseManager(name, bufferSize, null, provider);
+    }
+
+    /**
+     * Creates a NoSQL manager for use within the {@link NoSqlAppender}, or returns a suitable one if it already exists.
+     *
+     * @param name The name of the manager, which should include connection details and hashed passwords where possible.
+     * @param bufferSize The size of the log event buffer.
+     * @param backgroundFlush The settings of the background flushing, or {@code null} to write events on the
+     *                        appending thread.
+     * @param provider A provider instance which will be used to obtain connections to the chosen NoSQL database.
+     * @return a new or existing NoSQL manager as applicable.
+     */
+    public static NoSqlDatabaseManager<?> getNoSqlDatabaseManager(final String name, final int bufferSize,
+                                                                  final BackgroundFlushConfig backgroundFlush,
+                                                                  final NoSqlProvider<?> provider) {
+        return AbstractDatabaseManager.getManager(name, new FactoryData(bufferSize, backgroundFlush, provider),
+                FACTORY);
     }
 
     /**
@@ -198,8 +243,9 @@ public final class NoSqlDatabaseManager<W> extends AbstractDatabaseManager {
     private static final class FactoryData extends AbstractDatabaseManager.AbstractFactoryData {
         private final NoSqlProvider<?> provider;
 
-        protected FactoryData(final int bufferSize, final NoSqlProvider<?> provider) {
-            super(bufferSize);
+        protected FactoryData(final int bufferSize, final BackgroundFlushConfig backgroundFlush,
+                              final NoSqlProvider<?> provider) {
+            super(bufferSize, backgroundFlush);
             this.provider = provider;
         }
     }
@@ -212,7 +258,7 @@ public final class NoSqlDatabaseManager<W> extends AbstractDatabaseManager {
         @Override
         @SuppressWarnings("unchecked")
         public NoSqlDatabaseManager<?> createManager(final String name, final FactoryData data) {
-            return new NoSqlDatabaseManager(name, data.getBufferSize(), data.provider);
+            return new NoSqlDatabaseManager(name, data.getBufferSize(), data.getBackgroundFlush(), data.provider);
         }
     }
 }
@@ -16,19 +16,21 @@
  */
 package org.apache.logging.log4j.nosql.appender.couchdb;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.logging.log4j.core.appender.AppenderLoggingException;
-import org.apache.logging.log4j.nosql.appender.NoSqlConnection;
+import org.apache.logging.log4j.nosql.appender.NoSqlBulkConnection;
 import org.apache.logging.log4j.nosql.appender.NoSqlObject;
 import org.lightcouch.CouchDbClient;
 import org.lightcouch.Response;
 
 /**
- * The Apache CouchDB implementation of {@link NoSqlConnection}.
+ * The Apache CouchDB implementation of {@link NoSqlBulkConnection}.
  */
-public final class CouchDbConnection implements NoSqlConnection<Map<String, Object>, CouchDbObject> {
+public final class CouchDbConnection implements NoSqlBulkConnection<Map<String, Object>, CouchDbObject> {
     private final CouchDbClient client;
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -60,6 +62,27 @@ public final class CouchDbConnection implements NoSqlConnection<Map<String, Obje
         }
     }
 
+    @Override
+    public void insertObjects(final List<NoSqlObject<Map<String, Object>>> objects) {
+        final List<Map<String, Object>> documents = new ArrayList<Map<String, Object>>(objects.size());
+        for (final NoSqlObject<Map<String, Object>> object : objects) {
+            documents.add(object.unwrap());
+        }
+        final List<Response> responses;
+        try {
+            responses = this.client.bulk(documents, true);
+        } catch (final Exception e) {
+            throw new AppenderLoggingException("Failed to write log events to CouchDB due to error: " + e.getMessage(),
+                    e);
+        }
+        for (final Response response : responses) {
+            if (response.getError() != null && response.getError().length() > 0) {
+                throw new AppenderLoggingException("Failed to write log event to CouchDB due to error: " +
+                        response.getError() + '.');
+            }
+        }
+    }
+
     @Override
     public void close() {
         if (this.closed.compareAndSet(false, true)) {
@@ -16,10 +16,13 @@
  */
 package org.apache.logging.log4j.nosql.appender.mongodb;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.appender.AppenderLoggingException;
-import org.apache.logging.log4j.nosql.appender.NoSqlConnection;
+import org.apache.logging.log4j.nosql.appender.NoSqlBulkConnection;
 import org.apache.logging.log4j.nosql.appender.NoSqlObject;
 import org.apache.logging.log4j.status.StatusLogger;
 import org.apache.logging.log4j.util.Strings;
@@ -29,15 +32,16 @@ import org.bson.Transformer;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DB;
 import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
 import com.mongodb.Mongo;
 import com.mongodb.MongoException;
 import com.mongodb.WriteConcern;
 import com.mongodb.WriteResult;
 
 /**
- * The MongoDB implementation of {@link NoSqlConnection}.
+ * The MongoDB implementation of {@link NoSqlBulkConnection}.
  */
-public final class MongoDbConnection implements NoSqlConnection<BasicDBObject, MongoDbObject> {
+public final class MongoDbConnection implements NoSqlBulkConnection<BasicDBObject, MongoDbObject> {
 
     private static final Logger LOGGER = StatusLogger.getLogger();
 
@@ -87,6 +91,24 @@ public final class MongoDbConnection implements NoSqlConnection<BasicDBObject, M
         }
     }
 
+    @Override
+    public void insertObjects(final List<NoSqlObject<BasicDBObject>> objects) {
+        final List<DBObject> documents = new ArrayList<DBObject>(objects.size());
+        for (final NoSqlObject<BasicDBObject> object : objects) {
+            documents.add(object.unwrap());
+        }
+        try {
+            final WriteResult result = this.collection.insert(documents, this.writeConcern);
+            if (Strings.isNotEmpty(result.getError())) {
+                throw new AppenderLoggingException("Failed to write log events to MongoDB due to error: " +
+                        result.getError() + '.');
+            }
+        } catch (final MongoException e) {
+            throw new AppenderLoggingException("Failed to write log events to MongoDB due to error: " +
+                    e.getMessage(), e);
+        }
+    }
+
     @Override
     public void close() {
         // there's no need to call this.mongo.close() since that literally closes the connection
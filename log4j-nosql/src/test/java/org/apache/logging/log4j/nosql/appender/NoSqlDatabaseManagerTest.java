@@ -18,6 +18,7 @@ package org.apache.logging.log4j.nosql.appender;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -28,7 +29,9 @@ import org.apache.logging.log4j.MarkerManager;
 import org.apache.logging.log4j.ThreadContext;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.AppenderLoggingException;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.SimpleMessage;
 import org.apache.logging.log4j.nosql.appender.couchdb.CouchDbObject;
 import org.easymock.Capture;
 import org.easymock.IAnswer;
@@ -44,6 +47,74 @@ public class NoSqlDatabaseManagerTest {
     private NoSqlConnection<Map<String, Object>, CouchDbObject> connection;
     private NoSqlProvider<NoSqlConnection<Map<String, Object>, CouchDbObject>> provider;
 
+    /**
+     * In-process connection recording the inserted objects.
+     */
+    private static class RecordingConnection implements NoSqlConnection<Map<String, Object>, CouchDbObject> {
+        final List<Map<String, Object>> inserted = new ArrayList<Map<String, Object>>();
+        int singleInserts;
+
+        @Override
+        public CouchDbObject createObject() {
+            return new CouchDbObject();
+        }
+
+        @Override
+        public CouchDbObject[] createList(final int length) {
+            return new CouchDbObject[length];
+        }
+
+        @Override
+        public void insertObject(final NoSqlObject<Map<String, Object>> object) {
+            this.singleInserts++;
+            this.inserted.add(object.unwrap());
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
+    }
+
+    /**
+     * In-process connection recording the inserted objects and supporting bulk inserts.
+     */
+    private static class RecordingBulkConnection extends RecordingConnection
+            implements NoSqlBulkConnection<Map<String, Object>, CouchDbObject> {
+        int bulkInserts;
+
+        @Override
+        public void insertObjects(final List<NoSqlObject<Map<String, Object>>> objects) {
+            this.bulkInserts++;
+            for (final NoSqlObject<Map<String, Object>> object : objects) {
+                this.inserted.add(object.unwrap());
+            }
+        }
+    }
+
+    private static NoSqlProvider<RecordingConnection> newProvider(final RecordingConnection connection) {
+        return new NoSqlProvider<RecordingConnection>() {
+            @Override
+            public RecordingConnection getConnection() {
+                return connection;
+            }
+
+            @Override
+            public String toString() {
+                return "recording";
+            }
+        };
+    }
+
+    private static LogEvent newEvent(final String message) {
+        return new Log4jLogEvent("com.foo.NoSQLDbTest", null, NoSqlDatabaseManagerTest.class.getName(), Level.INFO,
+                new SimpleMessage(message), null);
+    }
+
     @Before
     @SuppressWarnings("unchecked")
     public void setUp() {
@@ -149,6 +220,82 @@ public class NoSqlDatabaseManagerTest {
         }
     }
 
+    @Test
+    public void testBufferedFlushInsertsInBulk() {
+        replay(this.provider, this.connection);
+
+        final RecordingBulkConnection recording = new RecordingBulkConnection();
+        final NoSqlDatabaseManager<?> manager = NoSqlDatabaseManager.getNoSqlDatabaseManager("bulk", 3,
+                newProvider(recording));
+
+        try {
+            manager.startup();
+            manager.write(newEvent("Message 01."));
+            manager.write(newEvent("Message 02."));
+
+            assertEquals("Nothing should be inserted before the buffer is full.", 0, recording.inserted.size());
+
+            manager.write(newEvent("Message 03."));
+
+            assertEquals("The buffer should be inserted in one bulk insert.", 1, recording.bulkInserts);
+            assertEquals("No single insert should be used.", 0, recording.singleInserts);
+            assertEquals("The number of inserted objects is not correct.", 3, recording.inserted.size());
+            for (int i = 0; i < 3; i++) {
+                assertEquals("The message is not correct.", "Message 0" + (i + 1) + '.',
+                        recording.inserted.get(i).get("message"));
+            }
+        } finally {
+            manager.release();
+        }
+    }
+
+    @Test
+    public void testBufferedFlushWithoutBulkSupportInsertsOneByOne() {
+        replay(this.provider, this.connection);
+
+        final RecordingConnection recording = new RecordingConnection();
+        final NoSqlDatabaseManager<?> manager = NoSqlDatabaseManager.getNoSqlDatabaseManager("oneByOne", 3,
+                newProvider(recording));
+
+        try {
+            manager.startup();
+            manager.write(newEvent("Message 01."));
+            manager.write(newEvent("Message 02."));
+
+            assertEquals("Nothing should be inserted before the buffer is full.", 0, recording.inserted.size());
+
+            manager.write(newEvent("Message 03."));
+
+            assertEquals("Each object should be inserted on its own.", 3, recording.singleInserts);
+            for (int i = 0; i < 3; i++) {
+                assertEquals("The message is not correct.", "Message 0" + (i + 1) + '.',
+                        recording.inserted.get(i).get("message"));
+            }
+        } finally {
+            manager.release();
+        }
+    }
+
+    @Test
+    public void testUnbufferedWriteInsertsSingleObject() {
+        replay(this.provider, this.connection);
+
+        final RecordingBulkConnection recording = new RecordingBulkConnection();
+        final NoSqlDatabaseManager<?> manager = NoSqlDatabaseManager.getNoSqlDatabaseManager("single", 0,
+                newProvider(recording));
+
+        try {
+            manager.startup();
+            manager.write(newEvent("Message 01."));
+
+            assertEquals("No bulk insert should be used without a buffer.", 0, recording.bulkInserts);
+            assertEquals("The number of inserted objects is not correct.", 1, recording.inserted.size());
+            assertEquals("The message is not correct.", "Message 01.", recording.inserted.get(0).get("message"));
+        } finally {
+            manager.release();
+        }
+    }
+
     @Test
     public void testWriteInternal01() {
         final NoSqlDatabaseManager<?> manager = NoSqlDatabaseManager.getNoSqlDatabaseManager("name", 0, this.provider);
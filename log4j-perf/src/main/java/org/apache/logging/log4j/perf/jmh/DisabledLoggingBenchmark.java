@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.filter.ThresholdFilter;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.GenerateMicroBenchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Tests the cost of a disabled {@code debug("...", arg)} call. The "levelOnly" logger belongs to a context without a
+ * configuration filter, so its level alone decides; the "fullCheck" logger belongs to a context with a filter that
+ * always answers NEUTRAL, which takes the same path every call took before the per-Logger enablement state was
+ * precomputed: the configuration monitor check, the filter call and then the level comparison.
+ */
+// ============================== HOW TO RUN THIS TEST: ====================================
+//
+// java -jar log4j-perf/target/microbenchmarks.jar ".*DisabledLoggingBenchmark.*" -f 1 -wi 5 -i 5
+//
+// Multiple threads:
+// java -jar log4j-perf/target/microbenchmarks.jar ".*DisabledLoggingBenchmark.*" -f 1 -wi 5 -i 5 -t 4
+//
+// Usage help:
+// java -jar log4j-perf/target/microbenchmarks.jar -help
+//
+@State(Scope.Benchmark)
+public class DisabledLoggingBenchmark {
+
+    private static final String MESSAGE = "Disabled message {}";
+
+    private final Object arg = "argument";
+    private LoggerContext levelOnlyContext;
+    private LoggerContext fullCheckContext;
+    private Logger levelOnlyLogger;
+    private Logger fullCheckLogger;
+
+    @Setup
+    public void setup() {
+        levelOnlyContext = new LoggerContext("levelOnly");
+        levelOnlyContext.start(new DefaultConfiguration());
+        levelOnlyLogger = levelOnlyContext.getLogger(DisabledLoggingBenchmark.class.getName());
+
+        fullCheckContext = new LoggerContext("fullCheck");
+        fullCheckContext.start(new DefaultConfiguration());
+        fullCheckContext.addFilter(ThresholdFilter.createFilter(Level.FATAL, Filter.Result.NEUTRAL,
+                Filter.Result.NEUTRAL));
+        fullCheckLogger = fullCheckContext.getLogger(DisabledLoggingBenchmark.class.getName());
+    }
+
+    @TearDown
+    public void tearDown() {
+        levelOnlyContext.stop();
+        fullCheckContext.stop();
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @GenerateMicroBenchmark
+    public void baseline() {
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @GenerateMicroBenchmark
+    public void levelOnlyDebugWithArg() {
+        levelOnlyLogger.debug(MESSAGE, arg);
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @GenerateMicroBenchmark
+    public void fullCheckDebugWithArg() {
+        fullCheckLogger.debug(MESSAGE, arg);
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @GenerateMicroBenchmark
+    public boolean levelOnlyIsDebugEnabled() {
+        return levelOnlyLogger.isDebugEnabled();
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @GenerateMicroBenchmark
+    public boolean fullCheckIsDebugEnabled() {
+        return fullCheckLogger.isDebugEnabled();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package org.apache.logging.log4j.perf.jmh;
+
+import java.nio.ByteBuffer;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.layout.JsonLayout;
+import org.apache.logging.log4j.core.util.Charsets;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.GenerateMicroBenchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the JsonLayout creating a byte array per event with the JsonLayout streaming the event into a reused buffer,
+ * as the file appenders do.
+ */
+// ============================== HOW TO RUN THIS TEST: ====================================
+//
+// java -jar log4j-perf/target/microbenchmarks.jar ".*JsonLayoutBenchmark.*" -f 1 -wi 5 -i 5
+//
+// Allocation rate per benchmark:
+// java -jar log4j-perf/target/microbenchmarks.jar ".*JsonLayoutBenchmark.*" -f 1 -wi 5 -i 5 -prof gc
+//
+// Usage help:
+// java -jar log4j-perf/target/microbenchmarks.jar -help
+//
+@State(Scope.Thread)
+public class JsonLayoutBenchmark {
+
+    private LogEvent event;
+
+    private Layout<?> compactLayout;
+    private Layout<?> prettyLayout;
+
+    private final ByteBufferDestination destination = new ByteBufferDestination() {
+        private final ByteBuffer buffer = ByteBuffer.allocate(8 * 1024);
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            buffer.clear();
+            return buffer;
+        }
+
+        @Override
+        public ByteBuffer drain(final ByteBuffer buf) {
+            buf.clear();
+            return buf;
+        }
+    };
+
+    @Setup
+    public void setup() {
+        ThreadContext.put("user", "Alice");
+        ThreadContext.put("request", "0123456789");
+        event = new Log4jLogEvent("org.apache.logging.log4j.perf.jmh.JsonLayoutBenchmark", null,
+                JsonLayoutBenchmark.class.getName(), Level.INFO,
+                new SimpleMessage("User Alice requested the account summary page"), null);
+        ThreadContext.clearMap();
+
+        compactLayout = JsonLayout.createLayout(false, true, false, true, Charsets.UTF_8);
+        prettyLayout = JsonLayout.createLayout(false, true, false, false, Charsets.UTF_8);
+    }
+
+    @GenerateMicroBenchmark
+    public byte[] compactToByteArray() {
+        return compactLayout.toByteArray(event);
+    }
+
+    @GenerateMicroBenchmark
+    public ByteBufferDestination compactEncode() {
+        compactLayout.encode(event, destination);
+        return destination;
+    }
+
+    @GenerateMicroBenchmark
+    public byte[] prettyToByteArray() {
+        return prettyLayout.toByteArray(event);
+    }
+
+    @GenerateMicroBenchmark
+    public ByteBufferDestination prettyEncode() {
+        prettyLayout.encode(event, destination);
+        return destination;
+    }
+}
@@ -71,6 +71,26 @@ public class Log4j2AsyncAppenderBenchmark {
         }
     }
 
+    /**
+     * Same as NormalState, but the AsyncAppender uses queueImplementation="Disruptor".
+     */
+    @State(Scope.Benchmark)
+    public static class DisruptorState {
+        Logger logger;
+
+        @Setup(Level.Trial)
+        public void up() {
+            System.setProperty("log4j.configurationFile", "perf5AsyncApndDisruptorNoLoc.xml");
+            logger = LogManager.getLogger(getClass());
+        }
+
+        @TearDown(Level.Trial)
+        public void down() {
+            ((LifeCycle) LogManager.getContext(false)).stop();
+            new File("perftest.log").delete();
+        }
+    }
+
     @GenerateMicroBenchmark
     @BenchmarkMode(Mode.Throughput)
     @OutputTimeUnit(TimeUnit.SECONDS)
@@ -98,4 +118,18 @@ public class Log4j2AsyncAppenderBenchmark {
     public void latency(final NormalState e) {
         e.logger.info(TEST);
     }
+
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void throughputDisruptor(final DisruptorState e) {
+        e.logger.info(TEST);
+    }
+
+    @GenerateMicroBenchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void latencyDisruptor(final DisruptorState e) {
+        e.logger.info(TEST);
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LogEventListener;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.BinaryLayout;
+import org.apache.logging.log4j.core.layout.JsonLayout;
+import org.apache.logging.log4j.core.layout.SerializedLayout;
+import org.apache.logging.log4j.core.layout.XmlLayout;
+import org.apache.logging.log4j.core.net.server.BinaryInputStreamLogEventBridge;
+import org.apache.logging.log4j.core.net.server.JsonInputStreamLogEventBridge;
+import org.apache.logging.log4j.core.net.server.ObjectInputStreamLogEventBridge;
+import org.apache.logging.log4j.core.net.server.XmlInputStreamLogEventBridge;
+import org.apache.logging.log4j.core.util.Charsets;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.GenerateMicroBenchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.logic.BlackHole;
+
+/**
+ * Compares how fast a LogEvent is written by the layouts that the socket appenders can use, and how fast it is read
+ * back by the matching socket server bridge. Each decode benchmark reads one complete stream (the layout header
+ * followed by one event), so the cost of setting up the stream is included for every format.
+ */
+// ============================== HOW TO RUN THIS TEST: ====================================
+//
+// java -jar log4j-perf/target/microbenchmarks.jar ".*LogEventWireFormatBenchmark.*" -f 1 -wi 5 -i 5
+//
+// Encode only:
+// java -jar log4j-perf/target/microbenchmarks.jar ".*LogEventWireFormatBenchmark.encode.*" -f 1 -wi 5 -i 5 -tu ms
+//
+// Usage help:
+// java -jar log4j-perf/target/microbenchmarks.jar -help
+//
+@State(Scope.Thread)
+public class LogEventWireFormatBenchmark {
+
+    private LogEvent event;
+
+    private BinaryLayout binaryLayout;
+    private SerializedLayout serializedLayout;
+    private Layout<String> jsonLayout;
+    private XmlLayout xmlLayout;
+
+    private BinaryInputStreamLogEventBridge binaryBridge;
+    private ObjectInputStreamLogEventBridge serializedBridge;
+    private JsonInputStreamLogEventBridge jsonBridge;
+    private XmlInputStreamLogEventBridge xmlBridge;
+
+    private byte[] binaryBytes;
+    private byte[] serializedBytes;
+    private byte[] jsonBytes;
+    private byte[] xmlBytes;
+
+    private final CapturingListener listener = new CapturingListener();
+
+    /**
+     * Keeps the last decoded event instead of logging it.
+     */
+    private static class CapturingListener extends LogEventListener {
+        LogEvent last;
+
+        @Override
+        public void log(final LogEvent event) {
+            last = event;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() throws IOException {
+        ThreadContext.put("user", "Alice");
+        ThreadContext.put("request", "0123456789");
+        event = new Log4jLogEvent("org.apache.logging.log4j.perf.jmh.LogEventWireFormatBenchmark",
+                MarkerManager.getMarker("WIRE"), LogEventWireFormatBenchmark.class.getName(), Level.INFO,
+                new SimpleMessage("User Alice requested the account summary page"), null);
+        ThreadContext.clearMap();
+
+        binaryLayout = BinaryLayout.createLayout(false, true, true);
+        serializedLayout = SerializedLayout.createLayout();
+        jsonLayout = (Layout<String>) JsonLayout.createLayout(false, true, false, true, Charsets.UTF_8);
+        xmlLayout = XmlLayout.createLayout(false, true, false, true, Charsets.UTF_8);
+
+        binaryBridge = new BinaryInputStreamLogEventBridge();
+        serializedBridge = new ObjectInputStreamLogEventBridge();
+        jsonBridge = new JsonInputStreamLogEventBridge();
+        xmlBridge = new XmlInputStreamLogEventBridge();
+
+        binaryBytes = stream(binaryLayout.getHeader(), binaryLayout.toByteArray(event));
+        serializedBytes = stream(serializedLayout.getHeader(), serializedLayout.toByteArray(event));
+        jsonBytes = jsonLayout.toByteArray(event);
+        xmlBytes = xmlLayout.toByteArray(event);
+    }
+
+    private static byte[] stream(final byte[] header, final byte[] body) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(header.length + body.length);
+        out.write(header, 0, header.length);
+        out.write(body, 0, body.length);
+        return out.toByteArray();
+    }
+
+    @GenerateMicroBenchmark
+    public byte[] encodeBinary() {
+        return binaryLayout.toByteArray(event);
+    }
+
+    @GenerateMicroBenchmark
+    public byte[] encodeSerialized() {
+        return serializedLayout.toByteArray(event);
+    }
+
+    @GenerateMicroBenchmark
+    public byte[] encodeJson() {
+        return jsonLayout.toByteArray(event);
+    }
+
+    @GenerateMicroBenchmark
+    public byte[] encodeXml() {
+        return xmlLayout.toByteArray(event);
+    }
+
+    @GenerateMicroBenchmark
+    public void decodeBinary(final BlackHole bh) throws IOException {
+        final BinaryInputStreamLogEventBridge.BinaryInputStream in = binaryBridge.wrapStream(
+                new ByteArrayInputStream(binaryBytes));
+        binaryBridge.logEvents(in, listener);
+        bh.consume(listener.last);
+    }
+
+    @GenerateMicroBenchmark
+    public void decodeSerialized(final BlackHole bh) throws IOException {
+        final ObjectInputStream in = serializedBridge.wrapStream(new ByteArrayInputStream(serializedBytes));
+        serializedBridge.logEvents(in, listener);
+        bh.consume(listener.last);
+    }
+
+    @GenerateMicroBenchmark
+    public void decodeJson(final BlackHole bh) throws IOException {
+        final InputStream in = jsonBridge.wrapStream(new ByteArrayInputStream(jsonBytes));
+        jsonBridge.logEvents(in, listener);
+        bh.consume(listener.last);
+    }
+
+    @GenerateMicroBenchmark
+    public void decodeXml(final BlackHole bh) throws IOException {
+        final InputStream in = xmlBridge.wrapStream(new ByteArrayInputStream(xmlBytes));
+        xmlBridge.logEvents(in, listener);
+        bh.consume(listener.last);
+    }
+}
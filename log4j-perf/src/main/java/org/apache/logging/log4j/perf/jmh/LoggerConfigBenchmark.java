@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.GenerateMicroBenchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Tests how {@code LoggerConfig.log(LogEvent)} scales when many threads log through the same LoggerConfig, which is
+ * dominated by the accounting of in-flight events that reconfiguration waits for. Run it with increasing thread counts
+ * and compare the throughput per thread.
+ */
+// ============================== HOW TO RUN THIS TEST: ====================================
+//
+// java -jar log4j-perf/target/microbenchmarks.jar ".*LoggerConfigBenchmark.*" -f 1 -wi 5 -i 5 -t 1
+// java -jar log4j-perf/target/microbenchmarks.jar ".*LoggerConfigBenchmark.*" -f 1 -wi 5 -i 5 -t 4
+// java -jar log4j-perf/target/microbenchmarks.jar ".*LoggerConfigBenchmark.*" -f 1 -wi 5 -i 5 -t 32
+//
+// Usage help:
+// java -jar log4j-perf/target/microbenchmarks.jar -help
+//
+@State(Scope.Benchmark)
+public class LoggerConfigBenchmark {
+
+    private LoggerConfig root;
+    private LoggerConfig child;
+    private NoOpAppender appender;
+
+    /**
+     * Each thread logs its own event, so that only the LoggerConfig is shared.
+     */
+    @State(Scope.Thread)
+    public static class EventState {
+        LogEvent event;
+
+        @Setup
+        public void setup() {
+            event = new Log4jLogEvent("a.b.c", null, LoggerConfigBenchmark.class.getName(), Level.INFO,
+                    new SimpleMessage("Test message"), null);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        appender = new NoOpAppender();
+        appender.start();
+        root = new LoggerConfig("", Level.INFO, false);
+        root.addAppender(appender, null, null);
+        child = new LoggerConfig("a.b", Level.INFO, true);
+        child.setParent(root);
+    }
+
+    @TearDown
+    public void tearDown() {
+        appender.stop();
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @GenerateMicroBenchmark
+    public void logRoot(final EventState state) {
+        root.log(state.event);
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @GenerateMicroBenchmark
+    public void logChildAdditive(final EventState state) {
+        child.log(state.event);
+    }
+
+    /**
+     * Appender that does nothing, so that the benchmark measures LoggerConfig itself.
+     */
+    private static class NoOpAppender extends AbstractAppender {
+        NoOpAppender() {
+            super("NoOp", null, null);
+        }
+
+        @Override
+        public void append(final LogEvent event) {
+            // ignore
+        }
+    }
+}
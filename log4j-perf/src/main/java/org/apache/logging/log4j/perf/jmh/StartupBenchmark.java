@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package org.apache.logging.log4j.perf.jmh;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.core.config.ConfigurationFactory;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.GenerateMicroBenchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the time from a cold Log4j to the first logged event, with the default configuration and with an XML
+ * configuration. Each invocation loads Log4j in a new ClassLoader, so plugin discovery, class loading and
+ * configuration are repeated every time.
+ */
+// ============================== HOW TO RUN THIS TEST: ====================================
+//
+// java -jar log4j-perf/target/microbenchmarks.jar ".*StartupBenchmark.*" -f 5 -wi 0 -i 20
+//
+// Usage help:
+// java -jar log4j-perf/target/microbenchmarks.jar -help
+//
+@State(Scope.Thread)
+public class StartupBenchmark {
+
+    private static final String XML_CONFIGURATION = "perf-startup.xml";
+
+    private URL[] classPath;
+
+    @Setup
+    public void setup() throws MalformedURLException {
+        final String[] entries = System.getProperty("java.class.path").split(File.pathSeparator);
+        classPath = new URL[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            classPath[i] = new File(entries[i]).toURI().toURL();
+        }
+    }
+
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @GenerateMicroBenchmark
+    public Object firstLogDefaultConfiguration() throws Exception {
+        return firstLog(null);
+    }
+
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @GenerateMicroBenchmark
+    public Object firstLogXmlConfiguration() throws Exception {
+        return firstLog(XML_CONFIGURATION);
+    }
+
+    private Object firstLog(final String configLocation) throws Exception {
+        if (configLocation == null) {
+            System.clearProperty(ConfigurationFactory.CONFIGURATION_FILE_PROPERTY);
+        } else {
+            System.setProperty(ConfigurationFactory.CONFIGURATION_FILE_PROPERTY, configLocation);
+        }
+        // the parent only provides the JDK, so every Log4j class is loaded and initialized again
+        final ClassLoader loader = new URLClassLoader(classPath, ClassLoader.getSystemClassLoader().getParent());
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            final Class<?> logManager = loader.loadClass("org.apache.logging.log4j.LogManager");
+            final Object logger = logManager.getMethod("getLogger", String.class).invoke(null,
+                    StartupBenchmark.class.getName());
+            logger.getClass().getMethod("error", String.class).invoke(logger, "First event");
+            final Object context = logManager.getMethod("getContext", boolean.class).invoke(null, false);
+            context.getClass().getMethod("stop").invoke(context);
+            return logger;
+        } finally {
+            thread.setContextClassLoader(previous);
+            System.clearProperty(ConfigurationFactory.CONFIGURATION_FILE_PROPERTY);
+        }
+    }
+}
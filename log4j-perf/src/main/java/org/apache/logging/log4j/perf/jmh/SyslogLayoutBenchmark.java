@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+
+package org.apache.logging.log4j.perf.jmh;
+
+import java.nio.ByteBuffer;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.layout.Rfc5424Layout;
+import org.apache.logging.log4j.core.layout.SyslogLayout;
+import org.apache.logging.log4j.core.net.Facility;
+import org.apache.logging.log4j.core.util.Charsets;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.message.StructuredDataMessage;
+import org.openjdk.jmh.annotations.GenerateMicroBenchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the RFC 5424 and BSD syslog layouts, both when they create a String per event and when they encode the
+ * event into a reused buffer as the syslog appenders do.
+ */
+// ============================== HOW TO RUN THIS TEST: ====================================
+//
+// java -jar log4j-perf/target/microbenchmarks.jar ".*SyslogLayoutBenchmark.*" -f 1 -wi 5 -i 5
+//
+// Allocation rate per benchmark:
+// java -jar log4j-perf/target/microbenchmarks.jar ".*SyslogLayoutBenchmark.*" -f 1 -wi 5 -i 5 -prof gc
+//
+// Usage help:
+// java -jar log4j-perf/target/microbenchmarks.jar -help
+//
+@State(Scope.Thread)
+public class SyslogLayoutBenchmark {
+
+    private LogEvent simpleEvent;
+    private LogEvent structuredEvent;
+
+    private Rfc5424Layout rfc5424Layout;
+    private SyslogLayout syslogLayout;
+
+    private final ByteBufferDestination destination = new ByteBufferDestination() {
+        private final ByteBuffer buffer = ByteBuffer.allocate(8 * 1024);
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            buffer.clear();
+            return buffer;
+        }
+
+        @Override
+        public ByteBuffer drain(final ByteBuffer buf) {
+            buf.clear();
+            return buf;
+        }
+    };
+
+    @Setup
+    public void setup() {
+        ThreadContext.put("user", "Alice");
+        ThreadContext.put("request", "0123456789");
+        simpleEvent = new Log4jLogEvent("org.apache.logging.log4j.perf.jmh.SyslogLayoutBenchmark", null,
+                SyslogLayoutBenchmark.class.getName(), Level.INFO,
+                new SimpleMessage("User Alice requested the account summary page"), null);
+        final StructuredDataMessage msg = new StructuredDataMessage("Transfer@18060", "Transfer Complete", "Audit");
+        msg.put("ToAccount", "123456");
+        msg.put("FromAccount", "123457");
+        msg.put("Amount", "200.00");
+        structuredEvent = new Log4jLogEvent("org.apache.logging.log4j.perf.jmh.SyslogLayoutBenchmark", null,
+                SyslogLayoutBenchmark.class.getName(), Level.INFO, msg, null);
+        ThreadContext.clearMap();
+
+        rfc5424Layout = Rfc5424Layout.createLayout(Facility.LOCAL0, "Event", 3692, true, "RequestContext", null,
+                null, true, null, "ATM", null, null, null, null, null, false, null, null);
+        syslogLayout = SyslogLayout.createLayout(Facility.LOCAL0, true, null, Charsets.UTF_8);
+    }
+
+    @GenerateMicroBenchmark
+    public String rfc5424ToSerializable() {
+        return rfc5424Layout.toSerializable(simpleEvent);
+    }
+
+    @GenerateMicroBenchmark
+    public ByteBufferDestination rfc5424Encode() {
+        rfc5424Layout.encode(simpleEvent, destination);
+        return destination;
+    }
+
+    @GenerateMicroBenchmark
+    public ByteBufferDestination rfc5424EncodeStructuredData() {
+        rfc5424Layout.encode(structuredEvent, destination);
+        return destination;
+    }
+
+    @GenerateMicroBenchmark
+    public String syslogToSerializable() {
+        return syslogLayout.toSerializable(simpleEvent);
+    }
+
+    @GenerateMicroBenchmark
+    public ByteBufferDestination syslogEncode() {
+        syslogLayout.encode(simpleEvent, destination);
+        return destination;
+    }
+}
@@ -126,6 +126,23 @@ public class SLF4JLogger extends AbstractLogger {
         return isEnabledFor(level, marker);
     }
 
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String data, final Object p0) {
+        return isEnabledFor(level, marker);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String data, final Object p0,
+            final Object p1) {
+        return isEnabledFor(level, marker);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level, final Marker marker, final String data, final Object p0,
+            final Object p1, final Object p2) {
+        return isEnabledFor(level, marker);
+    }
+
     @Override
     public boolean isEnabled(final Level level, final Marker marker, final String data, final Throwable t) {
         return isEnabledFor(level, marker);